@@ -0,0 +1,44 @@
+package com.skillvo.batch.application.course;
+
+/**
+ * AIMD limiter for in-flight batch writes: a throttled batch halves the limit, and each run
+ * of {@code limit} clean batches raises it by one, up to the configured maximum. Callers
+ * block in {@link #acquire()} while the limit is reached, which backpressures the reader.
+ */
+class AdaptiveConcurrencyLimiter {
+    private final int maxLimit;
+    private int limit;
+    private int inFlight;
+    private int cleanReleases;
+
+    AdaptiveConcurrencyLimiter(int maxLimit) {
+        if (maxLimit <= 0) {
+            throw new IllegalArgumentException("maxLimit must be positive");
+        }
+        this.maxLimit = maxLimit;
+        this.limit = maxLimit;
+    }
+
+    synchronized void acquire() throws InterruptedException {
+        while (inFlight >= limit) {
+            wait();
+        }
+        inFlight++;
+    }
+
+    synchronized void release(boolean throttled) {
+        inFlight--;
+        if (throttled) {
+            limit = Math.max(1, limit / 2);
+            cleanReleases = 0;
+        } else if (++cleanReleases >= limit && limit < maxLimit) {
+            limit++;
+            cleanReleases = 0;
+        }
+        notifyAll();
+    }
+
+    synchronized int getLimit() {
+        return limit;
+    }
+}
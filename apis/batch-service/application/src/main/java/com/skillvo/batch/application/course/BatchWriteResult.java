@@ -0,0 +1,12 @@
+package com.skillvo.batch.application.course;
+
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder
+public class BatchWriteResult {
+    int itemsWritten;
+    int retries;
+    boolean throttled;
+}
@@ -0,0 +1,15 @@
+package com.skillvo.batch.application.course;
+
+import com.skillvo.course.domain.model.aggregates.Course;
+
+import java.util.List;
+
+/**
+ * Writes a group of courses in a single round-trip, retrying whatever the store leaves
+ * unprocessed. Implementations must be safe to call from several threads.
+ */
+public interface CourseBatchWriter {
+    int MAX_BATCH_SIZE = 25;
+
+    BatchWriteResult write(List<Course> courses);
+}
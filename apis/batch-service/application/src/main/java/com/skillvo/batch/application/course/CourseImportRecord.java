@@ -0,0 +1,79 @@
+package com.skillvo.batch.application.course;
+
+import com.skillvo.course.application.command.CreateCourseCommand;
+import com.skillvo.course.application.dto.AuthorDTO;
+import com.skillvo.course.application.dto.PrizeDTO;
+import com.skillvo.course.application.dto.PublisherDTO;
+import com.skillvo.course.application.dto.SectionDTO;
+import com.skillvo.course.domain.model.enums.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * One line of a course import file. Field names follow the create-course API request.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CourseImportRecord {
+    private String tenantId;
+    private String title;
+    private String description;
+    private String topicCode;
+    private String categoryCode;
+    private List<Language> language;
+    private Level level;
+    private PricingModel pricingModel;
+    private ImportPrize prize;
+    private LearningMode learningMode;
+    private Integer points;
+    private List<String> tags;
+    private List<AuthorDTO> authors;
+    private PublisherDTO publisher;
+    private String imageUrl;
+    private Integer duration;
+    private List<SectionDTO> sections;
+    private LessonNavigationMode lessonNavigationMode;
+
+    public CreateCourseCommand toCommand() {
+        return CreateCourseCommand.builder()
+                .tenantId(tenantId)
+                .title(title)
+                .description(description)
+                .topicCode(topicCode)
+                .categoryCode(categoryCode)
+                .language(language)
+                .level(level)
+                .pricingModel(pricingModel)
+                .prize(prize != null ? new PrizeDTO(prize.getPrize(), prize.getDiscount(), prize.getCurrency()) : null)
+                .learningMode(learningMode)
+                .points(points)
+                .tags(tags)
+                .authors(authors)
+                .publisher(publisher)
+                .imageUrl(imageUrl)
+                .inMarketplace(false)
+                .status(Status.DRAFT)
+                .duration(duration)
+                .sections(sections)
+                .lessonNavigationMode(lessonNavigationMode)
+                .build();
+    }
+
+    /**
+     * {@link PrizeDTO} is immutable without a default constructor, so imports bind to this shape.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ImportPrize {
+        private double prize;
+        private int discount;
+        private Currency currency;
+    }
+}
@@ -0,0 +1,218 @@
+package com.skillvo.batch.application.course;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.skillvo.batch.domain.model.ImportRejection;
+import com.skillvo.batch.domain.model.ImportReport;
+import com.skillvo.course.application.command.CreateCourseCommand;
+import com.skillvo.course.application.mapper.CourseMapper;
+import com.skillvo.course.application.validation.CourseCommandValidator;
+import com.skillvo.course.domain.model.aggregates.Course;
+import com.skillvo.course.domain.model.enums.Status;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Streams course records from a JSON-lines source, validates each one with the create-course
+ * rules and writes the valid ones in groups of {@value CourseBatchWriter#MAX_BATCH_SIZE}.
+ * Groups are written concurrently under an {@link AdaptiveConcurrencyLimiter}; reading stops
+ * while the limiter is saturated, so memory stays bounded regardless of file size.
+ */
+@Slf4j
+@Service
+public class CourseImportService {
+    private final CourseBatchWriter batchWriter;
+    private final CourseMapper courseMapper;
+    private final int maxConcurrency;
+    private final long progressInterval;
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    public CourseImportService(CourseBatchWriter batchWriter,
+                               CourseMapper courseMapper,
+                               @Value("${batch.course-import.max-concurrency:8}") int maxConcurrency,
+                               @Value("${batch.course-import.progress-interval:1000}") long progressInterval) {
+        this.batchWriter = batchWriter;
+        this.courseMapper = courseMapper;
+        this.maxConcurrency = maxConcurrency;
+        this.progressInterval = progressInterval;
+    }
+
+    public ImportReport importCourses(InputStream jsonLines) {
+        ImportRun run = new ImportRun();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(jsonLines, StandardCharsets.UTF_8))) {
+            List<Course> batch = new ArrayList<>(CourseBatchWriter.MAX_BATCH_SIZE);
+            String line;
+            long lineNumber = 0;
+            while ((line = reader.readLine()) != null && run.failure.get() == null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                run.recordsRead++;
+                Course course = parse(line, lineNumber, run.rejections);
+                if (course == null) {
+                    continue;
+                }
+                batch.add(course);
+                if (batch.size() == CourseBatchWriter.MAX_BATCH_SIZE) {
+                    run.submit(batch);
+                    batch = new ArrayList<>(CourseBatchWriter.MAX_BATCH_SIZE);
+                }
+            }
+            if (!batch.isEmpty() && run.failure.get() == null) {
+                run.submit(batch);
+            }
+        } catch (IOException e) {
+            run.failure.compareAndSet(null, new UncheckedIOException("Failed to read course import", e));
+        } finally {
+            run.awaitCompletion();
+        }
+
+        if (run.failure.get() != null) {
+            throw new IllegalStateException("Course import aborted after " + run.itemsWritten.get() + " items",
+                    run.failure.get());
+        }
+        ImportReport report = run.report();
+        log.info("Imported {} of {} courses in {} ms ({} items/s, {} rejected, {} retries, {} throttled batches)",
+                report.getItemsWritten(), report.getRecordsRead(), report.getElapsed().toMillis(),
+                Math.round(report.getItemsPerSecond()), report.getRejections().size(),
+                report.getRetries(), report.getThrottledBatches());
+        return report;
+    }
+
+    private Course parse(String line, long lineNumber, List<ImportRejection> rejections) {
+        try {
+            CreateCourseCommand command = objectMapper.readValue(line, CourseImportRecord.class).toCommand();
+            CourseCommandValidator.validate(command);
+            Course course = courseMapper.toEntity(command);
+            course.setStatus(Status.DRAFT);
+            course.setInMarketplace(false);
+            course.setVersion(1);
+            return course;
+        } catch (JsonProcessingException e) {
+            rejections.add(rejection(lineNumber, "Malformed record: " + e.getOriginalMessage()));
+        } catch (RuntimeException e) {
+            rejections.add(rejection(lineNumber, e.getMessage()));
+        }
+        return null;
+    }
+
+    private ImportRejection rejection(long lineNumber, String reason) {
+        return ImportRejection.builder()
+                .lineNumber(lineNumber)
+                .reason(reason)
+                .build();
+    }
+
+    /**
+     * State of a single import: the write executor, limiter and counters shared with writer threads.
+     */
+    private final class ImportRun {
+        private final long startedNanos = System.nanoTime();
+        private final AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(maxConcurrency);
+        private final ExecutorService executor = Executors.newFixedThreadPool(maxConcurrency, writerThreadFactory());
+        private final List<ImportRejection> rejections = new ArrayList<>();
+        private final AtomicLong itemsWritten = new AtomicLong();
+        private final AtomicLong batchesWritten = new AtomicLong();
+        private final AtomicLong retries = new AtomicLong();
+        private final AtomicLong throttledBatches = new AtomicLong();
+        private final AtomicLong nextProgressAt = new AtomicLong(progressInterval);
+        private final AtomicReference<RuntimeException> failure = new AtomicReference<>();
+        private long recordsRead;
+
+        private void submit(List<Course> batch) {
+            try {
+                limiter.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                failure.compareAndSet(null, new IllegalStateException("Interrupted while importing courses", e));
+                return;
+            }
+            executor.execute(() -> {
+                boolean throttled = false;
+                try {
+                    BatchWriteResult result = batchWriter.write(batch);
+                    throttled = result.isThrottled();
+                    record(result);
+                } catch (RuntimeException e) {
+                    failure.compareAndSet(null, e);
+                } finally {
+                    limiter.release(throttled);
+                }
+            });
+        }
+
+        private void record(BatchWriteResult result) {
+            long written = itemsWritten.addAndGet(result.getItemsWritten());
+            batchesWritten.incrementAndGet();
+            retries.addAndGet(result.getRetries());
+            if (result.isThrottled()) {
+                throttledBatches.incrementAndGet();
+            }
+            long threshold = nextProgressAt.get();
+            if (written >= threshold && nextProgressAt.compareAndSet(threshold, threshold + progressInterval)) {
+                log.info("Imported {} courses ({} items/s, concurrency limit {})",
+                        written, Math.round(written / elapsedSeconds()), limiter.getLimit());
+            }
+        }
+
+        private double elapsedSeconds() {
+            return Math.max(System.nanoTime() - startedNanos, 1) / 1_000_000_000.0;
+        }
+
+        private void awaitCompletion() {
+            executor.shutdown();
+            try {
+                while (!executor.awaitTermination(1, TimeUnit.MINUTES)) {
+                    log.info("Waiting for in-flight course batches, {} items written so far", itemsWritten.get());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                executor.shutdownNow();
+                failure.compareAndSet(null, new IllegalStateException("Interrupted while importing courses", e));
+            }
+        }
+
+        private ImportReport report() {
+            return ImportReport.builder()
+                    .recordsRead(recordsRead)
+                    .itemsWritten(itemsWritten.get())
+                    .rejections(Collections.unmodifiableList(rejections))
+                    .batchesWritten(batchesWritten.get())
+                    .retries(retries.get())
+                    .throttledBatches(throttledBatches.get())
+                    .elapsed(Duration.ofNanos(System.nanoTime() - startedNanos))
+                    .build();
+        }
+    }
+
+    private static ThreadFactory writerThreadFactory() {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "course-import-writer-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
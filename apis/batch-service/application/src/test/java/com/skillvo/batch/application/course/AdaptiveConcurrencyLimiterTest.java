@@ -0,0 +1,86 @@
+package com.skillvo.batch.application.course;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    @Test
+    void shouldHalveLimitOnThrottle() throws InterruptedException {
+        // Given
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(8);
+
+        // When
+        limiter.acquire();
+        limiter.release(true);
+        limiter.acquire();
+        limiter.release(true);
+
+        // Then
+        assertThat(limiter.getLimit()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldNeverDropBelowOne() throws InterruptedException {
+        // Given
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(2);
+
+        // When
+        for (int i = 0; i < 5; i++) {
+            limiter.acquire();
+            limiter.release(true);
+        }
+
+        // Then
+        assertThat(limiter.getLimit()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldGrowBackAfterCleanReleases() throws InterruptedException {
+        // Given
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(4);
+        limiter.acquire();
+        limiter.release(true);
+
+        // When
+        for (int i = 0; i < 2; i++) {
+            limiter.acquire();
+            limiter.release(false);
+        }
+
+        // Then
+        assertThat(limiter.getLimit()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldBlockWhileLimitIsReached() throws InterruptedException {
+        // Given
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1);
+        limiter.acquire();
+        Thread waiter = new Thread(() -> {
+            try {
+                limiter.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        // When
+        waiter.start();
+        waiter.join(100);
+
+        // Then
+        assertThat(waiter.isAlive()).isTrue();
+        limiter.release(false);
+        waiter.join(1000);
+        assertThat(waiter.isAlive()).isFalse();
+    }
+
+    @Test
+    void shouldRejectNonPositiveLimit() {
+        assertThatThrownBy(() -> new AdaptiveConcurrencyLimiter(0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,108 @@
+package com.skillvo.batch.application.course;
+
+import com.skillvo.batch.domain.model.ImportRejection;
+import com.skillvo.batch.domain.model.ImportReport;
+import com.skillvo.course.application.mapper.CourseMapper;
+import com.skillvo.course.domain.model.aggregates.Course;
+import com.skillvo.course.domain.model.enums.Status;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CourseImportServiceTest {
+
+    private static final String VALID_RECORD = "{\"tenantId\":\"tenant1\",\"title\":\"Course %d\","
+            + "\"description\":\"Description\",\"language\":[\"ENGLISH\"],\"level\":\"BEGINNER\","
+            + "\"pricingModel\":\"PAID\",\"prize\":{\"prize\":49.0,\"discount\":10,\"currency\":\"USD\"},"
+            + "\"learningMode\":\"ONLINE\",\"tags\":[\"java\"],"
+            + "\"authors\":[{\"firstName\":\"John\",\"lastName\":\"Doe\",\"emailId\":\"john@example.com\"}],"
+            + "\"duration\":30,\"lessonNavigationMode\":\"SEQUENTIAL\"}";
+
+    private final List<List<Course>> writtenBatches = Collections.synchronizedList(new ArrayList<>());
+
+    private CourseImportService importService;
+
+    @BeforeEach
+    void setUp() {
+        CourseBatchWriter writer = courses -> {
+            writtenBatches.add(courses);
+            return BatchWriteResult.builder().itemsWritten(courses.size()).build();
+        };
+        importService = new CourseImportService(writer, new CourseMapper(), 4, 10);
+    }
+
+    @Test
+    void shouldWriteValidRecordsInGroupsOfTwentyFive() {
+        // Given
+        String input = IntStream.range(0, 60)
+                .mapToObj(i -> String.format(VALID_RECORD, i))
+                .collect(Collectors.joining("\n"));
+
+        // When
+        ImportReport report = importService.importCourses(stream(input));
+
+        // Then
+        assertThat(report.getRecordsRead()).isEqualTo(60);
+        assertThat(report.getItemsWritten()).isEqualTo(60);
+        assertThat(report.getBatchesWritten()).isEqualTo(3);
+        assertThat(report.getRejections()).isEmpty();
+        assertThat(writtenBatches).extracting(List::size).containsExactlyInAnyOrder(25, 25, 10);
+        Course course = writtenBatches.get(0).get(0);
+        assertThat(course.getCourseId()).isNotNull();
+        assertThat(course.getStatus()).isEqualTo(Status.DRAFT);
+        assertThat(course.getVersion()).isEqualTo(1);
+        assertThat(course.getPrize().getPrize()).isEqualTo(49.0);
+    }
+
+    @Test
+    void shouldRejectInvalidAndMalformedRecordsWithLineNumbers() {
+        // Given
+        String input = String.format(VALID_RECORD, 1) + "\n"
+                + "{\"tenantId\":\"tenant1\"}\n"
+                + "\n"
+                + "not-json\n";
+
+        // When
+        ImportReport report = importService.importCourses(stream(input));
+
+        // Then
+        assertThat(report.getRecordsRead()).isEqualTo(3);
+        assertThat(report.getItemsWritten()).isEqualTo(1);
+        assertThat(report.getRejections())
+                .extracting(ImportRejection::getLineNumber)
+                .containsExactly(2L, 4L);
+        assertThat(report.getRejections().get(0).getReason()).isEqualTo("Title is required");
+        assertThat(report.getRejections().get(1).getReason()).startsWith("Malformed record");
+    }
+
+    @Test
+    void shouldAbortWhenBatchCannotBeWritten() {
+        // Given
+        CourseImportService failing = new CourseImportService(courses -> {
+            throw new IllegalStateException("BatchWriteItem left unprocessed items");
+        }, new CourseMapper(), 2, 10);
+        String input = IntStream.range(0, 30)
+                .mapToObj(i -> String.format(VALID_RECORD, i))
+                .collect(Collectors.joining("\n"));
+
+        // When / Then
+        assertThatThrownBy(() -> failing.importCourses(stream(input)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageStartingWith("Course import aborted")
+                .hasRootCauseMessage("BatchWriteItem left unprocessed items");
+    }
+
+    private ByteArrayInputStream stream(String input) {
+        return new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,11 @@
+package com.skillvo.batch.domain.model;
+
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder
+public class ImportRejection {
+    long lineNumber;
+    String reason;
+}
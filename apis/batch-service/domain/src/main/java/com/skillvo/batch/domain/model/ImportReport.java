@@ -0,0 +1,24 @@
+package com.skillvo.batch.domain.model;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.Duration;
+import java.util.List;
+
+@Value
+@Builder
+public class ImportReport {
+    long recordsRead;
+    long itemsWritten;
+    List<ImportRejection> rejections;
+    long batchesWritten;
+    long retries;
+    long throttledBatches;
+    Duration elapsed;
+
+    public double getItemsPerSecond() {
+        long millis = elapsed.toMillis();
+        return millis == 0 ? itemsWritten : itemsWritten * 1000.0 / millis;
+    }
+}
@@ -0,0 +1,92 @@
+package com.skillvo.batch.infrastructure.persistence;
+
+import com.skillvo.batch.application.course.BatchWriteResult;
+import com.skillvo.batch.application.course.CourseBatchWriter;
+import com.skillvo.course.domain.model.aggregates.Course;
+import com.skillvo.course.infrastructure.persistence.DynamoDBModelConverter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.ProvisionedThroughputExceededException;
+import software.amazon.awssdk.services.dynamodb.model.PutRequest;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+/**
+ * Puts up to {@value CourseBatchWriter#MAX_BATCH_SIZE} courses per BatchWriteItem call and
+ * retries UnprocessedItems and throughput errors with jittered exponential backoff. Either
+ * one marks the result as throttled so the importer can back off its concurrency.
+ */
+@Slf4j
+@Component
+public class DynamoDBCourseBatchWriter implements CourseBatchWriter {
+    private static final String TABLE_NAME = "Courses";
+
+    private final DynamoDbClient dynamoDbClient;
+    private final int maxAttempts;
+    private final long baseBackoffMillis;
+
+    public DynamoDBCourseBatchWriter(DynamoDbClient dynamoDbClient,
+                                     @Value("${batch.course-import.max-attempts:10}") int maxAttempts,
+                                     @Value("${batch.course-import.base-backoff-millis:50}") long baseBackoffMillis) {
+        this.dynamoDbClient = dynamoDbClient;
+        this.maxAttempts = maxAttempts;
+        this.baseBackoffMillis = baseBackoffMillis;
+    }
+
+    @Override
+    public BatchWriteResult write(List<Course> courses) {
+        if (courses.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("BatchWriteItem accepts at most " + MAX_BATCH_SIZE + " items");
+        }
+        Map<String, List<WriteRequest>> pending = Collections.singletonMap(TABLE_NAME, courses.stream()
+                .map(course -> WriteRequest.builder()
+                        .putRequest(PutRequest.builder().item(DynamoDBModelConverter.toItem(course)).build())
+                        .build())
+                .collect(Collectors.toList()));
+        boolean throttled = false;
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                BatchWriteItemResponse response = dynamoDbClient.batchWriteItem(BatchWriteItemRequest.builder()
+                        .requestItems(pending)
+                        .build());
+                if (!response.hasUnprocessedItems() || response.unprocessedItems().isEmpty()) {
+                    return BatchWriteResult.builder()
+                            .itemsWritten(courses.size())
+                            .retries(attempt - 1)
+                            .throttled(throttled)
+                            .build();
+                }
+                pending = response.unprocessedItems();
+                log.debug("Retrying {} unprocessed course writes (attempt {})",
+                        pending.getOrDefault(TABLE_NAME, Collections.emptyList()).size(), attempt);
+            } catch (ProvisionedThroughputExceededException e) {
+                log.debug("Course batch write throttled (attempt {})", attempt);
+            }
+            throttled = true;
+            if (attempt >= maxAttempts) {
+                throw new IllegalStateException("BatchWriteItem left unprocessed items after " + attempt + " attempts");
+            }
+            backoff(attempt);
+        }
+    }
+
+    private void backoff(int attempt) {
+        long ceiling = baseBackoffMillis << Math.min(attempt - 1, 10);
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(ceiling / 2, ceiling + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while retrying unprocessed items", e);
+        }
+    }
+}
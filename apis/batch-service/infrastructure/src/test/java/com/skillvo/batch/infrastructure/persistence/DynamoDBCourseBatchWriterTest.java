@@ -0,0 +1,175 @@
+package com.skillvo.batch.infrastructure.persistence;
+
+import com.skillvo.batch.application.course.BatchWriteResult;
+import com.skillvo.course.domain.model.aggregates.Course;
+import com.skillvo.course.domain.model.entities.Author;
+import com.skillvo.course.domain.model.entities.Publisher;
+import com.skillvo.course.domain.model.entities.Section;
+import com.skillvo.course.domain.model.enums.*;
+import com.skillvo.course.domain.model.valueobjects.Prize;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.ProvisionedThroughputExceededException;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DynamoDBCourseBatchWriterTest {
+
+    @Mock
+    private DynamoDbClient dynamoDbClient;
+
+    private DynamoDBCourseBatchWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        writer = new DynamoDBCourseBatchWriter(dynamoDbClient, 3, 1);
+    }
+
+    @Test
+    void shouldPutAllCoursesInOneRequest() {
+        // Given
+        List<Course> courses = courses(25);
+        when(dynamoDbClient.batchWriteItem(any(BatchWriteItemRequest.class)))
+                .thenReturn(BatchWriteItemResponse.builder().build());
+
+        // When
+        BatchWriteResult result = writer.write(courses);
+
+        // Then
+        assertThat(result.getItemsWritten()).isEqualTo(25);
+        assertThat(result.getRetries()).isZero();
+        assertThat(result.isThrottled()).isFalse();
+        ArgumentCaptor<BatchWriteItemRequest> captor = ArgumentCaptor.forClass(BatchWriteItemRequest.class);
+        verify(dynamoDbClient).batchWriteItem(captor.capture());
+        assertThat(captor.getValue().requestItems().get("Courses")).hasSize(25);
+    }
+
+    @Test
+    void shouldRetryUnprocessedItemsAndReportThrottling() {
+        // Given
+        List<Course> courses = courses(3);
+        List<WriteRequest> unprocessed = Collections.singletonList(WriteRequest.builder().build());
+        when(dynamoDbClient.batchWriteItem(any(BatchWriteItemRequest.class))).thenReturn(
+                BatchWriteItemResponse.builder()
+                        .unprocessedItems(Collections.singletonMap("Courses", unprocessed))
+                        .build(),
+                BatchWriteItemResponse.builder().build());
+
+        // When
+        BatchWriteResult result = writer.write(courses);
+
+        // Then
+        assertThat(result.getItemsWritten()).isEqualTo(3);
+        assertThat(result.getRetries()).isEqualTo(1);
+        assertThat(result.isThrottled()).isTrue();
+        ArgumentCaptor<BatchWriteItemRequest> captor = ArgumentCaptor.forClass(BatchWriteItemRequest.class);
+        verify(dynamoDbClient, times(2)).batchWriteItem(captor.capture());
+        assertThat(captor.getAllValues().get(1).requestItems().get("Courses")).isEqualTo(unprocessed);
+    }
+
+    @Test
+    void shouldRetryThroughputErrors() {
+        // Given
+        when(dynamoDbClient.batchWriteItem(any(BatchWriteItemRequest.class)))
+                .thenThrow(ProvisionedThroughputExceededException.builder().message("slow down").build())
+                .thenReturn(BatchWriteItemResponse.builder().build());
+
+        // When
+        BatchWriteResult result = writer.write(courses(1));
+
+        // Then
+        assertThat(result.isThrottled()).isTrue();
+        verify(dynamoDbClient, times(2)).batchWriteItem(any(BatchWriteItemRequest.class));
+    }
+
+    @Test
+    void shouldFailAfterMaxAttempts() {
+        // Given
+        when(dynamoDbClient.batchWriteItem(any(BatchWriteItemRequest.class)))
+                .thenThrow(ProvisionedThroughputExceededException.builder().message("slow down").build());
+
+        // When / Then
+        assertThatThrownBy(() -> writer.write(courses(1)))
+                .isInstanceOf(IllegalStateException.class);
+        verify(dynamoDbClient, times(3)).batchWriteItem(any(BatchWriteItemRequest.class));
+    }
+
+    @Test
+    void shouldRejectOversizedBatches() {
+        assertThatThrownBy(() -> writer.write(courses(26)))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(dynamoDbClient);
+    }
+
+    private List<Course> courses(int count) {
+        return IntStream.range(0, count).mapToObj(i -> createSampleCourse()).collect(Collectors.toList());
+    }
+
+    private Course createSampleCourse() {
+        Course course = new Course();
+        course.setCourseId(UUID.randomUUID());
+        course.setTenantId("tenant1");
+        course.setTitle("Test Course");
+        course.setDescription("Test Description");
+        course.setTopicCode("topic1");
+        course.setCategoryCode("category1");
+        course.setLanguage(Arrays.asList(Language.ENGLISH));
+        course.setLevel(Level.BEGINNER);
+        course.setPricingModel(PricingModel.FREE);
+        course.setPrize(new Prize(0.0, 0, Currency.USD));
+        course.setLearningMode(LearningMode.ONLINE);
+        course.setPoints(100);
+        course.setTags(Arrays.asList("test"));
+        course.setAuthors(Arrays.asList(Author.builder()
+                .authorId(UUID.randomUUID())
+                .firstName("John")
+                .lastName("Doe")
+                .emailId("john.doe@example.com")
+                .build()));
+        course.setPublisher(Publisher.builder()
+                .publisherId(UUID.randomUUID())
+                .name("Test Publisher")
+                .type(PublisherType.INDIVIDUAL)
+                .logoUrl("http://example.com/logo.jpg")
+                .website("http://example.com")
+                .contactEmail("contact@example.com")
+                .description("Test Publisher Description")
+                .country("US")
+                .build());
+        course.setPublishedOn(LocalDateTime.now());
+        course.setImageUrl("http://example.com/image.jpg");
+        course.setInMarketplace(false);
+        course.setStatus(Status.DRAFT);
+        course.setDuration(30);
+        course.setSections(Arrays.asList(Section.builder()
+                .sectionId(UUID.randomUUID())
+                .title("Test Section")
+                .description("Test Section Description")
+                .order(1)
+                .duration(30)
+                .build()));
+        course.setLessonNavigationMode(LessonNavigationMode.SEQUENTIAL);
+        course.setVersion(1);
+        return course;
+    }
+}
@@ -0,0 +1,30 @@
+package com.skillvo.caching.domain.cache;
+
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Bounded key/value cache used to serve hot aggregates without a round-trip to their store.
+ */
+public interface Cache<K, V> {
+    Optional<V> get(K key);
+
+    /**
+     * Returns the cached value, or invokes the loader on a miss and caches what it finds.
+     * Empty results are not cached.
+     */
+    Optional<V> getOrLoad(K key, Function<? super K, Optional<V>> loader);
+
+    void put(K key, V value);
+
+    void invalidate(K key);
+
+    void invalidateIf(Predicate<? super V> predicate);
+
+    void invalidateAll();
+
+    long size();
+
+    CacheStats stats();
+}
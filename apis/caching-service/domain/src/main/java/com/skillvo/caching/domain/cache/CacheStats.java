@@ -0,0 +1,22 @@
+package com.skillvo.caching.domain.cache;
+
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder
+public class CacheStats {
+    long hits;
+    long misses;
+    long evictions;
+    long size;
+
+    public long getRequests() {
+        return hits + misses;
+    }
+
+    public double getHitRate() {
+        long requests = getRequests();
+        return requests == 0 ? 0.0 : (double) hits / requests;
+    }
+}
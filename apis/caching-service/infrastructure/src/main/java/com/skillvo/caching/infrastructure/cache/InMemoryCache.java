@@ -0,0 +1,154 @@
+package com.skillvo.caching.infrastructure.cache;
+
+import com.skillvo.caching.domain.cache.Cache;
+import com.skillvo.caching.domain.cache.CacheStats;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+
+/**
+ * In-process LRU cache with a per-entry time-to-live. Entries beyond {@code maxSize} are evicted
+ * least-recently-used first; expired entries are dropped lazily when they are next read.
+ * Loads run outside the lock, so concurrent misses on the same key may each hit the loader.
+ */
+public class InMemoryCache<K, V> implements Cache<K, V> {
+    private final int maxSize;
+    private final long ttlNanos;
+    private final LongSupplier ticker;
+    private final LinkedHashMap<K, Entry<V>> entries;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public InMemoryCache(int maxSize, Duration ttl) {
+        this(maxSize, ttl, System::nanoTime);
+    }
+
+    InMemoryCache(int maxSize, Duration ttl, LongSupplier ticker) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize must be positive");
+        }
+        if (ttl == null || ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("ttl must be positive");
+        }
+        this.maxSize = maxSize;
+        this.ttlNanos = ttl.toNanos();
+        this.ticker = ticker;
+        this.entries = new LinkedHashMap<K, Entry<V>>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                if (size() > InMemoryCache.this.maxSize) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    @Override
+    public Optional<V> get(K key) {
+        V value = lookup(key);
+        if (value != null) {
+            hits.increment();
+        } else {
+            misses.increment();
+        }
+        return Optional.ofNullable(value);
+    }
+
+    @Override
+    public Optional<V> getOrLoad(K key, Function<? super K, Optional<V>> loader) {
+        Optional<V> cached = get(key);
+        if (cached.isPresent()) {
+            return cached;
+        }
+        Optional<V> loaded = loader.apply(key);
+        loaded.ifPresent(value -> put(key, value));
+        return loaded;
+    }
+
+    @Override
+    public synchronized void put(K key, V value) {
+        entries.put(key, new Entry<>(value, ticker.getAsLong() + ttlNanos));
+    }
+
+    @Override
+    public synchronized void invalidate(K key) {
+        entries.remove(key);
+    }
+
+    @Override
+    public synchronized void invalidateIf(Predicate<? super V> predicate) {
+        entries.values().removeIf(entry -> predicate.test(entry.value));
+    }
+
+    @Override
+    public synchronized void invalidateAll() {
+        entries.clear();
+    }
+
+    @Override
+    public synchronized long size() {
+        return entries.size();
+    }
+
+    @Override
+    public CacheStats stats() {
+        return CacheStats.builder()
+                .hits(hits.sum())
+                .misses(misses.sum())
+                .evictions(evictions.sum())
+                .size(size())
+                .build();
+    }
+
+    /**
+     * Drops every expired entry rather than waiting for it to be read again.
+     */
+    public synchronized void cleanUp() {
+        long now = ticker.getAsLong();
+        Iterator<Entry<V>> iterator = entries.values().iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().isExpired(now)) {
+                iterator.remove();
+                evictions.increment();
+            }
+        }
+    }
+
+    private synchronized V lookup(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.isExpired(ticker.getAsLong())) {
+            entries.remove(key);
+            evictions.increment();
+            return null;
+        }
+        return entry.value;
+    }
+
+    private static final class Entry<V> {
+        private final V value;
+        private final long expiresAtNanos;
+
+        private Entry(V value, long expiresAtNanos) {
+            this.value = value;
+            this.expiresAtNanos = expiresAtNanos;
+        }
+
+        private boolean isExpired(long now) {
+            return now - expiresAtNanos >= 0;
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.skillvo.caching.infrastructure.cache;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent loads of the same key: the first caller runs the loader and every caller
+ * that arrives while it is running waits for that result instead of loading again. Nothing is
+ * kept once the load completes, so this bounds concurrent work per key without caching; put an
+ * {@link InMemoryCache} in front for that. A failed load fails every caller waiting on it.
+ */
+public class SingleFlight<K, V> {
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder joins = new LongAdder();
+
+    /**
+     * Runs the loader on the calling thread, or waits for the load of the same key that is
+     * already running. Exceptions from the loader reach every caller unwrapped.
+     */
+    public V execute(K key, Supplier<V> loader) {
+        CompletableFuture<V> flight = new CompletableFuture<>();
+        CompletableFuture<V> running = inFlight.putIfAbsent(key, flight);
+        if (running != null) {
+            joins.increment();
+            return join(running);
+        }
+        loads.increment();
+        try {
+            V value = loader.get();
+            flight.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    /**
+     * Starts the asynchronous load, or returns the future of the one already running for the key.
+     */
+    public CompletableFuture<V> executeAsync(K key, Supplier<CompletableFuture<V>> loader) {
+        CompletableFuture<V> flight = new CompletableFuture<>();
+        CompletableFuture<V> running = inFlight.putIfAbsent(key, flight);
+        if (running != null) {
+            joins.increment();
+            return running;
+        }
+        loads.increment();
+        CompletableFuture<V> loading;
+        try {
+            loading = loader.get();
+        } catch (RuntimeException | Error e) {
+            inFlight.remove(key, flight);
+            flight.completeExceptionally(e);
+            return flight;
+        }
+        loading.whenComplete((value, failure) -> {
+            // Removed first, so no caller can join a flight that has already landed
+            inFlight.remove(key, flight);
+            if (failure != null) {
+                flight.completeExceptionally(failure);
+            } else {
+                flight.complete(value);
+            }
+        });
+        return flight;
+    }
+
+    /**
+     * Lets the next caller for the key start a fresh load even if one is running, for when the
+     * running load may have read data that a write has since replaced. Callers already waiting
+     * still get the running load's result.
+     */
+    public void forget(K key) {
+        inFlight.remove(key);
+    }
+
+    public int inFlight() {
+        return inFlight.size();
+    }
+
+    /**
+     * Loads run, as opposed to loads joined.
+     */
+    public long loads() {
+        return loads.sum();
+    }
+
+    public long joins() {
+        return joins.sum();
+    }
+
+    private static <V> V join(CompletableFuture<V> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.skillvo.caching.infrastructure.cache;
+
+import com.skillvo.caching.domain.cache.CacheStats;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class InMemoryCacheTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private InMemoryCache<String, String> cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new InMemoryCache<>(2, Duration.ofSeconds(10), now::get);
+    }
+
+    @Test
+    void shouldLoadOnMissAndServeFromCacheOnHit() {
+        // Given
+        AtomicInteger loads = new AtomicInteger();
+
+        // When
+        Optional<String> first = cache.getOrLoad("a", key -> {
+            loads.incrementAndGet();
+            return Optional.of("value-a");
+        });
+        Optional<String> second = cache.getOrLoad("a", key -> {
+            loads.incrementAndGet();
+            return Optional.of("other");
+        });
+
+        // Then
+        assertThat(first).contains("value-a");
+        assertThat(second).contains("value-a");
+        assertThat(loads).hasValue(1);
+        CacheStats stats = cache.stats();
+        assertThat(stats.getHits()).isEqualTo(1);
+        assertThat(stats.getMisses()).isEqualTo(1);
+        assertThat(stats.getHitRate()).isEqualTo(0.5);
+    }
+
+    @Test
+    void shouldNotCacheEmptyLoads() {
+        // When
+        cache.getOrLoad("missing", key -> Optional.empty());
+
+        // Then
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsedEntryWhenFull() {
+        // Given
+        cache.put("a", "1");
+        cache.put("b", "2");
+        cache.get("a");
+
+        // When
+        cache.put("c", "3");
+
+        // Then
+        assertThat(cache.get("a")).contains("1");
+        assertThat(cache.get("b")).isEmpty();
+        assertThat(cache.get("c")).contains("3");
+        assertThat(cache.stats().getEvictions()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldExpireEntriesAfterTtl() {
+        // Given
+        cache.put("a", "1");
+
+        // When
+        now.addAndGet(Duration.ofSeconds(10).toNanos());
+
+        // Then
+        assertThat(cache.get("a")).isEmpty();
+        assertThat(cache.size()).isZero();
+        assertThat(cache.stats().getEvictions()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldDropExpiredEntriesOnCleanUp() {
+        // Given
+        cache.put("a", "1");
+        now.addAndGet(Duration.ofSeconds(5).toNanos());
+        cache.put("b", "2");
+        now.addAndGet(Duration.ofSeconds(6).toNanos());
+
+        // When
+        cache.cleanUp();
+
+        // Then
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(cache.get("b")).contains("2");
+    }
+
+    @Test
+    void shouldInvalidateMatchingEntries() {
+        // Given
+        cache.put("a", "tenant1:course");
+        cache.put("b", "tenant2:course");
+
+        // When
+        cache.invalidateIf(value -> value.startsWith("tenant1"));
+
+        // Then
+        assertThat(cache.get("a")).isEmpty();
+        assertThat(cache.get("b")).contains("tenant2:course");
+        assertThat(cache.stats().getEvictions()).isZero();
+    }
+
+    @Test
+    void shouldRejectInvalidSettings() {
+        assertThatThrownBy(() -> new InMemoryCache<>(0, Duration.ofSeconds(1)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new InMemoryCache<>(10, Duration.ZERO))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
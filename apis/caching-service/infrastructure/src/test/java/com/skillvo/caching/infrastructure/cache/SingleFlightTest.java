@@ -0,0 +1,175 @@
+package com.skillvo.caching.infrastructure.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SingleFlightTest {
+
+    private final SingleFlight<String, String> flights = new SingleFlight<>();
+
+    @Test
+    void shouldShareOneLoadBetweenConcurrentCallers() throws Exception {
+        // Given
+        int callers = 8;
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        try {
+            Future<String> leader = executor.submit(() -> flights.execute("a", () -> {
+                loads.incrementAndGet();
+                loading.countDown();
+                await(release);
+                return "value-a";
+            }));
+            assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+            // When
+            List<Future<String>> joiners = new ArrayList<>();
+            for (int i = 1; i < callers; i++) {
+                joiners.add(executor.submit(() -> flights.execute("a", () -> {
+                    loads.incrementAndGet();
+                    return "other";
+                })));
+            }
+            while (flights.joins() < callers - 1) {
+                Thread.onSpinWait();
+            }
+            release.countDown();
+
+            // Then
+            assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("value-a");
+            for (Future<String> joiner : joiners) {
+                assertThat(joiner.get(5, TimeUnit.SECONDS)).isEqualTo("value-a");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(flights.loads()).isEqualTo(1);
+        assertThat(flights.inFlight()).isZero();
+    }
+
+    @Test
+    void shouldLoadAgainOnceTheFlightHasLanded() {
+        // Given
+        AtomicInteger loads = new AtomicInteger();
+
+        // When
+        flights.execute("a", () -> "v" + loads.incrementAndGet());
+        String second = flights.execute("a", () -> "v" + loads.incrementAndGet());
+
+        // Then
+        assertThat(second).isEqualTo("v2");
+        assertThat(flights.joins()).isZero();
+    }
+
+    @Test
+    void shouldPropagateLoaderFailureAndNotKeepIt() {
+        // When / Then
+        assertThatThrownBy(() -> flights.execute("a", () -> {
+            throw new IllegalStateException("boom");
+        })).isInstanceOf(IllegalStateException.class).hasMessage("boom");
+        assertThat(flights.execute("a", () -> "recovered")).isEqualTo("recovered");
+    }
+
+    @Test
+    void shouldFailJoinersWithTheLeadersException() throws Exception {
+        // Given
+        CompletableFuture<String> pending = new CompletableFuture<>();
+        flights.executeAsync("a", () -> pending);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<String> joiner = executor.submit(() -> flights.execute("a", () -> "other"));
+            while (flights.joins() < 1) {
+                Thread.onSpinWait();
+            }
+
+            // When
+            pending.completeExceptionally(new IllegalArgumentException("bad id"));
+
+            // Then
+            assertThatThrownBy(() -> joiner.get(5, TimeUnit.SECONDS))
+                    .hasCauseInstanceOf(IllegalArgumentException.class)
+                    .hasRootCauseMessage("bad id");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldShareAsyncLoadUntilItCompletes() {
+        // Given
+        CompletableFuture<String> pending = new CompletableFuture<>();
+        AtomicInteger loads = new AtomicInteger();
+
+        // When
+        CompletableFuture<String> first = flights.executeAsync("a", () -> {
+            loads.incrementAndGet();
+            return pending;
+        });
+        CompletableFuture<String> second = flights.executeAsync("a", () -> {
+            loads.incrementAndGet();
+            return CompletableFuture.completedFuture("other");
+        });
+        pending.complete("value-a");
+
+        // Then
+        assertThat(first.join()).isEqualTo("value-a");
+        assertThat(second.join()).isEqualTo("value-a");
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(flights.inFlight()).isZero();
+    }
+
+    @Test
+    void shouldStartFreshLoadAfterForget() {
+        // Given
+        CompletableFuture<String> stale = new CompletableFuture<>();
+        CompletableFuture<String> first = flights.executeAsync("a", () -> stale);
+
+        // When
+        flights.forget("a");
+        CompletableFuture<String> second = flights.executeAsync("a", () -> CompletableFuture.completedFuture("fresh"));
+        stale.complete("stale");
+
+        // Then
+        assertThat(first.join()).isEqualTo("stale");
+        assertThat(second.join()).isEqualTo("fresh");
+        assertThat(flights.loads()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldKeepKeysIndependent() {
+        // Given
+        CompletableFuture<String> pending = new CompletableFuture<>();
+        flights.executeAsync("a", () -> pending);
+
+        // When
+        String other = flights.execute("b", () -> "value-b");
+
+        // Then
+        assertThat(other).isEqualTo("value-b");
+        assertThat(flights.joins()).isZero();
+        pending.complete("value-a");
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
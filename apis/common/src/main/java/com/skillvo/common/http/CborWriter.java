@@ -0,0 +1,177 @@
+package com.skillvo.common.http;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Writes a Jackson tree as CBOR (RFC 8949), so responses get the compact binary encoding
+ * without another Jackson data format on the Lambda classpath. Values go out in their shortest
+ * form: small integers in the initial byte, doubles as single precision when that loses nothing.
+ */
+public final class CborWriter {
+    private static final int UNSIGNED = 0;
+    private static final int NEGATIVE = 1;
+    private static final int BYTES = 2;
+    private static final int TEXT = 3;
+    private static final int ARRAY = 4;
+    private static final int MAP = 5;
+    private static final int TAG = 6;
+    private static final int FALSE = 0xF4;
+    private static final int TRUE = 0xF5;
+    private static final int NULL = 0xF6;
+    private static final int FLOAT32 = 0xFA;
+    private static final int FLOAT64 = 0xFB;
+    private static final int TAG_POSITIVE_BIGNUM = 2;
+    private static final int TAG_NEGATIVE_BIGNUM = 3;
+    private static final int TAG_DECIMAL_FRACTION = 4;
+
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream(256);
+
+    private CborWriter() {
+    }
+
+    public static byte[] write(JsonNode node) {
+        CborWriter writer = new CborWriter();
+        writer.value(node);
+        return writer.out.toByteArray();
+    }
+
+    private void value(JsonNode node) {
+        switch (node.getNodeType()) {
+            case OBJECT:
+                head(MAP, node.size());
+                Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+                while (fields.hasNext()) {
+                    Map.Entry<String, JsonNode> field = fields.next();
+                    text(field.getKey());
+                    value(field.getValue());
+                }
+                break;
+            case ARRAY:
+                head(ARRAY, node.size());
+                for (JsonNode element : node) {
+                    value(element);
+                }
+                break;
+            case STRING:
+                text(node.textValue());
+                break;
+            case NUMBER:
+                number(node);
+                break;
+            case BOOLEAN:
+                out.write(node.booleanValue() ? TRUE : FALSE);
+                break;
+            case NULL:
+            case MISSING:
+                out.write(NULL);
+                break;
+            case BINARY:
+                byte[] bytes = binary(node);
+                head(BYTES, bytes.length);
+                out.write(bytes, 0, bytes.length);
+                break;
+            default:
+                throw new IllegalStateException("Cannot write " + node.getNodeType() + " as CBOR");
+        }
+    }
+
+    private static byte[] binary(JsonNode node) {
+        try {
+            return node.binaryValue();
+        } catch (IOException e) {
+            throw new IllegalStateException("Unreadable binary node", e);
+        }
+    }
+
+    private void number(JsonNode node) {
+        if (node.isIntegralNumber()) {
+            if (node.canConvertToLong()) {
+                integer(node.longValue());
+            } else {
+                bigInteger(node.bigIntegerValue());
+            }
+        } else if (node.isBigDecimal()) {
+            BigDecimal decimal = node.decimalValue();
+            head(TAG, TAG_DECIMAL_FRACTION);
+            head(ARRAY, 2);
+            integer(-(long) decimal.scale());
+            BigInteger mantissa = decimal.unscaledValue();
+            if (mantissa.bitLength() < Long.SIZE) {
+                integer(mantissa.longValue());
+            } else {
+                bigInteger(mantissa);
+            }
+        } else {
+            double value = node.doubleValue();
+            float single = (float) value;
+            if (single == value || Double.isNaN(value)) {
+                out.write(FLOAT32);
+                writeBytes(Float.floatToIntBits(single), Integer.BYTES);
+            } else {
+                out.write(FLOAT64);
+                writeBytes(Double.doubleToLongBits(value), Long.BYTES);
+            }
+        }
+    }
+
+    private void integer(long value) {
+        if (value >= 0) {
+            head(UNSIGNED, value);
+        } else {
+            head(NEGATIVE, -1 - value);
+        }
+    }
+
+    private void bigInteger(BigInteger value) {
+        boolean negative = value.signum() < 0;
+        byte[] magnitude = (negative ? value.negate().subtract(BigInteger.ONE) : value).toByteArray();
+        // toByteArray adds a sign byte that the bignum tag does not want
+        int start = magnitude.length > 1 && magnitude[0] == 0 ? 1 : 0;
+        head(TAG, negative ? TAG_NEGATIVE_BIGNUM : TAG_POSITIVE_BIGNUM);
+        head(BYTES, magnitude.length - start);
+        out.write(magnitude, start, magnitude.length - start);
+    }
+
+    private void text(String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        head(TEXT, bytes.length);
+        out.write(bytes, 0, bytes.length);
+    }
+
+    /**
+     * The initial byte and argument of a data item. Arguments are unsigned, so a long with the
+     * top bit set is still written as eight bytes.
+     */
+    private void head(int majorType, long argument) {
+        int major = majorType << 5;
+        if (argument >= 0 && argument < 24) {
+            out.write(major | (int) argument);
+        } else if (argument >= 0 && argument < 0x100) {
+            out.write(major | 24);
+            writeBytes(argument, 1);
+        } else if (argument >= 0 && argument < 0x10000) {
+            out.write(major | 25);
+            writeBytes(argument, 2);
+        } else if (argument >= 0 && argument < 0x100000000L) {
+            out.write(major | 26);
+            writeBytes(argument, 4);
+        } else {
+            out.write(major | 27);
+            writeBytes(argument, 8);
+        }
+    }
+
+    private void writeBytes(long value, int count) {
+        for (int shift = (count - 1) * 8; shift >= 0; shift -= 8) {
+            out.write((int) (value >>> shift) & 0xFF);
+        }
+    }
+}
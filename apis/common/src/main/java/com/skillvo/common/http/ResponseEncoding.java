@@ -0,0 +1,97 @@
+package com.skillvo.common.http;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Locale;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Content negotiation for response bodies. Clients get CBOR instead of JSON when their Accept
+ * header ranks {@code application/cbor} at least as high as JSON, and bodies of
+ * {@link #MIN_COMPRESSED_SIZE} bytes or more are gzipped when Accept-Encoding allows it. Smaller
+ * bodies are sent as they are, as the gzip header and base64 would make them larger, not smaller.
+ */
+public final class ResponseEncoding {
+    public static final String JSON = "application/json";
+    public static final String CBOR = "application/cbor";
+    public static final String GZIP = "gzip";
+    public static final int MIN_COMPRESSED_SIZE = 1024;
+
+    private ResponseEncoding() {
+    }
+
+    /**
+     * Looks a request header up the way HTTP does, ignoring case, as API Gateway passes header
+     * names on as the client sent them.
+     */
+    public static String header(Map<String, String> headers, String name) {
+        if (headers == null) {
+            return null;
+        }
+        String value = headers.get(name);
+        if (value != null) {
+            return value;
+        }
+        for (Map.Entry<String, String> header : headers.entrySet()) {
+            if (name.equalsIgnoreCase(header.getKey())) {
+                return header.getValue();
+            }
+        }
+        return null;
+    }
+
+    public static boolean prefersCbor(String accept) {
+        double cbor = quality(accept, CBOR, null);
+        return cbor > 0 && cbor >= quality(accept, JSON, "*/*");
+    }
+
+    public static boolean acceptsGzip(String acceptEncoding) {
+        return quality(acceptEncoding, GZIP, "*") > 0;
+    }
+
+    /**
+     * The q-value the header gives the token, or the wildcard's when the token is not listed;
+     * -1 when neither is. Media type ranges such as {@code application/*} count as wildcards
+     * only through the {@code wildcard} passed in.
+     */
+    static double quality(String header, String token, String wildcard) {
+        if (header == null || header.isEmpty()) {
+            return -1;
+        }
+        double wildcardQuality = -1;
+        for (String element : header.split(",")) {
+            String[] parts = element.split(";");
+            String name = parts[0].trim().toLowerCase(Locale.ROOT);
+            double quality = 1;
+            for (int i = 1; i < parts.length; i++) {
+                String parameter = parts[i].trim();
+                if (parameter.startsWith("q=")) {
+                    try {
+                        quality = Double.parseDouble(parameter.substring(2));
+                    } catch (NumberFormatException e) {
+                        quality = 0;
+                    }
+                }
+            }
+            if (name.equals(token)) {
+                return quality;
+            }
+            if (name.equals(wildcard)) {
+                wildcardQuality = quality;
+            }
+        }
+        return wildcardQuality;
+    }
+
+    public static byte[] gzip(byte[] bytes) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+}
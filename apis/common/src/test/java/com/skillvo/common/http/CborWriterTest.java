@@ -0,0 +1,75 @@
+package com.skillvo.common.http;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CborWriterTest {
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final JsonNodeFactory nodes = JsonNodeFactory.instance;
+
+    @Test
+    void shouldWriteIntegersInTheirShortestForm() {
+        assertThat(hex("0")).isEqualTo("00");
+        assertThat(hex("23")).isEqualTo("17");
+        assertThat(hex("24")).isEqualTo("1818");
+        assertThat(hex("1000")).isEqualTo("1903e8");
+        assertThat(hex("1000000")).isEqualTo("1a000f4240");
+        assertThat(hex("1000000000000")).isEqualTo("1b000000e8d4a51000");
+        assertThat(hex("-1")).isEqualTo("20");
+        assertThat(hex("-1000")).isEqualTo("3903e7");
+    }
+
+    @Test
+    void shouldWriteIntegersBeyondLongAsBignums() {
+        assertThat(write(nodes.numberNode(new BigInteger("18446744073709551616")))).isEqualTo("c249010000000000000000");
+        assertThat(write(nodes.numberNode(new BigInteger("-18446744073709551617")))).isEqualTo("c349010000000000000000");
+    }
+
+    @Test
+    void shouldWriteFloatingPointInSinglePrecisionWhenExact() {
+        assertThat(hex("1.5")).isEqualTo("fa3fc00000");
+        assertThat(hex("1.1")).isEqualTo("fb3ff199999999999a");
+        assertThat(write(nodes.numberNode(new BigDecimal("273.15")))).isEqualTo("c48221196ab3");
+    }
+
+    @Test
+    void shouldWriteScalars() {
+        assertThat(hex("true")).isEqualTo("f5");
+        assertThat(hex("false")).isEqualTo("f4");
+        assertThat(hex("null")).isEqualTo("f6");
+        assertThat(hex("\"IETF\"")).isEqualTo("6449455446");
+        assertThat(hex("\"\\u00fc\"")).isEqualTo("62c3bc");
+        assertThat(write(nodes.binaryNode(new byte[]{1, 2, 3, 4}))).isEqualTo("4401020304");
+    }
+
+    @Test
+    void shouldWriteArraysAndMaps() {
+        assertThat(hex("[1,2,3]")).isEqualTo("83010203");
+        assertThat(hex("{\"a\":1,\"b\":[2,3]}")).isEqualTo("a26161016162820203");
+        assertThat(hex("[]")).isEqualTo("80");
+        assertThat(hex("{}")).isEqualTo("a0");
+    }
+
+    private String hex(String json) {
+        try {
+            return write(objectMapper.readTree(json));
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String write(JsonNode node) {
+        StringBuilder hex = new StringBuilder();
+        for (byte b : CborWriter.write(node)) {
+            hex.append(String.format("%02x", b));
+        }
+        return hex.toString();
+    }
+}
@@ -0,0 +1,65 @@
+package com.skillvo.common.http;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ResponseEncodingTest {
+
+    @Test
+    void shouldFindHeadersIgnoringCase() {
+        // Given
+        Map<String, String> headers = Map.of("accept-ENCODING", "gzip");
+
+        // When / Then
+        assertThat(ResponseEncoding.header(headers, "Accept-Encoding")).isEqualTo("gzip");
+        assertThat(ResponseEncoding.header(headers, "Accept")).isNull();
+        assertThat(ResponseEncoding.header(null, "Accept")).isNull();
+    }
+
+    @Test
+    void shouldAcceptGzipUnlessRefused() {
+        assertThat(ResponseEncoding.acceptsGzip("gzip, deflate, br")).isTrue();
+        assertThat(ResponseEncoding.acceptsGzip("br;q=1.0, GZIP;q=0.5")).isTrue();
+        assertThat(ResponseEncoding.acceptsGzip("*")).isTrue();
+        assertThat(ResponseEncoding.acceptsGzip("gzip;q=0, *")).isFalse();
+        assertThat(ResponseEncoding.acceptsGzip("identity")).isFalse();
+        assertThat(ResponseEncoding.acceptsGzip(null)).isFalse();
+    }
+
+    @Test
+    void shouldPreferCborOnlyWhenRankedAtLeastAsHighAsJson() {
+        assertThat(ResponseEncoding.prefersCbor("application/cbor")).isTrue();
+        assertThat(ResponseEncoding.prefersCbor("application/json;q=0.9, application/cbor")).isTrue();
+        assertThat(ResponseEncoding.prefersCbor("application/cbor;q=0.5, application/json")).isFalse();
+        assertThat(ResponseEncoding.prefersCbor("application/cbor;q=0.5, */*")).isFalse();
+        assertThat(ResponseEncoding.prefersCbor("*/*")).isFalse();
+        assertThat(ResponseEncoding.prefersCbor("application/cbor;q=0")).isFalse();
+        assertThat(ResponseEncoding.prefersCbor(null)).isFalse();
+    }
+
+    @Test
+    void shouldTreatMalformedQualityAsRefusal() {
+        assertThat(ResponseEncoding.quality("gzip;q=high", "gzip", "*")).isZero();
+    }
+
+    @Test
+    void shouldGzip() throws Exception {
+        // Given
+        byte[] bytes = "course ".repeat(500).getBytes(StandardCharsets.UTF_8);
+
+        // When
+        byte[] compressed = ResponseEncoding.gzip(bytes);
+
+        // Then
+        assertThat(compressed.length).isLessThan(bytes.length / 10);
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            assertThat(gzip.readAllBytes()).isEqualTo(bytes);
+        }
+    }
+}
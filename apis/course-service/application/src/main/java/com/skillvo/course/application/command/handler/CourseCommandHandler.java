@@ -9,30 +9,50 @@ import com.skillvo.course.application.mapper.CourseMapper;
 import com.skillvo.course.domain.model.aggregates.Course;
 import com.skillvo.course.domain.model.events.CourseCreated;
 import com.skillvo.course.domain.model.events.CoursePublished;
+import com.skillvo.course.domain.model.enums.Status;
+import com.skillvo.course.domain.model.events.DomainEvent;
+import com.skillvo.course.domain.model.exception.CourseVersionConflictException;
 import com.skillvo.course.domain.repository.CourseRepository;
 import com.skillvo.course.infrastructure.events.DomainEventPublisher;
+import com.skillvo.course.infrastructure.metrics.Stage;
+import com.skillvo.course.infrastructure.metrics.StageMetrics;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Component
 @RequiredArgsConstructor
 public class CourseCommandHandler {
+    private static final int MAX_WRITE_ATTEMPTS = 3;
+
     private final CourseRepository courseRepository;
     private final CourseMapper courseMapper;
     private final DomainEventPublisher eventPublisher;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final StageMetrics metrics;
+
+    /**
+     * Writes events to the outbox table in the same transaction as the course instead of
+     * publishing them after the save; the outbox relay delivers them to the queue.
+     */
+    @Value("${course.events.outbox-enabled:false}")
+    private boolean outboxEnabled;
 
     @Transactional
     public UUID handle(CreateCourseCommand command) {
-        Course course = courseMapper.toEntity(command);
+        return metrics.time(Stage.COMMAND, () -> create(command));
+    }
+
+    private UUID create(CreateCourseCommand command) {
+        Course course = toEntity(command);
         course.setCourseId(UUID.randomUUID());
-        course = courseRepository.save(course);
-        
-        // Publish domain event
-        eventPublisher.publish(new CourseCreated(
+        course = saveAndPublish(course, new CourseCreated(
             course.getCourseId(),
             course.getTenantId(),
             course.getTitle(),
@@ -42,7 +62,8 @@ public class CourseCommandHandler {
             course.getLearningMode().name(),
             course.getAuthors().stream()
                 .map(author -> author.getFirstName() + " " + author.getLastName())
-                .collect(Collectors.toList())
+                .collect(Collectors.toList()),
+            course.getTags()
         ));
         
         return course.getCourseId();
@@ -50,16 +71,37 @@ public class CourseCommandHandler {
 
     @Transactional
     public void handle(UpdateCourseCommand command) {
-        Course existingCourse = courseRepository.findById(command.getCourseId())
-                .orElseThrow(() -> new CourseNotFoundException("Course not found with id: " + command.getCourseId()));
-        
-        Course updatedCourse = courseMapper.toEntity(command);
-        updatedCourse.setCourseId(existingCourse.getCourseId());
-        courseRepository.save(updatedCourse);
+        metrics.run(Stage.COMMAND, () -> update(command));
+    }
+
+    private void update(UpdateCourseCommand command) {
+        for (int attempt = 1; ; attempt++) {
+            Course existingCourse = courseRepository.findById(command.getCourseId())
+                    .orElseThrow(() -> new CourseNotFoundException("Course not found with id: " + command.getCourseId()));
+
+            Course updatedCourse = toEntity(command);
+            updatedCourse.setCourseId(existingCourse.getCourseId());
+            // Not part of the command, so carried over rather than removed
+            updatedCourse.setPublishedOn(existingCourse.getPublishedOn());
+            try {
+                courseRepository.update(existingCourse, updatedCourse);
+                return;
+            } catch (CourseVersionConflictException e) {
+                // The command replaces the editable fields as a whole, so it applies just as well
+                // to the newer version; only the diff has to be taken again
+                if (attempt == MAX_WRITE_ATTEMPTS) {
+                    throw e;
+                }
+            }
+        }
     }
 
     @Transactional
     public void handle(DeleteCourseCommand command) {
+        metrics.run(Stage.COMMAND, () -> delete(command));
+    }
+
+    private void delete(DeleteCourseCommand command) {
         if (!courseRepository.existsById(command.getCourseId())) {
             throw new CourseNotFoundException("Course not found with id: " + command.getCourseId());
         }
@@ -68,23 +110,71 @@ public class CourseCommandHandler {
 
     @Transactional
     public void handle(PublishCourseCommand command) {
-        Course course = courseRepository.findById(command.getCourseId())
-                .orElseThrow(() -> new CourseNotFoundException("Course not found with id: " + command.getCourseId()));
-        course.setInMarketplace(true);
-        course = courseRepository.save(course);
-        
-        // Publish domain event
-        eventPublisher.publish(new CoursePublished(
-            course.getCourseId(),
-            course.getTenantId(),
-            course.getTitle(),
-            course.getDescription(),
-            course.getTopicCode(),
-            course.getLevel().name(),
-            course.getLearningMode().name(),
-            course.getAuthors().stream()
-                .map(author -> author.getFirstName() + " " + author.getLastName())
-                .collect(Collectors.toList())
-        ));
+        metrics.run(Stage.COMMAND, () -> publish(command));
+    }
+
+    private void publish(PublishCourseCommand command) {
+        for (int attempt = 1; ; attempt++) {
+            Course course = courseRepository.findById(command.getCourseId())
+                    .orElseThrow(() -> new CourseNotFoundException("Course not found with id: " + command.getCourseId()));
+            course.setInMarketplace(true);
+            course.setStatus(Status.PUBLISHED);
+            if (course.getPublishedOn() == null) {
+                // Republishing keeps the original date, and with it the course's place in the catalog
+                course.setPublishedOn(LocalDateTime.now());
+            }
+            try {
+                saveAndPublish(course, new CoursePublished(
+                    course.getCourseId(),
+                    course.getTenantId(),
+                    course.getTitle(),
+                    course.getDescription(),
+                    course.getTopicCode(),
+                    course.getLevel().name(),
+                    course.getLearningMode().name(),
+                    course.getAuthors().stream()
+                        .map(author -> author.getFirstName() + " " + author.getLastName())
+                        .collect(Collectors.toList()),
+                    course.getTags()
+                ));
+                return;
+            } catch (CourseVersionConflictException e) {
+                // Publishing sets the same fields whatever else changed, so it is applied to the
+                // newer version as well
+                if (attempt == MAX_WRITE_ATTEMPTS) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    private Course toEntity(CreateCourseCommand command) {
+        long start = metrics.start();
+        Course course = courseMapper.toEntity(command);
+        metrics.stop(Stage.MAP, start);
+        return course;
+    }
+
+    private Course toEntity(UpdateCourseCommand command) {
+        long start = metrics.start();
+        Course course = courseMapper.toEntity(command);
+        metrics.stop(Stage.MAP, start);
+        return course;
+    }
+
+    /**
+     * Besides the queue, the event goes to in-process listeners such as the search index once
+     * the course is saved.
+     */
+    private Course saveAndPublish(Course course, DomainEvent event) {
+        Course saved;
+        if (outboxEnabled) {
+            saved = courseRepository.saveWithEvent(course, event);
+        } else {
+            saved = courseRepository.save(course);
+            eventPublisher.publish(event);
+        }
+        applicationEventPublisher.publishEvent(event);
+        return saved;
     }
 } 
\ No newline at end of file
@@ -0,0 +1,15 @@
+package com.skillvo.course.application.dto;
+
+import lombok.Data;
+import lombok.Builder;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AnswerOptionDTO {
+    private String answer;
+    private boolean correct;
+}
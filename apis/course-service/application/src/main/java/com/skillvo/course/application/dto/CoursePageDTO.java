@@ -0,0 +1,17 @@
+package com.skillvo.course.application.dto;
+
+import lombok.Data;
+import lombok.Builder;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CoursePageDTO {
+    private List<CourseDTO> items;
+    private String nextPageToken;
+}
@@ -0,0 +1,26 @@
+package com.skillvo.course.application.dto;
+
+import com.skillvo.course.domain.model.enums.Level;
+import com.skillvo.course.domain.model.enums.PricingModel;
+import com.skillvo.course.domain.model.enums.Status;
+import lombok.Data;
+import lombok.Builder;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CourseSummaryDTO {
+    private UUID courseId;
+    private String title;
+    private String imageUrl;
+    private Level level;
+    private Integer duration;
+    private Status status;
+    private PricingModel pricingModel;
+    private PrizeDTO prize;
+}
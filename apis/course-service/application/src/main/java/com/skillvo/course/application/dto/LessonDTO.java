@@ -4,7 +4,9 @@ import lombok.Data;
 import lombok.Builder;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
+import com.skillvo.course.domain.model.enums.ContentType;
 
+import java.util.List;
 import java.util.UUID;
 
 @Data
@@ -20,4 +22,8 @@ public class LessonDTO {
     private Integer duration;
     private String videoUrl;
     private String thumbnailUrl;
+    private ContentType contentType;
+    private String pdfUrl;
+    private List<QuizItemDTO> quizItems;
+    private boolean mandatory;
 } 
\ No newline at end of file
@@ -0,0 +1,19 @@
+package com.skillvo.course.application.dto;
+
+import com.skillvo.course.domain.model.enums.AnswerChoice;
+import lombok.Data;
+import lombok.Builder;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class QuizItemDTO {
+    private String question;
+    private AnswerChoice answerChoice;
+    private List<AnswerOptionDTO> options;
+}
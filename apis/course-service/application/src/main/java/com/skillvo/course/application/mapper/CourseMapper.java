@@ -2,10 +2,13 @@ package com.skillvo.course.application.mapper;
 
 import com.skillvo.course.application.command.CreateCourseCommand;
 import com.skillvo.course.application.command.UpdateCourseCommand;
+import com.skillvo.course.application.dto.AnswerOptionDTO;
 import com.skillvo.course.application.dto.AuthorDTO;
 import com.skillvo.course.application.dto.CourseDTO;
+import com.skillvo.course.application.dto.CourseSummaryDTO;
 import com.skillvo.course.application.dto.PrizeDTO;
 import com.skillvo.course.application.dto.PublisherDTO;
+import com.skillvo.course.application.dto.QuizItemDTO;
 import com.skillvo.course.application.dto.SectionDTO;
 import com.skillvo.course.application.dto.LessonDTO;
 import com.skillvo.course.domain.model.aggregates.Course;
@@ -13,7 +16,15 @@ import com.skillvo.course.domain.model.entities.Author;
 import com.skillvo.course.domain.model.entities.Publisher;
 import com.skillvo.course.domain.model.entities.Section;
 import com.skillvo.course.domain.model.entities.Lesson;
+import com.skillvo.course.domain.model.enums.ContentType;
+import com.skillvo.course.domain.model.valueobjects.AnswerOption;
+import com.skillvo.course.domain.model.valueobjects.Content;
+import com.skillvo.course.domain.model.valueobjects.PDFContent;
 import com.skillvo.course.domain.model.valueobjects.Prize;
+import com.skillvo.course.domain.model.valueobjects.QuizContent;
+import com.skillvo.course.domain.model.valueobjects.QuizItem;
+import com.skillvo.course.domain.model.valueobjects.VideoContent;
+import com.skillvo.course.domain.repository.CourseSummary;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
@@ -81,42 +92,51 @@ public class CourseMapper {
 
         return CourseDTO.builder()
                 .courseId(course.getCourseId())
+                .tenantId(course.getTenantId())
                 .title(course.getTitle())
                 .description(course.getDescription())
+                .topicCode(course.getTopicCode())
+                .categoryCode(course.getCategoryCode())
                 .language(course.getLanguage())
                 .level(course.getLevel())
                 .pricingModel(course.getPricingModel())
+                .prize(toPrizeDTO(course.getPrize()))
                 .learningMode(course.getLearningMode())
-                .duration(course.getDuration())
+                .points(course.getPoints())
+                .tags(course.getTags())
+                .authors(toAuthorDTOs(course.getAuthors()))
+                .publisher(toPublisherDTO(course.getPublisher()))
+                .publishedOn(course.getPublishedOn())
+                .imageUrl(course.getImageUrl())
+                .inMarketplace(course.isInMarketplace())
                 .status(course.getStatus())
-                .authors(course.getAuthors().stream()
-                        .map(author -> AuthorDTO.builder()
-                                .authorId(author.getAuthorId())
-                                .firstName(author.getFirstName())
-                                .lastName(author.getLastName())
-                                .emailId(author.getEmailId())
-                                .build())
-                        .collect(Collectors.toList()))
-                .sections(course.getSections().stream()
-                        .map(section -> SectionDTO.builder()
-                                .sectionId(section.getSectionId())
-                                .title(section.getTitle())
-                                .description(section.getDescription())
-                                .order(section.getOrder())
-                                .duration(section.getDuration())
-                                .lessons(section.getLessons().stream()
-                                        .map(lesson -> LessonDTO.builder()
-                                                .lessonId(lesson.getLessonId())
-                                                .title(lesson.getTitle())
-                                                .duration(lesson.getDuration().intValue())
-                                                .build())
-                                        .collect(Collectors.toList()))
-                                .build())
-                        .collect(Collectors.toList()))
+                .duration(course.getDuration())
+                .sections(toSectionDTOs(course.getSections()))
+                .lessonNavigationMode(course.getLessonNavigationMode())
+                .version(course.getVersion())
+                .build();
+    }
+
+    public CourseSummaryDTO toSummaryDTO(CourseSummary summary) {
+        if (summary == null) {
+            return null;
+        }
+        return CourseSummaryDTO.builder()
+                .courseId(summary.getCourseId())
+                .title(summary.getTitle())
+                .imageUrl(summary.getImageUrl())
+                .level(summary.getLevel())
+                .duration(summary.getDuration())
+                .status(summary.getStatus())
+                .pricingModel(summary.getPricingModel())
+                .prize(toPrizeDTO(summary.getPrize()))
                 .build();
     }
 
     private PrizeDTO toPrizeDTO(Prize prize) {
+        if (prize == null) {
+            return null;
+        }
         return PrizeDTO.builder()
                 .prize(prize.getPrize())
                 .discount(prize.getDiscount())
@@ -125,6 +145,9 @@ public class CourseMapper {
     }
 
     private Prize toPrize(PrizeDTO dto) {
+        if (dto == null) {
+            return null;
+        }
         return Prize.builder()
                 .prize(dto.getPrize())
                 .discount(dto.getDiscount())
@@ -133,6 +156,9 @@ public class CourseMapper {
     }
 
     private List<AuthorDTO> toAuthorDTOs(List<Author> authors) {
+        if (authors == null) {
+            return null;
+        }
         return authors.stream()
                 .map(this::toAuthorDTO)
                 .collect(Collectors.toList());
@@ -148,6 +174,9 @@ public class CourseMapper {
     }
 
     private List<Author> toAuthors(List<AuthorDTO> dtos) {
+        if (dtos == null) {
+            return null;
+        }
         return dtos.stream()
                 .map(this::toAuthor)
                 .collect(Collectors.toList());
@@ -163,6 +192,9 @@ public class CourseMapper {
     }
 
     private PublisherDTO toPublisherDTO(Publisher publisher) {
+        if (publisher == null) {
+            return null;
+        }
         return PublisherDTO.builder()
                 .publisherId(publisher.getPublisherId())
                 .name(publisher.getName())
@@ -176,6 +208,9 @@ public class CourseMapper {
     }
 
     private Publisher toPublisher(PublisherDTO dto) {
+        if (dto == null) {
+            return null;
+        }
         return Publisher.builder()
                 .publisherId(dto.getPublisherId())
                 .name(dto.getName())
@@ -189,6 +224,9 @@ public class CourseMapper {
     }
 
     private List<SectionDTO> toSectionDTOs(List<Section> sections) {
+        if (sections == null) {
+            return null;
+        }
         return sections.stream()
                 .map(this::toSectionDTO)
                 .collect(Collectors.toList());
@@ -201,17 +239,49 @@ public class CourseMapper {
                 .description(section.getDescription())
                 .order(section.getOrder())
                 .duration(section.getDuration())
-                .lessons(section.getLessons().stream()
-                        .map(lesson -> LessonDTO.builder()
-                                .lessonId(lesson.getLessonId())
-                                .title(lesson.getTitle())
-                                .duration(lesson.getDuration().intValue())
-                                .build())
-                        .collect(Collectors.toList()))
+                .lessons(toLessonDTOs(section.getLessons()))
                 .build();
     }
 
+    private List<LessonDTO> toLessonDTOs(List<Lesson> lessons) {
+        if (lessons == null) {
+            return null;
+        }
+        return lessons.stream()
+                .map(this::toLessonDTO)
+                .collect(Collectors.toList());
+    }
+
+    public LessonDTO toLessonDTO(Lesson lesson) {
+        LessonDTO.LessonDTOBuilder dto = LessonDTO.builder()
+                .lessonId(lesson.getLessonId())
+                .title(lesson.getTitle())
+                .duration(lesson.getDuration() == null ? null : lesson.getDuration().intValue())
+                .thumbnailUrl(lesson.getCoverImageUrl())
+                .mandatory(lesson.isMandatory());
+        Content content = lesson.getContent();
+        if (content instanceof VideoContent) {
+            dto.contentType(ContentType.VIDEO).videoUrl(((VideoContent) content).getVideoUrl());
+        } else if (content instanceof PDFContent) {
+            dto.contentType(ContentType.PDF).pdfUrl(((PDFContent) content).getPdfUrl());
+        } else if (content instanceof QuizContent) {
+            dto.contentType(ContentType.QUIZ).quizItems(((QuizContent) content).getQuizItems().stream()
+                    .map(item -> QuizItemDTO.builder()
+                            .question(item.getQuestion())
+                            .answerChoice(item.getAnswerChoice())
+                            .options(item.getOptions().stream()
+                                    .map(option -> new AnswerOptionDTO(option.getAnswer(), option.isCorrect()))
+                                    .collect(Collectors.toList()))
+                            .build())
+                    .collect(Collectors.toList()));
+        }
+        return dto.build();
+    }
+
     private List<Section> toSections(List<SectionDTO> dtos) {
+        if (dtos == null) {
+            return null;
+        }
         return dtos.stream()
                 .map(this::toSection)
                 .collect(Collectors.toList());
@@ -224,18 +294,52 @@ public class CourseMapper {
                 .description(dto.getDescription())
                 .order(dto.getOrder())
                 .duration(dto.getDuration())
-                .lessons(dto.getLessons().stream()
-                        .map(lesson -> {
-                            Lesson l = new Lesson();
-                            l.setLessonId(lesson.getLessonId());
-                            l.setTitle(lesson.getTitle());
-                            l.setDuration(lesson.getDuration().floatValue());
-                            return l;
-                        })
-                        .collect(Collectors.toList()))
+                .lessons(toLessons(dto.getLessons()))
                 .build();
     }
 
+    private List<Lesson> toLessons(List<LessonDTO> dtos) {
+        if (dtos == null) {
+            return null;
+        }
+        return dtos.stream()
+                .map(lesson -> {
+                    Lesson l = new Lesson();
+                    l.setLessonId(lesson.getLessonId());
+                    l.setTitle(lesson.getTitle());
+                    l.setDuration(lesson.getDuration() == null ? null : lesson.getDuration().floatValue());
+                    l.setCoverImageUrl(lesson.getThumbnailUrl());
+                    l.setMandatory(lesson.isMandatory());
+                    if (lesson.getContentType() != null) {
+                        l.setContent(lesson.getContentType(), toContentData(lesson));
+                    }
+                    return l;
+                })
+                .collect(Collectors.toList());
+    }
+
+    private Object toContentData(LessonDTO lesson) {
+        switch (lesson.getContentType()) {
+            case VIDEO:
+                return lesson.getVideoUrl();
+            case PDF:
+                return lesson.getPdfUrl();
+            case QUIZ:
+                if (lesson.getQuizItems() == null) {
+                    return null;
+                }
+                return lesson.getQuizItems().stream()
+                        .map(item -> new QuizItem(item.getQuestion(),
+                                item.getOptions() == null ? null : item.getOptions().stream()
+                                        .map(option -> new AnswerOption(option.getAnswer(), option.isCorrect()))
+                                        .collect(Collectors.toList()),
+                                item.getAnswerChoice()))
+                        .collect(Collectors.toList());
+            default:
+                return null;
+        }
+    }
+
     public Course toDomain(CourseDTO dto) {
         if (dto == null) {
             return null;
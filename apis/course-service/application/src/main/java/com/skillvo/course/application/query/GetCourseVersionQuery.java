@@ -0,0 +1,11 @@
+package com.skillvo.course.application.query;
+
+import lombok.Builder;
+import lombok.Value;
+import java.util.UUID;
+
+@Value
+@Builder
+public class GetCourseVersionQuery {
+    UUID courseId;
+}
@@ -0,0 +1,22 @@
+package com.skillvo.course.application.query;
+
+import com.skillvo.course.domain.model.enums.Level;
+import com.skillvo.course.domain.model.enums.Status;
+import com.skillvo.course.domain.repository.TagMatch;
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.List;
+
+@Value
+@Builder
+public class ListCourseSummariesQuery {
+    String tenantId;
+    Status status;
+    Level level;
+    List<String> tags;
+    TagMatch tagMatch;
+    boolean inMarketplace;
+    Integer limit;
+    String pageToken;
+}
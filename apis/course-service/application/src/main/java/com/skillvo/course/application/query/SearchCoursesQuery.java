@@ -0,0 +1,12 @@
+package com.skillvo.course.application.query;
+
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder
+public class SearchCoursesQuery {
+    String tenantId;
+    String text;
+    Integer limit;
+}
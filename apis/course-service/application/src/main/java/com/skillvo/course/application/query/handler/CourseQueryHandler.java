@@ -1,11 +1,21 @@
 package com.skillvo.course.application.query.handler;
 
 import com.skillvo.course.application.dto.CourseDTO;
+import com.skillvo.course.application.dto.CoursePageDTO;
+import com.skillvo.course.application.dto.CourseSummaryPageDTO;
+import com.skillvo.course.application.dto.LessonDTO;
 import com.skillvo.course.application.exception.CourseNotFoundException;
 import com.skillvo.course.application.mapper.CourseMapper;
 import com.skillvo.course.application.query.GetCourseQuery;
+import com.skillvo.course.application.query.GetCourseVersionQuery;
+import com.skillvo.course.application.query.GetLessonQuery;
+import com.skillvo.course.application.query.ListCourseSummariesQuery;
+import com.skillvo.course.application.query.ListCoursesPageQuery;
 import com.skillvo.course.application.query.ListCoursesQuery;
+import com.skillvo.course.domain.repository.CourseFilter;
+import com.skillvo.course.domain.repository.CoursePage;
 import com.skillvo.course.domain.repository.CourseRepository;
+import com.skillvo.course.domain.repository.CourseSummaryPage;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
@@ -26,6 +36,27 @@ public class CourseQueryHandler {
                 .orElseThrow(() -> new CourseNotFoundException("Course not found with id: " + query.getCourseId()));
     }
 
+    /**
+     * The course's current version, for answering conditional requests without reading or
+     * converting the course itself.
+     */
+    @Transactional(readOnly = true)
+    public int handle(GetCourseVersionQuery query) {
+        return courseRepository.findVersion(query.getCourseId())
+                .orElseThrow(() -> new CourseNotFoundException("Course not found with id: " + query.getCourseId()));
+    }
+
+    /**
+     * One lesson with its content, read on its own rather than with the course's curriculum.
+     */
+    @Transactional(readOnly = true)
+    public LessonDTO handle(GetLessonQuery query) {
+        return courseRepository.findLesson(query.getCourseId(), query.getLessonId())
+                .map(courseMapper::toLessonDTO)
+                .orElseThrow(() -> new CourseNotFoundException("Lesson not found with id: " + query.getLessonId()
+                        + " in course: " + query.getCourseId()));
+    }
+
     @Transactional(readOnly = true)
     public List<CourseDTO> handle(ListCoursesQuery query) {
         if (query.getTenantId() != null && query.isInMarketplace()) {
@@ -41,4 +72,48 @@ public class CourseQueryHandler {
                 .map(courseMapper::toDTO)
                 .collect(Collectors.toList());
     }
-} 
\ No newline at end of file
+
+    @Transactional(readOnly = true)
+    public CoursePageDTO handle(ListCoursesPageQuery query) {
+        CourseFilter filter = CourseFilter.builder()
+                .tenantId(query.getTenantId())
+                .status(query.getStatus())
+                .level(query.getLevel())
+                .tags(query.getTags())
+                .tagMatch(query.getTagMatch())
+                .inMarketplace(query.isInMarketplace() ? Boolean.TRUE : null)
+                .limit(query.getLimit())
+                .pageToken(query.getPageToken())
+                .build();
+
+        CoursePage page = courseRepository.listPage(filter);
+        return CoursePageDTO.builder()
+                .items(page.getItems().stream()
+                        .map(courseMapper::toDTO)
+                        .collect(Collectors.toList()))
+                .nextPageToken(page.getNextPageToken())
+                .build();
+    }
+
+    @Transactional(readOnly = true)
+    public CourseSummaryPageDTO handle(ListCourseSummariesQuery query) {
+        CourseFilter filter = CourseFilter.builder()
+                .tenantId(query.getTenantId())
+                .status(query.getStatus())
+                .level(query.getLevel())
+                .tags(query.getTags())
+                .tagMatch(query.getTagMatch())
+                .inMarketplace(query.isInMarketplace() ? Boolean.TRUE : null)
+                .limit(query.getLimit())
+                .pageToken(query.getPageToken())
+                .build();
+
+        CourseSummaryPage page = courseRepository.listSummaryPage(filter);
+        return CourseSummaryPageDTO.builder()
+                .items(page.getItems().stream()
+                        .map(courseMapper::toSummaryDTO)
+                        .collect(Collectors.toList()))
+                .nextPageToken(page.getNextPageToken())
+                .build();
+    }
+}
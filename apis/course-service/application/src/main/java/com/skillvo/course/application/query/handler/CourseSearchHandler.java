@@ -0,0 +1,54 @@
+package com.skillvo.course.application.query.handler;
+
+import com.skillvo.course.application.dto.CourseDTO;
+import com.skillvo.course.application.mapper.CourseMapper;
+import com.skillvo.course.application.query.SearchCoursesQuery;
+import com.skillvo.course.domain.model.aggregates.Course;
+import com.skillvo.course.domain.repository.CourseRepository;
+import com.skillvo.course.infrastructure.search.CourseSearchIndex;
+import com.skillvo.course.infrastructure.search.SearchHit;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Component
+@RequiredArgsConstructor
+public class CourseSearchHandler {
+    private static final int DEFAULT_LIMIT = 20;
+    private static final int MAX_LIMIT = 100;
+
+    private final CourseSearchIndex searchIndex;
+    private final CourseRepository courseRepository;
+    private final CourseMapper courseMapper;
+
+    /**
+     * Ranks the tenant's courses against the text and reads the hits in one batch, which comes
+     * back in no particular order, so the courses are put back in rank order. Courses deleted
+     * since they were indexed are left out.
+     */
+    public List<CourseDTO> handle(SearchCoursesQuery query) {
+        int limit = query.getLimit() == null || query.getLimit() <= 0
+                ? DEFAULT_LIMIT
+                : Math.min(query.getLimit(), MAX_LIMIT);
+        List<UUID> courseIds = searchIndex.search(query.getTenantId(), query.getText(), limit).stream()
+                .map(SearchHit::getCourseId)
+                .collect(Collectors.toList());
+        if (courseIds.isEmpty()) {
+            return List.of();
+        }
+        Map<UUID, Course> courses = courseRepository.findAllByIds(courseIds).stream()
+                .filter(course -> query.getTenantId().equals(course.getTenantId()))
+                .collect(Collectors.toMap(Course::getCourseId, Function.identity(), (first, second) -> first));
+        return courseIds.stream()
+                .map(courses::get)
+                .filter(Objects::nonNull)
+                .map(courseMapper::toDTO)
+                .collect(Collectors.toList());
+    }
+}
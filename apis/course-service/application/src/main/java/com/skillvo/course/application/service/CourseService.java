@@ -9,6 +9,7 @@ import com.skillvo.course.application.dto.PrizeDTO;
 import com.skillvo.course.application.dto.PublisherDTO;
 import com.skillvo.course.application.dto.SectionDTO;
 import com.skillvo.course.application.query.CourseFilter;
+import com.skillvo.course.application.validation.CourseCommandValidator;
 import com.skillvo.course.domain.model.aggregates.Course;
 import com.skillvo.course.domain.model.entities.Author;
 import com.skillvo.course.domain.model.entities.Publisher;
@@ -33,7 +34,7 @@ public class CourseService {
 
     @Transactional
     public Course createCourse(CreateCourseCommand command) {
-        validateCreateCommand(command);
+        CourseCommandValidator.validate(command);
         
         Course course = Course.builder()
                 .courseId(UUID.randomUUID())
@@ -57,7 +58,6 @@ public class CourseService {
                 .duration(command.getDuration())
                 .sections(toDomainSections(command.getSections()))
                 .lessonNavigationMode(command.getLessonNavigationMode())
-                .version(1)
                 .build();
 
         return courseRepository.save(course);
@@ -74,26 +74,27 @@ public class CourseService {
             throw new RuntimeException("Cannot update an archived course");
         }
 
-        existingCourse.setTitle(command.getTitle());
-        existingCourse.setDescription(command.getDescription());
-        existingCourse.setTopicCode(command.getTopicCode());
-        existingCourse.setCategoryCode(command.getCategoryCode());
-        existingCourse.setLanguage(command.getLanguage());
-        existingCourse.setLevel(command.getLevel());
-        existingCourse.setPricingModel(command.getPricingModel());
-        existingCourse.setPrize(toDomainPrize(command.getPrize()));
-        existingCourse.setLearningMode(command.getLearningMode());
-        existingCourse.setPoints(command.getPoints());
-        existingCourse.setTags(command.getTags());
-        existingCourse.setAuthors(toDomainAuthors(command.getAuthors()));
-        existingCourse.setPublisher(toDomainPublisher(command.getPublisher()));
-        existingCourse.setImageUrl(command.getImageUrl());
-        existingCourse.setDuration(command.getDuration());
-        existingCourse.setSections(toDomainSections(command.getSections()));
-        existingCourse.setLessonNavigationMode(command.getLessonNavigationMode());
-        existingCourse.setVersion(existingCourse.getVersion() + 1);
+        // Changes go on a copy, so that the repository can diff it against what was read
+        Course updatedCourse = existingCourse.toBuilder().build();
+        updatedCourse.setTitle(command.getTitle());
+        updatedCourse.setDescription(command.getDescription());
+        updatedCourse.setTopicCode(command.getTopicCode());
+        updatedCourse.setCategoryCode(command.getCategoryCode());
+        updatedCourse.setLanguage(command.getLanguage());
+        updatedCourse.setLevel(command.getLevel());
+        updatedCourse.setPricingModel(command.getPricingModel());
+        updatedCourse.setPrize(toDomainPrize(command.getPrize()));
+        updatedCourse.setLearningMode(command.getLearningMode());
+        updatedCourse.setPoints(command.getPoints());
+        updatedCourse.setTags(command.getTags());
+        updatedCourse.setAuthors(toDomainAuthors(command.getAuthors()));
+        updatedCourse.setPublisher(toDomainPublisher(command.getPublisher()));
+        updatedCourse.setImageUrl(command.getImageUrl());
+        updatedCourse.setDuration(command.getDuration());
+        updatedCourse.setSections(toDomainSections(command.getSections()));
+        updatedCourse.setLessonNavigationMode(command.getLessonNavigationMode());
 
-        return courseRepository.save(existingCourse);
+        return courseRepository.update(existingCourse, updatedCourse);
     }
 
     @Transactional
@@ -121,7 +122,6 @@ public class CourseService {
 
         course.setStatus(Status.PUBLISHED);
         course.setPublishedOn(LocalDateTime.now());
-        course.setVersion(course.getVersion() + 1);
 
         return courseRepository.save(course);
     }
@@ -141,36 +141,6 @@ public class CourseService {
         return courseRepository.findAll();
     }
 
-    private void validateCreateCommand(CreateCourseCommand command) {
-        if (!StringUtils.hasText(command.getTenantId())) {
-            throw new RuntimeException("Tenant ID is required");
-        }
-        if (!StringUtils.hasText(command.getTitle())) {
-            throw new RuntimeException("Title is required");
-        }
-        if (!StringUtils.hasText(command.getDescription())) {
-            throw new RuntimeException("Description is required");
-        }
-        if (command.getLanguage() == null || command.getLanguage().isEmpty()) {
-            throw new RuntimeException("At least one language is required");
-        }
-        if (command.getLevel() == null) {
-            throw new RuntimeException("Level is required");
-        }
-        if (command.getPricingModel() == null) {
-            throw new RuntimeException("Pricing model is required");
-        }
-        if (command.getLearningMode() == null) {
-            throw new RuntimeException("Learning mode is required");
-        }
-        if (command.getAuthors() == null || command.getAuthors().isEmpty()) {
-            throw new RuntimeException("At least one author is required");
-        }
-        if (command.getDuration() == null || command.getDuration() <= 0) {
-            throw new RuntimeException("Duration must be greater than 0");
-        }
-    }
-
     private void validateUpdateCommand(UpdateCourseCommand command) {
         if (command.getCourseId() == null) {
             throw new RuntimeException("Course ID is required");
@@ -0,0 +1,43 @@
+package com.skillvo.course.application.validation;
+
+import com.skillvo.course.application.command.CreateCourseCommand;
+import org.springframework.util.StringUtils;
+
+/**
+ * Creation rules shared by the course API and bulk imports.
+ */
+public final class CourseCommandValidator {
+
+    private CourseCommandValidator() {
+    }
+
+    public static void validate(CreateCourseCommand command) {
+        if (!StringUtils.hasText(command.getTenantId())) {
+            throw new RuntimeException("Tenant ID is required");
+        }
+        if (!StringUtils.hasText(command.getTitle())) {
+            throw new RuntimeException("Title is required");
+        }
+        if (!StringUtils.hasText(command.getDescription())) {
+            throw new RuntimeException("Description is required");
+        }
+        if (command.getLanguage() == null || command.getLanguage().isEmpty()) {
+            throw new RuntimeException("At least one language is required");
+        }
+        if (command.getLevel() == null) {
+            throw new RuntimeException("Level is required");
+        }
+        if (command.getPricingModel() == null) {
+            throw new RuntimeException("Pricing model is required");
+        }
+        if (command.getLearningMode() == null) {
+            throw new RuntimeException("Learning mode is required");
+        }
+        if (command.getAuthors() == null || command.getAuthors().isEmpty()) {
+            throw new RuntimeException("At least one author is required");
+        }
+        if (command.getDuration() == null || command.getDuration() <= 0) {
+            throw new RuntimeException("Duration must be greater than 0");
+        }
+    }
+}
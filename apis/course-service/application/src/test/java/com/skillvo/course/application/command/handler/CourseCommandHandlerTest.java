@@ -7,16 +7,25 @@ import com.skillvo.course.application.command.PublishCourseCommand;
 import com.skillvo.course.application.exception.CourseNotFoundException;
 import com.skillvo.course.application.mapper.CourseMapper;
 import com.skillvo.course.domain.model.aggregates.Course;
+import com.skillvo.course.domain.model.events.CourseCreated;
+import com.skillvo.course.domain.model.events.CoursePublished;
 import com.skillvo.course.domain.model.enums.Level;
 import com.skillvo.course.domain.model.enums.LearningMode;
+import com.skillvo.course.domain.model.enums.Status;
+import com.skillvo.course.domain.model.exception.CourseVersionConflictException;
 import com.skillvo.course.domain.repository.CourseRepository;
 import com.skillvo.course.infrastructure.events.DomainEventPublisher;
+import com.skillvo.course.infrastructure.metrics.Stage;
+import com.skillvo.course.infrastructure.metrics.StageMetrics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.Optional;
 import java.util.UUID;
@@ -24,6 +33,8 @@ import java.util.UUID;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -38,11 +49,16 @@ class CourseCommandHandlerTest {
     @Mock
     private DomainEventPublisher eventPublisher;
 
+    @Mock
+    private ApplicationEventPublisher applicationEventPublisher;
+
+    private final StageMetrics metrics = new StageMetrics(StageMetrics.Settings.defaults(), System.out);
     private CourseCommandHandler commandHandler;
 
     @BeforeEach
     void setUp() {
-        commandHandler = new CourseCommandHandler(courseRepository, courseMapper, eventPublisher);
+        commandHandler = new CourseCommandHandler(courseRepository, courseMapper, eventPublisher, applicationEventPublisher,
+                metrics);
     }
 
     @Test
@@ -84,6 +100,9 @@ class CourseCommandHandlerTest {
         verify(courseMapper).toEntity(any(CreateCourseCommand.class));
         verify(courseRepository).save(mappedCourse);
         verify(eventPublisher).publish(any());
+        assertThat(metrics.count(Stage.COMMAND)).isEqualTo(1);
+        assertThat(metrics.count(Stage.MAP)).isEqualTo(1);
+        assertThat(metrics.errors(Stage.COMMAND)).isZero();
     }
 
     @Test
@@ -99,11 +118,14 @@ class CourseCommandHandlerTest {
                 .learningMode(LearningMode.ONLINE)
                 .build();
         
+        LocalDateTime publishedOn = LocalDateTime.of(2024, 3, 1, 9, 30);
         Course existingCourse = Course.builder()
                 .courseId(courseId)
                 .level(Level.BEGINNER)
                 .learningMode(LearningMode.ONLINE)
                 .authors(Collections.emptyList())
+                .publishedOn(publishedOn)
+                .version(4)
                 .build();
         
         Course updatedCourse = Course.builder()
@@ -115,7 +137,7 @@ class CourseCommandHandlerTest {
         
         when(courseRepository.findById(courseId)).thenReturn(Optional.of(existingCourse));
         when(courseMapper.toEntity(any(UpdateCourseCommand.class))).thenReturn(updatedCourse);
-        when(courseRepository.save(any(Course.class))).thenReturn(updatedCourse);
+        when(courseRepository.update(existingCourse, updatedCourse)).thenReturn(updatedCourse);
 
         // When
         commandHandler.handle(command);
@@ -123,7 +145,56 @@ class CourseCommandHandlerTest {
         // Then
         verify(courseRepository).findById(courseId);
         verify(courseMapper).toEntity(any(UpdateCourseCommand.class));
-        verify(courseRepository).save(updatedCourse);
+        verify(courseRepository).update(existingCourse, updatedCourse);
+        verify(courseRepository, never()).save(any());
+        assertThat(updatedCourse.getPublishedOn()).isEqualTo(publishedOn);
+        // The repository derives the next version from the course it was given
+        assertThat(updatedCourse.getVersion()).isNull();
+    }
+
+    @Test
+    void shouldRetryUpdateOnVersionConflict() {
+        // Given
+        UUID courseId = UUID.randomUUID();
+        UpdateCourseCommand command = UpdateCourseCommand.builder()
+                .courseId(courseId)
+                .title("Updated Course")
+                .build();
+        Course stale = Course.builder().courseId(courseId).version(1).build();
+        Course fresh = Course.builder().courseId(courseId).version(2).build();
+
+        when(courseRepository.findById(courseId)).thenReturn(Optional.of(stale), Optional.of(fresh));
+        when(courseMapper.toEntity(any(UpdateCourseCommand.class)))
+                .thenAnswer(invocation -> Course.builder().title("Updated Course").build());
+        when(courseRepository.update(eq(stale), any(Course.class)))
+                .thenThrow(new CourseVersionConflictException("changed"));
+        when(courseRepository.update(eq(fresh), any(Course.class))).thenAnswer(invocation -> invocation.getArgument(1));
+
+        // When
+        commandHandler.handle(command);
+
+        // Then
+        verify(courseRepository, times(2)).findById(courseId);
+        verify(courseRepository).update(eq(fresh), any(Course.class));
+    }
+
+    @Test
+    void shouldGiveUpUpdateAfterRepeatedVersionConflicts() {
+        // Given
+        UUID courseId = UUID.randomUUID();
+        UpdateCourseCommand command = UpdateCourseCommand.builder()
+                .courseId(courseId)
+                .build();
+
+        when(courseRepository.findById(courseId)).thenReturn(Optional.of(Course.builder().courseId(courseId).build()));
+        when(courseMapper.toEntity(any(UpdateCourseCommand.class))).thenAnswer(invocation -> new Course());
+        when(courseRepository.update(any(Course.class), any(Course.class)))
+                .thenThrow(new CourseVersionConflictException("changed"));
+
+        // When/Then
+        assertThatThrownBy(() -> commandHandler.handle(command))
+                .isInstanceOf(CourseVersionConflictException.class);
+        verify(courseRepository, times(3)).update(any(Course.class), any(Course.class));
     }
 
     @Test
@@ -143,7 +214,7 @@ class CourseCommandHandlerTest {
         
         verify(courseRepository).findById(courseId);
         verify(courseMapper, never()).toEntity(any(UpdateCourseCommand.class));
-        verify(courseRepository, never()).save(any());
+        verify(courseRepository, never()).update(any(), any());
     }
 
     @Test
@@ -181,6 +252,7 @@ class CourseCommandHandlerTest {
         
         verify(courseRepository).existsById(courseId);
         verify(courseRepository, never()).deleteById(any());
+        assertThat(metrics.errors(Stage.COMMAND)).isEqualTo(1);
     }
 
     @Test
@@ -212,6 +284,65 @@ class CourseCommandHandlerTest {
         assertThat(course.isInMarketplace()).isTrue();
     }
 
+    @Test
+    void shouldMarkCoursePublishedAndKeepOriginalPublishDate() {
+        // Given
+        UUID courseId = UUID.randomUUID();
+        LocalDateTime firstPublished = LocalDateTime.of(2024, 3, 1, 9, 30);
+        Course course = Course.builder()
+                .courseId(courseId)
+                .inMarketplace(false)
+                .status(Status.DRAFT)
+                .publishedOn(firstPublished)
+                .level(Level.BEGINNER)
+                .learningMode(LearningMode.ONLINE)
+                .authors(Collections.emptyList())
+                .build();
+        Course unpublished = Course.builder()
+                .courseId(UUID.randomUUID())
+                .inMarketplace(false)
+                .status(Status.DRAFT)
+                .level(Level.BEGINNER)
+                .learningMode(LearningMode.ONLINE)
+                .authors(Collections.emptyList())
+                .build();
+        when(courseRepository.findById(courseId)).thenReturn(Optional.of(course));
+        when(courseRepository.findById(unpublished.getCourseId())).thenReturn(Optional.of(unpublished));
+
+        // When
+        commandHandler.handle(PublishCourseCommand.builder().courseId(courseId).build());
+        commandHandler.handle(PublishCourseCommand.builder().courseId(unpublished.getCourseId()).build());
+
+        // Then
+        assertThat(course.getStatus()).isEqualTo(Status.PUBLISHED);
+        assertThat(course.getPublishedOn()).isEqualTo(firstPublished);
+        assertThat(unpublished.getStatus()).isEqualTo(Status.PUBLISHED);
+        assertThat(unpublished.getPublishedOn()).isNotNull();
+    }
+
+    @Test
+    void shouldRetryPublishOnVersionConflict() {
+        // Given
+        UUID courseId = UUID.randomUUID();
+        Course stale = Course.builder().courseId(courseId).version(1).level(Level.BEGINNER)
+                .learningMode(LearningMode.ONLINE).authors(Collections.emptyList()).build();
+        Course fresh = Course.builder().courseId(courseId).version(2).level(Level.BEGINNER)
+                .learningMode(LearningMode.ONLINE).authors(Collections.emptyList()).build();
+        when(courseRepository.findById(courseId)).thenReturn(Optional.of(stale), Optional.of(fresh));
+        when(courseRepository.save(any(Course.class)))
+                .thenThrow(new CourseVersionConflictException("changed"))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        commandHandler.handle(PublishCourseCommand.builder().courseId(courseId).build());
+
+        // Then
+        verify(courseRepository, times(2)).save(any(Course.class));
+        verify(courseRepository).save(fresh);
+        verify(eventPublisher, times(1)).publish(any());
+        assertThat(fresh.getStatus()).isEqualTo(Status.PUBLISHED);
+    }
+
     @Test
     void shouldThrowExceptionWhenPublishingNonExistentCourse() {
         // Given
@@ -230,4 +361,57 @@ class CourseCommandHandlerTest {
         verify(courseRepository).findById(courseId);
         verify(courseRepository, never()).save(any());
     }
-} 
\ No newline at end of file
+
+    @Test
+    void shouldWriteCreatedEventToOutboxWhenEnabled() {
+        // Given
+        ReflectionTestUtils.setField(commandHandler, "outboxEnabled", true);
+        CreateCourseCommand command = CreateCourseCommand.builder()
+                .tenantId("tenant1")
+                .title("Test Course")
+                .level(Level.BEGINNER)
+                .learningMode(LearningMode.ONLINE)
+                .build();
+        Course mappedCourse = Course.builder()
+                .level(Level.BEGINNER)
+                .learningMode(LearningMode.ONLINE)
+                .authors(Collections.emptyList())
+                .build();
+        when(courseMapper.toEntity(any(CreateCourseCommand.class))).thenReturn(mappedCourse);
+        when(courseRepository.saveWithEvent(any(Course.class), any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        UUID result = commandHandler.handle(command);
+
+        // Then
+        assertThat(result).isEqualTo(mappedCourse.getCourseId());
+        verify(courseRepository).saveWithEvent(eq(mappedCourse), isA(CourseCreated.class));
+        verify(courseRepository, never()).save(any());
+        verifyNoInteractions(eventPublisher);
+        verify(applicationEventPublisher).publishEvent(isA(CourseCreated.class));
+    }
+
+    @Test
+    void shouldWritePublishedEventToOutboxWhenEnabled() {
+        // Given
+        ReflectionTestUtils.setField(commandHandler, "outboxEnabled", true);
+        UUID courseId = UUID.randomUUID();
+        Course course = Course.builder()
+                .courseId(courseId)
+                .inMarketplace(false)
+                .level(Level.BEGINNER)
+                .learningMode(LearningMode.ONLINE)
+                .authors(Collections.emptyList())
+                .build();
+        when(courseRepository.findById(courseId)).thenReturn(Optional.of(course));
+
+        // When
+        commandHandler.handle(PublishCourseCommand.builder().courseId(courseId).build());
+
+        // Then
+        verify(courseRepository).saveWithEvent(eq(course), isA(CoursePublished.class));
+        verify(courseRepository, never()).save(any());
+        verifyNoInteractions(eventPublisher);
+        assertThat(course.isInMarketplace()).isTrue();
+    }
+}
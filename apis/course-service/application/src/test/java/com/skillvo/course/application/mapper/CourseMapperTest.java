@@ -1,11 +1,18 @@
 package com.skillvo.course.application.mapper;
 
+import com.skillvo.course.application.command.CreateCourseCommand;
 import com.skillvo.course.application.dto.*;
 import com.skillvo.course.domain.model.aggregates.Course;
 import com.skillvo.course.domain.model.entities.Author;
 import com.skillvo.course.domain.model.entities.Section;
 import com.skillvo.course.domain.model.entities.Lesson;
+import com.skillvo.course.domain.model.entities.Publisher;
 import com.skillvo.course.domain.model.enums.*;
+import com.skillvo.course.domain.model.valueobjects.AnswerOption;
+import com.skillvo.course.domain.model.valueobjects.Prize;
+import com.skillvo.course.domain.model.valueobjects.QuizContent;
+import com.skillvo.course.domain.model.valueobjects.QuizItem;
+import com.skillvo.course.domain.model.valueobjects.VideoContent;
 import org.junit.jupiter.api.Test;
 
 import java.util.List;
@@ -40,6 +47,32 @@ class CourseMapperTest {
         assertThat(result.getSections()).hasSize(1);
     }
 
+    @Test
+    void shouldMapPrizePublisherAndSectionsWithoutLessonsToDTO() {
+        // Given
+        Course course = createValidCourse();
+        course.setTenantId("tenant-1");
+        course.setPrize(new Prize(49.99, 10, Currency.USD));
+        course.setPublisher(Publisher.builder()
+                .publisherId(UUID.randomUUID())
+                .name("SkillVo Press")
+                .type(PublisherType.COMPANY)
+                .build());
+        course.setVersion(2);
+        course.getSections().get(0).setLessons(null);
+
+        // When
+        CourseDTO result = courseMapper.toDTO(course);
+
+        // Then
+        assertThat(result.getTenantId()).isEqualTo("tenant-1");
+        assertThat(result.getPrize().getPrize()).isEqualTo(49.99);
+        assertThat(result.getPrize().getCurrency()).isEqualTo(Currency.USD);
+        assertThat(result.getPublisher().getName()).isEqualTo("SkillVo Press");
+        assertThat(result.getVersion()).isEqualTo(2);
+        assertThat(result.getSections().get(0).getLessons()).isNull();
+    }
+
     @Test
     void shouldMapDTOToCourse() {
         // Given
@@ -63,6 +96,69 @@ class CourseMapperTest {
         assertThat(result.getSections()).hasSize(1);
     }
 
+    @Test
+    void shouldMapLessonContentToDTO() {
+        // Given
+        Lesson pdf = new Lesson();
+        pdf.setLessonId(UUID.randomUUID());
+        pdf.setTitle("Handout");
+        pdf.setCoverImageUrl("http://example.com/handout.png");
+        pdf.setMandatory(true);
+        pdf.setContent(ContentType.PDF, "http://example.com/handout.pdf");
+        Lesson quiz = new Lesson();
+        quiz.setContent(ContentType.QUIZ, List.of(new QuizItem("Ready?",
+                List.of(new AnswerOption("Yes", true), new AnswerOption("No", false)), AnswerChoice.SINGLE)));
+
+        // When
+        LessonDTO pdfDTO = courseMapper.toLessonDTO(pdf);
+        LessonDTO quizDTO = courseMapper.toLessonDTO(quiz);
+
+        // Then
+        assertThat(pdfDTO.getContentType()).isEqualTo(ContentType.PDF);
+        assertThat(pdfDTO.getPdfUrl()).isEqualTo("http://example.com/handout.pdf");
+        assertThat(pdfDTO.getThumbnailUrl()).isEqualTo("http://example.com/handout.png");
+        assertThat(pdfDTO.isMandatory()).isTrue();
+        assertThat(pdfDTO.getVideoUrl()).isNull();
+        assertThat(quizDTO.getContentType()).isEqualTo(ContentType.QUIZ);
+        assertThat(quizDTO.getQuizItems()).singleElement().satisfies(item -> {
+            assertThat(item.getQuestion()).isEqualTo("Ready?");
+            assertThat(item.getAnswerChoice()).isEqualTo(AnswerChoice.SINGLE);
+            assertThat(item.getOptions()).containsExactly(new AnswerOptionDTO("Yes", true), new AnswerOptionDTO("No", false));
+        });
+    }
+
+    @Test
+    void shouldMapLessonContentOfCommandToCourse() {
+        // Given
+        CreateCourseCommand command = CreateCourseCommand.builder()
+                .title("Course")
+                .sections(List.of(SectionDTO.builder()
+                        .sectionId(UUID.randomUUID())
+                        .lessons(List.of(
+                                LessonDTO.builder().title("Intro").contentType(ContentType.VIDEO)
+                                        .videoUrl("http://example.com/intro.mp4").mandatory(true).build(),
+                                LessonDTO.builder().title("Check").contentType(ContentType.QUIZ)
+                                        .quizItems(List.of(QuizItemDTO.builder()
+                                                .question("Ready?")
+                                                .answerChoice(AnswerChoice.MULTIPLE)
+                                                .options(List.of(new AnswerOptionDTO("Yes", true)))
+                                                .build()))
+                                        .build(),
+                                LessonDTO.builder().title("Plain").build()))
+                        .build()))
+                .build();
+
+        // When
+        List<Lesson> lessons = courseMapper.toEntity(command).getSections().get(0).getLessons();
+
+        // Then
+        assertThat(((VideoContent) lessons.get(0).getContent()).getVideoUrl()).isEqualTo("http://example.com/intro.mp4");
+        assertThat(lessons.get(0).isMandatory()).isTrue();
+        assertThat(((QuizContent) lessons.get(1).getContent()).getQuizItems()).containsExactly(
+                new QuizItem("Ready?", List.of(new AnswerOption("Yes", true)), AnswerChoice.MULTIPLE));
+        assertThat(lessons.get(2).getContent()).isNull();
+    }
+
     @Test
     void shouldMapCourseListToDTOList() {
         // Given
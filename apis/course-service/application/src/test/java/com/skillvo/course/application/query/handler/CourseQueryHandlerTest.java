@@ -1,12 +1,25 @@
 package com.skillvo.course.application.query.handler;
 
 import com.skillvo.course.application.dto.CourseDTO;
+import com.skillvo.course.application.dto.CoursePageDTO;
+import com.skillvo.course.application.dto.CourseSummaryDTO;
+import com.skillvo.course.application.dto.CourseSummaryPageDTO;
+import com.skillvo.course.application.dto.LessonDTO;
 import com.skillvo.course.application.exception.CourseNotFoundException;
 import com.skillvo.course.application.mapper.CourseMapper;
 import com.skillvo.course.application.query.GetCourseQuery;
+import com.skillvo.course.application.query.GetCourseVersionQuery;
+import com.skillvo.course.application.query.GetLessonQuery;
+import com.skillvo.course.application.query.ListCourseSummariesQuery;
+import com.skillvo.course.application.query.ListCoursesPageQuery;
 import com.skillvo.course.application.query.ListCoursesQuery;
 import com.skillvo.course.domain.model.aggregates.Course;
+import com.skillvo.course.domain.model.entities.Lesson;
+import com.skillvo.course.domain.repository.CourseFilter;
+import com.skillvo.course.domain.repository.CoursePage;
 import com.skillvo.course.domain.repository.CourseRepository;
+import com.skillvo.course.domain.repository.CourseSummary;
+import com.skillvo.course.domain.repository.CourseSummaryPage;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -84,6 +97,64 @@ class CourseQueryHandlerTest {
         verify(courseMapper, never()).toDTO(any());
     }
 
+    @Test
+    void shouldGetLesson() {
+        // Given
+        UUID courseId = UUID.randomUUID();
+        UUID lessonId = UUID.randomUUID();
+        Lesson lesson = new Lesson();
+        lesson.setLessonId(lessonId);
+        LessonDTO lessonDTO = LessonDTO.builder().lessonId(lessonId).build();
+        when(courseRepository.findLesson(courseId, lessonId)).thenReturn(Optional.of(lesson));
+        when(courseMapper.toLessonDTO(lesson)).thenReturn(lessonDTO);
+
+        // When
+        LessonDTO result = queryHandler.handle(GetLessonQuery.builder().courseId(courseId).lessonId(lessonId).build());
+
+        // Then
+        assertThat(result).isEqualTo(lessonDTO);
+        verify(courseRepository, never()).findById(any());
+    }
+
+    @Test
+    void shouldThrowExceptionWhenGettingNonExistentLesson() {
+        // Given
+        UUID courseId = UUID.randomUUID();
+        UUID lessonId = UUID.randomUUID();
+        when(courseRepository.findLesson(courseId, lessonId)).thenReturn(Optional.empty());
+
+        // When/Then
+        assertThatThrownBy(() -> queryHandler.handle(GetLessonQuery.builder().courseId(courseId).lessonId(lessonId).build()))
+                .isInstanceOf(CourseNotFoundException.class)
+                .hasMessageContaining(lessonId.toString());
+    }
+
+    @Test
+    void shouldGetCourseVersionWithoutLoadingCourse() {
+        // Given
+        UUID courseId = UUID.randomUUID();
+        when(courseRepository.findVersion(courseId)).thenReturn(Optional.of(7));
+
+        // When
+        int version = queryHandler.handle(GetCourseVersionQuery.builder().courseId(courseId).build());
+
+        // Then
+        assertThat(version).isEqualTo(7);
+        verify(courseRepository, never()).findById(any());
+    }
+
+    @Test
+    void shouldThrowExceptionWhenGettingVersionOfNonExistentCourse() {
+        // Given
+        UUID courseId = UUID.randomUUID();
+        when(courseRepository.findVersion(courseId)).thenReturn(Optional.empty());
+
+        // When/Then
+        assertThatThrownBy(() -> queryHandler.handle(GetCourseVersionQuery.builder().courseId(courseId).build()))
+                .isInstanceOf(CourseNotFoundException.class)
+                .hasMessageContaining(courseId.toString());
+    }
+
     @Test
     void shouldListCourses() {
         // Given
@@ -151,4 +222,81 @@ class CourseQueryHandlerTest {
         verify(courseRepository).findByTenantIdAndInMarketplace(tenantId, true);
         verify(courseMapper, never()).toDTO(any());
     }
-} 
\ No newline at end of file
+
+    @Test
+    void shouldListCoursePage() {
+        // Given
+        String tenantId = "tenant1";
+        ListCoursesPageQuery query = ListCoursesPageQuery.builder()
+                .tenantId(tenantId)
+                .limit(10)
+                .pageToken("token")
+                .build();
+
+        Course course = new Course();
+        course.setCourseId(UUID.randomUUID());
+        course.setTenantId(tenantId);
+
+        CourseDTO courseDTO = CourseDTO.builder()
+                .courseId(course.getCourseId())
+                .tenantId(tenantId)
+                .build();
+
+        CourseFilter expectedFilter = CourseFilter.builder()
+                .tenantId(tenantId)
+                .limit(10)
+                .pageToken("token")
+                .build();
+        when(courseRepository.listPage(expectedFilter)).thenReturn(CoursePage.builder()
+                .items(List.of(course))
+                .nextPageToken("next")
+                .build());
+        when(courseMapper.toDTO(course)).thenReturn(courseDTO);
+
+        // When
+        CoursePageDTO result = queryHandler.handle(query);
+
+        // Then
+        assertThat(result.getItems()).containsExactly(courseDTO);
+        assertThat(result.getNextPageToken()).isEqualTo("next");
+        verify(courseRepository).listPage(expectedFilter);
+    }
+
+    @Test
+    void shouldListCourseSummaryPage() {
+        // Given
+        ListCourseSummariesQuery query = ListCourseSummariesQuery.builder()
+                .tenantId("tenant1")
+                .inMarketplace(true)
+                .limit(10)
+                .build();
+
+        CourseSummary summary = CourseSummary.builder()
+                .courseId(UUID.randomUUID())
+                .title("Test Course")
+                .build();
+        CourseSummaryDTO summaryDTO = CourseSummaryDTO.builder()
+                .courseId(summary.getCourseId())
+                .title("Test Course")
+                .build();
+
+        CourseFilter expectedFilter = CourseFilter.builder()
+                .tenantId("tenant1")
+                .inMarketplace(true)
+                .limit(10)
+                .build();
+        when(courseRepository.listSummaryPage(expectedFilter)).thenReturn(CourseSummaryPage.builder()
+                .items(List.of(summary))
+                .nextPageToken("next")
+                .build());
+        when(courseMapper.toSummaryDTO(summary)).thenReturn(summaryDTO);
+
+        // When
+        CourseSummaryPageDTO result = queryHandler.handle(query);
+
+        // Then
+        assertThat(result.getItems()).containsExactly(summaryDTO);
+        assertThat(result.getNextPageToken()).isEqualTo("next");
+        verify(courseRepository, never()).listPage(any());
+    }
+}
@@ -0,0 +1,99 @@
+package com.skillvo.course.application.query.handler;
+
+import com.skillvo.course.application.dto.CourseDTO;
+import com.skillvo.course.application.mapper.CourseMapper;
+import com.skillvo.course.application.query.SearchCoursesQuery;
+import com.skillvo.course.domain.model.aggregates.Course;
+import com.skillvo.course.domain.repository.CourseRepository;
+import com.skillvo.course.infrastructure.search.CourseSearchIndex;
+import com.skillvo.course.infrastructure.search.SearchHit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CourseSearchHandlerTest {
+
+    @Mock
+    private CourseSearchIndex searchIndex;
+
+    @Mock
+    private CourseRepository courseRepository;
+
+    @Mock
+    private CourseMapper courseMapper;
+
+    private CourseSearchHandler searchHandler;
+
+    @BeforeEach
+    void setUp() {
+        searchHandler = new CourseSearchHandler(searchIndex, courseRepository, courseMapper);
+    }
+
+    @Test
+    void shouldReturnCoursesInRankOrder() {
+        // Given
+        Course best = course("tenant-1");
+        Course second = course("tenant-1");
+        Course otherTenant = course("tenant-2");
+        UUID deleted = UUID.randomUUID();
+        when(searchIndex.search("tenant-1", "java", 20)).thenReturn(List.of(
+                new SearchHit(best.getCourseId(), 3f),
+                new SearchHit(deleted, 2f),
+                new SearchHit(otherTenant.getCourseId(), 1.5f),
+                new SearchHit(second.getCourseId(), 1f)));
+        when(courseRepository.findAllByIds(List.of(best.getCourseId(), deleted, otherTenant.getCourseId(),
+                second.getCourseId()))).thenReturn(List.of(second, otherTenant, best));
+        when(courseMapper.toDTO(any(Course.class))).thenAnswer(invocation -> CourseDTO.builder()
+                .courseId(invocation.<Course>getArgument(0).getCourseId())
+                .build());
+
+        // When
+        List<CourseDTO> result = searchHandler.handle(SearchCoursesQuery.builder()
+                .tenantId("tenant-1")
+                .text("java")
+                .build());
+
+        // Then
+        assertThat(result).extracting(CourseDTO::getCourseId)
+                .containsExactly(best.getCourseId(), second.getCourseId());
+    }
+
+    @Test
+    void shouldCapTheLimitAndSkipTheReadWhenNothingMatches() {
+        // Given
+        when(searchIndex.search(eq("tenant-1"), eq("nothing"), anyInt())).thenReturn(List.of());
+
+        // When
+        List<CourseDTO> result = searchHandler.handle(SearchCoursesQuery.builder()
+                .tenantId("tenant-1")
+                .text("nothing")
+                .limit(5000)
+                .build());
+
+        // Then
+        assertThat(result).isEmpty();
+        verify(searchIndex).search("tenant-1", "nothing", 100);
+        verify(courseRepository, never()).findAllByIds(any());
+    }
+
+    private static Course course(String tenantId) {
+        Course course = new Course();
+        course.setCourseId(UUID.randomUUID());
+        course.setTenantId(tenantId);
+        return course;
+    }
+}
@@ -83,15 +83,21 @@ class CourseServiceTest {
         existingCourse.setVersion(1);
         
         when(courseRepository.findById(courseId)).thenReturn(Optional.of(existingCourse));
-        when(courseRepository.save(any(Course.class))).thenReturn(existingCourse);
+        when(courseRepository.update(eq(existingCourse), any(Course.class)))
+                .thenAnswer(invocation -> invocation.getArgument(1));
 
         // When
         Course result = courseService.updateCourse(command);
 
         // Then
-        assertThat(result).isNotNull();
+        assertThat(result).isNotSameAs(existingCourse);
+        assertThat(result.getTitle()).isEqualTo(command.getTitle());
+        // Left at the version read; the repository moves it on
+        assertThat(result.getVersion()).isEqualTo(1);
+        assertThat(existingCourse.getTitle()).isNull();
+        assertThat(existingCourse.getVersion()).isEqualTo(1);
         verify(courseRepository).findById(courseId);
-        verify(courseRepository).save(any(Course.class));
+        verify(courseRepository, never()).save(any(Course.class));
     }
 
     @Test
@@ -0,0 +1,94 @@
+package com.skillvo.course.benchmarks;
+
+import com.skillvo.course.domain.model.aggregates.Course;
+import com.skillvo.course.domain.model.entities.Author;
+import com.skillvo.course.domain.model.entities.Publisher;
+import com.skillvo.course.domain.model.entities.Section;
+import com.skillvo.course.domain.model.enums.Currency;
+import com.skillvo.course.domain.model.enums.Language;
+import com.skillvo.course.domain.model.enums.LearningMode;
+import com.skillvo.course.domain.model.enums.LessonNavigationMode;
+import com.skillvo.course.domain.model.enums.Level;
+import com.skillvo.course.domain.model.enums.PricingModel;
+import com.skillvo.course.domain.model.enums.PublisherType;
+import com.skillvo.course.domain.model.enums.Status;
+import com.skillvo.course.domain.model.valueobjects.Prize;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Deterministic, fully populated courses of a given shape for the benchmarks.
+ */
+public final class CourseFixtures {
+
+    private CourseFixtures() {
+    }
+
+    public static Course course(int sectionCount, int authorCount) {
+        Course course = new Course();
+        course.setCourseId(UUID.nameUUIDFromBytes(("course-" + sectionCount + "-" + authorCount).getBytes()));
+        course.setTenantId("tenant-benchmark");
+        course.setTitle("Distributed Systems in Practice");
+        course.setDescription("Replication, consensus and the failure modes that come with them.");
+        course.setTopicCode("TOPIC-DS");
+        course.setCategoryCode("CAT-ENG");
+        course.setLanguage(Arrays.asList(Language.ENGLISH));
+        course.setLevel(Level.INTERMEDIATE);
+        course.setPricingModel(PricingModel.PAID);
+        course.setPrize(new Prize(49.99, 10, Currency.USD));
+        course.setLearningMode(LearningMode.ONLINE);
+        course.setPoints(250);
+        course.setTags(Arrays.asList("distributed-systems", "consensus", "replication"));
+        course.setAuthors(authors(authorCount));
+        course.setPublisher(Publisher.builder()
+                .publisherId(UUID.nameUUIDFromBytes("publisher".getBytes()))
+                .name("SkillVo Press")
+                .type(PublisherType.COMPANY)
+                .logoUrl("https://cdn.skillvo.com/publishers/press.png")
+                .website("https://skillvo.com")
+                .contactEmail("press@skillvo.com")
+                .description("In-house publisher")
+                .country("US")
+                .build());
+        course.setPublishedOn(LocalDateTime.of(2024, 3, 1, 9, 30));
+        course.setImageUrl("https://cdn.skillvo.com/courses/ds.png");
+        course.setInMarketplace(true);
+        course.setStatus(Status.PUBLISHED);
+        course.setDuration(sectionCount * 45);
+        course.setSections(sections(sectionCount));
+        course.setLessonNavigationMode(LessonNavigationMode.SEQUENTIAL);
+        course.setVersion(3);
+        return course;
+    }
+
+    private static List<Author> authors(int count) {
+        List<Author> authors = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            authors.add(Author.builder()
+                    .authorId(UUID.nameUUIDFromBytes(("author-" + i).getBytes()))
+                    .firstName("Author" + i)
+                    .lastName("Lastname" + i)
+                    .emailId("author" + i + "@skillvo.com")
+                    .build());
+        }
+        return authors;
+    }
+
+    private static List<Section> sections(int count) {
+        List<Section> sections = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            sections.add(Section.builder()
+                    .sectionId(UUID.nameUUIDFromBytes(("section-" + i).getBytes()))
+                    .title("Section " + (i + 1))
+                    .description("What section " + (i + 1) + " covers")
+                    .order(i + 1)
+                    .duration(45)
+                    .build());
+        }
+        return sections;
+    }
+}
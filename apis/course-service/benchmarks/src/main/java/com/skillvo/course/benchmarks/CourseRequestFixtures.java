@@ -0,0 +1,97 @@
+package com.skillvo.course.benchmarks;
+
+import com.skillvo.course.api.dto.AuthorDTO;
+import com.skillvo.course.api.dto.LessonDTO;
+import com.skillvo.course.api.dto.PrizeDTO;
+import com.skillvo.course.api.dto.PublisherDTO;
+import com.skillvo.course.api.dto.SectionDTO;
+import com.skillvo.course.api.dto.request.CreateCourseRequest;
+import com.skillvo.course.domain.model.enums.Currency;
+import com.skillvo.course.domain.model.enums.Language;
+import com.skillvo.course.domain.model.enums.LearningMode;
+import com.skillvo.course.domain.model.enums.LessonNavigationMode;
+import com.skillvo.course.domain.model.enums.Level;
+import com.skillvo.course.domain.model.enums.PricingModel;
+import com.skillvo.course.domain.model.enums.PublisherType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Deterministic create-course requests of a given shape that pass request validation.
+ */
+public final class CourseRequestFixtures {
+
+    private CourseRequestFixtures() {
+    }
+
+    public static CreateCourseRequest createRequest(int sectionCount, int lessonsPerSection, int authorCount) {
+        return CreateCourseRequest.builder()
+                .tenantId("tenant-benchmark")
+                .title("Distributed Systems in Practice")
+                .description("Replication, consensus and the failure modes that come with them.")
+                .topicCode("TOPIC_DS")
+                .categoryCode("CAT_ENG")
+                .language(Arrays.asList(Language.ENGLISH))
+                .level(Level.INTERMEDIATE)
+                .pricingModel(PricingModel.PAID)
+                .prize(PrizeDTO.builder().amount(49.99).currency(Currency.USD).build())
+                .learningMode(LearningMode.ONLINE)
+                .points(250)
+                .tags(Arrays.asList("distributed-systems", "consensus", "replication"))
+                .authors(authors(authorCount))
+                .publisher(PublisherDTO.builder()
+                        .id(UUID.nameUUIDFromBytes("publisher".getBytes()).toString())
+                        .name("SkillVo Press")
+                        .type(PublisherType.COMPANY)
+                        .logoUrl("https://cdn.skillvo.com/publishers/press.png")
+                        .website("https://skillvo.com")
+                        .description("In-house publisher")
+                        .build())
+                .imageUrl("https://cdn.skillvo.com/courses/ds.png")
+                .duration(Math.max(sectionCount, 1) * 45)
+                .sections(sections(sectionCount, lessonsPerSection))
+                .lessonNavigationMode(LessonNavigationMode.SEQUENTIAL)
+                .build();
+    }
+
+    private static List<AuthorDTO> authors(int count) {
+        List<AuthorDTO> authors = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            authors.add(AuthorDTO.builder()
+                    .id(UUID.nameUUIDFromBytes(("author-" + i).getBytes()).toString())
+                    .name("Author" + i + " Lastname" + i)
+                    .email("author" + i + "@skillvo.com")
+                    .build());
+        }
+        return authors;
+    }
+
+    private static List<SectionDTO> sections(int count, int lessonsPerSection) {
+        List<SectionDTO> sections = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            List<LessonDTO> lessons = new ArrayList<>(lessonsPerSection);
+            for (int j = 0; j < lessonsPerSection; j++) {
+                lessons.add(LessonDTO.builder()
+                        .id(UUID.nameUUIDFromBytes(("lesson-" + i + "-" + j).getBytes()).toString())
+                        .title("Lesson " + (i + 1) + "." + (j + 1))
+                        .description("What lesson " + (i + 1) + "." + (j + 1) + " covers")
+                        .order(j + 1)
+                        .duration(9)
+                        .videoUrl("https://cdn.skillvo.com/videos/" + i + "-" + j + ".mp4")
+                        .build());
+            }
+            sections.add(SectionDTO.builder()
+                    .sectionId(UUID.nameUUIDFromBytes(("section-" + i).getBytes()))
+                    .title("Section " + (i + 1))
+                    .description("What section " + (i + 1) + " covers")
+                    .order(i + 1)
+                    .duration(45)
+                    .lessons(lessons)
+                    .build());
+        }
+        return sections;
+    }
+}
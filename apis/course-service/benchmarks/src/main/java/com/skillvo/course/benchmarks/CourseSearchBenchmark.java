@@ -0,0 +1,86 @@
+package com.skillvo.course.benchmarks;
+
+import com.skillvo.course.infrastructure.search.CourseSearchIndex;
+import com.skillvo.course.infrastructure.search.SearchDocument;
+import com.skillvo.course.infrastructure.search.SearchHit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Search over one tenant's generated courses, served from flushed, memory-mapped segments.
+ * Titles and descriptions draw on a small vocabulary, so common words match a large share of
+ * the courses and rare ones only a few.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class CourseSearchBenchmark {
+    private static final String TENANT = "tenant-benchmark";
+    private static final String[] WORDS = {
+            "java", "spring", "kafka", "streams", "distributed", "systems", "cloud", "kubernetes", "docker",
+            "python", "machine", "learning", "data", "engineering", "security", "testing", "design", "patterns",
+            "react", "frontend", "database", "performance", "networking", "linux", "architecture", "microservices",
+            "leadership", "agile", "analytics", "statistics", "algorithms", "compilers", "rust", "golang"};
+
+    @Param({"100000"})
+    public int courses;
+
+    @Param({"kafka", "distributed systems", "machine learning kubernetes security"})
+    public String query;
+
+    private CourseSearchIndex searchIndex;
+
+    @Setup
+    public void setUp() throws IOException {
+        searchIndex = new CourseSearchIndex(null,
+                Files.createTempDirectory("course-search-benchmark").toString(), 10_000, 8, false, 0);
+        searchIndex.open();
+        Random random = new Random(42);
+        for (int i = 0; i < courses; i++) {
+            searchIndex.index(SearchDocument.builder()
+                    .courseId(new UUID(random.nextLong(), random.nextLong()))
+                    .tenantId(TENANT)
+                    .title(words(random, 4))
+                    .description(words(random, 30))
+                    .tags(List.of(WORDS[random.nextInt(WORDS.length)], WORDS[random.nextInt(WORDS.length)]))
+                    .topicCode("TOPIC-" + random.nextInt(50))
+                    .authors(List.of("Author" + random.nextInt(500) + " Lastname"))
+                    .build());
+        }
+        searchIndex.flush();
+    }
+
+    @Benchmark
+    public List<SearchHit> search() {
+        return searchIndex.search(TENANT, query, 20);
+    }
+
+    private static String words(Random random, int count) {
+        List<String> words = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            // Skewed towards the start of the vocabulary, as real course text is
+            words.add(WORDS[(int) (WORDS.length * Math.pow(random.nextDouble(), 2))]);
+        }
+        return String.join(" ", words);
+    }
+}
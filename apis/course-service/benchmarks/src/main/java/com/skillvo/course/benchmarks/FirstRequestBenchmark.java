@@ -0,0 +1,91 @@
+package com.skillvo.course.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.skillvo.course.api.config.ObjectMapperConfig;
+import com.skillvo.course.api.config.ValidatorConfig;
+import com.skillvo.course.api.dto.request.CreateCourseRequest;
+import com.skillvo.course.api.mapper.AuthorRequestMapper;
+import com.skillvo.course.api.mapper.CourseDTOMapper;
+import com.skillvo.course.api.mapper.CourseRequestMapper;
+import com.skillvo.course.api.mapper.PrizeRequestMapper;
+import com.skillvo.course.api.mapper.PublisherRequestMapper;
+import com.skillvo.course.api.mapper.SectionRequestMapper;
+import com.skillvo.course.api.runtime.RuntimePrimer;
+import com.skillvo.course.application.mapper.CourseMapper;
+import com.skillvo.course.domain.model.aggregates.Course;
+import com.skillvo.course.infrastructure.persistence.DynamoDBModelConverter;
+import jakarta.validation.Validator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The first create-and-read request in a fresh JVM, with and without {@link RuntimePrimer}
+ * having run during setup. Each fork is a new JVM measured once, so the score is the
+ * first-invocation latency a cold Lambda pays on top of its init phase. Use many forks for a
+ * usable distribution, e.g. {@code -f 30}.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(10)
+@State(Scope.Benchmark)
+public class FirstRequestBenchmark {
+
+    @Param({"false", "true"})
+    public boolean primed;
+
+    private ObjectMapper objectMapper;
+    private Validator validator;
+    private CourseRequestMapper requestMapper;
+    private CourseMapper courseMapper;
+    private CourseDTOMapper dtoMapper;
+    private String requestBody;
+
+    @Setup
+    public void setUp() throws Exception {
+        objectMapper = ObjectMapperConfig.sharedObjectMapper();
+        validator = ValidatorConfig.sharedValidator();
+        requestMapper = new CourseRequestMapper(new PrizeRequestMapper(), new AuthorRequestMapper(),
+                new PublisherRequestMapper(), new SectionRequestMapper());
+        courseMapper = new CourseMapper();
+        dtoMapper = new CourseDTOMapper();
+        // Built by hand so the fixture does not warm the paths being measured
+        requestBody = "{\"tenantId\":\"tenant-benchmark\",\"title\":\"Distributed Systems in Practice\","
+                + "\"description\":\"Replication and consensus\",\"topicCode\":\"TOPIC_DS\",\"categoryCode\":\"CAT_ENG\","
+                + "\"language\":[\"ENGLISH\"],\"level\":\"INTERMEDIATE\",\"pricingModel\":\"PAID\","
+                + "\"prize\":{\"amount\":49.99,\"currency\":\"USD\"},\"learningMode\":\"ONLINE\",\"points\":250,"
+                + "\"tags\":[\"distributed-systems\"],\"authors\":[{\"id\":\"6f1c1f9e-4c1a-4d5e-9b8a-2f3c4d5e6f70\","
+                + "\"name\":\"Ada Lovelace\",\"email\":\"ada@skillvo.com\"}],\"publisher\":{\"name\":\"SkillVo Press\","
+                + "\"type\":\"COMPANY\"},\"duration\":45,\"sections\":[{\"title\":\"Section 1\",\"order\":1,"
+                + "\"duration\":45,\"lessons\":[{\"title\":\"Lesson 1.1\",\"order\":1,\"duration\":9}]}]}";
+        if (primed) {
+            new RuntimePrimer(objectMapper, validator, requestMapper, courseMapper, dtoMapper).prime();
+        }
+    }
+
+    @Benchmark
+    public String firstRequest() throws Exception {
+        CreateCourseRequest request = objectMapper.readValue(requestBody, CreateCourseRequest.class);
+        if (!validator.validate(request).isEmpty()) {
+            throw new IllegalStateException("Benchmark request failed validation");
+        }
+        Map<String, AttributeValue> item = DynamoDBModelConverter.toItem(
+                courseMapper.toEntity(requestMapper.toCommand(request)));
+        Course course = DynamoDBModelConverter.toCourse(item);
+        return objectMapper.writeValueAsString(dtoMapper.toApiCourseDTO(courseMapper.toDTO(course)));
+    }
+}
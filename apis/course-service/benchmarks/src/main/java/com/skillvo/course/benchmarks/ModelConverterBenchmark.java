@@ -0,0 +1,68 @@
+package com.skillvo.course.benchmarks;
+
+import com.skillvo.course.benchmarks.baseline.BaselineModelConverter;
+import com.skillvo.course.domain.model.aggregates.Course;
+import com.skillvo.course.infrastructure.persistence.DynamoDBModelConverter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Course to item and item to course conversion, current converter against the baseline.
+ * Run with {@code -prof gc} to get bytes/op ({@code gc.alloc.rate.norm}) next to ns/op.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class ModelConverterBenchmark {
+
+    @Param({"1", "10", "50"})
+    public int sections;
+
+    @Param({"1", "3"})
+    public int authors;
+
+    private Course course;
+    private Map<String, AttributeValue> item;
+
+    @Setup
+    public void setUp() {
+        course = CourseFixtures.course(sections, authors);
+        item = DynamoDBModelConverter.toItem(course);
+    }
+
+    @Benchmark
+    public Map<String, AttributeValue> toItem() {
+        return DynamoDBModelConverter.toItem(course);
+    }
+
+    @Benchmark
+    public Map<String, AttributeValue> toItemBaseline() {
+        return BaselineModelConverter.toItem(course);
+    }
+
+    @Benchmark
+    public Course toCourse() {
+        return DynamoDBModelConverter.toCourse(item);
+    }
+
+    @Benchmark
+    public Course toCourseBaseline() {
+        return BaselineModelConverter.toCourse(item);
+    }
+}
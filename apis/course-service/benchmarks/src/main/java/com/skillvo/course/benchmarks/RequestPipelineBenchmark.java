@@ -0,0 +1,131 @@
+package com.skillvo.course.benchmarks;
+
+import com.amazonaws.services.lambda.runtime.Context;
+import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyRequestEvent;
+import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyResponseEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.skillvo.course.api.dto.request.CreateCourseRequest;
+import com.skillvo.course.api.lambda.BaseLambdaHandler;
+import com.skillvo.course.api.mapper.AuthorRequestMapper;
+import com.skillvo.course.api.mapper.CourseDTOMapper;
+import com.skillvo.course.api.mapper.CourseRequestMapper;
+import com.skillvo.course.api.mapper.PrizeRequestMapper;
+import com.skillvo.course.api.mapper.PublisherRequestMapper;
+import com.skillvo.course.api.mapper.SectionRequestMapper;
+import com.skillvo.course.application.mapper.CourseMapper;
+import com.skillvo.course.domain.model.aggregates.Course;
+import com.skillvo.course.domain.model.enums.Status;
+import com.skillvo.course.infrastructure.persistence.DynamoDBModelConverter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The per-request work of the create and get handlers without the AWS calls: request JSON
+ * parsing and Bean Validation with the handler's own ObjectMapper and Validator, the write path
+ * from request to DynamoDB item, and the read path from item to response JSON.
+ * Run with {@code -prof gc} to get bytes/op ({@code gc.alloc.rate.norm}) next to ns/op.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class RequestPipelineBenchmark {
+
+    @Param({"1", "10", "50"})
+    public int sections;
+
+    @Param({"0", "5"})
+    public int lessonsPerSection;
+
+    @Param({"1", "3"})
+    public int authors;
+
+    private final PipelineHandler handler = new PipelineHandler();
+    private final CourseRequestMapper requestMapper = new CourseRequestMapper(new PrizeRequestMapper(),
+            new AuthorRequestMapper(), new PublisherRequestMapper(), new SectionRequestMapper());
+    private final CourseMapper courseMapper = new CourseMapper();
+    private final CourseDTOMapper dtoMapper = new CourseDTOMapper();
+
+    private String requestBody;
+    private CreateCourseRequest request;
+    private Map<String, AttributeValue> item;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        request = CourseRequestFixtures.createRequest(sections, lessonsPerSection, authors);
+        requestBody = handler.objectMapper().writeValueAsString(request);
+
+        Course course = courseMapper.toEntity(requestMapper.toCommand(request));
+        course.setStatus(Status.PUBLISHED);
+        course.setPublishedOn(LocalDateTime.of(2024, 3, 1, 9, 30));
+        course.setVersion(1);
+        item = DynamoDBModelConverter.toItem(course);
+    }
+
+    @Benchmark
+    public CreateCourseRequest parseCreateRequest() throws Exception {
+        return handler.objectMapper().readValue(requestBody, CreateCourseRequest.class);
+    }
+
+    @Benchmark
+    public CreateCourseRequest validateCreateRequest() {
+        handler.validate(request);
+        return request;
+    }
+
+    @Benchmark
+    public CreateCourseRequest parseAndValidateCreateRequest() throws Exception {
+        return handler.parse(requestBody);
+    }
+
+    @Benchmark
+    public Map<String, AttributeValue> requestToItem() {
+        return DynamoDBModelConverter.toItem(courseMapper.toEntity(requestMapper.toCommand(request)));
+    }
+
+    @Benchmark
+    public String itemToResponseBody() throws JsonProcessingException {
+        Course course = DynamoDBModelConverter.toCourse(item);
+        return handler.objectMapper().writeValueAsString(dtoMapper.toApiCourseDTO(courseMapper.toDTO(course)));
+    }
+
+    /**
+     * Exposes the parsing and validation that every handler inherits from {@link BaseLambdaHandler}.
+     */
+    private static final class PipelineHandler extends BaseLambdaHandler {
+
+        ObjectMapper objectMapper() {
+            return objectMapper;
+        }
+
+        CreateCourseRequest parse(String body) throws Exception {
+            return parseRequestBody(body, CreateCourseRequest.class);
+        }
+
+        void validate(CreateCourseRequest request) {
+            validateRequest(request);
+        }
+
+        @Override
+        protected APIGatewayProxyResponseEvent processRequest(APIGatewayProxyRequestEvent input, Context context) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.skillvo.course.domain.model.aggregates;
 import com.skillvo.course.domain.model.entities.*;
 import com.skillvo.course.domain.model.enums.*;
 import com.skillvo.course.domain.model.valueobjects.Prize;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -12,10 +13,11 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 import java.util.Objects;
+import java.util.Optional;
 
 @Getter
 @Setter
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class Course extends BaseEntity {
@@ -43,6 +45,62 @@ public class Course extends BaseEntity {
     private LessonNavigationMode lessonNavigationMode;
     private Integer version;
 
+    /**
+     * Produces the sections when they were stored apart from the course, so they are only
+     * loaded once someone calls getSections(). Cleared when the sections are replaced.
+     */
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private SectionsSource sectionsSource;
+
+    public synchronized List<Section> getSections() {
+        if (sections == null && sectionsSource != null) {
+            sections = sectionsSource.load();
+        }
+        return sections;
+    }
+
+    public synchronized void setSections(List<Section> sections) {
+        this.sections = sections;
+        this.sectionsSource = null;
+    }
+
+    /**
+     * Takes the sections from the source on first access instead of now.
+     */
+    public synchronized void setSectionsSource(SectionsSource sectionsSource) {
+        this.sections = null;
+        this.sectionsSource = sectionsSource;
+    }
+
+    /**
+     * Whether the sections are still exactly what the source holds: neither read, and so possibly
+     * changed in place, nor replaced.
+     */
+    public synchronized boolean isSectionsUnread() {
+        return sectionsSource != null && sections == null;
+    }
+
+    /**
+     * The source the sections came from, if it is of the given type; empty once they are replaced.
+     */
+    public synchronized <T extends SectionsSource> Optional<T> sectionsSource(Class<T> type) {
+        return type.isInstance(sectionsSource) ? Optional.of(type.cast(sectionsSource)) : Optional.empty();
+    }
+
+    /**
+     * The source of the given type while the sections are still unread, e.g. to write them back
+     * as they were stored without loading them.
+     */
+    public synchronized <T extends SectionsSource> Optional<T> unreadSectionsSource(Class<T> type) {
+        return sections == null ? sectionsSource(type) : Optional.empty();
+    }
+
+    /**
+     * Sections take no part in equality: they may still be with their source, and comparing
+     * them would load them, or change the hash once they are read. Two courses with the same
+     * header attributes are equal whatever their sections.
+     */
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -68,7 +126,6 @@ public class Course extends BaseEntity {
                 inMarketplace == course.inMarketplace &&
                 status == course.status &&
                 Objects.equals(duration, course.duration) &&
-                Objects.equals(sections, course.sections) &&
                 lessonNavigationMode == course.lessonNavigationMode &&
                 Objects.equals(version, course.version);
     }
@@ -78,6 +135,6 @@ public class Course extends BaseEntity {
         return Objects.hash(courseId, tenantId, title, description, topicCode, categoryCode,
                 language, level, pricingModel, prize, learningMode, points, tags, authors,
                 publisher, publishedOn, imageUrl, inMarketplace, status, duration,
-                sections, lessonNavigationMode, version);
+                lessonNavigationMode, version);
     }
 } 
\ No newline at end of file
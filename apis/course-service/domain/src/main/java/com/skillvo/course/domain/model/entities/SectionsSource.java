@@ -0,0 +1,12 @@
+package com.skillvo.course.domain.model.entities;
+
+import java.util.List;
+
+/**
+ * Where a course's sections come from while they are not held in memory, e.g. an encoded
+ * attribute or items of their own. The course loads them on the first getSections().
+ */
+@FunctionalInterface
+public interface SectionsSource {
+    List<Section> load();
+}
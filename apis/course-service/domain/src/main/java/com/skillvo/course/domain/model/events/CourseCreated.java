@@ -14,9 +14,11 @@ public class CourseCreated extends DomainEvent {
     private final String level;
     private final String learningMode;
     private final List<String> authors;
+    private final List<String> tags;
 
     public CourseCreated(UUID courseId, String tenantId, String title, String description,
-                        String topicCode, String level, String learningMode, List<String> authors) {
+                        String topicCode, String level, String learningMode, List<String> authors,
+                        List<String> tags) {
         super();
         this.courseId = courseId;
         this.tenantId = tenantId;
@@ -26,5 +28,6 @@ public class CourseCreated extends DomainEvent {
         this.level = level;
         this.learningMode = learningMode;
         this.authors = authors;
+        this.tags = tags;
     }
 } 
\ No newline at end of file
@@ -0,0 +1,10 @@
+package com.skillvo.course.domain.model.exception;
+
+/**
+ * The course was changed by someone else between reading it and writing a change based on it.
+ */
+public class CourseVersionConflictException extends RuntimeException {
+    public CourseVersionConflictException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,14 @@
+package com.skillvo.course.domain.repository;
+
+/**
+ * How much of a course to load with it. Whatever is not loaded is fetched the first time
+ * {@code getSections()} is called.
+ */
+public enum CourseDetail {
+    /** The course without its sections, e.g. for a course card. */
+    HEADER,
+    /** The course and its sections, with the lessons of each section left null. */
+    SECTIONS,
+    /** The course with every section and lesson. */
+    FULL
+}
@@ -12,8 +12,14 @@ public class CourseFilter {
     String tenantId;
     Status status;
     List<String> tags;
+    TagMatch tagMatch;
     Level level;
     Integer limit;
     Integer offset;
     Boolean inMarketplace;
+    String pageToken;
+
+    public boolean matchesAllTags() {
+        return tagMatch == TagMatch.ALL;
+    }
 } 
\ No newline at end of file
@@ -0,0 +1,17 @@
+package com.skillvo.course.domain.repository;
+
+import com.skillvo.course.domain.model.aggregates.Course;
+import lombok.Builder;
+import lombok.Value;
+import java.util.List;
+
+@Value
+@Builder
+public class CoursePage {
+    List<Course> items;
+    String nextPageToken;
+
+    public boolean hasMore() {
+        return nextPageToken != null;
+    }
+}
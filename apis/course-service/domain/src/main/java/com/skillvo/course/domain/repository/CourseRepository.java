@@ -1,20 +1,85 @@
 package com.skillvo.course.domain.repository;
 
 import com.skillvo.course.domain.model.aggregates.Course;
+import com.skillvo.course.domain.model.entities.Lesson;
+import com.skillvo.course.domain.model.events.DomainEvent;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
 @Repository
 public interface CourseRepository {
+    /**
+     * Writes the whole course and moves it to the next version, provided the course is not stored
+     * yet or its stored version is still the one the course carries. Throws
+     * CourseVersionConflictException otherwise.
+     */
     Course save(Course course);
+
+    /**
+     * {@link #save} together with an event written to the outbox in the same transaction.
+     */
+    Course saveWithEvent(Course course, DomainEvent event);
+
+    /**
+     * Writes only what differs between the course as it was read and its updated state, provided
+     * the stored version is still the one that was read, and gives the updated course the next
+     * version. Throws CourseVersionConflictException otherwise.
+     */
+    Course update(Course current, Course updated);
     Optional<Course> findById(UUID courseId);
+
+    /**
+     * The course with its sections and lessons loaded up front as far as the detail asks for.
+     */
+    Optional<Course> findById(UUID courseId, CourseDetail detail);
+
+    /**
+     * The stored version of the course, reading nothing else of it where the storage allows.
+     * Empty if the course does not exist; courses stored without a version report 0.
+     */
+    Optional<Integer> findVersion(UUID courseId);
+
+    /**
+     * findById without blocking the caller, so several reads can be started and joined together.
+     */
+    CompletableFuture<Optional<Course>> findByIdAsync(UUID courseId);
+
+    /**
+     * findVersion without blocking the caller.
+     */
+    CompletableFuture<Optional<Integer>> findVersionAsync(UUID courseId);
+
+    /**
+     * The lessons of one section, in order, without loading the rest of the curriculum. Empty if
+     * the course or section does not exist.
+     */
+    List<Lesson> findLessons(UUID courseId, UUID sectionId);
+
+    /**
+     * Up to {@code limit} lessons of one section, starting at the zero-based position
+     * {@code fromPosition}, without reading the lessons before it.
+     */
+    List<Lesson> findLessons(UUID courseId, UUID sectionId, int fromPosition, int limit);
+
+    /**
+     * One lesson of the course by ID, reading no other lesson where the storage allows it.
+     */
+    Optional<Lesson> findLesson(UUID courseId, UUID lessonId);
+    List<Course> findAllByIds(Collection<UUID> courseIds);
     void deleteById(UUID courseId);
     List<Course> findAll();
     List<Course> findByTenantId(String tenantId);
     List<Course> findByTenantIdAndInMarketplace(String tenantId, boolean inMarketplace);
     boolean existsById(UUID courseId);
     List<Course> list(CourseFilter filter);
+    CoursePage listPage(CourseFilter filter);
+    CourseSummaryPage listSummaryPage(CourseFilter filter);
+    Stream<Course> stream(CourseFilter filter);
+    Stream<Course> parallelScan(CourseFilter filter);
 } 
\ No newline at end of file
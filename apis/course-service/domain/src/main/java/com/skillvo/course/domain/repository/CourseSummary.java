@@ -0,0 +1,27 @@
+package com.skillvo.course.domain.repository;
+
+import com.skillvo.course.domain.model.enums.Level;
+import com.skillvo.course.domain.model.enums.PricingModel;
+import com.skillvo.course.domain.model.enums.Status;
+import com.skillvo.course.domain.model.valueobjects.Prize;
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.UUID;
+
+/**
+ * Read model for catalog listings: the few course attributes a listing shows, read without
+ * the authors, publisher and sections that make up most of a course item.
+ */
+@Value
+@Builder
+public class CourseSummary {
+    UUID courseId;
+    String title;
+    String imageUrl;
+    Level level;
+    Integer duration;
+    Status status;
+    PricingModel pricingModel;
+    Prize prize;
+}
@@ -0,0 +1,16 @@
+package com.skillvo.course.domain.repository;
+
+import lombok.Builder;
+import lombok.Value;
+import java.util.List;
+
+@Value
+@Builder
+public class CourseSummaryPage {
+    List<CourseSummary> items;
+    String nextPageToken;
+
+    public boolean hasMore() {
+        return nextPageToken != null;
+    }
+}
@@ -0,0 +1,11 @@
+package com.skillvo.course.domain.repository;
+
+/**
+ * How a multi-tag filter combines its tags.
+ */
+public enum TagMatch {
+    /** Courses with at least one of the tags. */
+    ANY,
+    /** Courses with every one of the tags. */
+    ALL
+}
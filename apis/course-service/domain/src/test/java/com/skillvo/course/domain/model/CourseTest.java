@@ -3,12 +3,16 @@ package com.skillvo.course.domain.model;
 import com.skillvo.course.domain.model.aggregates.Course;
 import com.skillvo.course.domain.model.entities.Author;
 import com.skillvo.course.domain.model.entities.Publisher;
+import com.skillvo.course.domain.model.entities.Section;
+import com.skillvo.course.domain.model.entities.SectionsSource;
 import com.skillvo.course.domain.model.enums.*;
 import com.skillvo.course.domain.model.valueobjects.Prize;
 import org.junit.jupiter.api.Test;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -103,4 +107,106 @@ class CourseTest {
         assertEquals(lessonNavigationMode, course.getLessonNavigationMode());
         assertEquals(version, course.getVersion());
     }
-} 
\ No newline at end of file
+
+    @Test
+    void shouldTakeSectionsFromSourceOnFirstAccessOnly() {
+        // Given
+        Section section = new Section();
+        section.setSectionId(UUID.randomUUID());
+        AtomicInteger reads = new AtomicInteger();
+        Course course = new Course();
+        course.setSectionsSource(() -> {
+            reads.incrementAndGet();
+            return Arrays.asList(section);
+        });
+
+        // When
+        boolean unreadBefore = course.isSectionsUnread();
+        List<Section> first = course.getSections();
+        List<Section> second = course.getSections();
+
+        // Then
+        assertTrue(unreadBefore);
+        assertFalse(course.isSectionsUnread());
+        assertSame(first, second);
+        assertEquals(Arrays.asList(section), first);
+        assertEquals(1, reads.get());
+    }
+
+    @Test
+    void shouldDropSourceWhenSectionsAreReplaced() {
+        // Given
+        Course course = new Course();
+        course.setSectionsSource(() -> {
+            throw new AssertionError("source should not be read");
+        });
+
+        // When
+        course.setSections(Collections.emptyList());
+
+        // Then
+        assertFalse(course.isSectionsUnread());
+        assertTrue(course.sectionsSource(SectionsSource.class).isEmpty());
+        assertEquals(Collections.emptyList(), course.getSections());
+    }
+
+    @Test
+    void shouldCompareAndHashWithoutReadingSectionsSource() {
+        // Given
+        UUID courseId = UUID.randomUUID();
+        Course course = new Course();
+        course.setCourseId(courseId);
+        course.setSectionsSource(() -> {
+            throw new IllegalStateException("source should not be read");
+        });
+        Course other = new Course();
+        other.setCourseId(courseId);
+
+        // When
+        boolean equal = course.equals(other);
+        int hash = course.hashCode();
+
+        // Then
+        assertTrue(equal);
+        assertEquals(other.hashCode(), hash);
+        assertTrue(course.isSectionsUnread());
+    }
+
+    @Test
+    void shouldKeepEqualityAndHashWhenSectionsAreRead() {
+        // Given
+        UUID courseId = UUID.randomUUID();
+        Section section = new Section();
+        section.setSectionId(UUID.randomUUID());
+        Course course = new Course();
+        course.setCourseId(courseId);
+        course.setSectionsSource(() -> Arrays.asList(section));
+        Course other = new Course();
+        other.setCourseId(courseId);
+        int hashBefore = course.hashCode();
+
+        // When
+        course.getSections();
+
+        // Then
+        assertEquals(other, course);
+        assertEquals(hashBefore, course.hashCode());
+    }
+
+    @Test
+    void shouldOfferSourceOfItsTypeOnlyWhileUnread() {
+        // Given
+        SectionsSource source = Collections::emptyList;
+        Course course = new Course();
+        course.setSectionsSource(source);
+
+        // When
+        boolean unreadBefore = course.unreadSectionsSource(SectionsSource.class).isPresent();
+        course.getSections();
+
+        // Then
+        assertTrue(unreadBefore);
+        assertTrue(course.unreadSectionsSource(SectionsSource.class).isEmpty());
+        assertSame(source, course.sectionsSource(SectionsSource.class).orElseThrow());
+    }
+}
@@ -0,0 +1,201 @@
+package com.skillvo.course.infrastructure.cache;
+
+import com.skillvo.caching.domain.cache.CacheStats;
+import com.skillvo.caching.infrastructure.cache.InMemoryCache;
+import com.skillvo.caching.infrastructure.cache.SingleFlight;
+import com.skillvo.course.domain.model.aggregates.Course;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+/**
+ * Read-through cache of course aggregates keyed by courseId. The repository invalidates
+ * entries on every write so this instance never serves its own stale data; the TTL bounds
+ * staleness from writes made by other instances.
+ * <p>
+ * Concurrent misses on the same course share one load, and IDs found missing are remembered
+ * for {@code course.cache.negative-ttl-seconds} so lookups of IDs that do not exist stop
+ * reaching the table. A load that overlaps an invalidation of its course is returned to its
+ * callers but not cached, as it may have read the course from before the write. Each load holds
+ * a stamp under its course ID that an invalidation removes, so writes to other courses do not
+ * keep it from being cached, and only courses being loaded hold one.
+ * <p>
+ * Courses are copied on the way in and out: callers change the aggregate they get before saving
+ * it, and a save that fails must not leave those changes visible to other requests. Each copy
+ * gets its own lists of languages, tags, authors and sections, so adding to or removing from
+ * them stays with the copy; the elements are shared, and the write paths replace rather than
+ * change them.
+ */
+@Slf4j
+@Component
+public class CourseCache {
+    private final InMemoryCache<UUID, Course> cache;
+    private final InMemoryCache<UUID, Boolean> missing;
+    private final SingleFlight<UUID, Optional<Course>> flights = new SingleFlight<>();
+    private final ConcurrentMap<UUID, Object> loadStamps = new ConcurrentHashMap<>();
+
+    public CourseCache(int maxSize, long ttlSeconds) {
+        this(maxSize, ttlSeconds, 0, 0);
+    }
+
+    @Autowired
+    public CourseCache(@Value("${course.cache.max-size:1000}") int maxSize,
+                       @Value("${course.cache.ttl-seconds:300}") long ttlSeconds,
+                       @Value("${course.cache.negative-max-size:10000}") int negativeMaxSize,
+                       @Value("${course.cache.negative-ttl-seconds:30}") long negativeTtlSeconds) {
+        this.cache = new InMemoryCache<>(maxSize, Duration.ofSeconds(ttlSeconds));
+        this.missing = negativeTtlSeconds > 0 && negativeMaxSize > 0
+                ? new InMemoryCache<>(negativeMaxSize, Duration.ofSeconds(negativeTtlSeconds))
+                : null;
+    }
+
+    public Optional<Course> getOrLoad(UUID courseId, Function<UUID, Optional<Course>> loader) {
+        Optional<Course> cached = get(courseId);
+        if (cached.isPresent() || isKnownMissing(courseId)) {
+            return cached;
+        }
+        // Callers that joined the load get the same result, so each takes its own copy
+        return flights.execute(courseId, () -> {
+            Object stamp = startLoad(courseId);
+            try {
+                return remember(courseId, stamp, loader.apply(courseId));
+            } finally {
+                loadStamps.remove(courseId, stamp);
+            }
+        }).map(CourseCache::copyOf);
+    }
+
+    /**
+     * {@link #getOrLoad} for asynchronous loaders. Callers of either method share the same loads.
+     */
+    public CompletableFuture<Optional<Course>> getOrLoadAsync(UUID courseId,
+                                                              Function<UUID, CompletableFuture<Optional<Course>>> loader) {
+        Optional<Course> cached = get(courseId);
+        if (cached.isPresent() || isKnownMissing(courseId)) {
+            return CompletableFuture.completedFuture(cached);
+        }
+        return flights.executeAsync(courseId, () -> {
+            Object stamp = startLoad(courseId);
+            try {
+                return loader.apply(courseId)
+                        .thenApply(course -> remember(courseId, stamp, course))
+                        .whenComplete((course, e) -> loadStamps.remove(courseId, stamp));
+            } catch (RuntimeException e) {
+                loadStamps.remove(courseId, stamp);
+                throw e;
+            }
+        }).thenApply(course -> course.map(CourseCache::copyOf));
+    }
+
+    private Object startLoad(UUID courseId) {
+        Object stamp = new Object();
+        loadStamps.put(courseId, stamp);
+        return stamp;
+    }
+
+    /**
+     * Caches the loaded result unless the course was invalidated since the load started. An
+     * invalidation that lands between the check and the put takes the stamp, so the entry just
+     * written is dropped again.
+     */
+    private Optional<Course> remember(UUID courseId, Object stamp, Optional<Course> loaded) {
+        if (loadStamps.get(courseId) != stamp) {
+            return loaded;
+        }
+        if (loaded.isPresent()) {
+            put(loaded.get());
+        } else {
+            markMissing(courseId);
+        }
+        if (!loadStamps.remove(courseId, stamp)) {
+            cache.invalidate(courseId);
+            if (missing != null) {
+                missing.invalidate(courseId);
+            }
+        }
+        return loaded;
+    }
+
+    public Optional<Course> get(UUID courseId) {
+        return cache.get(courseId).map(CourseCache::copyOf);
+    }
+
+    public void put(Course course) {
+        cache.put(course.getCourseId(), copyOf(course));
+    }
+
+    /**
+     * A course that can be changed without changing the original. Lazily read sections stay
+     * unread, sharing the original's source.
+     */
+    public static Course copyOf(Course course) {
+        Course copy = course.toBuilder()
+                .language(copyList(course.getLanguage()))
+                .tags(copyList(course.getTags()))
+                .authors(copyList(course.getAuthors()))
+                .sections(course.isSectionsUnread() ? null : copyList(course.getSections()))
+                .build();
+        copy.setAddedBy(course.getAddedBy());
+        copy.setAddedOn(course.getAddedOn());
+        copy.setUpdatedBy(course.getUpdatedBy());
+        copy.setUpdatedOn(course.getUpdatedOn());
+        return copy;
+    }
+
+    private static <T> List<T> copyList(List<T> list) {
+        return list != null ? new ArrayList<>(list) : null;
+    }
+
+    /**
+     * Whether the course was recently found not to exist. Always false with negative caching off.
+     */
+    public boolean isKnownMissing(UUID courseId) {
+        return missing != null && missing.get(courseId).isPresent();
+    }
+
+    public void markMissing(UUID courseId) {
+        if (missing != null) {
+            missing.put(courseId, Boolean.TRUE);
+        }
+    }
+
+    public void invalidate(UUID courseId) {
+        loadStamps.remove(courseId);
+        flights.forget(courseId);
+        cache.invalidate(courseId);
+        if (missing != null) {
+            missing.invalidate(courseId);
+        }
+    }
+
+    public void invalidateTenant(String tenantId) {
+        cache.invalidateIf(course -> tenantId.equals(course.getTenantId()));
+        log.debug("Invalidated cached courses for tenant {}", tenantId);
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    /**
+     * Loads that went to the loader, as opposed to those that joined one already running.
+     */
+    public long loads() {
+        return flights.loads();
+    }
+
+    public long coalescedLoads() {
+        return flights.joins();
+    }
+}
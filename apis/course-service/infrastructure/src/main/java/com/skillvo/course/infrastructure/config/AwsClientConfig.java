@@ -0,0 +1,76 @@
+package com.skillvo.course.infrastructure.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.http.apache.ApacheHttpClient;
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
+
+import java.time.Duration;
+
+/**
+ * The HTTP clients shared by every AWS service client in the process, so DynamoDB and SQS calls
+ * draw on the same sized, kept-alive connection pools instead of one default pool per client.
+ * The SDK does not close an HTTP client it was handed; the context closes these on shutdown.
+ * The async client is created on first use, so functions that only make blocking calls never
+ * start its event loop.
+ */
+@Configuration
+public class AwsClientConfig {
+
+    @Bean(destroyMethod = "close")
+    public SdkHttpClient sdkHttpClient(@Value("${aws.http.max-connections:50}") int maxConnections,
+                                       @Value("${aws.http.connection-timeout-millis:2000}") long connectionTimeoutMillis,
+                                       @Value("${aws.http.socket-timeout-millis:10000}") long socketTimeoutMillis,
+                                       @Value("${aws.http.acquisition-timeout-millis:5000}") long acquisitionTimeoutMillis,
+                                       @Value("${aws.http.max-idle-millis:60000}") long maxIdleMillis,
+                                       @Value("${aws.http.tcp-keep-alive:true}") boolean tcpKeepAlive) {
+        return ApacheHttpClient.builder()
+                .maxConnections(maxConnections)
+                .connectionTimeout(Duration.ofMillis(connectionTimeoutMillis))
+                .socketTimeout(Duration.ofMillis(socketTimeoutMillis))
+                .connectionAcquisitionTimeout(Duration.ofMillis(acquisitionTimeoutMillis))
+                .connectionMaxIdleTime(Duration.ofMillis(maxIdleMillis))
+                .tcpKeepAlive(tcpKeepAlive)
+                .build();
+    }
+
+    @Lazy
+    @Bean(destroyMethod = "close")
+    public SdkAsyncHttpClient sdkAsyncHttpClient(@Value("${aws.http.async.max-concurrency:100}") int maxConcurrency,
+                                                 @Value("${aws.http.async.max-pending-acquires:10000}") int maxPendingAcquires,
+                                                 @Value("${aws.http.connection-timeout-millis:2000}") long connectionTimeoutMillis,
+                                                 @Value("${aws.http.socket-timeout-millis:10000}") long socketTimeoutMillis,
+                                                 @Value("${aws.http.acquisition-timeout-millis:5000}") long acquisitionTimeoutMillis,
+                                                 @Value("${aws.http.max-idle-millis:60000}") long maxIdleMillis,
+                                                 @Value("${aws.http.tcp-keep-alive:true}") boolean tcpKeepAlive) {
+        return NettyNioAsyncHttpClient.builder()
+                .maxConcurrency(maxConcurrency)
+                .maxPendingConnectionAcquires(maxPendingAcquires)
+                .connectionTimeout(Duration.ofMillis(connectionTimeoutMillis))
+                .readTimeout(Duration.ofMillis(socketTimeoutMillis))
+                .writeTimeout(Duration.ofMillis(socketTimeoutMillis))
+                .connectionAcquisitionTimeout(Duration.ofMillis(acquisitionTimeoutMillis))
+                .connectionMaxIdleTime(Duration.ofMillis(maxIdleMillis))
+                .tcpKeepAlive(tcpKeepAlive)
+                .build();
+    }
+
+    /**
+     * Bounds a whole call, retries included, and each attempt, so a stalled connection fails the
+     * call instead of holding a Lambda invocation until its timeout.
+     */
+    @Bean
+    public ClientOverrideConfiguration awsClientOverrideConfiguration(
+            @Value("${aws.client.api-call-timeout-millis:10000}") long apiCallTimeoutMillis,
+            @Value("${aws.client.api-call-attempt-timeout-millis:3000}") long attemptTimeoutMillis) {
+        return ClientOverrideConfiguration.builder()
+                .apiCallTimeout(Duration.ofMillis(apiCallTimeoutMillis))
+                .apiCallAttemptTimeout(Duration.ofMillis(attemptTimeoutMillis))
+                .build();
+    }
+}
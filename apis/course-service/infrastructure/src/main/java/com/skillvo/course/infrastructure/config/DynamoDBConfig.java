@@ -2,14 +2,31 @@ package com.skillvo.course.infrastructure.config;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
 
 @Configuration
 public class DynamoDBConfig {
     
     @Bean
-    public DynamoDbClient dynamoDbClient() {
+    public DynamoDbClient dynamoDbClient(SdkHttpClient sdkHttpClient, ClientOverrideConfiguration overrideConfiguration) {
         return DynamoDbClient.builder()
+                .httpClient(sdkHttpClient)
+                .overrideConfiguration(overrideConfiguration)
                 .build();
     }
-} 
\ No newline at end of file
+
+    @Lazy
+    @Bean
+    public DynamoDbAsyncClient dynamoDbAsyncClient(SdkAsyncHttpClient sdkAsyncHttpClient,
+                                                   ClientOverrideConfiguration overrideConfiguration) {
+        return DynamoDbAsyncClient.builder()
+                .httpClient(sdkAsyncHttpClient)
+                .overrideConfiguration(overrideConfiguration)
+                .build();
+    }
+}
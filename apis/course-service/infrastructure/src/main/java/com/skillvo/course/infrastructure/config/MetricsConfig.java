@@ -0,0 +1,18 @@
+package com.skillvo.course.infrastructure.config;
+
+import com.skillvo.course.infrastructure.metrics.StageMetrics;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Hands the process-wide {@link StageMetrics} to the Spring context, so the repository, event
+ * publisher and command handler record into the instance the Lambda handlers flush.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public StageMetrics stageMetrics() {
+        return StageMetrics.shared();
+    }
+}
@@ -2,14 +2,31 @@ package com.skillvo.course.infrastructure.config;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+import software.amazon.awssdk.services.sqs.SqsAsyncClient;
 import software.amazon.awssdk.services.sqs.SqsClient;
 
 @Configuration
 public class SQSConfig {
     
     @Bean
-    public SqsClient sqsClient() {
+    public SqsClient sqsClient(SdkHttpClient sdkHttpClient, ClientOverrideConfiguration overrideConfiguration) {
         return SqsClient.builder()
+                .httpClient(sdkHttpClient)
+                .overrideConfiguration(overrideConfiguration)
                 .build();
     }
-} 
\ No newline at end of file
+
+    @Lazy
+    @Bean
+    public SqsAsyncClient sqsAsyncClient(SdkAsyncHttpClient sdkAsyncHttpClient,
+                                         ClientOverrideConfiguration overrideConfiguration) {
+        return SqsAsyncClient.builder()
+                .httpClient(sdkAsyncHttpClient)
+                .overrideConfiguration(overrideConfiguration)
+                .build();
+    }
+}
@@ -2,6 +2,8 @@ package com.skillvo.course.infrastructure.events;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.skillvo.course.domain.model.events.DomainEvent;
+import com.skillvo.course.infrastructure.metrics.Stage;
+import com.skillvo.course.infrastructure.metrics.StageMetrics;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -9,29 +11,96 @@ import org.springframework.stereotype.Service;
 import software.amazon.awssdk.services.sqs.SqsClient;
 import software.amazon.awssdk.services.sqs.model.SendMessageRequest;
 
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class DomainEventPublisher {
     private final SqsClient sqsClient;
     private final ObjectMapper objectMapper;
+    private final StageMetrics metrics;
 
     @Value("${aws.sqs.domain-events-queue-url}")
     private String queueUrl;
 
+    /**
+     * Buffers events and sends them with SendMessageBatch from a background thread instead of
+     * one SendMessage per event on the caller's thread. In Lambda the flusher only runs while
+     * an invocation is active, so keep the linger time short there.
+     */
+    @Value("${aws.sqs.publisher.async:false}")
+    private boolean async;
+
+    @Value("${aws.sqs.publisher.buffer-capacity:1000}")
+    private int bufferCapacity;
+
+    @Value("${aws.sqs.publisher.linger-millis:20}")
+    private long lingerMillis;
+
+    @Value("${aws.sqs.publisher.backpressure:BLOCK}")
+    private SqsBatchPublisher.BackpressurePolicy backpressure;
+
+    @Value("${aws.sqs.publisher.offer-timeout-millis:500}")
+    private long offerTimeoutMillis;
+
+    @Value("${aws.sqs.publisher.max-attempts:3}")
+    private int maxAttempts;
+
+    @Value("${aws.sqs.publisher.shutdown-timeout-millis:5000}")
+    private long shutdownTimeoutMillis;
+
+    private SqsBatchPublisher batchPublisher;
+
+    @PostConstruct
+    void start() {
+        if (async) {
+            batchPublisher = new SqsBatchPublisher(sqsClient, queueUrl, SqsBatchPublisher.Settings.builder()
+                    .capacity(bufferCapacity)
+                    .linger(Duration.ofMillis(lingerMillis))
+                    .backpressurePolicy(backpressure)
+                    .offerTimeout(Duration.ofMillis(offerTimeoutMillis))
+                    .maxAttempts(maxAttempts)
+                    .shutdownTimeout(Duration.ofMillis(shutdownTimeoutMillis))
+                    .build());
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (batchPublisher != null) {
+            batchPublisher.close();
+        }
+    }
+
+    /**
+     * Timed as the {@link Stage#SQS_PUBLISH} stage, which with the batch publisher covers only
+     * handing the event over, not sending it.
+     */
     public void publish(DomainEvent event) {
+        long start = metrics.start();
         try {
             String messageBody = objectMapper.writeValueAsString(event);
+            if (batchPublisher != null) {
+                batchPublisher.submit(messageBody);
+                metrics.stop(Stage.SQS_PUBLISH, start);
+                log.debug("Queued domain event: {} with id: {}", event.getClass().getSimpleName(), event.getEventId());
+                return;
+            }
             SendMessageRequest request = SendMessageRequest.builder()
                     .queueUrl(queueUrl)
                     .messageBody(messageBody)
                     .build();
 
             sqsClient.sendMessage(request);
+            metrics.stop(Stage.SQS_PUBLISH, start);
             log.info("Published domain event: {} with id: {}", event.getClass().getSimpleName(), event.getEventId());
         } catch (Exception e) {
+            metrics.fail(Stage.SQS_PUBLISH, start);
             log.error("Failed to publish domain event: {} with id: {}", event.getClass().getSimpleName(), event.getEventId(), e);
             throw new RuntimeException("Failed to publish domain event", e);
         }
     }
-} 
\ No newline at end of file
+}
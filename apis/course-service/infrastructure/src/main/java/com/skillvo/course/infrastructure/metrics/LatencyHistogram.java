@@ -0,0 +1,109 @@
+package com.skillvo.course.infrastructure.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Latency histogram in the layout of an HDR histogram: values below 64 microseconds get a
+ * bucket each, and every power of two above that is split into 32 buckets, so a recorded value
+ * is reported within about 3% whatever its magnitude. The buckets are a fixed array of
+ * counters, so recording neither allocates nor locks. Values are microseconds, up to about 19
+ * hours; longer ones count as the maximum.
+ */
+public final class LatencyHistogram {
+    static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int LINEAR_BUCKETS = SUB_BUCKETS * 2;
+    static final long MAX_MICROS = (1L << 36) - 1;
+    static final int BUCKETS = bucketOf(MAX_MICROS) + 1;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+
+    public void record(long micros) {
+        counts.incrementAndGet(bucketOf(Math.min(Math.max(micros, 0), MAX_MICROS)));
+    }
+
+    public long count() {
+        long count = 0;
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            count += counts.get(bucket);
+        }
+        return count;
+    }
+
+    /**
+     * The value at the percentile, 0 to 100, as the midpoint of its bucket; 0 when empty.
+     */
+    public long percentile(double percentile) {
+        long count = count();
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(count * Math.min(Math.max(percentile, 0), 100) / 100));
+        long seen = 0;
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            seen += counts.get(bucket);
+            if (seen >= rank) {
+                return valueOf(bucket);
+            }
+        }
+        return valueOf(BUCKETS - 1);
+    }
+
+    /**
+     * Moves the counts into {@code drained}, one per bucket, and leaves this histogram empty. The
+     * array is overwritten whole, so the caller can keep one and drain into it every time. Each
+     * bucket is taken with one atomic swap, so a value recorded meanwhile lands in one of the two,
+     * never neither. Returns the number of values moved.
+     */
+    public long drainTo(long[] drained) {
+        if (drained.length != BUCKETS) {
+            throw new IllegalArgumentException("Expected " + BUCKETS + " buckets, got " + drained.length);
+        }
+        long count = 0;
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            long bucketCount = counts.get(bucket) != 0 ? counts.getAndSet(bucket, 0) : 0;
+            drained[bucket] = bucketCount;
+            count += bucketCount;
+        }
+        return count;
+    }
+
+    /**
+     * Calls the consumer with the midpoint and count of every non-empty bucket, smallest first.
+     */
+    public void forEachBucket(BucketConsumer consumer) {
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            long count = counts.get(bucket);
+            if (count != 0) {
+                consumer.accept(valueOf(bucket), count);
+            }
+        }
+    }
+
+    static int bucketOf(long micros) {
+        if (micros < LINEAR_BUCKETS) {
+            return (int) micros;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(micros) - SUB_BUCKET_BITS;
+        return LINEAR_BUCKETS + (shift - 1) * SUB_BUCKETS + (int) (micros >>> shift) - SUB_BUCKETS;
+    }
+
+    static long lowestOf(int bucket) {
+        if (bucket < LINEAR_BUCKETS) {
+            return bucket;
+        }
+        int shift = (bucket - LINEAR_BUCKETS) / SUB_BUCKETS + 1;
+        return (long) ((bucket - LINEAR_BUCKETS) % SUB_BUCKETS + SUB_BUCKETS) << shift;
+    }
+
+    static long valueOf(int bucket) {
+        long lowest = lowestOf(bucket);
+        long highest = bucket + 1 < BUCKETS ? lowestOf(bucket + 1) - 1 : MAX_MICROS;
+        return lowest + (highest - lowest) / 2;
+    }
+
+    @FunctionalInterface
+    public interface BucketConsumer {
+        void accept(long micros, long count);
+    }
+}
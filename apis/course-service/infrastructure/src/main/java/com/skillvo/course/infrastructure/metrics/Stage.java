@@ -0,0 +1,38 @@
+package com.skillvo.course.infrastructure.metrics;
+
+/**
+ * The stages of a course request that {@link StageMetrics} times. The name is the value of the
+ * {@code Stage} dimension the metrics are published under.
+ */
+public enum Stage {
+    /** A Lambda invocation from start to response. */
+    REQUEST("request"),
+    /** Reading the request body into its DTO. */
+    PARSE("parse"),
+    /** Bean validation of the request DTO. */
+    VALIDATE("validate"),
+    /** Mapping a command to the course aggregate. */
+    MAP("map"),
+    /** A command handled by the command handler, reads and writes included. */
+    COMMAND("command"),
+    /** GetItem and BatchGetItem calls for courses by ID. */
+    DYNAMODB_READ("dynamodb.read"),
+    /** Query and Scan calls behind the list operations. */
+    DYNAMODB_QUERY("dynamodb.query"),
+    /** PutItem, UpdateItem, DeleteItem and TransactWriteItems calls. */
+    DYNAMODB_WRITE("dynamodb.write"),
+    /** Sending a domain event to SQS, or handing it to the batch publisher. */
+    SQS_PUBLISH("sqs.publish"),
+    /** Writing the response body, encoding and compression included. */
+    SERIALIZE("serialize");
+
+    private final String metricName;
+
+    Stage(String metricName) {
+        this.metricName = metricName;
+    }
+
+    public String getMetricName() {
+        return metricName;
+    }
+}
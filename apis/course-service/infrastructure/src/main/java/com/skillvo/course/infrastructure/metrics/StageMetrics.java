@@ -0,0 +1,284 @@
+package com.skillvo.course.infrastructure.metrics;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.io.PrintStream;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+
+/**
+ * Latency and error counts for each {@link Stage} of a course request, published as CloudWatch
+ * Embedded Metric Format: {@link #flush()} prints one JSON line per stage to stdout, and
+ * CloudWatch Logs turns the lines into metrics, so publishing needs no network call of its own.
+ * <p>
+ * Timing is {@code long start = metrics.start();} followed by {@link #stop} or {@link #fail}
+ * with that start; neither allocates. {@link #time} and {@link #run} wrap a call, for code
+ * where a lambda is no concern. Metrics accumulate in per-stage {@link LatencyHistogram}s until
+ * the next flush, which the Lambda handlers ask for after every invocation through
+ * {@link #flushIfDue()}. A flush drains the histograms into one buffer and writes the lines with
+ * builders that are kept between flushes, so it allocates little more than the lines themselves.
+ */
+public class StageMetrics {
+    static final int MAX_VALUES_PER_LINE = 100;
+    private static final Stage[] STAGES = Stage.values();
+
+    private final Settings settings;
+    private final PrintStream out;
+    private final LatencyHistogram[] latencies = new LatencyHistogram[STAGES.length];
+    private final AtomicLongArray errors = new AtomicLongArray(STAGES.length);
+    private final AtomicLong lastFlushMillis = new AtomicLong(System.currentTimeMillis());
+    private final long[] drained = new long[LatencyHistogram.BUCKETS];
+    private final EmfLines lines = new EmfLines();
+
+    public StageMetrics(Settings settings, PrintStream out) {
+        this.settings = settings;
+        this.out = out;
+        for (int i = 0; i < latencies.length; i++) {
+            latencies[i] = new LatencyHistogram();
+        }
+    }
+
+    /**
+     * The instance shared by the handlers and the Spring context of the process, set up from the
+     * {@code COURSE_METRICS_*} environment variables and printing to stdout.
+     */
+    public static StageMetrics shared() {
+        return SharedHolder.INSTANCE;
+    }
+
+    public long start() {
+        return settings.isEnabled() ? System.nanoTime() : 0;
+    }
+
+    public void stop(Stage stage, long start) {
+        if (settings.isEnabled()) {
+            latencies[stage.ordinal()].record(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start));
+        }
+    }
+
+    /**
+     * Records the latency of a stage that failed and counts the error.
+     */
+    public void fail(Stage stage, long start) {
+        if (settings.isEnabled()) {
+            stop(stage, start);
+            errors.incrementAndGet(stage.ordinal());
+        }
+    }
+
+    public <T> T time(Stage stage, Supplier<T> call) {
+        long start = start();
+        T result;
+        try {
+            result = call.get();
+        } catch (RuntimeException | Error e) {
+            fail(stage, start);
+            throw e;
+        }
+        stop(stage, start);
+        return result;
+    }
+
+    public void run(Stage stage, Runnable call) {
+        long start = start();
+        try {
+            call.run();
+        } catch (RuntimeException | Error e) {
+            fail(stage, start);
+            throw e;
+        }
+        stop(stage, start);
+    }
+
+    public long count(Stage stage) {
+        return latencies[stage.ordinal()].count();
+    }
+
+    public long errors(Stage stage) {
+        return errors.get(stage.ordinal());
+    }
+
+    public long percentileMicros(Stage stage, double percentile) {
+        return latencies[stage.ordinal()].percentile(percentile);
+    }
+
+    /**
+     * Flushes when the flush interval has passed since the last flush, which with the default
+     * interval of zero is always. Only one of several threads calling at once flushes.
+     */
+    public void flushIfDue() {
+        long last = lastFlushMillis.get();
+        long now = System.currentTimeMillis();
+        if (now - last >= settings.getFlushInterval().toMillis() && lastFlushMillis.compareAndSet(last, now)) {
+            flush();
+        }
+    }
+
+    /**
+     * Prints what was recorded since the last flush and starts over. Stages with nothing
+     * recorded print nothing. Latencies go out as EMF's Values and Counts, one entry per
+     * non-empty histogram bucket. EMF takes at most 100 values per metric in a document, so a
+     * stage with more buckets goes out as several lines; CloudWatch aggregates them into the same
+     * statistics. Synchronized, since flushes share the drain buffer and the line builders.
+     */
+    public synchronized void flush() {
+        if (!settings.isEnabled()) {
+            return;
+        }
+        long timestamp = System.currentTimeMillis();
+        for (Stage stage : STAGES) {
+            long count = latencies[stage.ordinal()].drainTo(drained);
+            long errorCount = errors.getAndSet(stage.ordinal(), 0);
+            if (count == 0 && errorCount == 0) {
+                continue;
+            }
+            lines.start(stage, timestamp, errorCount);
+            for (int bucket = 0; bucket < drained.length; bucket++) {
+                if (drained[bucket] != 0) {
+                    lines.add(LatencyHistogram.valueOf(bucket), drained[bucket]);
+                }
+            }
+            lines.finish();
+        }
+    }
+
+    private final class EmfLines {
+        private final StringBuilder values = new StringBuilder(1024);
+        private final StringBuilder counts = new StringBuilder(512);
+        private final StringBuilder line = new StringBuilder(2048);
+        private Stage stage;
+        private long timestamp;
+        private long errorCount;
+        private int valuesInLine;
+        private boolean firstLine;
+
+        private void start(Stage stage, long timestamp, long errorCount) {
+            this.stage = stage;
+            this.timestamp = timestamp;
+            this.errorCount = errorCount;
+            firstLine = true;
+        }
+
+        private void add(long micros, long count) {
+            if (valuesInLine == MAX_VALUES_PER_LINE) {
+                print();
+            }
+            if (valuesInLine > 0) {
+                values.append(',');
+                counts.append(',');
+            }
+            appendMillis(values, micros);
+            counts.append(count);
+            valuesInLine++;
+        }
+
+        private void finish() {
+            if (valuesInLine > 0 || firstLine) {
+                print();
+            }
+        }
+
+        /**
+         * Errors go out with the first line only, so the lines of one flush sum to the count.
+         * They go out even when zero, so error rates have a data point for every flush.
+         */
+        private void print() {
+            line.setLength(0);
+            line.append("{\"_aws\":{\"Timestamp\":").append(timestamp)
+                    .append(",\"CloudWatchMetrics\":[{\"Namespace\":");
+            appendString(line, settings.getNamespace());
+            line.append(",\"Dimensions\":[[\"Function\",\"Stage\"]],\"Metrics\":[");
+            if (valuesInLine > 0) {
+                line.append("{\"Name\":\"Latency\",\"Unit\":\"Milliseconds\"}");
+            }
+            if (firstLine) {
+                line.append(valuesInLine > 0 ? "," : "").append("{\"Name\":\"Errors\",\"Unit\":\"Count\"}");
+            }
+            line.append("]}]},\"Function\":");
+            appendString(line, settings.getFunction());
+            line.append(",\"Stage\":\"").append(stage.getMetricName()).append('"');
+            if (valuesInLine > 0) {
+                line.append(",\"Latency\":{\"Values\":[").append(values)
+                        .append("],\"Counts\":[").append(counts).append("]}");
+            }
+            if (firstLine) {
+                line.append(",\"Errors\":").append(errorCount);
+            }
+            line.append('}');
+            out.println(line);
+            values.setLength(0);
+            counts.setLength(0);
+            valuesInLine = 0;
+            firstLine = false;
+        }
+    }
+
+    /**
+     * Milliseconds with microsecond precision, written without going through a double.
+     */
+    static void appendMillis(StringBuilder builder, long micros) {
+        builder.append(micros / 1000);
+        long fraction = micros % 1000;
+        if (fraction != 0) {
+            builder.append('.');
+            if (fraction < 100) {
+                builder.append('0');
+            }
+            if (fraction < 10) {
+                builder.append('0');
+            }
+            builder.append(fraction);
+        }
+    }
+
+    private static void appendString(StringBuilder builder, String value) {
+        builder.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                builder.append('\\').append(c);
+            } else if (c < 0x20) {
+                builder.append(String.format("\\u%04x", (int) c));
+            } else {
+                builder.append(c);
+            }
+        }
+        builder.append('"');
+    }
+
+    @Value
+    @Builder
+    public static class Settings {
+        boolean enabled;
+        String namespace;
+        /** Value of the Function dimension, the Lambda function's name when running in Lambda. */
+        String function;
+        Duration flushInterval;
+
+        /**
+         * Enabled, flushing on every call to {@link #flushIfDue()}, under the default namespace.
+         */
+        public static Settings defaults() {
+            return fromEnvironment(Collections.emptyMap());
+        }
+
+        static Settings fromEnvironment(Map<String, String> env) {
+            return Settings.builder()
+                    .enabled(!"false".equalsIgnoreCase(env.get("COURSE_METRICS_ENABLED")))
+                    .namespace(env.getOrDefault("COURSE_METRICS_NAMESPACE", "SkillVo/CourseService"))
+                    .function(env.getOrDefault("AWS_LAMBDA_FUNCTION_NAME", "course-service"))
+                    .flushInterval(Duration.ofMillis(Long.parseLong(env.getOrDefault("COURSE_METRICS_FLUSH_INTERVAL_MILLIS", "0"))))
+                    .build();
+        }
+    }
+
+    private static final class SharedHolder {
+        private static final StageMetrics INSTANCE = new StageMetrics(Settings.fromEnvironment(System.getenv()), System.out);
+    }
+}
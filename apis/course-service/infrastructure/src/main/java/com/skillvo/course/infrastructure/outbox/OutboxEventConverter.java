@@ -0,0 +1,57 @@
+package com.skillvo.course.infrastructure.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.skillvo.course.domain.model.events.DomainEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Maps domain events to items of the outbox table. The payload is the same JSON the
+ * publisher would have sent, so relayed messages are indistinguishable from direct ones.
+ */
+@Component
+public class OutboxEventConverter {
+    public static final String DEFAULT_TABLE_NAME = "CourseEventOutbox";
+    static final String EVENT_ID = "eventId";
+    static final String EVENT_TYPE = "eventType";
+    static final String PAYLOAD = "payload";
+    static final String CREATED_AT = "createdAt";
+
+    private final ObjectMapper objectMapper;
+    private final String tableName;
+
+    /**
+     * Works on a copy of the given mapper with the Java time types registered, as every event
+     * carries a LocalDateTime and the mapper handed in need not know them.
+     */
+    public OutboxEventConverter(ObjectMapper objectMapper,
+                                @Value("${course.outbox.table-name:CourseEventOutbox}") String tableName) {
+        this.objectMapper = objectMapper.copy().registerModule(new JavaTimeModule());
+        this.tableName = tableName;
+    }
+
+    public String getTableName() {
+        return tableName;
+    }
+
+    public Map<String, AttributeValue> toItem(DomainEvent event) {
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Failed to serialize domain event " + event.getEventId(), e);
+        }
+        Map<String, AttributeValue> item = new HashMap<>();
+        item.put(EVENT_ID, AttributeValue.builder().s(event.getEventId().toString()).build());
+        item.put(EVENT_TYPE, AttributeValue.builder().s(event.getClass().getSimpleName()).build());
+        item.put(PAYLOAD, AttributeValue.builder().s(payload).build());
+        item.put(CREATED_AT, AttributeValue.builder().n(String.valueOf(System.currentTimeMillis())).build());
+        return item;
+    }
+}
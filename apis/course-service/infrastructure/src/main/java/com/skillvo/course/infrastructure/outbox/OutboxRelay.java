@@ -0,0 +1,201 @@
+package com.skillvo.course.infrastructure.outbox;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.DeleteRequest;
+import software.amazon.awssdk.services.dynamodb.model.ScanRequest;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
+import software.amazon.awssdk.services.sqs.SqsClient;
+import software.amazon.awssdk.services.sqs.model.BatchResultErrorEntry;
+import software.amazon.awssdk.services.sqs.model.MessageAttributeValue;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequest;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequestEntry;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchResponse;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Drains the course event outbox to SQS. Each pass reads up to {@code batchSize} pending
+ * events, sends them oldest first with SendMessageBatch and deletes the ones SQS accepted.
+ * Anything not deleted is picked up again by a later pass, so delivery is at-least-once and
+ * consumers should de-duplicate on eventId. Ordering is by creation time within a pass only.
+ */
+@Slf4j
+@Component
+public class OutboxRelay {
+    private static final int SQS_BATCH_SIZE = 10;
+    private static final int DELETE_BATCH_SIZE = 25;
+
+    private final DynamoDbClient dynamoDbClient;
+    private final SqsClient sqsClient;
+    private final String queueUrl;
+    private final String tableName;
+    private final int batchSize;
+    private final int maxPasses;
+
+    private final AtomicLong eventsRelayed = new AtomicLong();
+    private final AtomicLong deliveryFailures = new AtomicLong();
+    private final AtomicLong passes = new AtomicLong();
+    private volatile OutboxRelayMetrics lastPass = OutboxRelayMetrics.builder().build();
+
+    public OutboxRelay(DynamoDbClient dynamoDbClient,
+                       SqsClient sqsClient,
+                       @Value("${aws.sqs.domain-events-queue-url}") String queueUrl,
+                       @Value("${course.outbox.table-name:CourseEventOutbox}") String tableName,
+                       @Value("${course.outbox.relay.batch-size:100}") int batchSize,
+                       @Value("${course.outbox.relay.max-passes:50}") int maxPasses) {
+        this.dynamoDbClient = dynamoDbClient;
+        this.sqsClient = sqsClient;
+        this.queueUrl = queueUrl;
+        this.tableName = tableName;
+        this.batchSize = batchSize;
+        this.maxPasses = maxPasses;
+    }
+
+    /**
+     * Runs passes until the outbox is empty, a pass delivers nothing or {@code maxPasses} is
+     * reached, and returns the number of events delivered.
+     */
+    public int drain() {
+        int delivered = 0;
+        for (int pass = 0; pass < maxPasses; pass++) {
+            int scanned = relayOnce();
+            int sent = lastPass.getLastBatchSize();
+            delivered += sent;
+            if (scanned < batchSize || sent == 0) {
+                break;
+            }
+        }
+        OutboxRelayMetrics metrics = metrics();
+        log.info("Outbox relay delivered {} events (last batch {}, lag {} ms, {} events/s, {} failures total)",
+                delivered, metrics.getLastBatchSize(), metrics.getLastLagMillis(),
+                Math.round(metrics.getLastEventsPerSecond()), metrics.getDeliveryFailures());
+        return delivered;
+    }
+
+    /**
+     * Runs a single pass and returns how many pending events it read.
+     */
+    public int relayOnce() {
+        long started = System.nanoTime();
+        List<Map<String, AttributeValue>> pending = new ArrayList<>(dynamoDbClient.scan(ScanRequest.builder()
+                .tableName(tableName)
+                .consistentRead(true)
+                .limit(batchSize)
+                .build()).items());
+        pending.sort(Comparator.comparingLong(OutboxRelay::createdAt));
+
+        List<Map<String, AttributeValue>> delivered = new ArrayList<>(pending.size());
+        for (int start = 0; start < pending.size(); start += SQS_BATCH_SIZE) {
+            delivered.addAll(send(pending.subList(start, Math.min(start + SQS_BATCH_SIZE, pending.size()))));
+        }
+        delete(delivered);
+
+        long elapsedMillis = Math.max((System.nanoTime() - started) / 1_000_000, 1);
+        long lagMillis = delivered.isEmpty() ? 0 : System.currentTimeMillis() - createdAt(delivered.get(0));
+        eventsRelayed.addAndGet(delivered.size());
+        passes.incrementAndGet();
+        lastPass = OutboxRelayMetrics.builder()
+                .lastBatchSize(delivered.size())
+                .lastLagMillis(lagMillis)
+                .lastPassMillis(elapsedMillis)
+                .lastEventsPerSecond(delivered.size() * 1000.0 / elapsedMillis)
+                .build();
+        return pending.size();
+    }
+
+    public OutboxRelayMetrics metrics() {
+        OutboxRelayMetrics last = lastPass;
+        return OutboxRelayMetrics.builder()
+                .eventsRelayed(eventsRelayed.get())
+                .deliveryFailures(deliveryFailures.get())
+                .passes(passes.get())
+                .lastBatchSize(last.getLastBatchSize())
+                .lastLagMillis(last.getLastLagMillis())
+                .lastPassMillis(last.getLastPassMillis())
+                .lastEventsPerSecond(last.getLastEventsPerSecond())
+                .build();
+    }
+
+    private List<Map<String, AttributeValue>> send(List<Map<String, AttributeValue>> events) {
+        List<SendMessageBatchRequestEntry> entries = new ArrayList<>(events.size());
+        for (int i = 0; i < events.size(); i++) {
+            Map<String, AttributeValue> event = events.get(i);
+            entries.add(SendMessageBatchRequestEntry.builder()
+                    .id(String.valueOf(i))
+                    .messageBody(event.get(OutboxEventConverter.PAYLOAD).s())
+                    .messageAttributes(Collections.singletonMap(OutboxEventConverter.EVENT_TYPE,
+                            MessageAttributeValue.builder()
+                                    .dataType("String")
+                                    .stringValue(event.get(OutboxEventConverter.EVENT_TYPE).s())
+                                    .build()))
+                    .build());
+        }
+
+        SendMessageBatchResponse response;
+        try {
+            response = sqsClient.sendMessageBatch(SendMessageBatchRequest.builder()
+                    .queueUrl(queueUrl)
+                    .entries(entries)
+                    .build());
+        } catch (RuntimeException e) {
+            deliveryFailures.addAndGet(events.size());
+            log.warn("Failed to relay {} outbox events, will retry on the next pass", events.size(), e);
+            return Collections.emptyList();
+        }
+
+        Set<String> failedIds = response.failed().stream()
+                .map(BatchResultErrorEntry::id)
+                .collect(Collectors.toSet());
+        if (!failedIds.isEmpty()) {
+            deliveryFailures.addAndGet(failedIds.size());
+            log.warn("SQS rejected {} of {} outbox events, will retry on the next pass", failedIds.size(), events.size());
+        }
+        List<Map<String, AttributeValue>> delivered = new ArrayList<>(events.size());
+        for (int i = 0; i < events.size(); i++) {
+            if (!failedIds.contains(String.valueOf(i))) {
+                delivered.add(events.get(i));
+            }
+        }
+        return delivered;
+    }
+
+    private void delete(List<Map<String, AttributeValue>> events) {
+        for (int start = 0; start < events.size(); start += DELETE_BATCH_SIZE) {
+            List<WriteRequest> deletes = events.subList(start, Math.min(start + DELETE_BATCH_SIZE, events.size()))
+                    .stream()
+                    .map(event -> WriteRequest.builder()
+                            .deleteRequest(DeleteRequest.builder()
+                                    .key(Collections.singletonMap(OutboxEventConverter.EVENT_ID,
+                                            event.get(OutboxEventConverter.EVENT_ID)))
+                                    .build())
+                            .build())
+                    .collect(Collectors.toList());
+            BatchWriteItemResponse response = dynamoDbClient.batchWriteItem(BatchWriteItemRequest.builder()
+                    .requestItems(Collections.singletonMap(tableName, deletes))
+                    .build());
+            if (response.hasUnprocessedItems() && !response.unprocessedItems().isEmpty()) {
+                log.warn("{} delivered outbox events were not deleted and will be sent again",
+                        response.unprocessedItems().getOrDefault(tableName,
+                                Collections.emptyList()).size());
+            }
+        }
+    }
+
+    private static long createdAt(Map<String, AttributeValue> event) {
+        AttributeValue createdAt = event.get(OutboxEventConverter.CREATED_AT);
+        return createdAt != null ? Long.parseLong(createdAt.n()) : 0L;
+    }
+}
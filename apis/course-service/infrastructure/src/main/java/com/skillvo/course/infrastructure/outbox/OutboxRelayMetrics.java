@@ -0,0 +1,20 @@
+package com.skillvo.course.infrastructure.outbox;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Snapshot of the relay's counters. The "last" values describe the most recent relay pass;
+ * lag is the age of the oldest event that pass delivered.
+ */
+@Value
+@Builder
+public class OutboxRelayMetrics {
+    long eventsRelayed;
+    long deliveryFailures;
+    long passes;
+    int lastBatchSize;
+    long lastLagMillis;
+    long lastPassMillis;
+    double lastEventsPerSecond;
+}
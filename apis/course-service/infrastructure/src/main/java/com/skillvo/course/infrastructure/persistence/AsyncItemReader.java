@@ -0,0 +1,30 @@
+package com.skillvo.course.infrastructure.persistence;
+
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Single-item reads on the async DynamoDB client, for callers that start several reads and wait
+ * for them together rather than tying up a thread per read. The client is injected as a lazy
+ * proxy, so it and its event loop are only created by the first read.
+ */
+@Component
+public class AsyncItemReader {
+    private final DynamoDbAsyncClient dynamoDbAsyncClient;
+
+    public AsyncItemReader(@Lazy DynamoDbAsyncClient dynamoDbAsyncClient) {
+        this.dynamoDbAsyncClient = dynamoDbAsyncClient;
+    }
+
+    public CompletableFuture<Optional<Map<String, AttributeValue>>> getItem(GetItemRequest request) {
+        return dynamoDbAsyncClient.getItem(request)
+                .thenApply(response -> response.hasItem() ? Optional.of(response.item()) : Optional.empty());
+    }
+}
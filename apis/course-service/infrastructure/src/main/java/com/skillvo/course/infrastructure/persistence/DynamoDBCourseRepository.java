@@ -1,46 +1,558 @@
 package com.skillvo.course.infrastructure.persistence;
 
+import com.skillvo.caching.infrastructure.cache.SingleFlight;
 import com.skillvo.course.domain.model.aggregates.Course;
+import com.skillvo.course.domain.model.entities.Lesson;
+import com.skillvo.course.domain.model.entities.Section;
+import com.skillvo.course.domain.model.enums.Status;
+import com.skillvo.course.domain.model.events.DomainEvent;
+import com.skillvo.course.domain.model.exception.CourseVersionConflictException;
+import com.skillvo.course.domain.repository.CourseDetail;
 import com.skillvo.course.domain.repository.CourseFilter;
+import com.skillvo.course.domain.repository.CoursePage;
 import com.skillvo.course.domain.repository.CourseRepository;
+import com.skillvo.course.domain.repository.CourseSummary;
+import com.skillvo.course.domain.repository.CourseSummaryPage;
+import com.skillvo.course.domain.repository.TagMatch;
+import com.skillvo.course.infrastructure.cache.CourseCache;
+import com.skillvo.course.infrastructure.metrics.Stage;
+import com.skillvo.course.infrastructure.metrics.StageMetrics;
+import com.skillvo.course.infrastructure.outbox.OutboxEventConverter;
+import com.skillvo.course.infrastructure.persistence.batch.BatchCourseReader;
+import com.skillvo.course.infrastructure.persistence.curriculum.CourseCurriculumStore;
+import com.skillvo.course.infrastructure.persistence.curriculum.CurriculumSections;
+import com.skillvo.course.infrastructure.persistence.keys.CourseKey;
+import com.skillvo.course.infrastructure.persistence.keys.PageToken;
+import com.skillvo.course.infrastructure.persistence.query.CourseQueryPlanner;
 import com.skillvo.course.infrastructure.persistence.query.DynamoDBQueryBuilder;
+import com.skillvo.course.infrastructure.persistence.query.QueryPlan;
+import com.skillvo.course.infrastructure.persistence.scan.ParallelCourseScanner;
+import com.skillvo.course.infrastructure.persistence.tags.CourseTagIndex;
+import com.skillvo.course.infrastructure.persistence.update.ItemChanges;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Repository;
+import software.amazon.awssdk.core.pagination.sync.SdkIterable;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
 import software.amazon.awssdk.services.dynamodb.model.*;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.stream.StreamSupport;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+@Slf4j
 @Repository
 @RequiredArgsConstructor
 public class DynamoDBCourseRepository implements CourseRepository {
     private final DynamoDbClient dynamoDbClient;
+    private final ParallelCourseScanner parallelScanner;
+    private final CourseCache courseCache;
+    private final BatchCourseReader batchReader;
+    private final OutboxEventConverter outboxEventConverter;
+    private final CourseQueryPlanner queryPlanner;
+    private final CourseTagIndex tagIndex;
+    private final CourseCurriculumStore curriculumStore;
+    private final AsyncItemReader asyncReader;
+    private final StageMetrics metrics;
     private static final String TABLE_NAME = "Courses";
+    private static final String COURSE_ID = "courseId";
+    private static final String VERSION = "version";
+    private static final String MARKETPLACE_TENANT_ID = "marketplaceTenantId";
+    private static final Map<String, String> VERSION_NAMES = Map.of("#courseId", COURSE_ID, "#version", VERSION);
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
 
+    /**
+     * Identical list queries running at the same time share one read. Results are not kept once
+     * the read completes, so callers never see a list older than the one in flight.
+     */
+    private final SingleFlight<CourseFilter, List<Course>> listFlights = new SingleFlight<>();
+    private final SingleFlight<CourseFilter, CoursePage> pageFlights = new SingleFlight<>();
+    private final SingleFlight<CourseFilter, CourseSummaryPage> summaryPageFlights = new SingleFlight<>();
+
+    /**
+     * The format sections are written in. Items are read in any of them, so switching it needs
+     * no migration; items move to the new format as they are saved.
+     */
+    @Value("${course.storage.sections-format:ATTRIBUTES}")
+    private SectionsFormat sectionsFormat = SectionsFormat.ATTRIBUTES;
+
+    /**
+     * Writes the course as the version after the one it was read at, provided the stored version
+     * is still that one, and sets the new version on the course. Every write changes the version,
+     * so a publish is seen by version checks and ETags just like an update. A course without a
+     * version was stored without one, and is written as version 1.
+     */
     @Override
     public Course save(Course course) {
+        writeCurriculum(course);
+        int nextVersion = nextVersion(course);
         PutItemRequest request = PutItemRequest.builder()
                 .tableName(TABLE_NAME)
-                .item(DynamoDBModelConverter.toItem(course))
+                .item(toVersionedItem(course, nextVersion))
+                .conditionExpression(versionCondition(course))
+                .expressionAttributeNames(VERSION_NAMES)
+                .expressionAttributeValues(versionValues(course))
+                .returnValues(ReturnValue.ALL_OLD)
+                .build();
+
+        PutItemResponse response;
+        try {
+            response = metrics.time(Stage.DYNAMODB_WRITE, () -> dynamoDbClient.putItem(request));
+        } catch (ConditionalCheckFailedException e) {
+            throw versionConflict(course);
+        } finally {
+            // Also when the write fails: the outcome of a failed write is not known
+            courseCache.invalidate(course.getCourseId());
+        }
+        course.setVersion(nextVersion);
+        if (sectionsFormat != SectionsFormat.ITEM_COLLECTION
+                && DynamoDBModelConverter.hasCurriculumItems(response.attributes())) {
+            curriculumStore.delete(course.getCourseId());
+        }
+        updateTagIndex(course, DynamoDBModelConverter.toTags(response.attributes()));
+        return course;
+    }
+
+    /**
+     * Writes the course and its event to the outbox in one transaction, so the event exists
+     * if and only if the change does. The outbox relay publishes it afterwards. The course is
+     * versioned as in {@link #save}.
+     */
+    @Override
+    public Course saveWithEvent(Course course, DomainEvent event) {
+        writeCurriculum(course);
+        int nextVersion = nextVersion(course);
+        TransactWriteItemsRequest request = TransactWriteItemsRequest.builder()
+                .transactItems(
+                        TransactWriteItem.builder()
+                                .put(Put.builder()
+                                        .tableName(TABLE_NAME)
+                                        .item(toVersionedItem(course, nextVersion))
+                                        .conditionExpression(versionCondition(course))
+                                        .expressionAttributeNames(VERSION_NAMES)
+                                        .expressionAttributeValues(versionValues(course))
+                                        .build())
+                                .build(),
+                        TransactWriteItem.builder()
+                                .put(Put.builder()
+                                        .tableName(outboxEventConverter.getTableName())
+                                        .item(outboxEventConverter.toItem(event))
+                                        .conditionExpression("attribute_not_exists(eventId)")
+                                        .build())
+                                .build())
                 .build();
 
-        dynamoDbClient.putItem(request);
+        try {
+            metrics.time(Stage.DYNAMODB_WRITE, () -> dynamoDbClient.transactWriteItems(request));
+        } catch (TransactionCanceledException e) {
+            // Reasons come in the order of the items; the course put is the first
+            if (e.hasCancellationReasons() && !e.cancellationReasons().isEmpty()
+                    && "ConditionalCheckFailed".equals(e.cancellationReasons().get(0).code())) {
+                throw versionConflict(course);
+            }
+            throw e;
+        } finally {
+            courseCache.invalidate(course.getCourseId());
+        }
+        course.setVersion(nextVersion);
+        // A transaction cannot return the old item, so entries of removed tags are left for
+        // lookups to repair rather than paying for a read here
+        updateTagIndex(course, null);
         return course;
     }
 
+    private static int nextVersion(Course course) {
+        return course.getVersion() != null ? course.getVersion() + 1 : 1;
+    }
+
+    private Map<String, AttributeValue> toVersionedItem(Course course, int version) {
+        Map<String, AttributeValue> item = DynamoDBModelConverter.toItem(course, sectionsFormat);
+        item.put(VERSION, AttributeValue.builder().n(Integer.toString(version)).build());
+        return item;
+    }
+
+    /**
+     * A course that is not stored yet is written whatever version it carries.
+     */
+    private static String versionCondition(Course course) {
+        return "attribute_not_exists(#courseId) OR "
+                + (course.getVersion() != null ? "#version = :version" : "attribute_not_exists(#version)");
+    }
+
+    private static Map<String, AttributeValue> versionValues(Course course) {
+        return course.getVersion() != null
+                ? Map.of(":version", AttributeValue.builder().n(course.getVersion().toString()).build())
+                : null;
+    }
+
+    private static CourseVersionConflictException versionConflict(Course course) {
+        return new CourseVersionConflictException("Course " + course.getCourseId()
+                + " was changed since version " + course.getVersion() + " was read");
+    }
+
+    /**
+     * Curriculum items are written before the course item, so a course never points at sections
+     * that are not there yet. If the course write then fails, the items are rewritten by the
+     * next save.
+     */
+    private void writeCurriculum(Course course) {
+        if (sectionsFormat == SectionsFormat.ITEM_COLLECTION && !hasUnreadCurriculum(course)) {
+            curriculumStore.write(course.getCourseId(), null, course.getSections());
+        }
+    }
+
+    private static boolean hasUnreadCurriculum(Course course) {
+        return course.unreadSectionsSource(CurriculumSections.class).isPresent();
+    }
+
+    /**
+     * Sends only the attributes that changed, conditioned on the version that was read: the diff
+     * is only valid against that version, so a concurrent write fails the update instead of
+     * being merged with it. The new version is the one read plus one, as on save. Nothing is
+     * written when nothing changed. DynamoDB still bills the write on the size of the whole item,
+     * so this saves request bytes and conversion work, and no longer overwrites attributes the
+     * update did not touch. Curriculum items follow the
+     * course item once its version condition has passed, and only those that changed.
+     */
+    @Override
+    public Course update(Course current, Course updated) {
+        // The current item in the format it was stored in, so a format change moves the sections over
+        SectionsFormat storedFormat = DynamoDBModelConverter.sectionsFormatOf(current);
+        if (sectionsFormat != SectionsFormat.ITEM_COLLECTION) {
+            keepStoredLessons(current, updated);
+        }
+        Map<String, AttributeValue> currentItem = DynamoDBModelConverter.toItem(current, storedFormat);
+        ItemChanges changes = ItemChanges.between(currentItem, DynamoDBModelConverter.toItem(updated, sectionsFormat),
+                Set.of(COURSE_ID, VERSION));
+        List<WriteRequest> curriculumChanges = sectionsFormat == SectionsFormat.ITEM_COLLECTION && !hasUnreadCurriculum(updated)
+                ? curriculumStore.changes(current.getCourseId(), storedSections(current, storedFormat), updated.getSections())
+                : List.of();
+        if (changes.isEmpty() && curriculumChanges.isEmpty()) {
+            return current;
+        }
+        String condition = "attribute_exists(" + changes.name(COURSE_ID) + ") AND "
+                + (current.getVersion() != null
+                        ? changes.name(VERSION) + " = " + changes.value(currentItem.get(VERSION))
+                        : "attribute_not_exists(" + changes.name(VERSION) + ")");
+        // Derived from the version that was read, whatever the caller put on the updated course
+        int nextVersion = nextVersion(current);
+        changes.set(VERSION, AttributeValue.builder().n(Integer.toString(nextVersion)).build());
+
+        UpdateItemRequest request = UpdateItemRequest.builder()
+                .tableName(TABLE_NAME)
+                .key(CourseKey.of(current.getCourseId()).toPrimaryKey())
+                .updateExpression(changes.updateExpression())
+                .conditionExpression(condition)
+                .expressionAttributeNames(changes.expressionAttributeNames())
+                .expressionAttributeValues(changes.expressionAttributeValues())
+                .build();
+        try {
+            metrics.time(Stage.DYNAMODB_WRITE, () -> dynamoDbClient.updateItem(request));
+        } catch (ConditionalCheckFailedException e) {
+            throw versionConflict(current);
+        } finally {
+            // After a conflict the cached copy may be the stale one, so the next read goes to the table
+            courseCache.invalidate(current.getCourseId());
+        }
+        updated.setVersion(nextVersion);
+        log.debug("Updated {} paths of course {}", changes.size(), current.getCourseId());
+        if (!curriculumChanges.isEmpty()) {
+            curriculumStore.apply(current.getCourseId(), curriculumChanges);
+        } else if (storedFormat == SectionsFormat.ITEM_COLLECTION && sectionsFormat != SectionsFormat.ITEM_COLLECTION) {
+            // The sections moved into the course item
+            curriculumStore.delete(current.getCourseId());
+        }
+        if (!Objects.equals(current.getTags(), updated.getTags())
+                || !Objects.equals(current.getTenantId(), updated.getTenantId())) {
+            // The version condition guarantees the stored tags were the current ones
+            updateTagIndex(updated, current.getTags() != null ? current.getTags() : List.of());
+        }
+        return updated;
+    }
+
+    /**
+     * Gives sections written back with null lessons the lessons stored for them, which the
+     * CourseCurriculumStore does for item collections, as the course item would drop them.
+     */
+    private static void keepStoredLessons(Course current, Course updated) {
+        if (updated.isSectionsUnread() || updated.getSections() == null
+                || updated.getSections().stream().allMatch(section -> section.getLessons() != null)
+                || current.getSections() == null) {
+            return;
+        }
+        Map<UUID, List<Lesson>> stored = new HashMap<>();
+        for (Section section : current.getSections()) {
+            if (section.getSectionId() != null && section.getLessons() != null) {
+                stored.put(section.getSectionId(), section.getLessons());
+            }
+        }
+        for (Section section : updated.getSections()) {
+            if (section.getLessons() == null && section.getSectionId() != null) {
+                section.setLessons(stored.get(section.getSectionId()));
+            }
+        }
+    }
+
+    /**
+     * The sections as the curriculum table holds them: none if the course item held them, and
+     * unknown if they were never loaded.
+     */
+    private static List<Section> storedSections(Course current, SectionsFormat storedFormat) {
+        if (storedFormat != SectionsFormat.ITEM_COLLECTION) {
+            return List.of();
+        }
+        return current.isSectionsUnread() ? null : current.getSections();
+    }
+
+    private void updateTagIndex(Course course, List<String> previousTags) {
+        try {
+            tagIndex.update(course.getCourseId(), course.getTenantId(), previousTags, course.getTags());
+        } catch (RuntimeException e) {
+            // The course is saved; its tag entries are rewritten on the next save or by rebuildTagIndex()
+            log.error("Could not update tag index for course {}", course.getCourseId(), e);
+        }
+    }
+
     @Override
     public Optional<Course> findById(UUID courseId) {
+        return courseCache.getOrLoad(courseId, this::fetchById);
+    }
+
+    /**
+     * Header-only loads are plain findById calls, as sections are loaded on first access anyway.
+     * The course is a copy of the cached one, so a sections-only load leaves the cached course
+     * able to load its lessons.
+     */
+    @Override
+    public Optional<Course> findById(UUID courseId, CourseDetail detail) {
+        Optional<Course> found = findById(courseId);
+        if (found.isEmpty() || detail == CourseDetail.HEADER) {
+            return found;
+        }
+        Course course = found.get();
+        if (detail == CourseDetail.SECTIONS) {
+            course.unreadSectionsSource(CurriculumSections.class).ifPresent(source ->
+                    course.setSectionsSource(source.withSections(curriculumStore.loadSections(courseId, false))));
+        }
+        course.getSections();
+        return found;
+    }
+
+    /**
+     * A cached course answers from memory. Otherwise a GetItem projected on the key and version
+     * transfers a few bytes instead of the whole course; DynamoDB charges the read by item size
+     * either way, so this saves transfer and conversion rather than read capacity.
+     */
+    @Override
+    public Optional<Integer> findVersion(UUID courseId) {
+        Optional<Course> cached = courseCache.get(courseId);
+        if (cached.isPresent()) {
+            return Optional.of(versionOf(cached.get()));
+        }
+        if (courseCache.isKnownMissing(courseId)) {
+            return Optional.empty();
+        }
+        GetItemResponse response = metrics.time(Stage.DYNAMODB_READ, () -> dynamoDbClient.getItem(versionRequest(courseId)));
+        if (!response.hasItem()) {
+            courseCache.markMissing(courseId);
+            return Optional.empty();
+        }
+        return Optional.of(versionOf(response.item()));
+    }
+
+    /**
+     * findById without blocking: a cached course completes at once, otherwise the GetItem runs
+     * on the async client, shared with any findById or findByIdAsync of the same course already
+     * waiting on DynamoDB, and the course is cached when it arrives.
+     */
+    @Override
+    public CompletableFuture<Optional<Course>> findByIdAsync(UUID courseId) {
+        return courseCache.getOrLoadAsync(courseId,
+                id -> timedRead(asyncReader.getItem(courseRequest(id))).thenApply(item -> item.map(this::toCourse)));
+    }
+
+    @Override
+    public CompletableFuture<Optional<Integer>> findVersionAsync(UUID courseId) {
+        Optional<Course> cached = courseCache.get(courseId);
+        if (cached.isPresent()) {
+            return CompletableFuture.completedFuture(Optional.of(versionOf(cached.get())));
+        }
+        if (courseCache.isKnownMissing(courseId)) {
+            return CompletableFuture.completedFuture(Optional.empty());
+        }
+        return timedRead(asyncReader.getItem(versionRequest(courseId))).thenApply(item -> {
+            if (item.isEmpty()) {
+                courseCache.markMissing(courseId);
+            }
+            return item.map(DynamoDBCourseRepository::versionOf);
+        });
+    }
+
+    private <T> CompletableFuture<T> timedRead(CompletableFuture<T> read) {
+        long start = metrics.start();
+        return read.whenComplete((result, failure) -> {
+            if (failure != null) {
+                metrics.fail(Stage.DYNAMODB_READ, start);
+            } else {
+                metrics.stop(Stage.DYNAMODB_READ, start);
+            }
+        });
+    }
+
+    private static GetItemRequest versionRequest(UUID courseId) {
+        return GetItemRequest.builder()
+                .tableName(TABLE_NAME)
+                .key(Map.of(COURSE_ID, AttributeValue.builder().s(courseId.toString()).build()))
+                .projectionExpression("#courseId, #version")
+                .expressionAttributeNames(Map.of("#courseId", COURSE_ID, "#version", VERSION))
+                .build();
+    }
+
+    private static int versionOf(Course course) {
+        return course.getVersion() != null ? course.getVersion() : 0;
+    }
+
+    private static int versionOf(Map<String, AttributeValue> item) {
+        AttributeValue version = item.get(VERSION);
+        return version != null ? Integer.parseInt(version.n()) : 0;
+    }
+
+    /**
+     * Reads just the section's lesson items when the course keeps its curriculum in the
+     * CourseCurriculum table and has not loaded it yet; otherwise takes them from the course.
+     */
+    @Override
+    public List<Lesson> findLessons(UUID courseId, UUID sectionId) {
+        Optional<Course> found = findById(courseId);
+        if (found.isEmpty()) {
+            return new ArrayList<>();
+        }
+        Course course = found.get();
+        if (hasUnreadCurriculum(course)) {
+            return curriculumStore.loadLessons(courseId, sectionId);
+        }
+        return new ArrayList<>(lessonsOf(course, sectionId));
+    }
+
+    /**
+     * A key range of the section's lesson items when the curriculum is in the CourseCurriculum
+     * table and not loaded yet; otherwise a slice of the course's lessons.
+     */
+    @Override
+    public List<Lesson> findLessons(UUID courseId, UUID sectionId, int fromPosition, int limit) {
+        if (fromPosition < 0 || limit < 0) {
+            throw new IllegalArgumentException("fromPosition and limit cannot be negative");
+        }
+        Optional<Course> found = findById(courseId);
+        if (found.isEmpty()) {
+            return new ArrayList<>();
+        }
+        Course course = found.get();
+        if (hasUnreadCurriculum(course)) {
+            return curriculumStore.loadLessons(courseId, sectionId, fromPosition, limit);
+        }
+        List<Lesson> lessons = lessonsOf(course, sectionId);
+        int from = Math.min(fromPosition, lessons.size());
+        int to = (int) Math.min((long) from + limit, lessons.size());
+        return new ArrayList<>(lessons.subList(from, to));
+    }
+
+    /**
+     * A Query on the LessonIndex when the curriculum is in the CourseCurriculum table and not
+     * loaded yet; otherwise a search of the course's lessons.
+     */
+    @Override
+    public Optional<Lesson> findLesson(UUID courseId, UUID lessonId) {
+        Optional<Course> found = findById(courseId);
+        if (found.isEmpty()) {
+            return Optional.empty();
+        }
+        Course course = found.get();
+        if (hasUnreadCurriculum(course)) {
+            return curriculumStore.loadLesson(courseId, lessonId);
+        }
+        if (course.getSections() == null) {
+            return Optional.empty();
+        }
+        return course.getSections().stream()
+                .map(Section::getLessons)
+                .filter(Objects::nonNull)
+                .flatMap(List::stream)
+                .filter(lesson -> lessonId.equals(lesson.getLessonId()))
+                .findFirst();
+    }
+
+    private static List<Lesson> lessonsOf(Course course, UUID sectionId) {
+        List<Section> sections = course.getSections() != null ? course.getSections() : List.of();
+        return sections.stream()
+                .filter(section -> sectionId.equals(section.getSectionId()))
+                .findFirst()
+                .map(Section::getLessons)
+                .filter(Objects::nonNull)
+                .orElseGet(List::of);
+    }
+
+    private Optional<Course> fetchById(UUID courseId) {
+        GetItemResponse response = metrics.time(Stage.DYNAMODB_READ, () -> dynamoDbClient.getItem(courseRequest(courseId)));
+        return response.hasItem() ? Optional.of(toCourse(response.item())) : Optional.empty();
+    }
+
+    private static GetItemRequest courseRequest(UUID courseId) {
         Map<String, AttributeValue> key = new HashMap<>();
         key.put("courseId", AttributeValue.builder().s(courseId.toString()).build());
 
-        GetItemRequest request = GetItemRequest.builder()
+        return GetItemRequest.builder()
                 .tableName(TABLE_NAME)
                 .key(key)
                 .build();
+    }
 
-        GetItemResponse response = dynamoDbClient.getItem(request);
-        return response.hasItem() ? Optional.of(DynamoDBModelConverter.toCourse(response.item())) : Optional.empty();
+    private Course toCourse(Map<String, AttributeValue> item) {
+        return withCurriculum(DynamoDBModelConverter.toCourse(item));
+    }
+
+    private Course withCurriculum(Course course) {
+        CurriculumSections.attach(course, curriculumStore);
+        return course;
+    }
+
+    /**
+     * Serves what it can from the cache and fetches the rest with BatchGetItem. Courses come back
+     * in the order of the (de-duplicated) input IDs; IDs that do not exist are skipped, and
+     * remembered as missing so the next call does not ask for them again.
+     */
+    @Override
+    public List<Course> findAllByIds(Collection<UUID> courseIds) {
+        Set<UUID> orderedIds = new LinkedHashSet<>(courseIds);
+        Map<UUID, Course> found = new HashMap<>();
+        List<UUID> missing = new ArrayList<>();
+        for (UUID courseId : orderedIds) {
+            Optional<Course> cached = courseCache.get(courseId);
+            if (cached.isPresent()) {
+                found.put(courseId, cached.get());
+            } else if (!courseCache.isKnownMissing(courseId)) {
+                missing.add(courseId);
+            }
+        }
+
+        Map<UUID, Course> loaded = missing.isEmpty()
+                ? Collections.emptyMap()
+                : metrics.time(Stage.DYNAMODB_READ, () -> batchReader.read(missing));
+        loaded.values().forEach(course -> courseCache.put(withCurriculum(course)));
+        found.putAll(loaded);
+        missing.stream()
+                .filter(courseId -> !loaded.containsKey(courseId))
+                .forEach(courseCache::markMissing);
+
+        return orderedIds.stream()
+                .map(found::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
     }
 
     @Override
@@ -51,21 +563,32 @@ public class DynamoDBCourseRepository implements CourseRepository {
         DeleteItemRequest request = DeleteItemRequest.builder()
                 .tableName(TABLE_NAME)
                 .key(key)
+                .returnValues(ReturnValue.ALL_OLD)
                 .build();
 
-        dynamoDbClient.deleteItem(request);
+        DeleteItemResponse response;
+        try {
+            response = metrics.time(Stage.DYNAMODB_WRITE, () -> dynamoDbClient.deleteItem(request));
+        } finally {
+            courseCache.invalidate(courseId);
+        }
+        if (DynamoDBModelConverter.hasCurriculumItems(response.attributes())) {
+            curriculumStore.delete(courseId);
+        }
+        try {
+            tagIndex.remove(courseId, DynamoDBModelConverter.toTenantId(response.attributes()),
+                    DynamoDBModelConverter.toTags(response.attributes()));
+        } catch (RuntimeException e) {
+            // Lookups drop entries whose course no longer exists
+            log.error("Could not remove tag index entries for course {}", courseId, e);
+        }
     }
 
     @Override
     public List<Course> findAll() {
-        ScanRequest request = ScanRequest.builder()
-                .tableName(TABLE_NAME)
-                .build();
-
-        ScanResponse response = dynamoDbClient.scan(request);
-        return response.items().stream()
-                .map(DynamoDBModelConverter::toCourse)
-                .collect(Collectors.toList());
+        try (Stream<Course> courses = stream(CourseFilter.builder().build())) {
+            return courses.collect(Collectors.toList());
+        }
     }
 
     @Override
@@ -90,29 +613,42 @@ public class DynamoDBCourseRepository implements CourseRepository {
         return findById(courseId).isPresent();
     }
 
+    /**
+     * Marketplace listings come off the sparse MarketplaceIndex already newest first, so they
+     * are windowed while streaming and no further pages are read once the window is filled.
+     * Other filters have no useful index order and are sorted by course ID in memory.
+     */
     @Override
     public List<Course> list(CourseFilter filter) {
-        DynamoDBQueryBuilder queryBuilder = new DynamoDBQueryBuilder().withFilter(filter);
-        List<Map<String, AttributeValue>> items = new ArrayList<>();
-
-        queryBuilder.buildQueryRequest().ifPresentOrElse(
-            queryRequest -> {
-                QueryResponse response = dynamoDbClient.query(queryRequest);
-                items.addAll(response.items());
-            },
-            () -> {
-                ScanResponse response = dynamoDbClient.scan(queryBuilder.buildScanRequest());
-                items.addAll(response.items());
+        Integer offset = filter.getOffset() != null ? filter.getOffset() : 0;
+        // Each caller gets its own list, as callers may sort or trim what they are given
+        return new ArrayList<>(listFlights.execute(flightKey(filter, filter.getLimit(), offset),
+                () -> metrics.time(Stage.DYNAMODB_QUERY, () -> readList(filter))));
+    }
+
+    private List<Course> readList(CourseFilter filter) {
+        int offset = filter.getOffset() != null ? filter.getOffset() : 0;
+        QueryPlan plan = plan(filter);
+        DynamoDBQueryBuilder queryBuilder = new DynamoDBQueryBuilder().withPlan(plan);
+        if (queryBuilder.isOrdered()) {
+            if (filter.getLimit() != null) {
+                queryBuilder.withLimit(Math.min(offset + filter.getLimit(), MAX_PAGE_SIZE));
+            }
+            try (Stream<Course> matching = streamItems(queryBuilder).skip(offset)) {
+                return (filter.getLimit() != null ? matching.limit(filter.getLimit()) : matching)
+                        .collect(Collectors.toList());
             }
-        );
+        }
 
-        List<Course> courses = items.stream()
-                .map(DynamoDBModelConverter::toCourse)
-                .sorted((c1, c2) -> c1.getCourseId().compareTo(c2.getCourseId()))
-                .collect(Collectors.toList());
+        List<Course> courses;
+        try (Stream<Course> matching = plan.usesTagIndex() ? streamTagged(filter, plan) : streamItems(queryBuilder)) {
+            courses = matching
+                    .sorted((c1, c2) -> c1.getCourseId().compareTo(c2.getCourseId()))
+                    .collect(Collectors.toList());
+        }
 
         // Apply pagination
-        int startIndex = filter.getOffset() != null ? filter.getOffset() : 0;
+        int startIndex = offset;
         int endIndex = filter.getLimit() != null ? 
             Math.min(startIndex + filter.getLimit(), courses.size()) : 
             courses.size();
@@ -124,6 +660,342 @@ public class DynamoDBCourseRepository implements CourseRepository {
         return new ArrayList<>(courses.subList(startIndex, endIndex));
     }
 
+    @Override
+    public CoursePage listPage(CourseFilter filter) {
+        return pageFlights.execute(flightKey(filter, resolvePageSize(filter.getLimit()), null),
+                () -> metrics.time(Stage.DYNAMODB_QUERY, () -> readCoursePage(filter)));
+    }
+
+    private CoursePage readCoursePage(CourseFilter filter) {
+        QueryPlan plan = plan(filter);
+        List<Course> courses = new ArrayList<>();
+        Map<String, AttributeValue> lastKey = plan.usesTagIndex()
+                ? readTagPage(filter, plan, courses::add)
+                : readPage(filter, plan, null, item -> courses.add(toCourse(item)));
+        return CoursePage.builder()
+                .items(courses)
+                .nextPageToken(PageToken.encode(lastKey))
+                .build();
+    }
+
+    /**
+     * Same paging as {@link #listPage(CourseFilter)}, but fetches only the summary attributes.
+     * The projection does not lower read capacity, which DynamoDB charges on the full item size,
+     * but it cuts the bytes transferred and the work of converting authors, publisher and sections.
+     */
+    @Override
+    public CourseSummaryPage listSummaryPage(CourseFilter filter) {
+        return summaryPageFlights.execute(flightKey(filter, resolvePageSize(filter.getLimit()), null),
+                () -> metrics.time(Stage.DYNAMODB_QUERY, () -> readSummaryPage(filter)));
+    }
+
+    private CourseSummaryPage readSummaryPage(CourseFilter filter) {
+        QueryPlan plan = plan(filter);
+        List<CourseSummary> summaries = new ArrayList<>();
+        Map<String, AttributeValue> lastKey = plan.usesTagIndex()
+                ? readTagPage(filter, plan, course -> summaries.add(DynamoDBModelConverter.toCourseSummary(course)))
+                : readPage(filter, plan, DynamoDBModelConverter.SUMMARY_ATTRIBUTES,
+                        item -> summaries.add(DynamoDBModelConverter.toCourseSummary(item)));
+        return CourseSummaryPage.builder()
+                .items(summaries)
+                .nextPageToken(PageToken.encode(lastKey))
+                .build();
+    }
+
+    private Map<String, AttributeValue> readPage(CourseFilter filter, QueryPlan plan, List<String> projection,
+                                                 Consumer<Map<String, AttributeValue>> sink) {
+        int pageSize = resolvePageSize(filter.getLimit());
+        Map<String, AttributeValue> startKey = PageToken.decode(filter.getPageToken());
+        int read = 0;
+
+        // Limit bounds the items DynamoDB evaluates, not the ones that survive the filter
+        // expression, so keep reading until the page is full or the index is exhausted.
+        do {
+            DynamoDBQueryBuilder queryBuilder = new DynamoDBQueryBuilder()
+                    .withPlan(plan)
+                    .withLimit(pageSize - read)
+                    .withExclusiveStartKey(startKey);
+            if (projection != null) {
+                queryBuilder.withProjection(projection);
+            }
+
+            Optional<QueryRequest> queryRequest = queryBuilder.buildQueryRequest();
+            List<Map<String, AttributeValue>> items;
+            if (queryRequest.isPresent()) {
+                QueryResponse response = dynamoDbClient.query(queryRequest.get());
+                items = response.items();
+                startKey = response.hasLastEvaluatedKey() ? response.lastEvaluatedKey() : null;
+            } else {
+                ScanResponse response = dynamoDbClient.scan(queryBuilder.buildScanRequest());
+                items = response.items();
+                startKey = response.hasLastEvaluatedKey() ? response.lastEvaluatedKey() : null;
+            }
+
+            for (Map<String, AttributeValue> item : items) {
+                sink.accept(item);
+            }
+            read += items.size();
+        } while (read < pageSize && startKey != null && !startKey.isEmpty());
+
+        return startKey;
+    }
+
+    /**
+     * Pages through the tag index: course IDs come back in ascending order, are read with
+     * BatchGetItem and checked against the rest of the filter. The token is the last course ID
+     * looked up, so the next page resumes right after it.
+     */
+    private Map<String, AttributeValue> readTagPage(CourseFilter filter, QueryPlan plan, Consumer<Course> sink) {
+        int pageSize = resolvePageSize(filter.getLimit());
+        Map<String, AttributeValue> startKey = PageToken.decode(filter.getPageToken());
+        String after = startKey != null && startKey.containsKey(CourseTagIndex.COURSE_ID)
+                ? startKey.get(CourseTagIndex.COURSE_ID).s()
+                : null;
+        int read = 0;
+        while (read < pageSize) {
+            int requested = pageSize - read;
+            List<UUID> courseIds = lookupTagged(filter, plan, after, requested);
+            if (courseIds.isEmpty()) {
+                return null;
+            }
+            for (Course course : readTagged(filter, plan, courseIds)) {
+                sink.accept(course);
+                read++;
+            }
+            after = courseIds.get(courseIds.size() - 1).toString();
+            if (courseIds.size() < requested) {
+                return null;
+            }
+        }
+        return Collections.singletonMap(CourseTagIndex.COURSE_ID, AttributeValue.builder().s(after).build());
+    }
+
+    private Stream<Course> streamTagged(CourseFilter filter, QueryPlan plan) {
+        Spliterator<Course> courses = new Spliterators.AbstractSpliterator<Course>(Long.MAX_VALUE,
+                Spliterator.ORDERED | Spliterator.NONNULL) {
+            private final Deque<Course> buffer = new ArrayDeque<>();
+            private String after;
+            private boolean exhausted;
+
+            @Override
+            public boolean tryAdvance(Consumer<? super Course> action) {
+                while (buffer.isEmpty() && !exhausted) {
+                    List<UUID> courseIds = lookupTagged(filter, plan, after, MAX_PAGE_SIZE);
+                    exhausted = courseIds.size() < MAX_PAGE_SIZE;
+                    if (!courseIds.isEmpty()) {
+                        after = courseIds.get(courseIds.size() - 1).toString();
+                        buffer.addAll(readTagged(filter, plan, courseIds));
+                    }
+                }
+                if (buffer.isEmpty()) {
+                    return false;
+                }
+                action.accept(buffer.poll());
+                return true;
+            }
+        };
+        return StreamSupport.stream(courses, false);
+    }
+
+    private List<UUID> lookupTagged(CourseFilter filter, QueryPlan plan, String after, int limit) {
+        return tagIndex.lookup(plan.getFilterTags(), plan.isMatchAllTags(), filter.getTenantId(), after, limit);
+    }
+
+    /**
+     * Reads the looked-up courses and keeps those matching the whole filter. An entry whose
+     * course is gone or no longer has the tag is stale, left by a save that could not see the
+     * old tags, and is deleted here.
+     */
+    private List<Course> readTagged(CourseFilter filter, QueryPlan plan, List<UUID> courseIds) {
+        List<String> tags = plan.getFilterTags();
+        Map<UUID, Course> found = new HashMap<>();
+        for (Course course : findAllByIds(courseIds)) {
+            found.put(course.getCourseId(), course);
+        }
+
+        List<Course> matching = new ArrayList<>(found.size());
+        for (UUID courseId : courseIds) {
+            Course course = found.get(courseId);
+            List<String> courseTags = course != null && course.getTags() != null
+                    ? course.getTags()
+                    : Collections.emptyList();
+            List<String> missing = new ArrayList<>();
+            for (String tag : tags) {
+                if (!courseTags.contains(tag)) {
+                    missing.add(tag);
+                }
+            }
+            // A union result only proves one of its tags; every tag missing means all its entries are stale
+            boolean stale = plan.isMatchAllTags() ? !missing.isEmpty() : missing.size() == tags.size();
+            if (stale) {
+                repairTagIndex(courseId, filter.getTenantId(), missing);
+            } else if (matchesFilter(course, filter)) {
+                matching.add(course);
+            }
+        }
+        return matching;
+    }
+
+    private void repairTagIndex(UUID courseId, String tenantId, List<String> staleTags) {
+        try {
+            tagIndex.remove(courseId, tenantId, staleTags);
+            log.debug("Removed stale tag entries {} of course {}", staleTags, courseId);
+        } catch (RuntimeException e) {
+            log.warn("Could not remove stale tag entries of course {}", courseId, e);
+        }
+    }
+
+    /**
+     * Writes the tag entries of every course, for a tag index that is new or out of step.
+     * Returns the number of courses indexed.
+     */
+    public long rebuildTagIndex() {
+        long indexed = 0;
+        try (Stream<Course> courses = parallelScan(CourseFilter.builder().build())) {
+            Iterator<Course> iterator = courses.iterator();
+            while (iterator.hasNext()) {
+                Course course = iterator.next();
+                tagIndex.update(course.getCourseId(), course.getTenantId(), null, course.getTags());
+                indexed++;
+            }
+        }
+        return indexed;
+    }
+
+    /**
+     * Adds the MarketplaceIndex key to published marketplace courses stored before the index
+     * existed; without it they are missing from marketplace listings until they are saved again.
+     * A parallel Scan finds the candidates, and each gets a conditional UpdateItem that leaves
+     * courses alone that have the key already or were unpublished meanwhile. The version is not
+     * changed, since the course is not. Returns the number of courses updated.
+     */
+    public long backfillMarketplaceIndex() {
+        CourseFilter listed = CourseFilter.builder()
+                .status(Status.PUBLISHED)
+                .inMarketplace(true)
+                .build();
+        long updated = 0;
+        try (Stream<Course> courses = parallelScanner.scan(listed)) {
+            Iterator<Course> iterator = courses.iterator();
+            while (iterator.hasNext()) {
+                Course course = iterator.next();
+                if (course.getPublishedOn() != null && course.getTenantId() != null && addMarketplaceKey(course)) {
+                    updated++;
+                }
+            }
+        }
+        log.info("Added the MarketplaceIndex key to {} courses", updated);
+        return updated;
+    }
+
+    private boolean addMarketplaceKey(Course course) {
+        UpdateItemRequest request = UpdateItemRequest.builder()
+                .tableName(TABLE_NAME)
+                .key(CourseKey.of(course.getCourseId()).toPrimaryKey())
+                .updateExpression("SET #marketplaceTenantId = :tenantId")
+                .conditionExpression("attribute_exists(#courseId) AND attribute_not_exists(#marketplaceTenantId)"
+                        + " AND attribute_exists(#publishedOn) AND #status = :published AND #inMarketplace = :listed")
+                .expressionAttributeNames(Map.of(
+                        "#courseId", COURSE_ID,
+                        "#marketplaceTenantId", MARKETPLACE_TENANT_ID,
+                        "#publishedOn", "publishedOn",
+                        "#status", "status",
+                        "#inMarketplace", "inMarketplace"))
+                .expressionAttributeValues(Map.of(
+                        ":tenantId", AttributeValue.builder().s(course.getTenantId()).build(),
+                        ":published", AttributeValue.builder().s(Status.PUBLISHED.name()).build(),
+                        ":listed", AttributeValue.builder().bool(true).build()))
+                .build();
+        try {
+            metrics.time(Stage.DYNAMODB_WRITE, () -> dynamoDbClient.updateItem(request));
+            return true;
+        } catch (ConditionalCheckFailedException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Lazily walks every Query/Scan page through the SDK paginators, converting items as each
+     * page arrives. A limit on the filter stops the stream, and further page fetches, early.
+     */
+    @Override
+    public Stream<Course> stream(CourseFilter filter) {
+        Stream<Course> courses = streamItems(filter);
+        return filter.getLimit() != null ? courses.limit(filter.getLimit()) : courses;
+    }
+
+    /**
+     * Full-table variant of {@link #stream(CourseFilter)} that fans the Scan out over segments.
+     * Filters that resolve to an index Query cannot be segmented and stream sequentially instead.
+     */
+    @Override
+    public Stream<Course> parallelScan(CourseFilter filter) {
+        if (!plan(filter).isScan()) {
+            return stream(filter);
+        }
+        Stream<Course> courses = parallelScanner.scan(filter).map(this::withCurriculum);
+        return filter.getLimit() != null ? courses.limit(filter.getLimit()) : courses;
+    }
+
+    private Stream<Course> streamItems(CourseFilter filter) {
+        QueryPlan plan = plan(filter);
+        return plan.usesTagIndex()
+                ? streamTagged(filter, plan)
+                : streamItems(new DynamoDBQueryBuilder().withPlan(plan));
+    }
+
+    /**
+     * Describes how list calls with this filter are read, which index and which predicates are
+     * left to the FilterExpression, for debugging slow listings.
+     */
+    public String explain(CourseFilter filter) {
+        return queryPlanner.plan(filter).explain();
+    }
+
+    private QueryPlan plan(CourseFilter filter) {
+        QueryPlan plan = queryPlanner.plan(filter);
+        if (log.isDebugEnabled()) {
+            log.debug("Course query plan: {}", plan.explain());
+        }
+        return plan;
+    }
+
+    private Stream<Course> streamItems(DynamoDBQueryBuilder queryBuilder) {
+        SdkIterable<Map<String, AttributeValue>> items = queryBuilder.buildQueryRequest()
+                .<SdkIterable<Map<String, AttributeValue>>>map(request -> dynamoDbClient.queryPaginator(request).items())
+                .orElseGet(() -> dynamoDbClient.scanPaginator(queryBuilder.buildScanRequest()).items());
+        return items.stream().map(this::toCourse);
+    }
+
+    /**
+     * The filter with equivalent spellings made equal, so they share a flight: duplicate tags
+     * dropped (keeping the order the planner picks an index by), no tags as null, the default tag
+     * match made explicit, and the limit and offset as they will actually be applied.
+     */
+    private static CourseFilter flightKey(CourseFilter filter, Integer limit, Integer offset) {
+        List<String> tags = filter.getTags() != null && !filter.getTags().isEmpty()
+                ? new ArrayList<>(new LinkedHashSet<>(filter.getTags()))
+                : null;
+        return CourseFilter.builder()
+                .tenantId(filter.getTenantId())
+                .status(filter.getStatus())
+                .tags(tags)
+                .tagMatch(tags != null && filter.matchesAllTags() ? TagMatch.ALL : TagMatch.ANY)
+                .level(filter.getLevel())
+                .limit(limit)
+                .offset(offset)
+                .inMarketplace(filter.getInMarketplace())
+                .pageToken(filter.getPageToken())
+                .build();
+    }
+
+    private int resolvePageSize(Integer limit) {
+        if (limit == null || limit <= 0) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        return Math.min(limit, MAX_PAGE_SIZE);
+    }
+
     private boolean matchesFilter(Course course, CourseFilter filter) {
         if (filter.getTenantId() != null && !course.getTenantId().equals(filter.getTenantId())) {
             return false;
@@ -134,8 +1006,12 @@ public class DynamoDBCourseRepository implements CourseRepository {
         if (filter.getLevel() != null && course.getLevel() != filter.getLevel()) {
             return false;
         }
+        if (filter.getInMarketplace() != null && course.isInMarketplace() != filter.getInMarketplace()) {
+            return false;
+        }
         if (filter.getTags() != null && !filter.getTags().isEmpty()) {
-            return !Collections.disjoint(course.getTags(), filter.getTags());
+            List<String> tags = course.getTags() != null ? course.getTags() : Collections.emptyList();
+            return filter.matchesAllTags() ? tags.containsAll(filter.getTags()) : !Collections.disjoint(tags, filter.getTags());
         }
         return true;
     }
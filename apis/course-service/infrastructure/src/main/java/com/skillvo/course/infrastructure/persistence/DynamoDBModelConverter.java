@@ -2,16 +2,33 @@ package com.skillvo.course.infrastructure.persistence;
 
 import com.skillvo.course.domain.model.aggregates.Course;
 import com.skillvo.course.domain.model.entities.Author;
+import com.skillvo.course.domain.model.entities.Lesson;
 import com.skillvo.course.domain.model.entities.Publisher;
 import com.skillvo.course.domain.model.entities.Section;
 import com.skillvo.course.domain.model.enums.*;
 import com.skillvo.course.domain.model.valueobjects.Prize;
+import com.skillvo.course.domain.repository.CourseSummary;
+import com.skillvo.course.infrastructure.persistence.codec.EncodedSections;
+import com.skillvo.course.infrastructure.persistence.codec.LessonAttributes;
+import com.skillvo.course.infrastructure.persistence.codec.SectionsCodec;
+import com.skillvo.course.infrastructure.persistence.curriculum.CurriculumSections;
+import software.amazon.awssdk.core.SdkBytes;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
 
 import java.time.LocalDateTime;
-import java.util.*;
-import java.util.stream.Collectors;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
 
+/**
+ * Maps courses to and from DynamoDB items. Maps are presized to their attribute count, enum
+ * and boolean attributes are built once and shared, and lists are converted with plain loops.
+ * Null fields are not written and absent attributes are not read. Sections are read in
+ * whichever {@link SectionsFormat} the item has, so items of every format can coexist.
+ */
 public class DynamoDBModelConverter {
     private static final String COURSE_ID = "courseId";
     private static final String TENANT_ID = "tenantId";
@@ -26,7 +43,6 @@ public class DynamoDBModelConverter {
     private static final String LEARNING_MODE = "learningMode";
     private static final String POINTS = "points";
     private static final String TAGS = "tags";
-    private static final String TAG = "tag";
     private static final String AUTHORS = "authors";
     private static final String PUBLISHER = "publisher";
     private static final String PUBLISHED_ON = "publishedOn";
@@ -35,159 +51,431 @@ public class DynamoDBModelConverter {
     private static final String STATUS = "status";
     private static final String DURATION = "duration";
     private static final String SECTIONS = "sections";
+    private static final String SECTIONS_DATA = "sectionsData";
+    private static final String SECTION_COUNT = "sectionCount";
     private static final String LESSON_NAVIGATION_MODE = "lessonNavigationMode";
     private static final String VERSION = "version";
+    private static final String MARKETPLACE_TENANT_ID = "marketplaceTenantId";
+
+    private static final int COURSE_ATTRIBUTES = 24;
+
+    /**
+     * The attributes {@link #toCourseSummary(Map)} reads, to be fetched with a projection.
+     */
+    public static final List<String> SUMMARY_ATTRIBUTES =
+            List.of(COURSE_ID, TITLE, IMAGE_URL, LEVEL, DURATION, STATUS, PRICING_MODEL, PRIZE);
+    private static final AttributeValue TRUE = AttributeValue.builder().bool(true).build();
+    private static final AttributeValue FALSE = AttributeValue.builder().bool(false).build();
+
+    private static final EnumAttributes<Language> LANGUAGES = new EnumAttributes<>(Language.class);
+    private static final EnumAttributes<Level> LEVELS = new EnumAttributes<>(Level.class);
+    private static final EnumAttributes<PricingModel> PRICING_MODELS = new EnumAttributes<>(PricingModel.class);
+    private static final EnumAttributes<LearningMode> LEARNING_MODES = new EnumAttributes<>(LearningMode.class);
+    private static final EnumAttributes<Status> STATUSES = new EnumAttributes<>(Status.class);
+    private static final EnumAttributes<LessonNavigationMode> NAVIGATION_MODES =
+            new EnumAttributes<>(LessonNavigationMode.class);
+    private static final EnumAttributes<Currency> CURRENCIES = new EnumAttributes<>(Currency.class);
+    private static final EnumAttributes<PublisherType> PUBLISHER_TYPES = new EnumAttributes<>(PublisherType.class);
 
     public static Map<String, AttributeValue> toItem(Course course) {
-        Map<String, AttributeValue> item = new HashMap<>();
-        item.put(COURSE_ID, AttributeValue.builder().s(course.getCourseId().toString()).build());
-        item.put(TENANT_ID, AttributeValue.builder().s(course.getTenantId()).build());
-        item.put(TITLE, AttributeValue.builder().s(course.getTitle()).build());
-        item.put(DESCRIPTION, AttributeValue.builder().s(course.getDescription()).build());
-        item.put(TOPIC_CODE, AttributeValue.builder().s(course.getTopicCode()).build());
-        item.put(CATEGORY_CODE, AttributeValue.builder().s(course.getCategoryCode()).build());
-        item.put(LANGUAGE, AttributeValue.builder().l(course.getLanguage().stream()
-                .map(lang -> AttributeValue.builder().s(lang.name()).build())
-                .collect(Collectors.toList())).build());
-        item.put(LEVEL, AttributeValue.builder().s(course.getLevel().name()).build());
-        item.put(PRICING_MODEL, AttributeValue.builder().s(course.getPricingModel().name()).build());
-        item.put(PRIZE, AttributeValue.builder().m(toPrizeMap(course.getPrize())).build());
-        item.put(LEARNING_MODE, AttributeValue.builder().s(course.getLearningMode().name()).build());
-        item.put(POINTS, AttributeValue.builder().n(String.valueOf(course.getPoints())).build());
-        item.put(TAGS, AttributeValue.builder().l(course.getTags().stream()
-                .map(tag -> AttributeValue.builder().s(tag).build())
-                .collect(Collectors.toList())).build());
-        item.put(TAG, AttributeValue.builder().s(course.getTags().isEmpty() ? "" : course.getTags().get(0)).build());
-        item.put(AUTHORS, AttributeValue.builder().l(course.getAuthors().stream()
-                .map(DynamoDBModelConverter::toAuthorAttributeValue)
-                .collect(Collectors.toList())).build());
-        item.put(PUBLISHER, AttributeValue.builder().m(toPublisherMap(course.getPublisher())).build());
-        item.put(PUBLISHED_ON, AttributeValue.builder().s(course.getPublishedOn().toString()).build());
-        item.put(IMAGE_URL, AttributeValue.builder().s(course.getImageUrl()).build());
-        item.put(IN_MARKETPLACE, AttributeValue.builder().bool(course.isInMarketplace()).build());
-        item.put(STATUS, AttributeValue.builder().s(course.getStatus().name()).build());
-        item.put(DURATION, AttributeValue.builder().n(String.valueOf(course.getDuration())).build());
-        item.put(SECTIONS, AttributeValue.builder().l(course.getSections().stream()
-                .map(DynamoDBModelConverter::toSectionAttributeValue)
-                .collect(Collectors.toList())).build());
-        item.put(LESSON_NAVIGATION_MODE, AttributeValue.builder().s(course.getLessonNavigationMode().name()).build());
-        item.put(VERSION, AttributeValue.builder().n(String.valueOf(course.getVersion())).build());
+        return toItem(course, SectionsFormat.ATTRIBUTES);
+    }
+
+    public static Map<String, AttributeValue> toItem(Course course, SectionsFormat sectionsFormat) {
+        Map<String, AttributeValue> item = new HashMap<>(capacityFor(COURSE_ATTRIBUTES));
+        putUuid(item, COURSE_ID, course.getCourseId());
+        putString(item, TENANT_ID, course.getTenantId());
+        putString(item, TITLE, course.getTitle());
+        putString(item, DESCRIPTION, course.getDescription());
+        putString(item, TOPIC_CODE, course.getTopicCode());
+        putString(item, CATEGORY_CODE, course.getCategoryCode());
+        if (course.getLanguage() != null) {
+            List<AttributeValue> languages = new ArrayList<>(course.getLanguage().size());
+            for (Language language : course.getLanguage()) {
+                languages.add(LANGUAGES.toAttribute(language));
+            }
+            item.put(LANGUAGE, AttributeValue.builder().l(languages).build());
+        }
+        putEnum(item, LEVEL, LEVELS, course.getLevel());
+        putEnum(item, PRICING_MODEL, PRICING_MODELS, course.getPricingModel());
+        if (course.getPrize() != null) {
+            item.put(PRIZE, AttributeValue.builder().m(toPrizeMap(course.getPrize())).build());
+        }
+        putEnum(item, LEARNING_MODE, LEARNING_MODES, course.getLearningMode());
+        putNumber(item, POINTS, course.getPoints());
+        List<String> tags = course.getTags();
+        if (tags != null) {
+            List<AttributeValue> tagValues = new ArrayList<>(tags.size());
+            for (String tag : tags) {
+                tagValues.add(AttributeValue.builder().s(tag).build());
+            }
+            item.put(TAGS, AttributeValue.builder().l(tagValues).build());
+        }
+        if (course.getAuthors() != null) {
+            List<AttributeValue> authors = new ArrayList<>(course.getAuthors().size());
+            for (Author author : course.getAuthors()) {
+                authors.add(toAuthorAttributeValue(author));
+            }
+            item.put(AUTHORS, AttributeValue.builder().l(authors).build());
+        }
+        if (course.getPublisher() != null) {
+            item.put(PUBLISHER, AttributeValue.builder().m(toPublisherMap(course.getPublisher())).build());
+        }
+        if (course.getPublishedOn() != null) {
+            putString(item, PUBLISHED_ON, course.getPublishedOn().toString());
+        }
+        putString(item, IMAGE_URL, course.getImageUrl());
+        item.put(IN_MARKETPLACE, course.isInMarketplace() ? TRUE : FALSE);
+        putEnum(item, STATUS, STATUSES, course.getStatus());
+        if (isListedInMarketplace(course)) {
+            // Partition key of the sparse MarketplaceIndex; publishedOn is its sort key
+            putString(item, MARKETPLACE_TENANT_ID, course.getTenantId());
+        }
+        putNumber(item, DURATION, course.getDuration());
+        if (sectionsFormat == SectionsFormat.BINARY) {
+            byte[] encoded = encodeSections(course);
+            if (encoded != null) {
+                item.put(SECTIONS_DATA, AttributeValue.builder().b(SdkBytes.fromByteArrayUnsafe(encoded)).build());
+            }
+        } else if (sectionsFormat == SectionsFormat.ITEM_COLLECTION) {
+            putNumber(item, SECTION_COUNT, sectionCount(course));
+        } else if (course.getSections() != null) {
+            List<AttributeValue> sections = new ArrayList<>(course.getSections().size());
+            for (Section section : course.getSections()) {
+                sections.add(toSectionAttributeValue(section));
+            }
+            item.put(SECTIONS, AttributeValue.builder().l(sections).build());
+        }
+        putEnum(item, LESSON_NAVIGATION_MODE, NAVIGATION_MODES, course.getLessonNavigationMode());
+        putNumber(item, VERSION, course.getVersion());
         return item;
     }
 
     public static Course toCourse(Map<String, AttributeValue> item) {
         Course course = new Course();
-        course.setCourseId(UUID.fromString(item.get(COURSE_ID).s()));
-        course.setTenantId(item.get(TENANT_ID).s());
-        course.setTitle(item.get(TITLE).s());
-        course.setDescription(item.get(DESCRIPTION).s());
-        course.setTopicCode(item.get(TOPIC_CODE).s());
-        course.setCategoryCode(item.get(CATEGORY_CODE).s());
-        course.setLanguage(item.get(LANGUAGE).l().stream()
-                .map(av -> Language.valueOf(av.s()))
-                .collect(Collectors.toList()));
-        course.setLevel(Level.valueOf(item.get(LEVEL).s()));
-        course.setPricingModel(PricingModel.valueOf(item.get(PRICING_MODEL).s()));
-        course.setPrize(toPrize(item.get(PRIZE).m()));
-        course.setLearningMode(LearningMode.valueOf(item.get(LEARNING_MODE).s()));
-        course.setPoints(Integer.parseInt(item.get(POINTS).n()));
-        course.setTags(item.get(TAGS).l().stream()
-                .map(av -> av.s())
-                .collect(Collectors.toList()));
-        course.setAuthors(item.get(AUTHORS).l().stream()
-                .map(av -> toAuthor(av.m()))
-                .collect(Collectors.toList()));
-        course.setPublisher(toPublisher(item.get(PUBLISHER).m()));
-        course.setPublishedOn(LocalDateTime.parse(item.get(PUBLISHED_ON).s()));
-        course.setImageUrl(item.get(IMAGE_URL).s());
-        course.setInMarketplace(item.get(IN_MARKETPLACE).bool());
-        course.setStatus(Status.valueOf(item.get(STATUS).s()));
-        course.setDuration(Integer.parseInt(item.get(DURATION).n()));
-        course.setSections(item.get(SECTIONS).l().stream()
-                .map(av -> toSection(av.m()))
-                .collect(Collectors.toList()));
-        course.setLessonNavigationMode(LessonNavigationMode.valueOf(item.get(LESSON_NAVIGATION_MODE).s()));
-        course.setVersion(Integer.parseInt(item.get(VERSION).n()));
+        AttributeValue value;
+        if ((value = item.get(COURSE_ID)) != null) {
+            course.setCourseId(UUID.fromString(value.s()));
+        }
+        course.setTenantId(string(item, TENANT_ID));
+        course.setTitle(string(item, TITLE));
+        course.setDescription(string(item, DESCRIPTION));
+        course.setTopicCode(string(item, TOPIC_CODE));
+        course.setCategoryCode(string(item, CATEGORY_CODE));
+        if ((value = item.get(LANGUAGE)) != null) {
+            List<AttributeValue> values = value.l();
+            List<Language> languages = new ArrayList<>(values.size());
+            for (AttributeValue language : values) {
+                languages.add(LANGUAGES.fromAttribute(language));
+            }
+            course.setLanguage(languages);
+        }
+        if ((value = item.get(LEVEL)) != null) {
+            course.setLevel(LEVELS.fromAttribute(value));
+        }
+        if ((value = item.get(PRICING_MODEL)) != null) {
+            course.setPricingModel(PRICING_MODELS.fromAttribute(value));
+        }
+        if ((value = item.get(PRIZE)) != null) {
+            course.setPrize(toPrize(value.m()));
+        }
+        if ((value = item.get(LEARNING_MODE)) != null) {
+            course.setLearningMode(LEARNING_MODES.fromAttribute(value));
+        }
+        course.setPoints(integer(item, POINTS));
+        if (item.containsKey(TAGS)) {
+            course.setTags(toTags(item));
+        }
+        if ((value = item.get(AUTHORS)) != null) {
+            List<AttributeValue> values = value.l();
+            List<Author> authors = new ArrayList<>(values.size());
+            for (AttributeValue author : values) {
+                authors.add(toAuthor(author.m()));
+            }
+            course.setAuthors(authors);
+        }
+        if ((value = item.get(PUBLISHER)) != null) {
+            course.setPublisher(toPublisher(value.m()));
+        }
+        if ((value = item.get(PUBLISHED_ON)) != null) {
+            course.setPublishedOn(LocalDateTime.parse(value.s()));
+        }
+        course.setImageUrl(string(item, IMAGE_URL));
+        if ((value = item.get(IN_MARKETPLACE)) != null) {
+            course.setInMarketplace(value.bool());
+        }
+        if ((value = item.get(STATUS)) != null) {
+            course.setStatus(STATUSES.fromAttribute(value));
+        }
+        course.setDuration(integer(item, DURATION));
+        if ((value = item.get(SECTIONS_DATA)) != null) {
+            course.setSectionsSource(new EncodedSections(value.b().asByteArrayUnsafe()));
+        } else if ((value = item.get(SECTION_COUNT)) != null) {
+            course.setSectionsSource(CurriculumSections.of(course.getCourseId(), Integer.parseInt(value.n())));
+        } else if ((value = item.get(SECTIONS)) != null) {
+            List<AttributeValue> values = value.l();
+            List<Section> sections = new ArrayList<>(values.size());
+            for (AttributeValue section : values) {
+                sections.add(toSection(section.m()));
+            }
+            course.setSections(sections);
+        }
+        if ((value = item.get(LESSON_NAVIGATION_MODE)) != null) {
+            course.setLessonNavigationMode(NAVIGATION_MODES.fromAttribute(value));
+        }
+        course.setVersion(integer(item, VERSION));
         return course;
     }
 
+    public static CourseSummary toCourseSummary(Map<String, AttributeValue> item) {
+        CourseSummary.CourseSummaryBuilder summary = CourseSummary.builder()
+                .courseId(uuid(item, COURSE_ID))
+                .title(string(item, TITLE))
+                .imageUrl(string(item, IMAGE_URL))
+                .duration(integer(item, DURATION));
+        AttributeValue value;
+        if ((value = item.get(LEVEL)) != null) {
+            summary.level(LEVELS.fromAttribute(value));
+        }
+        if ((value = item.get(STATUS)) != null) {
+            summary.status(STATUSES.fromAttribute(value));
+        }
+        if ((value = item.get(PRICING_MODEL)) != null) {
+            summary.pricingModel(PRICING_MODELS.fromAttribute(value));
+        }
+        if ((value = item.get(PRIZE)) != null) {
+            summary.prize(toPrize(value.m()));
+        }
+        return summary.build();
+    }
+
+    /**
+     * The tags of an item, or an empty list if it has none, e.g. to diff them against a new version.
+     */
+    public static List<String> toTags(Map<String, AttributeValue> item) {
+        AttributeValue value = item.get(TAGS);
+        if (value == null) {
+            return new ArrayList<>(0);
+        }
+        List<AttributeValue> values = value.l();
+        List<String> tags = new ArrayList<>(values.size());
+        for (AttributeValue tag : values) {
+            tags.add(tag.s());
+        }
+        return tags;
+    }
+
+    /**
+     * The tenant of an item, or null if it has none, e.g. to find the tag entries of a deleted course.
+     */
+    public static String toTenantId(Map<String, AttributeValue> item) {
+        return string(item, TENANT_ID);
+    }
+
+    /**
+     * The summary of a course already read in full, e.g. through the tag index.
+     */
+    public static CourseSummary toCourseSummary(Course course) {
+        return CourseSummary.builder()
+                .courseId(course.getCourseId())
+                .title(course.getTitle())
+                .imageUrl(course.getImageUrl())
+                .level(course.getLevel())
+                .duration(course.getDuration())
+                .status(course.getStatus())
+                .pricingModel(course.getPricingModel())
+                .prize(course.getPrize())
+                .build();
+    }
+
+    /**
+     * The format the course's sections were read in; courses not read from an item count as
+     * {@link SectionsFormat#ATTRIBUTES}.
+     */
+    public static SectionsFormat sectionsFormatOf(Course course) {
+        if (course.sectionsSource(EncodedSections.class).isPresent()) {
+            return SectionsFormat.BINARY;
+        }
+        return course.sectionsSource(CurriculumSections.class).isPresent()
+                ? SectionsFormat.ITEM_COLLECTION
+                : SectionsFormat.ATTRIBUTES;
+    }
+
+    /**
+     * Whether the item keeps its sections in the CourseCurriculum table.
+     */
+    public static boolean hasCurriculumItems(Map<String, AttributeValue> item) {
+        return item != null && item.containsKey(SECTION_COUNT);
+    }
+
+    private static byte[] encodeSections(Course course) {
+        Optional<EncodedSections> unread = course.unreadSectionsSource(EncodedSections.class);
+        if (unread.isPresent()) {
+            return unread.get().bytes();
+        }
+        return course.getSections() != null ? SectionsCodec.encode(course.getSections()) : null;
+    }
+
+    private static Integer sectionCount(Course course) {
+        Optional<CurriculumSections> unread = course.unreadSectionsSource(CurriculumSections.class);
+        if (unread.isPresent()) {
+            return unread.get().sectionCount();
+        }
+        return course.getSections() != null ? course.getSections().size() : null;
+    }
+
+    /**
+     * Initial HashMap capacity that holds {@code size} entries without rehashing.
+     */
+    static int capacityFor(int size) {
+        return (int) (size / 0.75f) + 1;
+    }
+
     private static Map<String, AttributeValue> toPrizeMap(Prize prize) {
-        Map<String, AttributeValue> map = new HashMap<>();
+        Map<String, AttributeValue> map = new HashMap<>(capacityFor(3));
         map.put("prize", AttributeValue.builder().n(String.valueOf(prize.getPrize())).build());
-        map.put("discount", AttributeValue.builder().n(String.valueOf(prize.getDiscount())).build());
-        map.put("currency", AttributeValue.builder().s(prize.getCurrency().name()).build());
+        map.put("discount", AttributeValue.builder().n(Integer.toString(prize.getDiscount())).build());
+        putEnum(map, "currency", CURRENCIES, prize.getCurrency());
         return map;
     }
 
     private static Prize toPrize(Map<String, AttributeValue> map) {
-        return Prize.builder()
-                .prize(Double.parseDouble(map.get("prize").n()))
-                .discount(Integer.parseInt(map.get("discount").n()))
-                .currency(com.skillvo.course.domain.model.enums.Currency.valueOf(map.get("currency").s()))
-                .build();
+        AttributeValue currency = map.get("currency");
+        return new Prize(
+                Double.parseDouble(map.get("prize").n()),
+                Integer.parseInt(map.get("discount").n()),
+                currency != null ? CURRENCIES.fromAttribute(currency) : null);
     }
 
     private static AttributeValue toAuthorAttributeValue(Author author) {
-        Map<String, AttributeValue> map = new HashMap<>();
-        map.put("authorId", AttributeValue.builder().s(author.getAuthorId().toString()).build());
-        map.put("firstName", AttributeValue.builder().s(author.getFirstName()).build());
-        map.put("lastName", AttributeValue.builder().s(author.getLastName()).build());
-        map.put("emailId", AttributeValue.builder().s(author.getEmailId()).build());
+        Map<String, AttributeValue> map = new HashMap<>(capacityFor(4));
+        putUuid(map, "authorId", author.getAuthorId());
+        putString(map, "firstName", author.getFirstName());
+        putString(map, "lastName", author.getLastName());
+        putString(map, "emailId", author.getEmailId());
         return AttributeValue.builder().m(map).build();
     }
 
     private static Author toAuthor(Map<String, AttributeValue> map) {
         Author author = new Author();
-        author.setAuthorId(UUID.fromString(map.get("authorId").s()));
-        author.setFirstName(map.get("firstName").s());
-        author.setLastName(map.get("lastName").s());
-        author.setEmailId(map.get("emailId").s());
+        author.setAuthorId(uuid(map, "authorId"));
+        author.setFirstName(string(map, "firstName"));
+        author.setLastName(string(map, "lastName"));
+        author.setEmailId(string(map, "emailId"));
         return author;
     }
 
     private static Map<String, AttributeValue> toPublisherMap(Publisher publisher) {
-        Map<String, AttributeValue> map = new HashMap<>();
-        map.put("publisherId", AttributeValue.builder().s(publisher.getPublisherId().toString()).build());
-        map.put("name", AttributeValue.builder().s(publisher.getName()).build());
-        map.put("type", AttributeValue.builder().s(publisher.getType().name()).build());
-        map.put("logoUrl", AttributeValue.builder().s(publisher.getLogoUrl()).build());
-        map.put("website", AttributeValue.builder().s(publisher.getWebsite()).build());
-        map.put("contactEmail", AttributeValue.builder().s(publisher.getContactEmail()).build());
-        map.put("description", AttributeValue.builder().s(publisher.getDescription()).build());
-        map.put("country", AttributeValue.builder().s(publisher.getCountry()).build());
+        Map<String, AttributeValue> map = new HashMap<>(capacityFor(8));
+        putUuid(map, "publisherId", publisher.getPublisherId());
+        putString(map, "name", publisher.getName());
+        putEnum(map, "type", PUBLISHER_TYPES, publisher.getType());
+        putString(map, "logoUrl", publisher.getLogoUrl());
+        putString(map, "website", publisher.getWebsite());
+        putString(map, "contactEmail", publisher.getContactEmail());
+        putString(map, "description", publisher.getDescription());
+        putString(map, "country", publisher.getCountry());
         return map;
     }
 
     private static Publisher toPublisher(Map<String, AttributeValue> map) {
-        return Publisher.builder()
-                .publisherId(UUID.fromString(map.get("publisherId").s()))
-                .name(map.get("name").s())
-                .type(PublisherType.valueOf(map.get("type").s()))
-                .logoUrl(map.get("logoUrl").s())
-                .website(map.get("website").s())
-                .contactEmail(map.get("contactEmail").s())
-                .description(map.get("description").s())
-                .country(map.get("country").s())
-                .build();
+        Publisher publisher = new Publisher();
+        publisher.setPublisherId(uuid(map, "publisherId"));
+        publisher.setName(string(map, "name"));
+        AttributeValue type = map.get("type");
+        if (type != null) {
+            publisher.setType(PUBLISHER_TYPES.fromAttribute(type));
+        }
+        publisher.setLogoUrl(string(map, "logoUrl"));
+        publisher.setWebsite(string(map, "website"));
+        publisher.setContactEmail(string(map, "contactEmail"));
+        publisher.setDescription(string(map, "description"));
+        publisher.setCountry(string(map, "country"));
+        return publisher;
     }
 
     private static AttributeValue toSectionAttributeValue(Section section) {
-        Map<String, AttributeValue> map = new HashMap<>();
-        map.put("sectionId", AttributeValue.builder().s(section.getSectionId().toString()).build());
-        map.put("title", AttributeValue.builder().s(section.getTitle()).build());
-        map.put("description", AttributeValue.builder().s(section.getDescription()).build());
-        map.put("order", AttributeValue.builder().n(String.valueOf(section.getOrder())).build());
-        map.put("duration", AttributeValue.builder().n(String.valueOf(section.getDuration())).build());
+        Map<String, AttributeValue> map = new HashMap<>(capacityFor(6));
+        putUuid(map, "sectionId", section.getSectionId());
+        putString(map, "title", section.getTitle());
+        putString(map, "description", section.getDescription());
+        putNumber(map, "order", section.getOrder());
+        putNumber(map, "duration", section.getDuration());
+        if (section.getLessons() != null) {
+            List<AttributeValue> lessons = new ArrayList<>(section.getLessons().size());
+            for (Lesson lesson : section.getLessons()) {
+                lessons.add(AttributeValue.builder().m(LessonAttributes.toMap(lesson)).build());
+            }
+            map.put("lessons", AttributeValue.builder().l(lessons).build());
+        }
         return AttributeValue.builder().m(map).build();
     }
 
     private static Section toSection(Map<String, AttributeValue> map) {
         Section section = new Section();
-        section.setSectionId(UUID.fromString(map.get("sectionId").s()));
-        section.setTitle(map.get("title").s());
-        section.setDescription(map.get("description").s());
-        section.setOrder(Integer.parseInt(map.get("order").n()));
-        section.setDuration(Integer.parseInt(map.get("duration").n()));
+        section.setSectionId(uuid(map, "sectionId"));
+        section.setTitle(string(map, "title"));
+        section.setDescription(string(map, "description"));
+        section.setOrder(integer(map, "order"));
+        section.setDuration(integer(map, "duration"));
+        AttributeValue value = map.get("lessons");
+        if (value != null) {
+            List<Lesson> lessons = new ArrayList<>(value.l().size());
+            for (AttributeValue lesson : value.l()) {
+                lessons.add(LessonAttributes.toLesson(lesson.m()));
+            }
+            section.setLessons(lessons);
+        }
         return section;
     }
-} 
\ No newline at end of file
+
+    /**
+     * Only these items carry the MarketplaceIndex key, which keeps drafts, archived and
+     * tenant-private courses out of the index. LocalDateTime.toString() sorts chronologically
+     * as a string, since it drops trailing zero fields only.
+     */
+    private static boolean isListedInMarketplace(Course course) {
+        return course.isInMarketplace() && course.getStatus() == Status.PUBLISHED
+                && course.getPublishedOn() != null && course.getTenantId() != null;
+    }
+
+    private static void putString(Map<String, AttributeValue> map, String name, String value) {
+        if (value != null) {
+            map.put(name, AttributeValue.builder().s(value).build());
+        }
+    }
+
+    private static void putUuid(Map<String, AttributeValue> map, String name, UUID value) {
+        if (value != null) {
+            map.put(name, AttributeValue.builder().s(value.toString()).build());
+        }
+    }
+
+    private static void putNumber(Map<String, AttributeValue> map, String name, Integer value) {
+        if (value != null) {
+            map.put(name, AttributeValue.builder().n(Integer.toString(value)).build());
+        }
+    }
+
+    private static <E extends Enum<E>> void putEnum(Map<String, AttributeValue> map, String name,
+                                                    EnumAttributes<E> attributes, E value) {
+        if (value != null) {
+            map.put(name, attributes.toAttribute(value));
+        }
+    }
+
+    private static String string(Map<String, AttributeValue> map, String name) {
+        AttributeValue value = map.get(name);
+        return value != null ? value.s() : null;
+    }
+
+    private static UUID uuid(Map<String, AttributeValue> map, String name) {
+        AttributeValue value = map.get(name);
+        return value != null ? UUID.fromString(value.s()) : null;
+    }
+
+    private static Integer integer(Map<String, AttributeValue> map, String name) {
+        AttributeValue value = map.get(name);
+        return value != null ? Integer.valueOf(value.n()) : null;
+    }
+}
@@ -0,0 +1,39 @@
+package com.skillvo.course.infrastructure.persistence;
+
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Enum constants stored by name. The attribute of every constant is built once and shared,
+ * and reading is a single map lookup.
+ */
+final class EnumAttributes<E extends Enum<E>> {
+    private final Class<E> type;
+    private final AttributeValue[] byOrdinal;
+    private final Map<String, E> byName;
+
+    EnumAttributes(Class<E> type) {
+        E[] constants = type.getEnumConstants();
+        this.type = type;
+        this.byOrdinal = new AttributeValue[constants.length];
+        this.byName = new HashMap<>(DynamoDBModelConverter.capacityFor(constants.length));
+        for (E constant : constants) {
+            byOrdinal[constant.ordinal()] = AttributeValue.builder().s(constant.name()).build();
+            byName.put(constant.name(), constant);
+        }
+    }
+
+    AttributeValue toAttribute(E value) {
+        return byOrdinal[value.ordinal()];
+    }
+
+    E fromAttribute(AttributeValue attribute) {
+        E value = byName.get(attribute.s());
+        if (value == null) {
+            throw new IllegalArgumentException("No " + type.getSimpleName() + " constant named " + attribute.s());
+        }
+        return value;
+    }
+}
@@ -0,0 +1,23 @@
+package com.skillvo.course.infrastructure.persistence;
+
+/**
+ * How a course item stores its sections.
+ */
+public enum SectionsFormat {
+    /**
+     * A list of maps in the {@code sections} attribute, one per section, each with a list of
+     * its lessons.
+     */
+    ATTRIBUTES,
+    /**
+     * Sections, lessons and lesson content encoded by SectionsCodec into the binary
+     * {@code sectionsData} attribute, decoded on first access.
+     */
+    BINARY,
+    /**
+     * Sections and lessons as items of their own in the CourseCurriculum table, under the course
+     * ID; the course item only keeps the {@code sectionCount}. Loaded on first access, or up
+     * front to the depth asked for.
+     */
+    ITEM_COLLECTION
+}
@@ -0,0 +1,138 @@
+package com.skillvo.course.infrastructure.persistence.batch;
+
+import com.skillvo.course.domain.model.aggregates.Course;
+import com.skillvo.course.infrastructure.persistence.DynamoDBModelConverter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.BatchGetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchGetItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.KeysAndAttributes;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * Reads courses by key through BatchGetItem. Keys are split into chunks of
+ * {@value #MAX_KEYS_PER_REQUEST}, chunks run concurrently and UnprocessedKeys are retried with
+ * jittered exponential backoff.
+ */
+@Slf4j
+@Component
+public class BatchCourseReader {
+    static final int MAX_KEYS_PER_REQUEST = 100;
+    private static final String TABLE_NAME = "Courses";
+
+    private final DynamoDbClient dynamoDbClient;
+    private final int maxAttempts;
+    private final long baseBackoffMillis;
+    private final ExecutorService executor;
+
+    public BatchCourseReader(DynamoDbClient dynamoDbClient,
+                             @Value("${course.batch-get.max-concurrency:4}") int maxConcurrency,
+                             @Value("${course.batch-get.max-attempts:8}") int maxAttempts,
+                             @Value("${course.batch-get.base-backoff-millis:25}") long baseBackoffMillis) {
+        this.dynamoDbClient = dynamoDbClient;
+        this.maxAttempts = maxAttempts;
+        this.baseBackoffMillis = baseBackoffMillis;
+        AtomicInteger counter = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(maxConcurrency, runnable -> {
+            Thread thread = new Thread(runnable, "course-batch-get-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Returns the courses found for the given IDs, keyed by courseId. IDs must be distinct.
+     */
+    public Map<UUID, Course> read(List<UUID> courseIds) {
+        if (courseIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        List<List<UUID>> chunks = new ArrayList<>();
+        for (int start = 0; start < courseIds.size(); start += MAX_KEYS_PER_REQUEST) {
+            chunks.add(courseIds.subList(start, Math.min(start + MAX_KEYS_PER_REQUEST, courseIds.size())));
+        }
+        if (chunks.size() == 1) {
+            return readChunk(chunks.get(0));
+        }
+
+        List<CompletableFuture<Map<UUID, Course>>> futures = chunks.stream()
+                .map(chunk -> CompletableFuture.supplyAsync(() -> readChunk(chunk), executor))
+                .collect(Collectors.toList());
+        Map<UUID, Course> courses = new HashMap<>();
+        try {
+            for (CompletableFuture<Map<UUID, Course>> future : futures) {
+                courses.putAll(future.join());
+            }
+        } catch (CompletionException e) {
+            futures.forEach(future -> future.cancel(true));
+            throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+        }
+        return courses;
+    }
+
+    private Map<UUID, Course> readChunk(List<UUID> courseIds) {
+        Map<String, KeysAndAttributes> pending = Collections.singletonMap(TABLE_NAME, KeysAndAttributes.builder()
+                .keys(courseIds.stream().map(this::key).collect(Collectors.toList()))
+                .build());
+        Map<UUID, Course> courses = new HashMap<>();
+
+        for (int attempt = 1; ; attempt++) {
+            BatchGetItemResponse response = dynamoDbClient.batchGetItem(BatchGetItemRequest.builder()
+                    .requestItems(pending)
+                    .build());
+            for (Map<String, AttributeValue> item : response.responses().getOrDefault(TABLE_NAME, Collections.emptyList())) {
+                Course course = DynamoDBModelConverter.toCourse(item);
+                courses.put(course.getCourseId(), course);
+            }
+
+            if (!response.hasUnprocessedKeys() || response.unprocessedKeys().isEmpty()) {
+                return courses;
+            }
+            if (attempt >= maxAttempts) {
+                throw new IllegalStateException("BatchGetItem left unprocessed keys after " + attempt + " attempts");
+            }
+            pending = response.unprocessedKeys();
+            log.debug("Retrying {} unprocessed keys (attempt {})",
+                    pending.getOrDefault(TABLE_NAME, KeysAndAttributes.builder().build()).keys().size(), attempt);
+            backoff(attempt);
+        }
+    }
+
+    private void backoff(int attempt) {
+        long ceiling = baseBackoffMillis << Math.min(attempt - 1, 10);
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(ceiling / 2, ceiling + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while retrying unprocessed keys", e);
+        }
+    }
+
+    private Map<String, AttributeValue> key(UUID courseId) {
+        Map<String, AttributeValue> key = new HashMap<>();
+        key.put("courseId", AttributeValue.builder().s(courseId.toString()).build());
+        return key;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,27 @@
+package com.skillvo.course.infrastructure.persistence.codec;
+
+import com.skillvo.course.domain.model.entities.Section;
+import com.skillvo.course.domain.model.entities.SectionsSource;
+
+import java.util.List;
+
+/**
+ * Sections as read from an item, left encoded until the course first asks for them. Writing the
+ * course back unchanged reuses the bytes instead of encoding the sections again.
+ */
+public final class EncodedSections implements SectionsSource {
+    private final byte[] bytes;
+
+    public EncodedSections(byte[] bytes) {
+        this.bytes = bytes;
+    }
+
+    public byte[] bytes() {
+        return bytes;
+    }
+
+    @Override
+    public List<Section> load() {
+        return SectionsCodec.decode(bytes);
+    }
+}
@@ -0,0 +1,130 @@
+package com.skillvo.course.infrastructure.persistence.codec;
+
+import com.skillvo.course.domain.model.entities.Lesson;
+import com.skillvo.course.domain.model.enums.ContentType;
+import com.skillvo.course.domain.model.valueobjects.Content;
+import com.skillvo.course.domain.model.valueobjects.PDFContent;
+import com.skillvo.course.domain.model.valueobjects.QuizContent;
+import com.skillvo.course.domain.model.valueobjects.VideoContent;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * A lesson's attributes, shared by the lessons nested in section maps and the lesson items of
+ * the CourseCurriculum table. The content is two attributes: {@code contentType}, the
+ * {@link ContentType} name, and {@code content}, encoded the way that type registers. URLs are
+ * plain strings; quiz items are one binary value in {@link SectionsCodec}'s encoding, a fraction
+ * of the size of nested maps, which repeat every attribute name for every option.
+ */
+public final class LessonAttributes {
+    public static final String LESSON_ID = "lessonId";
+    static final String TITLE = "title";
+    static final String DURATION = "duration";
+    static final String COVER_IMAGE_URL = "coverImageUrl";
+    static final String MANDATORY = "mandatory";
+    static final String CONTENT_TYPE = "contentType";
+    static final String CONTENT = "content";
+
+    private static final Map<ContentType, ContentEncoding> ENCODINGS = new EnumMap<>(ContentType.class);
+
+    static {
+        register(ContentType.VIDEO,
+                content -> AttributeValue.builder().s(((VideoContent) content).getVideoUrl()).build(),
+                value -> new VideoContent(value.s()));
+        register(ContentType.PDF,
+                content -> AttributeValue.builder().s(((PDFContent) content).getPdfUrl()).build(),
+                value -> new PDFContent(value.s()));
+        register(ContentType.QUIZ,
+                content -> AttributeValue.builder()
+                        .b(SdkBytes.fromByteArrayUnsafe(SectionsCodec.encodeQuizItems(((QuizContent) content).getQuizItems())))
+                        .build(),
+                value -> new QuizContent(SectionsCodec.decodeQuizItems(value.b().asByteArrayUnsafe())));
+    }
+
+    private LessonAttributes() {
+    }
+
+    private static void register(ContentType type, Function<Content, AttributeValue> encoder,
+                                 Function<AttributeValue, Content> decoder) {
+        ENCODINGS.put(type, new ContentEncoding(encoder, decoder));
+    }
+
+    public static Map<String, AttributeValue> toMap(Lesson lesson) {
+        Map<String, AttributeValue> map = new HashMap<>(16);
+        put(map, lesson);
+        return map;
+    }
+
+    /**
+     * Adds the lesson's attributes to an item or map. Null fields are not written.
+     */
+    public static void put(Map<String, AttributeValue> map, Lesson lesson) {
+        if (lesson.getLessonId() != null) {
+            map.put(LESSON_ID, AttributeValue.builder().s(lesson.getLessonId().toString()).build());
+        }
+        if (lesson.getTitle() != null) {
+            map.put(TITLE, AttributeValue.builder().s(lesson.getTitle()).build());
+        }
+        if (lesson.getDuration() != null) {
+            map.put(DURATION, AttributeValue.builder().n(lesson.getDuration().toString()).build());
+        }
+        if (lesson.getCoverImageUrl() != null) {
+            map.put(COVER_IMAGE_URL, AttributeValue.builder().s(lesson.getCoverImageUrl()).build());
+        }
+        map.put(MANDATORY, AttributeValue.builder().bool(lesson.isMandatory()).build());
+        Content content = lesson.getContent();
+        if (content != null) {
+            ContentType type = content.getContentType();
+            ContentEncoding encoding = type != null ? ENCODINGS.get(type) : null;
+            if (encoding == null) {
+                throw new IllegalArgumentException("Unsupported lesson content: " + content.getClass().getName());
+            }
+            map.put(CONTENT_TYPE, AttributeValue.builder().s(type.name()).build());
+            map.put(CONTENT, encoding.encoder.apply(content));
+        }
+    }
+
+    public static Lesson toLesson(Map<String, AttributeValue> map) {
+        Lesson lesson = new Lesson();
+        AttributeValue value = map.get(LESSON_ID);
+        if (value != null) {
+            lesson.setLessonId(UUID.fromString(value.s()));
+        }
+        value = map.get(TITLE);
+        if (value != null) {
+            lesson.setTitle(value.s());
+        }
+        value = map.get(DURATION);
+        if (value != null) {
+            lesson.setDuration(Float.parseFloat(value.n()));
+        }
+        value = map.get(COVER_IMAGE_URL);
+        if (value != null) {
+            lesson.setCoverImageUrl(value.s());
+        }
+        value = map.get(MANDATORY);
+        lesson.setMandatory(value != null && value.bool());
+        value = map.get(CONTENT_TYPE);
+        if (value != null) {
+            ContentEncoding encoding = ENCODINGS.get(ContentType.valueOf(value.s()));
+            lesson.setContent(encoding.decoder.apply(map.get(CONTENT)));
+        }
+        return lesson;
+    }
+
+    private static final class ContentEncoding {
+        private final Function<Content, AttributeValue> encoder;
+        private final Function<AttributeValue, Content> decoder;
+
+        private ContentEncoding(Function<Content, AttributeValue> encoder, Function<AttributeValue, Content> decoder) {
+            this.encoder = encoder;
+            this.decoder = decoder;
+        }
+    }
+}
@@ -0,0 +1,385 @@
+package com.skillvo.course.infrastructure.persistence.codec;
+
+import com.skillvo.course.domain.model.entities.Lesson;
+import com.skillvo.course.domain.model.entities.Section;
+import com.skillvo.course.domain.model.enums.AnswerChoice;
+import com.skillvo.course.domain.model.valueobjects.AnswerOption;
+import com.skillvo.course.domain.model.valueobjects.Content;
+import com.skillvo.course.domain.model.valueobjects.PDFContent;
+import com.skillvo.course.domain.model.valueobjects.QuizContent;
+import com.skillvo.course.domain.model.valueobjects.QuizItem;
+import com.skillvo.course.domain.model.valueobjects.VideoContent;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Binary form of a course's sections with their lessons and lesson content, for storing the
+ * whole subtree in one binary attribute instead of nested lists and maps.
+ *
+ * <p>The first byte is the format version and the second the compression; what follows is the
+ * payload, deflated at the fastest level when that makes it smaller. Counts and lengths are
+ * varints, absent values are flagged, enums are written by name and UUIDs as two longs.
+ * A decoder refuses versions it does not know, so a newer format can only be rolled out
+ * once every reader understands it.
+ */
+public final class SectionsCodec {
+    static final byte FORMAT_VERSION = 1;
+    static final byte UNCOMPRESSED = 0;
+    static final byte DEFLATED = 1;
+    /**
+     * Payloads below this size are left uncompressed; deflate rarely wins on them.
+     */
+    static final int MIN_COMPRESSED_SIZE = 256;
+
+    private static final int NO_CONTENT = 0;
+    private static final int VIDEO = 1;
+    private static final int PDF = 2;
+    private static final int QUIZ = 3;
+
+    private SectionsCodec() {
+    }
+
+    public static byte[] encode(List<Section> sections) {
+        Writer out = new Writer();
+        out.count(sections);
+        for (Section section : sections) {
+            out.uuid(section.getSectionId());
+            out.string(section.getTitle());
+            out.string(section.getDescription());
+            out.integer(section.getOrder());
+            out.integer(section.getDuration());
+            List<Lesson> lessons = section.getLessons();
+            out.count(lessons);
+            if (lessons != null) {
+                for (Lesson lesson : lessons) {
+                    writeLesson(out, lesson);
+                }
+            }
+        }
+        return frame(out.toByteArray());
+    }
+
+    public static List<Section> decode(byte[] bytes) {
+        Reader in = new Reader(unframe(bytes));
+        int sectionCount = in.count();
+        List<Section> sections = new ArrayList<>(sectionCount);
+        for (int i = 0; i < sectionCount; i++) {
+            Section section = new Section();
+            section.setSectionId(in.uuid());
+            section.setTitle(in.string());
+            section.setDescription(in.string());
+            section.setOrder(in.integer());
+            section.setDuration(in.integer());
+            int lessonCount = in.count();
+            if (lessonCount >= 0) {
+                List<Lesson> lessons = new ArrayList<>(lessonCount);
+                for (int j = 0; j < lessonCount; j++) {
+                    lessons.add(readLesson(in));
+                }
+                section.setLessons(lessons);
+            }
+            sections.add(section);
+        }
+        return sections;
+    }
+
+    /**
+     * Quiz items alone, in the same framing and encoding as within sections, for storing one
+     * lesson's quiz in a binary attribute.
+     */
+    public static byte[] encodeQuizItems(List<QuizItem> items) {
+        Writer out = new Writer();
+        writeQuizItems(out, items);
+        return frame(out.toByteArray());
+    }
+
+    public static List<QuizItem> decodeQuizItems(byte[] bytes) {
+        return readQuizItems(new Reader(unframe(bytes)));
+    }
+
+    private static void writeLesson(Writer out, Lesson lesson) {
+        out.uuid(lesson.getLessonId());
+        out.string(lesson.getTitle());
+        Float duration = lesson.getDuration();
+        out.flag(duration != null);
+        if (duration != null) {
+            out.fixedInt(Float.floatToIntBits(duration));
+        }
+        out.string(lesson.getCoverImageUrl());
+        out.flag(lesson.isMandatory());
+        Content content = lesson.getContent();
+        if (content instanceof VideoContent) {
+            out.varint(VIDEO);
+            out.string(((VideoContent) content).getVideoUrl());
+        } else if (content instanceof PDFContent) {
+            out.varint(PDF);
+            out.string(((PDFContent) content).getPdfUrl());
+        } else if (content instanceof QuizContent) {
+            out.varint(QUIZ);
+            writeQuizItems(out, ((QuizContent) content).getQuizItems());
+        } else if (content == null) {
+            out.varint(NO_CONTENT);
+        } else {
+            throw new IllegalArgumentException("Unsupported lesson content: " + content.getClass().getName());
+        }
+    }
+
+    private static Lesson readLesson(Reader in) {
+        Lesson lesson = new Lesson();
+        lesson.setLessonId(in.uuid());
+        lesson.setTitle(in.string());
+        if (in.flag()) {
+            lesson.setDuration(Float.intBitsToFloat(in.fixedInt()));
+        }
+        lesson.setCoverImageUrl(in.string());
+        lesson.setMandatory(in.flag());
+        int contentType = in.varint();
+        switch (contentType) {
+            case NO_CONTENT:
+                break;
+            case VIDEO:
+                lesson.setContent(new VideoContent(in.string()));
+                break;
+            case PDF:
+                lesson.setContent(new PDFContent(in.string()));
+                break;
+            case QUIZ:
+                lesson.setContent(new QuizContent(readQuizItems(in)));
+                break;
+            default:
+                throw new IllegalStateException("Unknown lesson content type " + contentType);
+        }
+        return lesson;
+    }
+
+    private static void writeQuizItems(Writer out, List<QuizItem> items) {
+        out.count(items);
+        for (QuizItem item : items) {
+            out.string(item.getQuestion());
+            out.string(item.getAnswerChoice().name());
+            out.count(item.getOptions());
+            for (AnswerOption option : item.getOptions()) {
+                out.string(option.getAnswer());
+                out.flag(option.isCorrect());
+            }
+        }
+    }
+
+    private static List<QuizItem> readQuizItems(Reader in) {
+        int itemCount = in.count();
+        List<QuizItem> items = new ArrayList<>(itemCount);
+        for (int i = 0; i < itemCount; i++) {
+            String question = in.string();
+            AnswerChoice answerChoice = AnswerChoice.valueOf(in.string());
+            int optionCount = in.count();
+            List<AnswerOption> options = new ArrayList<>(optionCount);
+            for (int j = 0; j < optionCount; j++) {
+                options.add(new AnswerOption(in.string(), in.flag()));
+            }
+            items.add(new QuizItem(question, options, answerChoice));
+        }
+        return items;
+    }
+
+    private static byte[] frame(byte[] payload) {
+        if (payload.length >= MIN_COMPRESSED_SIZE) {
+            Deflater deflater = new Deflater(Deflater.BEST_SPEED, true);
+            try {
+                deflater.setInput(payload);
+                deflater.finish();
+                // Only worth keeping if it is smaller, so it must fit in the payload's size
+                byte[] compressed = new byte[payload.length + 2];
+                compressed[0] = FORMAT_VERSION;
+                compressed[1] = DEFLATED;
+                int length = 2;
+                while (!deflater.finished() && length < compressed.length) {
+                    length += deflater.deflate(compressed, length, compressed.length - length);
+                }
+                if (deflater.finished() && length < compressed.length) {
+                    return Arrays.copyOf(compressed, length);
+                }
+            } finally {
+                deflater.end();
+            }
+        }
+        byte[] framed = new byte[payload.length + 2];
+        framed[0] = FORMAT_VERSION;
+        framed[1] = UNCOMPRESSED;
+        System.arraycopy(payload, 0, framed, 2, payload.length);
+        return framed;
+    }
+
+    private static byte[] unframe(byte[] bytes) {
+        if (bytes.length < 2 || bytes[0] != FORMAT_VERSION) {
+            throw new IllegalStateException("Unsupported sections format version "
+                    + (bytes.length > 0 ? bytes[0] : "(empty)"));
+        }
+        if (bytes[1] == UNCOMPRESSED) {
+            return Arrays.copyOfRange(bytes, 2, bytes.length);
+        }
+        if (bytes[1] != DEFLATED) {
+            throw new IllegalStateException("Unsupported sections compression " + bytes[1]);
+        }
+        Inflater inflater = new Inflater(true);
+        try {
+            inflater.setInput(bytes, 2, bytes.length - 2);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length * 4);
+            byte[] chunk = new byte[Math.max(1024, bytes.length * 2)];
+            while (!inflater.finished()) {
+                int inflated = inflater.inflate(chunk);
+                if (inflated == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new IllegalStateException("Truncated sections data");
+                }
+                out.write(chunk, 0, inflated);
+            }
+            return out.toByteArray();
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("Corrupt sections data", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private static final class Writer extends ByteArrayOutputStream {
+        Writer() {
+            super(512);
+        }
+
+        void varint(int value) {
+            while ((value & ~0x7F) != 0) {
+                write((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            write(value);
+        }
+
+        void fixedInt(int value) {
+            write(value >>> 24);
+            write(value >>> 16);
+            write(value >>> 8);
+            write(value);
+        }
+
+        void fixedLong(long value) {
+            fixedInt((int) (value >>> 32));
+            fixedInt((int) value);
+        }
+
+        void flag(boolean value) {
+            write(value ? 1 : 0);
+        }
+
+        /**
+         * Size plus one, so that zero stands for an absent list.
+         */
+        void count(List<?> values) {
+            varint(values == null ? 0 : values.size() + 1);
+        }
+
+        void string(String value) {
+            if (value == null) {
+                varint(0);
+                return;
+            }
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            varint(bytes.length + 1);
+            write(bytes, 0, bytes.length);
+        }
+
+        void integer(Integer value) {
+            flag(value != null);
+            if (value != null) {
+                // Zigzag, so small negative numbers stay short
+                varint((value << 1) ^ (value >> 31));
+            }
+        }
+
+        void uuid(UUID value) {
+            flag(value != null);
+            if (value != null) {
+                fixedLong(value.getMostSignificantBits());
+                fixedLong(value.getLeastSignificantBits());
+            }
+        }
+    }
+
+    private static final class Reader {
+        private final byte[] bytes;
+        private int position;
+
+        Reader(byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        int varint() {
+            int value = 0;
+            int shift = 0;
+            int next;
+            do {
+                next = next();
+                value |= (next & 0x7F) << shift;
+                shift += 7;
+            } while ((next & 0x80) != 0);
+            return value;
+        }
+
+        int fixedInt() {
+            return next() << 24 | next() << 16 | next() << 8 | next();
+        }
+
+        long fixedLong() {
+            return ((long) fixedInt() << 32) | (fixedInt() & 0xFFFFFFFFL);
+        }
+
+        boolean flag() {
+            return next() != 0;
+        }
+
+        /**
+         * The list size, or -1 for an absent list.
+         */
+        int count() {
+            return varint() - 1;
+        }
+
+        String string() {
+            int length = varint() - 1;
+            if (length < 0) {
+                return null;
+            }
+            if (length > bytes.length - position) {
+                throw new IllegalStateException("Truncated sections data");
+            }
+            String value = new String(bytes, position, length, StandardCharsets.UTF_8);
+            position += length;
+            return value;
+        }
+
+        Integer integer() {
+            if (!flag()) {
+                return null;
+            }
+            int zigzag = varint();
+            return (zigzag >>> 1) ^ -(zigzag & 1);
+        }
+
+        UUID uuid() {
+            return flag() ? new UUID(fixedLong(), fixedLong()) : null;
+        }
+
+        private int next() {
+            if (position >= bytes.length) {
+                throw new IllegalStateException("Truncated sections data");
+            }
+            return bytes[position++] & 0xFF;
+        }
+    }
+}
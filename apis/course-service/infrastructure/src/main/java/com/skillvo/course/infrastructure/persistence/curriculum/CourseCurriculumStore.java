@@ -0,0 +1,299 @@
+package com.skillvo.course.infrastructure.persistence.curriculum;
+
+import com.skillvo.course.domain.model.entities.Lesson;
+import com.skillvo.course.domain.model.entities.Section;
+import com.skillvo.course.infrastructure.persistence.codec.LessonAttributes;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.DeleteRequest;
+import software.amazon.awssdk.services.dynamodb.model.PutRequest;
+import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
+import software.amazon.awssdk.services.dynamodb.model.QueryResponse;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Sections and lessons of courses whose items use {@code SectionsFormat.ITEM_COLLECTION}, one
+ * CourseCurriculum item each under the course ID as partition key. Reading a course's sections
+ * is a Query on the {@code SECTION#} key prefix and reading one section's lessons a Query on
+ * that section's {@code LESSON#} prefix, so neither pulls in the rest of the curriculum; the
+ * full tree is a Query over the whole partition. A single lesson is read through the
+ * LessonIndex, a local secondary index sorted by lesson ID, or as a position range of its
+ * section, so opening one lesson reads that lesson's item alone.
+ */
+@Slf4j
+@Component
+public class CourseCurriculumStore {
+    public static final String DEFAULT_TABLE_NAME = "CourseCurriculum";
+    public static final String COURSE_ID = "courseId";
+    public static final String ITEM_KEY = "itemKey";
+    public static final String LESSON_ID = LessonAttributes.LESSON_ID;
+    public static final String LESSON_INDEX = "LessonIndex";
+    static final int MAX_WRITES_PER_REQUEST = 25;
+
+    private final DynamoDbClient dynamoDbClient;
+    private final String tableName;
+    private final int maxAttempts;
+    private final long baseBackoffMillis;
+
+    public CourseCurriculumStore(DynamoDbClient dynamoDbClient,
+                                 @Value("${course.curriculum.table-name:CourseCurriculum}") String tableName,
+                                 @Value("${course.curriculum.max-attempts:8}") int maxAttempts,
+                                 @Value("${course.curriculum.base-backoff-millis:25}") long baseBackoffMillis) {
+        this.dynamoDbClient = dynamoDbClient;
+        this.tableName = tableName;
+        this.maxAttempts = maxAttempts;
+        this.baseBackoffMillis = baseBackoffMillis;
+    }
+
+    /**
+     * The course's sections in order. With lessons, every section gets a list of its lessons,
+     * empty if it has none; without, their lessons are left null.
+     */
+    public List<Section> loadSections(UUID courseId, boolean withLessons) {
+        List<Section> sections = new ArrayList<>();
+        Map<UUID, List<Lesson>> lessons = new HashMap<>();
+        for (Map<String, AttributeValue> item : query(courseId, withLessons ? null : CurriculumItems.SECTION_PREFIX, false)) {
+            if (CurriculumItems.isSection(item)) {
+                sections.add(CurriculumItems.toSection(item));
+            } else {
+                // Lesson keys sort by section, then position, so each list fills up in order
+                lessons.computeIfAbsent(CurriculumItems.sectionIdOf(item), id -> new ArrayList<>())
+                        .add(CurriculumItems.toLesson(item));
+            }
+        }
+        if (withLessons) {
+            for (Section section : sections) {
+                List<Lesson> sectionLessons = section.getSectionId() != null ? lessons.get(section.getSectionId()) : null;
+                section.setLessons(sectionLessons != null ? sectionLessons : new ArrayList<>());
+            }
+        }
+        return sections;
+    }
+
+    public List<Lesson> loadLessons(UUID courseId, UUID sectionId) {
+        List<Lesson> lessons = new ArrayList<>();
+        for (Map<String, AttributeValue> item : query(courseId, CurriculumItems.lessonPrefix(sectionId), false)) {
+            lessons.add(CurriculumItems.toLesson(item));
+        }
+        return lessons;
+    }
+
+    /**
+     * Up to {@code limit} lessons of the section, starting at position {@code fromPosition}.
+     * The positions are a key range, so lessons before it are not read.
+     */
+    public List<Lesson> loadLessons(UUID courseId, UUID sectionId, int fromPosition, int limit) {
+        if (fromPosition < 0 || limit < 0) {
+            throw new IllegalArgumentException("fromPosition and limit cannot be negative");
+        }
+        List<Lesson> lessons = new ArrayList<>();
+        if (fromPosition >= CurriculumItems.MAX_POSITIONS || limit == 0) {
+            return lessons;
+        }
+        Map<String, AttributeValue> values = new HashMap<>(4);
+        values.put(":course", AttributeValue.builder().s(courseId.toString()).build());
+        values.put(":from", AttributeValue.builder().s(CurriculumItems.lessonKey(sectionId, fromPosition)).build());
+        values.put(":to", AttributeValue.builder()
+                .s(CurriculumItems.lessonKey(sectionId, CurriculumItems.MAX_POSITIONS - 1)).build());
+        Map<String, AttributeValue> startKey = null;
+        do {
+            QueryResponse response = dynamoDbClient.query(QueryRequest.builder()
+                    .tableName(tableName)
+                    .keyConditionExpression("#course = :course AND #key BETWEEN :from AND :to")
+                    .expressionAttributeNames(Map.of("#course", COURSE_ID, "#key", ITEM_KEY))
+                    .expressionAttributeValues(values)
+                    .limit(limit - lessons.size())
+                    .exclusiveStartKey(startKey)
+                    .build());
+            for (Map<String, AttributeValue> item : response.items()) {
+                lessons.add(CurriculumItems.toLesson(item));
+            }
+            startKey = response.hasLastEvaluatedKey() && !response.lastEvaluatedKey().isEmpty()
+                    ? response.lastEvaluatedKey()
+                    : null;
+        } while (startKey != null && lessons.size() < limit);
+        return lessons;
+    }
+
+    /**
+     * The lesson with the ID, wherever it is in the course, read from the LessonIndex. Lessons
+     * without an ID are not in the index.
+     */
+    public Optional<Lesson> loadLesson(UUID courseId, UUID lessonId) {
+        Map<String, AttributeValue> values = new HashMap<>(4);
+        values.put(":course", AttributeValue.builder().s(courseId.toString()).build());
+        values.put(":lesson", AttributeValue.builder().s(lessonId.toString()).build());
+        QueryResponse response = dynamoDbClient.query(QueryRequest.builder()
+                .tableName(tableName)
+                .indexName(LESSON_INDEX)
+                .keyConditionExpression("#course = :course AND #lesson = :lesson")
+                .expressionAttributeNames(Map.of("#course", COURSE_ID, "#lesson", LESSON_ID))
+                .expressionAttributeValues(values)
+                .build());
+        return response.items().stream().findFirst().map(CurriculumItems::toLesson);
+    }
+
+    /**
+     * Brings the stored items in line with the sections; see {@link #changes}.
+     */
+    public void write(UUID courseId, List<Section> previous, List<Section> sections) {
+        apply(courseId, changes(courseId, previous, sections));
+    }
+
+    /**
+     * The writes that bring the stored items in line with the sections: puts for items that are
+     * new or changed, deletes for those no longer there. A section whose lessons are null keeps
+     * the lessons stored for it, so a curriculum loaded without lessons can be written back.
+     * {@code previous} are the sections as stored, or null if unknown, in which case the stored
+     * keys are read and every item is put. Lessons that {@code previous} did not load are only
+     * looked up for sections that drop or replace them.
+     */
+    public List<WriteRequest> changes(UUID courseId, List<Section> previous, List<Section> sections) {
+        Map<String, Map<String, AttributeValue>> items = CurriculumItems.toItems(courseId, sections);
+        Set<UUID> keptLessons = new HashSet<>();
+        if (sections != null) {
+            for (Section section : sections) {
+                if (section.getLessons() == null && section.getSectionId() != null) {
+                    keptLessons.add(section.getSectionId());
+                }
+            }
+        }
+        Map<String, Map<String, AttributeValue>> stored;
+        if (previous == null) {
+            stored = storedKeys(courseId, null);
+        } else {
+            stored = CurriculumItems.toItems(courseId, previous);
+            for (Section section : previous) {
+                if (section.getLessons() == null && section.getSectionId() != null
+                        && !keptLessons.contains(section.getSectionId())) {
+                    storedKeys(courseId, CurriculumItems.lessonPrefix(section.getSectionId())).forEach(stored::putIfAbsent);
+                }
+            }
+        }
+
+        List<WriteRequest> writes = new ArrayList<>();
+        items.forEach((itemKey, item) -> {
+            if (!Objects.equals(stored.get(itemKey), item)) {
+                writes.add(WriteRequest.builder().putRequest(PutRequest.builder().item(item).build()).build());
+            }
+        });
+        for (String itemKey : stored.keySet()) {
+            if (!items.containsKey(itemKey) && !keptLessons.contains(lessonSectionId(itemKey))) {
+                writes.add(deleteRequest(courseId, itemKey));
+            }
+        }
+        return writes;
+    }
+
+    public void apply(UUID courseId, List<WriteRequest> writes) {
+        for (int start = 0; start < writes.size(); start += MAX_WRITES_PER_REQUEST) {
+            writeChunk(writes.subList(start, Math.min(start + MAX_WRITES_PER_REQUEST, writes.size())));
+        }
+        log.debug("Wrote {} curriculum items of course {}", writes.size(), courseId);
+    }
+
+    /**
+     * Deletes every section and lesson item of the course.
+     */
+    public void delete(UUID courseId) {
+        List<WriteRequest> writes = new ArrayList<>();
+        for (String itemKey : storedKeys(courseId, null).keySet()) {
+            writes.add(deleteRequest(courseId, itemKey));
+        }
+        apply(courseId, writes);
+    }
+
+    private static UUID lessonSectionId(String itemKey) {
+        if (!itemKey.startsWith(CurriculumItems.LESSON_PREFIX)) {
+            return null;
+        }
+        int end = itemKey.indexOf('#', CurriculumItems.LESSON_PREFIX.length());
+        return UUID.fromString(itemKey.substring(CurriculumItems.LESSON_PREFIX.length(), end));
+    }
+
+    /**
+     * The stored item keys, mapped to null as their attributes were not read.
+     */
+    private Map<String, Map<String, AttributeValue>> storedKeys(UUID courseId, String keyPrefix) {
+        Map<String, Map<String, AttributeValue>> keys = new LinkedHashMap<>();
+        for (Map<String, AttributeValue> item : query(courseId, keyPrefix, true)) {
+            keys.put(item.get(ITEM_KEY).s(), null);
+        }
+        return keys;
+    }
+
+    private Iterable<Map<String, AttributeValue>> query(UUID courseId, String keyPrefix, boolean keysOnly) {
+        Map<String, String> names = new HashMap<>(4);
+        Map<String, AttributeValue> values = new HashMap<>(4);
+        names.put("#course", COURSE_ID);
+        values.put(":course", AttributeValue.builder().s(courseId.toString()).build());
+        String keyCondition = "#course = :course";
+        if (keyPrefix != null) {
+            names.put("#key", ITEM_KEY);
+            values.put(":prefix", AttributeValue.builder().s(keyPrefix).build());
+            keyCondition += " AND begins_with(#key, :prefix)";
+        }
+        QueryRequest.Builder request = QueryRequest.builder()
+                .tableName(tableName)
+                .keyConditionExpression(keyCondition)
+                .expressionAttributeValues(values);
+        if (keysOnly) {
+            names.put("#key", ITEM_KEY);
+            request.projectionExpression("#key");
+        }
+        return dynamoDbClient.queryPaginator(request.expressionAttributeNames(names).build()).items();
+    }
+
+    private void writeChunk(List<WriteRequest> writes) {
+        Map<String, List<WriteRequest>> pending = Collections.singletonMap(tableName, writes);
+        for (int attempt = 1; ; attempt++) {
+            BatchWriteItemResponse response = dynamoDbClient.batchWriteItem(BatchWriteItemRequest.builder()
+                    .requestItems(pending)
+                    .build());
+            if (!response.hasUnprocessedItems() || response.unprocessedItems().isEmpty()) {
+                return;
+            }
+            if (attempt >= maxAttempts) {
+                throw new IllegalStateException("BatchWriteItem left unprocessed curriculum items after " + attempt + " attempts");
+            }
+            pending = response.unprocessedItems();
+            log.debug("Retrying {} unprocessed curriculum items (attempt {})",
+                    pending.getOrDefault(tableName, Collections.emptyList()).size(), attempt);
+            backoff(attempt);
+        }
+    }
+
+    private void backoff(int attempt) {
+        long ceiling = baseBackoffMillis << Math.min(attempt - 1, 10);
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(ceiling / 2, ceiling + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while retrying unprocessed curriculum items", e);
+        }
+    }
+
+    private static WriteRequest deleteRequest(UUID courseId, String itemKey) {
+        return WriteRequest.builder()
+                .deleteRequest(DeleteRequest.builder().key(CurriculumItems.key(courseId, itemKey)).build())
+                .build();
+    }
+}
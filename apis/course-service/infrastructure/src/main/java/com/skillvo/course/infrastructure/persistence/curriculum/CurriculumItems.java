@@ -0,0 +1,165 @@
+package com.skillvo.course.infrastructure.persistence.curriculum;
+
+import com.skillvo.course.domain.model.entities.Lesson;
+import com.skillvo.course.domain.model.entities.Section;
+import com.skillvo.course.infrastructure.persistence.codec.LessonAttributes;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Maps sections and lessons to and from CourseCurriculum items. A section's item key is its
+ * position, {@code SECTION#0003}; a lesson's is its section ID and position within the section,
+ * {@code LESSON#<sectionId>#0007}. Keying lessons by section ID keeps them in place when sections
+ * are reordered, and lets one section's lessons be read with a key prefix. Lesson items carry
+ * the attributes of {@link LessonAttributes}, and their {@code lessonId} is the sort key of the
+ * LessonIndex, through which a single lesson is read by ID.
+ */
+final class CurriculumItems {
+    static final String COURSE_ID = CourseCurriculumStore.COURSE_ID;
+    static final String ITEM_KEY = CourseCurriculumStore.ITEM_KEY;
+    static final String SECTION_PREFIX = "SECTION#";
+    static final String LESSON_PREFIX = "LESSON#";
+    static final int MAX_POSITIONS = 10_000;
+
+    private static final String SECTION_ID = "sectionId";
+    private static final String TITLE = "title";
+    private static final String DESCRIPTION = "description";
+    private static final String ORDER = "order";
+    private static final String DURATION = "duration";
+
+    private CurriculumItems() {
+    }
+
+    static String sectionKey(int position) {
+        return SECTION_PREFIX + position(position);
+    }
+
+    static String lessonPrefix(UUID sectionId) {
+        return LESSON_PREFIX + sectionId + "#";
+    }
+
+    static String lessonKey(UUID sectionId, int position) {
+        return lessonPrefix(sectionId) + position(position);
+    }
+
+    /**
+     * The items of the sections and of the lessons that are loaded, by item key in key order.
+     * Sections whose lessons are null contribute only their own item.
+     */
+    static Map<String, Map<String, AttributeValue>> toItems(UUID courseId, List<Section> sections) {
+        Map<String, Map<String, AttributeValue>> items = new LinkedHashMap<>();
+        if (sections == null) {
+            return items;
+        }
+        for (int s = 0; s < sections.size(); s++) {
+            Section section = sections.get(s);
+            String sectionKey = sectionKey(s);
+            items.put(sectionKey, toSectionItem(courseId, sectionKey, section));
+            List<Lesson> lessons = section.getLessons();
+            if (lessons == null || lessons.isEmpty()) {
+                continue;
+            }
+            if (section.getSectionId() == null) {
+                throw new IllegalArgumentException("Section " + s + " of course " + courseId
+                        + " has lessons but no sectionId, which lesson items are keyed by");
+            }
+            for (int l = 0; l < lessons.size(); l++) {
+                String lessonKey = lessonKey(section.getSectionId(), l);
+                items.put(lessonKey, toLessonItem(courseId, lessonKey, section.getSectionId(), lessons.get(l)));
+            }
+        }
+        return items;
+    }
+
+    static boolean isSection(Map<String, AttributeValue> item) {
+        return item.get(ITEM_KEY).s().startsWith(SECTION_PREFIX);
+    }
+
+    static UUID sectionIdOf(Map<String, AttributeValue> item) {
+        return uuid(item, SECTION_ID);
+    }
+
+    static Section toSection(Map<String, AttributeValue> item) {
+        Section section = new Section();
+        section.setSectionId(uuid(item, SECTION_ID));
+        section.setTitle(string(item, TITLE));
+        section.setDescription(string(item, DESCRIPTION));
+        section.setOrder(integer(item, ORDER));
+        section.setDuration(integer(item, DURATION));
+        return section;
+    }
+
+    static Lesson toLesson(Map<String, AttributeValue> item) {
+        return LessonAttributes.toLesson(item);
+    }
+
+    static Map<String, AttributeValue> key(UUID courseId, String itemKey) {
+        Map<String, AttributeValue> key = new HashMap<>(4);
+        key.put(COURSE_ID, AttributeValue.builder().s(courseId.toString()).build());
+        key.put(ITEM_KEY, AttributeValue.builder().s(itemKey).build());
+        return key;
+    }
+
+    private static Map<String, AttributeValue> toSectionItem(UUID courseId, String itemKey, Section section) {
+        Map<String, AttributeValue> item = key(courseId, itemKey);
+        putUuid(item, SECTION_ID, section.getSectionId());
+        putString(item, TITLE, section.getTitle());
+        putString(item, DESCRIPTION, section.getDescription());
+        putNumber(item, ORDER, section.getOrder());
+        putNumber(item, DURATION, section.getDuration());
+        return item;
+    }
+
+    private static Map<String, AttributeValue> toLessonItem(UUID courseId, String itemKey, UUID sectionId, Lesson lesson) {
+        Map<String, AttributeValue> item = key(courseId, itemKey);
+        putUuid(item, SECTION_ID, sectionId);
+        LessonAttributes.put(item, lesson);
+        return item;
+    }
+
+    private static String position(int position) {
+        if (position >= MAX_POSITIONS) {
+            throw new IllegalArgumentException("At most " + MAX_POSITIONS + " sections, or lessons per section, are supported");
+        }
+        // Zero-padded so that item keys sort in position order
+        return String.format("%04d", position);
+    }
+
+    private static void putString(Map<String, AttributeValue> map, String name, String value) {
+        if (value != null) {
+            map.put(name, AttributeValue.builder().s(value).build());
+        }
+    }
+
+    private static void putUuid(Map<String, AttributeValue> map, String name, UUID value) {
+        if (value != null) {
+            map.put(name, AttributeValue.builder().s(value.toString()).build());
+        }
+    }
+
+    private static void putNumber(Map<String, AttributeValue> map, String name, Integer value) {
+        if (value != null) {
+            map.put(name, AttributeValue.builder().n(Integer.toString(value)).build());
+        }
+    }
+
+    private static String string(Map<String, AttributeValue> map, String name) {
+        AttributeValue value = map.get(name);
+        return value != null ? value.s() : null;
+    }
+
+    private static UUID uuid(Map<String, AttributeValue> map, String name) {
+        AttributeValue value = map.get(name);
+        return value != null ? UUID.fromString(value.s()) : null;
+    }
+
+    private static Integer integer(Map<String, AttributeValue> map, String name) {
+        AttributeValue value = map.get(name);
+        return value != null ? Integer.valueOf(value.n()) : null;
+    }
+}
@@ -0,0 +1,75 @@
+package com.skillvo.course.infrastructure.persistence.curriculum;
+
+import com.skillvo.course.domain.model.aggregates.Course;
+import com.skillvo.course.domain.model.entities.Section;
+import com.skillvo.course.domain.model.entities.SectionsSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Sections of a course item that keeps them in the CourseCurriculum table, loaded with their
+ * lessons when the course first asks for them. The item converter has no table access, so the
+ * repository attaches the store to each course it reads before handing it out.
+ * <p>
+ * The sections are loaded once: the copies the course cache hands out share this source, so
+ * only the first of them to ask reads the table.
+ */
+public final class CurriculumSections implements SectionsSource {
+    private final UUID courseId;
+    private final int sectionCount;
+    private final CourseCurriculumStore store;
+    private volatile List<Section> loaded;
+
+    private CurriculumSections(UUID courseId, int sectionCount, CourseCurriculumStore store, List<Section> loaded) {
+        this.courseId = courseId;
+        this.sectionCount = sectionCount;
+        this.store = store;
+        this.loaded = loaded;
+    }
+
+    public static CurriculumSections of(UUID courseId, int sectionCount) {
+        return new CurriculumSections(courseId, sectionCount, null, null);
+    }
+
+    /**
+     * Lets the course load its sections from the store, if they are still to be loaded from
+     * the CourseCurriculum table.
+     */
+    public static void attach(Course course, CourseCurriculumStore store) {
+        course.unreadSectionsSource(CurriculumSections.class)
+                .filter(source -> source.store == null)
+                .ifPresent(source -> course.setSectionsSource(
+                        new CurriculumSections(source.courseId, source.sectionCount, store, null)));
+    }
+
+    /**
+     * The same curriculum with the sections already loaded, e.g. without their lessons.
+     */
+    public CurriculumSections withSections(List<Section> sections) {
+        return new CurriculumSections(courseId, sectionCount, store, sections);
+    }
+
+    public int sectionCount() {
+        return sectionCount;
+    }
+
+    @Override
+    public List<Section> load() {
+        List<Section> sections = loaded;
+        if (sections == null) {
+            if (sectionCount == 0) {
+                return new ArrayList<>(0);
+            }
+            if (store == null) {
+                throw new IllegalStateException("Sections of course " + courseId
+                        + " are kept in the CourseCurriculum table; read the course through the repository");
+            }
+            sections = store.loadSections(courseId, true);
+            loaded = sections;
+        }
+        // Each course gets its own list, so adding or removing sections does not reach the others
+        return new ArrayList<>(sections);
+    }
+}
@@ -0,0 +1,90 @@
+package com.skillvo.course.infrastructure.persistence.keys;
+
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Opaque continuation token wrapping a DynamoDB LastEvaluatedKey.
+ * Only the scalar S/N attributes that make up table and GSI keys are supported.
+ */
+public final class PageToken {
+    private static final char ENTRY_SEPARATOR = '&';
+    private static final char VALUE_SEPARATOR = '=';
+    private static final char TYPE_SEPARATOR = ':';
+
+    private PageToken() {
+    }
+
+    public static String encode(Map<String, AttributeValue> lastEvaluatedKey) {
+        if (lastEvaluatedKey == null || lastEvaluatedKey.isEmpty()) {
+            return null;
+        }
+        StringBuilder raw = new StringBuilder();
+        for (Map.Entry<String, AttributeValue> entry : lastEvaluatedKey.entrySet()) {
+            if (raw.length() > 0) {
+                raw.append(ENTRY_SEPARATOR);
+            }
+            AttributeValue value = entry.getValue();
+            String type;
+            String text;
+            if (value.s() != null) {
+                type = "S";
+                text = value.s();
+            } else if (value.n() != null) {
+                type = "N";
+                text = value.n();
+            } else {
+                throw new IllegalArgumentException("Unsupported key attribute type for: " + entry.getKey());
+            }
+            raw.append(encodePart(entry.getKey()))
+                    .append(VALUE_SEPARATOR)
+                    .append(type)
+                    .append(TYPE_SEPARATOR)
+                    .append(encodePart(text));
+        }
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static Map<String, AttributeValue> decode(String token) {
+        if (token == null || token.isEmpty()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            Map<String, AttributeValue> key = new HashMap<>();
+            for (String entry : raw.split(String.valueOf(ENTRY_SEPARATOR))) {
+                int valueIndex = entry.indexOf(VALUE_SEPARATOR);
+                int typeIndex = entry.indexOf(TYPE_SEPARATOR, valueIndex);
+                if (valueIndex <= 0 || typeIndex != valueIndex + 2) {
+                    throw new IllegalArgumentException("Invalid page token");
+                }
+                String name = decodePart(entry.substring(0, valueIndex));
+                char type = entry.charAt(valueIndex + 1);
+                String text = decodePart(entry.substring(typeIndex + 1));
+                if (type == 'S') {
+                    key.put(name, AttributeValue.builder().s(text).build());
+                } else if (type == 'N') {
+                    key.put(name, AttributeValue.builder().n(text).build());
+                } else {
+                    throw new IllegalArgumentException("Invalid page token");
+                }
+            }
+            return key;
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid page token", e);
+        }
+    }
+
+    private static String encodePart(String value) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String decodePart(String value) {
+        return new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,83 @@
+package com.skillvo.course.infrastructure.persistence.query;
+
+import com.skillvo.caching.infrastructure.cache.InMemoryCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
+import software.amazon.awssdk.services.dynamodb.model.QueryResponse;
+import software.amazon.awssdk.services.dynamodb.model.Select;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+
+/**
+ * Estimates partition sizes with a single Select.COUNT Query per index key, cached for a TTL.
+ * The count stops at {@code course.query-planner.count-limit} items, which bounds what an
+ * estimate costs in read capacity: beyond that the planner only needs to know the partition is
+ * large. A count that fails leaves the planner on its fixed precedence; the failure is cached
+ * for the same TTL, so a missing index or throttling does not add a failing Query to every plan.
+ */
+@Slf4j
+@Component
+public class CountingIndexStatistics implements IndexStatistics {
+    /** Cached in place of a count that failed. */
+    private static final long UNKNOWN = -1;
+
+    private final DynamoDbClient dynamoDbClient;
+    private final String tagTableName;
+    private final int countLimit;
+    private final InMemoryCache<String, Long> counts;
+
+    public CountingIndexStatistics(DynamoDbClient dynamoDbClient,
+                                   @Value("${course.tag-index.table-name:CourseTags}") String tagTableName,
+                                   @Value("${course.query-planner.count-limit:1000}") int countLimit,
+                                   @Value("${course.query-planner.max-entries:1000}") int maxEntries,
+                                   @Value("${course.query-planner.ttl-seconds:900}") long ttlSeconds) {
+        if (countLimit < 1) {
+            throw new IllegalArgumentException("count-limit must be positive: " + countLimit);
+        }
+        this.dynamoDbClient = dynamoDbClient;
+        this.tagTableName = tagTableName;
+        this.countLimit = countLimit;
+        this.counts = new InMemoryCache<>(maxEntries, Duration.ofSeconds(ttlSeconds));
+    }
+
+    @Override
+    public OptionalLong estimateItems(IndexDefinition index, String partitionKeyValue) {
+        long count = counts.getOrLoad(index.getName() + '#' + partitionKeyValue,
+                key -> Optional.of(count(index, partitionKeyValue))).orElse(UNKNOWN);
+        return count == UNKNOWN ? OptionalLong.empty() : OptionalLong.of(count);
+    }
+
+    private long count(IndexDefinition index, String partitionKeyValue) {
+        QueryRequest request = QueryRequest.builder()
+                .tableName(tableName(index))
+                .indexName(index.getIndexName())
+                .keyConditionExpression("#key = :key")
+                .expressionAttributeNames(Map.of("#key", index.getPartitionKey()))
+                .expressionAttributeValues(Map.of(":key", AttributeValue.builder().s(partitionKeyValue).build()))
+                .select(Select.COUNT)
+                .limit(countLimit)
+                .build();
+        try {
+            QueryResponse response = dynamoDbClient.query(request);
+            return response.count();
+        } catch (SdkException e) {
+            log.warn("Could not count {} items for {}", index.getName(), partitionKeyValue, e);
+            return UNKNOWN;
+        }
+    }
+
+    /**
+     * The tag index is defined under its default table name; the deployed table is configured.
+     */
+    private String tableName(IndexDefinition index) {
+        return CourseQueryPlanner.TAG_INDEX.equals(index) ? tagTableName : index.getTableName();
+    }
+}
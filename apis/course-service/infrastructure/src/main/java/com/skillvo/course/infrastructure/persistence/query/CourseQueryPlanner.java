@@ -0,0 +1,158 @@
+package com.skillvo.course.infrastructure.persistence.query;
+
+import com.skillvo.course.domain.model.enums.Status;
+import com.skillvo.course.domain.repository.CourseFilter;
+import com.skillvo.course.infrastructure.persistence.tags.CourseTagIndex;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+
+/**
+ * Chooses the index a course filter is read from. Every predicate that matches an index key is
+ * a candidate; when there is more than one, the partition with the fewest estimated items wins,
+ * with ties and missing estimates going to the earlier index in {@link #INDEXES}. Whatever the
+ * chosen key does not cover is pushed into the FilterExpression, so the plan never changes the
+ * result, only how many items DynamoDB reads to produce it.
+ * <p>
+ * Status and level have no index of their own: with a handful of values across all tenants,
+ * their partitions would be hot and every course write would pay for them. They are always
+ * filtered on the tenant's partition. Tag entries are keyed by tenant as well, so tags only
+ * narrow a filter that names the tenant, and the estimate is that tenant's count per tag.
+ */
+@Component
+public class CourseQueryPlanner {
+    private static final String COURSES_TABLE = "Courses";
+
+    public static final IndexDefinition MARKETPLACE_INDEX =
+            IndexDefinition.of(COURSES_TABLE, "MarketplaceIndex", "marketplaceTenantId", "publishedOn");
+    public static final IndexDefinition TENANT_INDEX = IndexDefinition.of(COURSES_TABLE, "TenantIdIndex", "tenantId", null);
+    public static final IndexDefinition TAG_INDEX =
+            IndexDefinition.of(CourseTagIndex.DEFAULT_TABLE_NAME, null, CourseTagIndex.TAG, CourseTagIndex.COURSE_ID);
+
+    /**
+     * The course indexes, in fallback precedence order.
+     */
+    public static final List<IndexDefinition> INDEXES =
+            List.of(MARKETPLACE_INDEX, TENANT_INDEX, TAG_INDEX);
+
+    private final IndexStatistics statistics;
+
+    public CourseQueryPlanner(IndexStatistics statistics) {
+        this.statistics = statistics;
+    }
+
+    /**
+     * A planner that always uses the fixed precedence, for callers without statistics.
+     */
+    public static CourseQueryPlanner withoutStatistics() {
+        return new CourseQueryPlanner((index, partitionKeyValue) -> OptionalLong.empty());
+    }
+
+    public QueryPlan plan(CourseFilter filter) {
+        Map<String, Object> filterEquals = new LinkedHashMap<>();
+        if (filter.getTenantId() != null) {
+            filterEquals.put("tenantId", filter.getTenantId());
+        }
+        if (filter.getStatus() != null) {
+            filterEquals.put("status", filter.getStatus().name());
+        }
+        if (filter.getLevel() != null) {
+            filterEquals.put("level", filter.getLevel().name());
+        }
+        if (filter.getInMarketplace() != null) {
+            filterEquals.put("inMarketplace", filter.getInMarketplace());
+        }
+        List<String> tags = filter.getTags() != null
+                ? new ArrayList<>(new LinkedHashSet<>(filter.getTags()))
+                : Collections.emptyList();
+
+        if (filter.getTenantId() != null && Boolean.TRUE.equals(filter.getInMarketplace())) {
+            // Listings are defined by this index's publishedOn order, so it is not costed against others
+            filterEquals.remove("tenantId");
+            filterEquals.remove("inMarketplace");
+            if (filter.getStatus() == Status.PUBLISHED) {
+                filterEquals.remove("status");
+            }
+            return QueryPlan.builder()
+                    .index(IndexCandidate.of(MARKETPLACE_INDEX, filter.getTenantId(), null))
+                    .descending(true)
+                    .reason("required for publishedOn order")
+                    .filterEquals(filterEquals)
+                    .filterTags(tags)
+                    .matchAllTags(filter.matchesAllTags())
+                    .rejected(Collections.emptyList())
+                    .build();
+        }
+
+        List<IndexCandidate> candidates = new ArrayList<>();
+        if (filter.getTenantId() != null) {
+            candidates.add(IndexCandidate.of(TENANT_INDEX, filter.getTenantId(), null));
+        }
+        if (filter.getTenantId() != null && !tags.isEmpty()) {
+            List<String> tagKeys = new ArrayList<>(tags.size());
+            for (String tag : tags) {
+                tagKeys.add(CourseTagIndex.key(filter.getTenantId(), tag));
+            }
+            candidates.add(IndexCandidate.ofAll(TAG_INDEX, tagKeys, filter.matchesAllTags(), null));
+        }
+
+        if (candidates.isEmpty()) {
+            return QueryPlan.builder()
+                    .reason("no predicate matches an index key")
+                    .filterEquals(filterEquals)
+                    .filterTags(tags)
+                    .matchAllTags(filter.matchesAllTags())
+                    .rejected(Collections.emptyList())
+                    .build();
+        }
+
+        String reason = "only candidate";
+        if (candidates.size() > 1) {
+            candidates.replaceAll(this::estimate);
+            reason = "fewest estimated items";
+        }
+        IndexCandidate chosen = candidates.stream()
+                .min(Comparator.comparingLong(IndexCandidate::cost))
+                .orElseThrow();
+        candidates.remove(chosen);
+        filterEquals.remove(chosen.getIndex().getPartitionKey());
+        if (chosen.getIndex() == TAG_INDEX) {
+            // Tag partitions belong to one tenant
+            filterEquals.remove("tenantId");
+        }
+
+        return QueryPlan.builder()
+                .index(chosen)
+                .reason(reason)
+                .filterEquals(filterEquals)
+                .filterTags(tags)
+                .matchAllTags(filter.matchesAllTags())
+                .rejected(candidates)
+                .build();
+    }
+
+    /**
+     * A tag lookup reads every tag's partition for a union, but an intersection can stop at the
+     * end of the smallest one, so the estimate is the sum or the minimum of the tag counts.
+     */
+    private IndexCandidate estimate(IndexCandidate candidate) {
+        long total = 0;
+        long smallest = Long.MAX_VALUE;
+        for (String partitionKeyValue : candidate.getPartitionKeyValues()) {
+            OptionalLong estimate = statistics.estimateItems(candidate.getIndex(), partitionKeyValue);
+            if (estimate.isEmpty()) {
+                return candidate;
+            }
+            total += estimate.getAsLong();
+            smallest = Math.min(smallest, estimate.getAsLong());
+        }
+        return candidate.withEstimate(candidate.isMatchAll() ? smallest : total);
+    }
+}
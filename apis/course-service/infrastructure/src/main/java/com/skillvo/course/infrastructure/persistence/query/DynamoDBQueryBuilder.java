@@ -6,24 +6,37 @@ import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
 import software.amazon.awssdk.services.dynamodb.model.ScanRequest;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
+/**
+ * Builds Query and Scan requests for the Courses table from a {@link QueryPlan}: the chosen
+ * index key becomes the key condition and every other predicate the FilterExpression.
+ */
 public class DynamoDBQueryBuilder {
     private static final String TABLE_NAME = "Courses";
-    private static final String TENANT_INDEX = "TenantIdIndex";
-    private static final String STATUS_INDEX = "StatusIndex";
-    private static final String LEVEL_INDEX = "LevelIndex";
-    private static final String TAGS_INDEX = "TagsIndex";
 
+    private final CourseQueryPlanner planner;
+    private QueryPlan plan;
     private String indexName;
     private final Map<String, String> expressionNames;
     private final Map<String, AttributeValue> expressionValues;
     private final StringBuilder keyConditionExpression;
     private final StringBuilder filterExpression;
     private Integer limit;
+    private Map<String, AttributeValue> exclusiveStartKey;
+    private Integer segment;
+    private Integer totalSegments;
+    private String projectionExpression;
+    private Boolean scanIndexForward;
 
     public DynamoDBQueryBuilder() {
+        this(CourseQueryPlanner.withoutStatistics());
+    }
+
+    public DynamoDBQueryBuilder(CourseQueryPlanner planner) {
+        this.planner = planner;
         this.expressionNames = new HashMap<>();
         this.expressionValues = new HashMap<>();
         this.keyConditionExpression = new StringBuilder();
@@ -31,50 +44,106 @@ public class DynamoDBQueryBuilder {
     }
 
     public DynamoDBQueryBuilder withFilter(CourseFilter filter) {
-        // Handle primary index conditions
-        if (filter.getTenantId() != null) {
-            indexName = TENANT_INDEX;
-            addKeyCondition("tenantId", filter.getTenantId());
-            if (filter.getInMarketplace() != null) {
-                addKeyCondition("inMarketplace", filter.getInMarketplace());
+        return withPlan(planner.plan(filter));
+    }
+
+    /**
+     * Uses a plan made earlier, so a multi-request read plans (and estimates) only once. A tag
+     * index plan is not a single request; it is rendered as the equivalent filtered Scan.
+     */
+    public DynamoDBQueryBuilder withPlan(QueryPlan plan) {
+        this.plan = plan;
+        if (!plan.isScan() && !plan.usesTagIndex()) {
+            IndexCandidate index = plan.getIndex();
+            indexName = index.getIndex().getName();
+            addKeyCondition(index.getIndex().getPartitionKey(), index.getPartitionKeyValue());
+            if (plan.isDescending()) {
+                scanIndexForward = false;
             }
-        } else if (filter.getStatus() != null) {
-            indexName = STATUS_INDEX;
-            addKeyCondition("status", filter.getStatus().name());
-        } else if (filter.getLevel() != null) {
-            indexName = LEVEL_INDEX;
-            addKeyCondition("level", filter.getLevel().name());
-        } else if (filter.getTags() != null && !filter.getTags().isEmpty()) {
-            indexName = TAGS_INDEX;
-            addKeyCondition("tag", filter.getTags().get(0));
-        }
-
-        // Handle filter conditions
-        if (filter.getTags() != null && !filter.getTags().isEmpty() && indexName != TAGS_INDEX) {
+        }
+
+        for (Map.Entry<String, Object> predicate : plan.getFilterEquals().entrySet()) {
+            String attributeName = predicate.getKey();
+            addFilterCondition("#" + attributeName + " = :" + attributeName, attributeName, predicate.getValue());
+        }
+
+        List<String> tags = plan.getFilterTags();
+        if (!tags.isEmpty()) {
             if (filterExpression.length() > 0) {
                 filterExpression.append(" AND ");
             }
             filterExpression.append("(");
-            for (int i = 0; i < filter.getTags().size(); i++) {
+            for (int i = 0; i < tags.size(); i++) {
                 if (i > 0) {
-                    filterExpression.append(" OR ");
+                    filterExpression.append(plan.isMatchAllTags() ? " AND " : " OR ");
                 }
                 String tagPlaceholder = ":tagValue" + i;
                 filterExpression.append("contains(#tags, ").append(tagPlaceholder).append(")");
-                expressionValues.put(tagPlaceholder, AttributeValue.builder().s(filter.getTags().get(i)).build());
+                expressionValues.put(tagPlaceholder, AttributeValue.builder().s(tags.get(i)).build());
             }
             filterExpression.append(")");
             expressionNames.put("#tags", "tags");
         }
 
-        // Handle pagination
-        if (filter.getLimit() != null) {
-            this.limit = filter.getLimit();
+        return this;
+    }
+
+    /**
+     * Returns only the given attributes. Names go through placeholders since several course
+     * attributes (status, level, duration) are DynamoDB reserved words.
+     */
+    public DynamoDBQueryBuilder withProjection(List<String> attributeNames) {
+        StringBuilder projection = new StringBuilder();
+        for (String attributeName : attributeNames) {
+            String placeholder = "#" + attributeName;
+            if (projection.length() > 0) {
+                projection.append(", ");
+            }
+            projection.append(placeholder);
+            expressionNames.put(placeholder, attributeName);
         }
+        this.projectionExpression = projection.toString();
+        return this;
+    }
+
+    public DynamoDBQueryBuilder withLimit(Integer limit) {
+        this.limit = limit;
+        return this;
+    }
 
+    public DynamoDBQueryBuilder withExclusiveStartKey(Map<String, AttributeValue> exclusiveStartKey) {
+        this.exclusiveStartKey = exclusiveStartKey;
         return this;
     }
 
+    public DynamoDBQueryBuilder withSegment(int segment, int totalSegments) {
+        if (totalSegments < 1 || segment < 0 || segment >= totalSegments) {
+            throw new IllegalArgumentException("Invalid scan segment " + segment + " of " + totalSegments);
+        }
+        this.segment = segment;
+        this.totalSegments = totalSegments;
+        return this;
+    }
+
+    public boolean requiresScan() {
+        return indexName == null;
+    }
+
+    public String explain() {
+        if (plan == null) {
+            throw new IllegalStateException("No filter or plan has been applied");
+        }
+        return plan.explain();
+    }
+
+    /**
+     * Whether the index already returns items in a meaningful order (newest published first),
+     * so callers should keep that order instead of sorting.
+     */
+    public boolean isOrdered() {
+        return scanIndexForward != null;
+    }
+
     public Optional<QueryRequest> buildQueryRequest() {
         if (indexName == null) {
             return Optional.empty();
@@ -100,6 +169,22 @@ public class DynamoDBQueryBuilder {
             builder.expressionAttributeValues(expressionValues);
         }
 
+        if (projectionExpression != null) {
+            builder.projectionExpression(projectionExpression);
+        }
+
+        if (scanIndexForward != null) {
+            builder.scanIndexForward(scanIndexForward);
+        }
+
+        if (limit != null) {
+            builder.limit(limit);
+        }
+
+        if (exclusiveStartKey != null) {
+            builder.exclusiveStartKey(exclusiveStartKey);
+        }
+
         return Optional.of(builder.build());
     }
 
@@ -119,6 +204,22 @@ public class DynamoDBQueryBuilder {
             builder.expressionAttributeValues(expressionValues);
         }
 
+        if (projectionExpression != null) {
+            builder.projectionExpression(projectionExpression);
+        }
+
+        if (limit != null) {
+            builder.limit(limit);
+        }
+
+        if (exclusiveStartKey != null) {
+            builder.exclusiveStartKey(exclusiveStartKey);
+        }
+
+        if (totalSegments != null) {
+            builder.segment(segment).totalSegments(totalSegments);
+        }
+
         return builder.build();
     }
 
@@ -142,6 +243,7 @@ public class DynamoDBQueryBuilder {
 
         filterExpression.append(condition);
         expressionNames.put("#" + attributeName, attributeName);
+        expressionValues.put(":" + attributeName, toAttributeValue(value));
     }
 
     private AttributeValue toAttributeValue(Object value) {
@@ -0,0 +1,49 @@
+package com.skillvo.course.infrastructure.persistence.query;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ * The index partitions a filter could be answered from, with their estimated size if known.
+ * GSI candidates read one partition; a tag index candidate reads one per tag and combines them.
+ */
+@Value
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class IndexCandidate {
+    IndexDefinition index;
+    List<String> partitionKeyValues;
+    boolean matchAll;
+    Long estimatedItems;
+
+    public static IndexCandidate of(IndexDefinition index, String partitionKeyValue, Long estimatedItems) {
+        return new IndexCandidate(index, List.of(partitionKeyValue), false, estimatedItems);
+    }
+
+    public static IndexCandidate ofAll(IndexDefinition index, List<String> partitionKeyValues, boolean matchAll,
+                                       Long estimatedItems) {
+        return new IndexCandidate(index, List.copyOf(partitionKeyValues), matchAll, estimatedItems);
+    }
+
+    public String getPartitionKeyValue() {
+        return partitionKeyValues.get(0);
+    }
+
+    IndexCandidate withEstimate(Long estimatedItems) {
+        return new IndexCandidate(index, partitionKeyValues, matchAll, estimatedItems);
+    }
+
+    long cost() {
+        return estimatedItems != null ? estimatedItems : Long.MAX_VALUE;
+    }
+
+    String describe() {
+        String key = partitionKeyValues.size() == 1
+                ? index.getPartitionKey() + " = '" + getPartitionKeyValue() + "'"
+                : index.getPartitionKey() + (matchAll ? " all of " : " any of ") + partitionKeyValues;
+        return index.getName() + " (" + key + ", "
+                + (estimatedItems != null ? "~" + estimatedItems + " items" : "no estimate") + ")";
+    }
+}
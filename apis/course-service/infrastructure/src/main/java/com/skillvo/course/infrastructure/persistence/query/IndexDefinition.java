@@ -0,0 +1,20 @@
+package com.skillvo.course.infrastructure.persistence.query;
+
+import lombok.Value;
+
+/**
+ * A key the query planner can read courses by: a global secondary index of the Courses table,
+ * or a table of its own such as the tag index. All of them project every attribute the read
+ * needs, so any of them can answer a list call on its own.
+ */
+@Value(staticConstructor = "of")
+public class IndexDefinition {
+    String tableName;
+    String indexName;
+    String partitionKey;
+    String sortKey;
+
+    public String getName() {
+        return indexName != null ? indexName : tableName;
+    }
+}
@@ -0,0 +1,13 @@
+package com.skillvo.course.infrastructure.persistence.query;
+
+import java.util.OptionalLong;
+
+/**
+ * Estimates how many items a Query on one index partition reads. An empty result means no
+ * estimate is available and the planner falls back to its fixed index precedence.
+ */
+@FunctionalInterface
+public interface IndexStatistics {
+
+    OptionalLong estimateItems(IndexDefinition index, String partitionKeyValue);
+}
@@ -0,0 +1,71 @@
+package com.skillvo.course.infrastructure.persistence.query;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * How a course filter is read: the index partition to Query, or a Scan when no predicate
+ * matches an index key, and the predicates left for the FilterExpression.
+ */
+@Value
+@Builder
+public class QueryPlan {
+    IndexCandidate index;
+    boolean descending;
+    String reason;
+    Map<String, Object> filterEquals;
+    List<String> filterTags;
+    boolean matchAllTags;
+    List<IndexCandidate> rejected;
+
+    public boolean isScan() {
+        return index == null;
+    }
+
+    /**
+     * Whether the plan reads course IDs from the tag index rather than one Query or Scan.
+     */
+    public boolean usesTagIndex() {
+        return index != null && CourseQueryPlanner.TAG_INDEX.equals(index.getIndex());
+    }
+
+    /**
+     * A readable summary of the plan for logs, e.g. when chasing a slow list call.
+     */
+    public String explain() {
+        StringBuilder explain = new StringBuilder();
+        if (isScan()) {
+            explain.append("Scan Courses");
+        } else {
+            explain.append(usesTagIndex() ? "Lookup " : "Query ").append(index.describe());
+            if (index.getIndex().getSortKey() != null) {
+                explain.append(" ordered by ").append(index.getIndex().getSortKey())
+                        .append(descending ? " desc" : " asc");
+            }
+        }
+        if (reason != null) {
+            explain.append("; ").append(reason);
+        }
+        // A tag lookup applies the tags itself; they stay in the plan only for a Scan fallback
+        List<String> tags = usesTagIndex() ? List.of() : filterTags;
+        if (!filterEquals.isEmpty() || !tags.isEmpty()) {
+            explain.append("; filter ");
+            String separator = "";
+            for (Map.Entry<String, Object> predicate : filterEquals.entrySet()) {
+                explain.append(separator).append(predicate.getKey()).append(" = '").append(predicate.getValue()).append('\'');
+                separator = " AND ";
+            }
+            if (!tags.isEmpty()) {
+                explain.append(separator).append("tags contains ").append(matchAllTags ? "all" : "any")
+                        .append(" of ").append(tags);
+            }
+        }
+        for (IndexCandidate candidate : rejected) {
+            explain.append("; rejected ").append(candidate.describe());
+        }
+        return explain.toString();
+    }
+}
@@ -0,0 +1,250 @@
+package com.skillvo.course.infrastructure.persistence.scan;
+
+import com.skillvo.course.domain.model.aggregates.Course;
+import com.skillvo.course.domain.repository.CourseFilter;
+import com.skillvo.course.infrastructure.persistence.DynamoDBModelConverter;
+import com.skillvo.course.infrastructure.persistence.query.CourseQueryPlanner;
+import com.skillvo.course.infrastructure.persistence.query.DynamoDBQueryBuilder;
+import com.skillvo.course.infrastructure.persistence.query.QueryPlan;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.ReturnConsumedCapacity;
+import software.amazon.awssdk.services.dynamodb.model.ScanRequest;
+import software.amazon.awssdk.services.dynamodb.model.ScanResponse;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Splits a full-table Scan into TotalSegments/Segment slices, scans them on a bounded executor
+ * and merges the converted courses into a single stream. Closing the stream cancels any
+ * segments still running. Filters are planned by the repository's {@link CourseQueryPlanner},
+ * so the scanner and the repository agree on which filters need a Scan.
+ * <p>
+ * Every segment ends by putting a done marker on the queue, however it stops, so the merge
+ * never waits for a segment that is gone. A failure is recorded beside the queue rather than
+ * in it, where a full buffer could hold it back, and the merge checks for it before each take.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ParallelCourseScanner {
+    private static final int DEFAULT_BUFFER_SIZE = 1000;
+    private static final long OFFER_TIMEOUT_MILLIS = 100;
+
+    private final DynamoDbClient dynamoDbClient;
+    private final CourseQueryPlanner queryPlanner;
+
+    @Value("${course.scan.total-segments:0}")
+    private int totalSegments;
+
+    @Value("${course.scan.max-concurrency:0}")
+    private int maxConcurrency;
+
+    @Value("${course.scan.read-capacity-per-second:0}")
+    private double readCapacityPerSecond;
+
+    public ParallelScanOptions defaultOptions() {
+        int processors = Runtime.getRuntime().availableProcessors();
+        int segments = totalSegments > 0 ? totalSegments : processors;
+        return ParallelScanOptions.builder()
+                .totalSegments(segments)
+                .maxConcurrency(maxConcurrency > 0 ? maxConcurrency : Math.min(segments, processors))
+                .readCapacityPerSecond(readCapacityPerSecond)
+                .bufferSize(DEFAULT_BUFFER_SIZE)
+                .build();
+    }
+
+    public Stream<Course> scan(CourseFilter filter) {
+        return scan(filter, defaultOptions(), ScanProgressListener.NO_OP);
+    }
+
+    public Stream<Course> scan(CourseFilter filter, ParallelScanOptions options, ScanProgressListener listener) {
+        QueryPlan plan = queryPlanner.plan(filter);
+        if (!plan.isScan()) {
+            throw new IllegalArgumentException("Filter resolves to an index query and cannot be scanned in segments");
+        }
+        int segments = options.getTotalSegments();
+        int threads = Math.max(1, Math.min(options.getMaxConcurrency(), segments));
+        int bufferSize = options.getBufferSize() > 0 ? options.getBufferSize() : DEFAULT_BUFFER_SIZE;
+
+        BlockingQueue<Object> queue = new ArrayBlockingQueue<>(bufferSize);
+        AtomicBoolean cancelled = new AtomicBoolean();
+        AtomicReference<SegmentFailed> failure = new AtomicReference<>();
+        ReadCapacityThrottle throttle = new ReadCapacityThrottle(options.getReadCapacityPerSecond());
+        ExecutorService executor = Executors.newFixedThreadPool(threads, segmentThreadFactory());
+
+        for (int segment = 0; segment < segments; segment++) {
+            int current = segment;
+            executor.execute(() -> scanSegment(plan, options, current, queue, throttle, cancelled, failure, listener));
+        }
+        executor.shutdown();
+
+        Iterator<Course> merged = new MergingIterator(queue, segments, cancelled, failure);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(merged, Spliterator.NONNULL), false)
+                .onClose(() -> {
+                    cancelled.set(true);
+                    executor.shutdownNow();
+                });
+    }
+
+    private void scanSegment(QueryPlan plan, ParallelScanOptions options, int segment,
+                             BlockingQueue<Object> queue, ReadCapacityThrottle throttle,
+                             AtomicBoolean cancelled, AtomicReference<SegmentFailed> failure,
+                             ScanProgressListener listener) {
+        long segmentItems = 0;
+        try {
+            ScanRequest request = new DynamoDBQueryBuilder()
+                    .withPlan(plan)
+                    .withLimit(options.getPageSize())
+                    .withSegment(segment, options.getTotalSegments())
+                    .buildScanRequest()
+                    .toBuilder()
+                    .returnConsumedCapacity(ReturnConsumedCapacity.TOTAL)
+                    .build();
+
+            for (ScanResponse page : dynamoDbClient.scanPaginator(request)) {
+                for (Map<String, AttributeValue> item : page.items()) {
+                    if (!offer(queue, DynamoDBModelConverter.toCourse(item), cancelled)) {
+                        return;
+                    }
+                }
+                segmentItems += page.items().size();
+                double consumed = page.consumedCapacity() != null && page.consumedCapacity().capacityUnits() != null
+                        ? page.consumedCapacity().capacityUnits() : 0;
+                listener.onPageScanned(segment, page.items().size(), segmentItems, consumed);
+                throttle.acquire(consumed);
+                if (cancelled.get()) {
+                    return;
+                }
+            }
+            listener.onSegmentCompleted(segment, segmentItems);
+            log.debug("Completed scan segment {}/{} with {} items", segment, options.getTotalSegments(), segmentItems);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            log.error("Scan segment {}/{} failed after {} items", segment, options.getTotalSegments(), segmentItems, e);
+            listener.onSegmentFailed(segment, e);
+            failure.compareAndSet(null, new SegmentFailed(segment, e));
+            cancelled.set(true);
+        } finally {
+            finish(queue);
+        }
+    }
+
+    private static void finish(BlockingQueue<Object> queue) {
+        try {
+            queue.put(SegmentDone.INSTANCE);
+        } catch (InterruptedException e) {
+            // Only closing the stream interrupts a segment, and then nothing reads the queue
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private boolean offer(BlockingQueue<Object> queue, Object element, AtomicBoolean cancelled) throws InterruptedException {
+        while (!queue.offer(element, OFFER_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+            if (cancelled.get()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static ThreadFactory segmentThreadFactory() {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "course-scan-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private static final class SegmentDone {
+        private static final SegmentDone INSTANCE = new SegmentDone();
+    }
+
+    private static final class SegmentFailed {
+        private final int segment;
+        private final RuntimeException error;
+
+        private SegmentFailed(int segment, RuntimeException error) {
+            this.segment = segment;
+            this.error = error;
+        }
+    }
+
+    private static final class MergingIterator implements Iterator<Course> {
+        private final BlockingQueue<Object> queue;
+        private final AtomicBoolean cancelled;
+        private final AtomicReference<SegmentFailed> failure;
+        private int remainingSegments;
+        private Course next;
+
+        private MergingIterator(BlockingQueue<Object> queue, int segments, AtomicBoolean cancelled,
+                                AtomicReference<SegmentFailed> failure) {
+            this.queue = queue;
+            this.remainingSegments = segments;
+            this.cancelled = cancelled;
+            this.failure = failure;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (next == null && remainingSegments > 0) {
+                throwIfFailed();
+                Object element;
+                try {
+                    element = queue.take();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    cancelled.set(true);
+                    throw new IllegalStateException("Interrupted while waiting for scan segments", e);
+                }
+                if (element instanceof SegmentDone) {
+                    remainingSegments--;
+                } else {
+                    next = (Course) element;
+                }
+            }
+            throwIfFailed();
+            return next != null;
+        }
+
+        private void throwIfFailed() {
+            SegmentFailed failed = failure.get();
+            if (failed != null) {
+                remainingSegments = 0;
+                next = null;
+                throw new IllegalStateException("Scan segment " + failed.segment + " failed", failed.error);
+            }
+        }
+
+        @Override
+        public Course next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Course current = next;
+            next = null;
+            return current;
+        }
+    }
+}
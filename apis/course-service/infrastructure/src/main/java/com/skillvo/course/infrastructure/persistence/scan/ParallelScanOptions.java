@@ -0,0 +1,19 @@
+package com.skillvo.course.infrastructure.persistence.scan;
+
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder
+public class ParallelScanOptions {
+    /** Number of Scan segments (TotalSegments) the table is split into. */
+    int totalSegments;
+    /** Upper bound on segments scanned at the same time. */
+    int maxConcurrency;
+    /** Read capacity units per second shared by all segments; zero or less disables throttling. */
+    double readCapacityPerSecond;
+    /** Converted items buffered ahead of the consumer before segment workers block. */
+    int bufferSize;
+    /** Items requested per Scan page; null leaves the 1 MB service default. */
+    Integer pageSize;
+}
@@ -0,0 +1,33 @@
+package com.skillvo.course.infrastructure.persistence.scan;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Paces Scan pages against a shared read capacity budget. Capacity is only known once a page
+ * has been read, so each page's cost is paid for by delaying the next request.
+ */
+class ReadCapacityThrottle {
+    private final double unitsPerSecond;
+    private long nextAvailableNanos;
+
+    ReadCapacityThrottle(double unitsPerSecond) {
+        this.unitsPerSecond = unitsPerSecond;
+        this.nextAvailableNanos = System.nanoTime();
+    }
+
+    void acquire(double units) throws InterruptedException {
+        if (unitsPerSecond <= 0 || units <= 0) {
+            return;
+        }
+        long waitNanos;
+        synchronized (this) {
+            long now = System.nanoTime();
+            long start = Math.max(now, nextAvailableNanos);
+            nextAvailableNanos = start + (long) (units / unitsPerSecond * TimeUnit.SECONDS.toNanos(1));
+            waitNanos = start - now;
+        }
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+}
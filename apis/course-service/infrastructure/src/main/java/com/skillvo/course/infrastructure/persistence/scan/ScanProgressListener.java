@@ -0,0 +1,15 @@
+package com.skillvo.course.infrastructure.persistence.scan;
+
+public interface ScanProgressListener {
+    ScanProgressListener NO_OP = new ScanProgressListener() {
+    };
+
+    default void onPageScanned(int segment, int itemsInPage, long segmentItems, double consumedCapacity) {
+    }
+
+    default void onSegmentCompleted(int segment, long segmentItems) {
+    }
+
+    default void onSegmentFailed(int segment, Throwable error) {
+    }
+}
@@ -0,0 +1,256 @@
+package com.skillvo.course.infrastructure.persistence.tags;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.DeleteRequest;
+import software.amazon.awssdk.services.dynamodb.model.PutRequest;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Inverted index from tag to course: one CourseTags item per (TAG#tenantId#value, courseId), so a
+ * tag's partition holds only the courses of one tenant and a lookup reads nothing it has to
+ * filter out. Lookups read one cursor per tag, each in courseId order,
+ * and merge them: a union takes the smallest head, an intersection skips every cursor ahead to
+ * the largest. Because the order is stable, a page ends at a course ID and the next one resumes
+ * after it.
+ */
+@Slf4j
+@Component
+public class CourseTagIndex {
+    public static final String DEFAULT_TABLE_NAME = "CourseTags";
+    public static final String TAG = "tag";
+    public static final String COURSE_ID = "courseId";
+    static final int MAX_WRITES_PER_REQUEST = 25;
+    private static final String KEY_PREFIX = "TAG#";
+
+    private final DynamoDbClient dynamoDbClient;
+    private final String tableName;
+    private final int maxAttempts;
+    private final long baseBackoffMillis;
+    private final ExecutorService executor;
+
+    public CourseTagIndex(DynamoDbClient dynamoDbClient,
+                          @Value("${course.tag-index.table-name:CourseTags}") String tableName,
+                          @Value("${course.tag-index.max-concurrency:4}") int maxConcurrency,
+                          @Value("${course.tag-index.max-attempts:8}") int maxAttempts,
+                          @Value("${course.tag-index.base-backoff-millis:25}") long baseBackoffMillis) {
+        this.dynamoDbClient = dynamoDbClient;
+        this.tableName = tableName;
+        this.maxAttempts = maxAttempts;
+        this.baseBackoffMillis = baseBackoffMillis;
+        AtomicInteger counter = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(maxConcurrency, runnable -> {
+            Thread thread = new Thread(runnable, "course-tag-index-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public static String key(String tenantId, String tag) {
+        return KEY_PREFIX + tenantId + "#" + tag;
+    }
+
+    /**
+     * Writes an entry for every current tag and deletes those for tags the course no longer has.
+     * Re-putting unchanged tags keeps the call idempotent, so a save that failed half way is
+     * repaired by the next one. A course without a tenant has no entries, since every lookup is
+     * scoped to a tenant.
+     */
+    public void update(UUID courseId, String tenantId, Collection<String> previousTags, Collection<String> tags) {
+        if (tenantId == null) {
+            return;
+        }
+        Set<String> current = tags != null ? new LinkedHashSet<>(tags) : Collections.emptySet();
+        List<WriteRequest> writes = new ArrayList<>();
+        for (String tag : current) {
+            writes.add(WriteRequest.builder()
+                    .putRequest(PutRequest.builder().item(itemKey(courseId, tenantId, tag)).build())
+                    .build());
+        }
+        if (previousTags != null) {
+            for (String tag : new LinkedHashSet<>(previousTags)) {
+                if (!current.contains(tag)) {
+                    writes.add(deleteRequest(courseId, tenantId, tag));
+                }
+            }
+        }
+        write(writes);
+    }
+
+    public void remove(UUID courseId, String tenantId, Collection<String> tags) {
+        if (tenantId == null || tags == null) {
+            return;
+        }
+        List<WriteRequest> writes = new ArrayList<>();
+        for (String tag : new LinkedHashSet<>(tags)) {
+            writes.add(deleteRequest(courseId, tenantId, tag));
+        }
+        write(writes);
+    }
+
+    /**
+     * Returns up to {@code limit} course IDs after {@code afterCourseId} (exclusive, null for the
+     * first page) in ascending order, belonging to the tenant and tagged with any or all of the
+     * tags. Fewer than {@code limit} IDs means there are no more.
+     */
+    public List<UUID> lookup(Collection<String> tags, boolean matchAll, String tenantId, String afterCourseId,
+                             int limit) {
+        if (tenantId == null) {
+            throw new IllegalArgumentException("Tag lookups are scoped to a tenant");
+        }
+        List<TagCursor> cursors = new ArrayList<>();
+        for (String tag : new LinkedHashSet<>(tags)) {
+            cursors.add(new TagCursor(dynamoDbClient, tableName, key(tenantId, tag), afterCourseId, limit));
+        }
+        if (cursors.isEmpty()) {
+            return Collections.emptyList();
+        }
+        prefetch(cursors);
+        return matchAll ? intersect(cursors, limit) : union(cursors, limit);
+    }
+
+    private List<UUID> union(List<TagCursor> cursors, int limit) {
+        List<UUID> courseIds = new ArrayList<>(limit);
+        while (courseIds.size() < limit) {
+            String smallest = null;
+            for (TagCursor cursor : cursors) {
+                String head = cursor.head();
+                if (head != null && (smallest == null || head.compareTo(smallest) < 0)) {
+                    smallest = head;
+                }
+            }
+            if (smallest == null) {
+                break;
+            }
+            courseIds.add(UUID.fromString(smallest));
+            for (TagCursor cursor : cursors) {
+                if (smallest.equals(cursor.head())) {
+                    cursor.advance();
+                }
+            }
+        }
+        return courseIds;
+    }
+
+    private List<UUID> intersect(List<TagCursor> cursors, int limit) {
+        List<UUID> courseIds = new ArrayList<>(limit);
+        while (courseIds.size() < limit) {
+            String target = cursors.get(0).head();
+            if (target == null) {
+                break;
+            }
+            boolean aligned = false;
+            while (!aligned) {
+                aligned = true;
+                for (TagCursor cursor : cursors) {
+                    cursor.seek(target);
+                    String head = cursor.head();
+                    if (head == null) {
+                        return courseIds;
+                    }
+                    if (head.compareTo(target) > 0) {
+                        target = head;
+                        aligned = false;
+                    }
+                }
+            }
+            courseIds.add(UUID.fromString(target));
+            cursors.forEach(TagCursor::advance);
+        }
+        return courseIds;
+    }
+
+    /**
+     * Issues the first Query of every tag concurrently; later pages are read as the merge needs them.
+     */
+    private void prefetch(List<TagCursor> cursors) {
+        if (cursors.size() == 1) {
+            return;
+        }
+        List<CompletableFuture<String>> futures = new ArrayList<>(cursors.size());
+        for (TagCursor cursor : cursors) {
+            futures.add(CompletableFuture.supplyAsync(cursor::head, executor));
+        }
+        try {
+            futures.forEach(CompletableFuture::join);
+        } catch (CompletionException e) {
+            futures.forEach(future -> future.cancel(true));
+            throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+        }
+    }
+
+    private void write(List<WriteRequest> writes) {
+        for (int start = 0; start < writes.size(); start += MAX_WRITES_PER_REQUEST) {
+            writeChunk(writes.subList(start, Math.min(start + MAX_WRITES_PER_REQUEST, writes.size())));
+        }
+    }
+
+    private void writeChunk(List<WriteRequest> writes) {
+        Map<String, List<WriteRequest>> pending = Collections.singletonMap(tableName, writes);
+        for (int attempt = 1; ; attempt++) {
+            BatchWriteItemResponse response = dynamoDbClient.batchWriteItem(BatchWriteItemRequest.builder()
+                    .requestItems(pending)
+                    .build());
+            if (!response.hasUnprocessedItems() || response.unprocessedItems().isEmpty()) {
+                return;
+            }
+            if (attempt >= maxAttempts) {
+                throw new IllegalStateException("BatchWriteItem left unprocessed tag entries after " + attempt + " attempts");
+            }
+            pending = response.unprocessedItems();
+            log.debug("Retrying {} unprocessed tag entries (attempt {})",
+                    pending.getOrDefault(tableName, Collections.emptyList()).size(), attempt);
+            backoff(attempt);
+        }
+    }
+
+    private void backoff(int attempt) {
+        long ceiling = baseBackoffMillis << Math.min(attempt - 1, 10);
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(ceiling / 2, ceiling + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while retrying unprocessed tag entries", e);
+        }
+    }
+
+    private WriteRequest deleteRequest(UUID courseId, String tenantId, String tag) {
+        return WriteRequest.builder()
+                .deleteRequest(DeleteRequest.builder().key(itemKey(courseId, tenantId, tag)).build())
+                .build();
+    }
+
+    private Map<String, AttributeValue> itemKey(UUID courseId, String tenantId, String tag) {
+        Map<String, AttributeValue> key = new HashMap<>();
+        key.put(TAG, AttributeValue.builder().s(key(tenantId, tag)).build());
+        key.put(COURSE_ID, AttributeValue.builder().s(courseId.toString()).build());
+        return key;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,101 @@
+package com.skillvo.course.infrastructure.persistence.tags;
+
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
+import software.amazon.awssdk.services.dynamodb.model.QueryResponse;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Walks the course IDs of one tag in ascending order, one Query page at a time. {@link #seek}
+ * skips ahead without reading the IDs in between by starting a new Query at the target.
+ */
+final class TagCursor {
+    private final DynamoDbClient dynamoDbClient;
+    private final String tableName;
+    private final String tagKey;
+    private final int pageSize;
+
+    private String lowerBound;
+    private boolean lowerBoundInclusive;
+    private Map<String, AttributeValue> startKey;
+    private boolean exhausted;
+    private List<String> buffer = Collections.emptyList();
+    private int position;
+
+    TagCursor(DynamoDbClient dynamoDbClient, String tableName, String tagKey, String afterCourseId, int pageSize) {
+        this.dynamoDbClient = dynamoDbClient;
+        this.tableName = tableName;
+        this.tagKey = tagKey;
+        this.pageSize = pageSize;
+        this.lowerBound = afterCourseId;
+        this.lowerBoundInclusive = false;
+    }
+
+    /**
+     * The current course ID, or null once the tag has no more.
+     */
+    String head() {
+        while (position >= buffer.size() && !exhausted) {
+            fetch();
+        }
+        return position < buffer.size() ? buffer.get(position) : null;
+    }
+
+    void advance() {
+        position++;
+    }
+
+    /**
+     * Moves to the first course ID at or after the target.
+     */
+    void seek(String target) {
+        while (position < buffer.size() && buffer.get(position).compareTo(target) < 0) {
+            position++;
+        }
+        if (position >= buffer.size() && !exhausted) {
+            lowerBound = target;
+            lowerBoundInclusive = true;
+            startKey = null;
+            buffer = Collections.emptyList();
+            position = 0;
+        }
+    }
+
+    private void fetch() {
+        Map<String, String> names = new HashMap<>();
+        Map<String, AttributeValue> values = new HashMap<>();
+        names.put("#tag", CourseTagIndex.TAG);
+        values.put(":tag", AttributeValue.builder().s(tagKey).build());
+        String keyCondition = "#tag = :tag";
+        if (lowerBound != null) {
+            names.put("#courseId", CourseTagIndex.COURSE_ID);
+            values.put(":from", AttributeValue.builder().s(lowerBound).build());
+            keyCondition += lowerBoundInclusive ? " AND #courseId >= :from" : " AND #courseId > :from";
+        }
+
+        QueryResponse response = dynamoDbClient.query(QueryRequest.builder()
+                .tableName(tableName)
+                .keyConditionExpression(keyCondition)
+                .limit(pageSize)
+                .exclusiveStartKey(startKey)
+                .expressionAttributeNames(names)
+                .expressionAttributeValues(values)
+                .build());
+        List<String> courseIds = new ArrayList<>(response.items().size());
+        for (Map<String, AttributeValue> item : response.items()) {
+            courseIds.add(item.get(CourseTagIndex.COURSE_ID).s());
+        }
+        buffer = courseIds;
+        position = 0;
+        startKey = response.hasLastEvaluatedKey() && !response.lastEvaluatedKey().isEmpty()
+                ? response.lastEvaluatedKey()
+                : null;
+        exhausted = startKey == null;
+    }
+}
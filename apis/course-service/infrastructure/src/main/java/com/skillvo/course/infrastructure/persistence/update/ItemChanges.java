@@ -0,0 +1,180 @@
+package com.skillvo.course.infrastructure.persistence.update;
+
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The difference between two versions of an item as an UpdateExpression: SET for every value
+ * that was added or changed and REMOVE for every one that went away. Maps are compared key by
+ * key and lists of unchanged length element by element, so renaming one lesson sets that
+ * lesson's title rather than the whole sections list. Lists that grew or shrank are set whole.
+ * Paths never overlap, which DynamoDB requires of the paths in one expression.
+ */
+public final class ItemChanges {
+    /**
+     * DynamoDB's limit on the length of an UpdateExpression.
+     */
+    static final int MAX_EXPRESSION_LENGTH = 4096;
+
+    private final Set<String> ignored;
+    private final boolean nested;
+    private final List<String> sets = new ArrayList<>();
+    private final List<String> removes = new ArrayList<>();
+    private final Map<String, String> names = new HashMap<>();
+    private final Map<String, String> placeholders = new HashMap<>();
+    private final Map<String, AttributeValue> values = new HashMap<>();
+
+    private ItemChanges(Set<String> ignored, boolean nested) {
+        this.ignored = ignored;
+        this.nested = nested;
+    }
+
+    /**
+     * The changes from {@code current} to {@code updated}, leaving out the {@code ignored}
+     * top-level attributes, such as the key and the version the caller conditions on. Falls
+     * back to setting changed top-level attributes whole if the nested paths would make the
+     * expression too long.
+     */
+    public static ItemChanges between(Map<String, AttributeValue> current, Map<String, AttributeValue> updated,
+                                      Set<String> ignored) {
+        ItemChanges changes = new ItemChanges(ignored, true).diff(current, updated);
+        if (changes.updateExpression().length() > MAX_EXPRESSION_LENGTH) {
+            changes = new ItemChanges(ignored, false).diff(current, updated);
+        }
+        return changes;
+    }
+
+    public boolean isEmpty() {
+        return sets.isEmpty() && removes.isEmpty();
+    }
+
+    /**
+     * The number of paths set or removed.
+     */
+    public int size() {
+        return sets.size() + removes.size();
+    }
+
+    public String updateExpression() {
+        StringBuilder expression = new StringBuilder();
+        if (!sets.isEmpty()) {
+            expression.append("SET ").append(String.join(", ", sets));
+        }
+        if (!removes.isEmpty()) {
+            if (expression.length() > 0) {
+                expression.append(' ');
+            }
+            expression.append("REMOVE ").append(String.join(", ", removes));
+        }
+        return expression.toString();
+    }
+
+    /**
+     * Placeholders for attribute names; every name goes through one, as course attributes such
+     * as {@code status}, {@code level} and {@code duration} are reserved words.
+     */
+    public Map<String, String> expressionAttributeNames() {
+        return names;
+    }
+
+    public Map<String, AttributeValue> expressionAttributeValues() {
+        return values;
+    }
+
+    /**
+     * Adds a SET of a top-level attribute the diff did not cover, e.g. the new version.
+     */
+    public ItemChanges set(String attribute, AttributeValue value) {
+        sets.add(name(attribute) + " = " + value(value));
+        return this;
+    }
+
+    /**
+     * The placeholder of an attribute name, for conditions that go with the expression.
+     */
+    public String name(String attribute) {
+        return placeholders.computeIfAbsent(attribute, a -> {
+            String placeholder = "#n" + placeholders.size();
+            names.put(placeholder, a);
+            return placeholder;
+        });
+    }
+
+    /**
+     * The placeholder of a value, for conditions that go with the expression.
+     */
+    public String value(AttributeValue value) {
+        String placeholder = ":v" + values.size();
+        values.put(placeholder, value);
+        return placeholder;
+    }
+
+    private ItemChanges diff(Map<String, AttributeValue> current, Map<String, AttributeValue> updated) {
+        updated.forEach((attribute, value) -> {
+            if (!ignored.contains(attribute)) {
+                diff(List.of(attribute), current.get(attribute), value);
+            }
+        });
+        current.keySet().forEach(attribute -> {
+            if (!ignored.contains(attribute) && !updated.containsKey(attribute)) {
+                removes.add(path(List.of(attribute)));
+            }
+        });
+        return this;
+    }
+
+    /**
+     * Paths are kept as map keys and list indexes until something is written at them, so that
+     * only the names that end up in the expression get placeholders; DynamoDB rejects unused ones.
+     */
+    private void diff(List<Object> path, AttributeValue current, AttributeValue updated) {
+        if (updated.equals(current)) {
+            return;
+        }
+        if (nested && current != null && current.hasM() && updated.hasM()) {
+            Map<String, AttributeValue> currentMap = current.m();
+            updated.m().forEach((key, value) -> diff(append(path, key), currentMap.get(key), value));
+            currentMap.keySet().forEach(key -> {
+                if (!updated.m().containsKey(key)) {
+                    removes.add(path(append(path, key)));
+                }
+            });
+        } else if (nested && current != null && current.hasL() && updated.hasL()
+                && current.l().size() == updated.l().size()) {
+            List<AttributeValue> currentList = current.l();
+            List<AttributeValue> updatedList = updated.l();
+            for (int i = 0; i < updatedList.size(); i++) {
+                diff(append(path, i), currentList.get(i), updatedList.get(i));
+            }
+        } else {
+            sets.add(path(path) + " = " + value(updated));
+        }
+    }
+
+    private String path(List<Object> segments) {
+        StringBuilder path = new StringBuilder();
+        for (Object segment : segments) {
+            if (segment instanceof Integer) {
+                path.append('[').append(segment).append(']');
+            } else {
+                if (path.length() > 0) {
+                    path.append('.');
+                }
+                path.append(name((String) segment));
+            }
+        }
+        return path.toString();
+    }
+
+    private static List<Object> append(List<Object> path, Object segment) {
+        List<Object> appended = new ArrayList<>(path.size() + 1);
+        appended.addAll(path);
+        appended.add(segment);
+        return appended;
+    }
+}
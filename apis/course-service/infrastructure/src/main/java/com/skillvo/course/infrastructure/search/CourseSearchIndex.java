@@ -0,0 +1,279 @@
+package com.skillvo.course.infrastructure.search;
+
+import com.skillvo.course.domain.model.aggregates.Course;
+import com.skillvo.course.domain.model.events.CourseCreated;
+import com.skillvo.course.domain.model.events.CoursePublished;
+import com.skillvo.course.domain.repository.CourseFilter;
+import com.skillvo.course.domain.repository.CourseRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Full-text search over course title, description, tags, topic code and author names, ranked
+ * with BM25. Each tenant has its own index under {@code course.search.index-dir}, persisted as
+ * memory-mapped segment files, so a restart maps the files instead of re-reading the courses.
+ * Matches in the title count three times as much as in the description, tags and topic code
+ * twice, author names one and a half times.
+ * <p>
+ * The CourseCreated and CoursePublished events of this process go into the index as they
+ * happen. Courses are written by other processes too, so a search also refreshes its tenant
+ * from the table once {@code course.search.refresh-interval-seconds} have passed since the
+ * last refresh: results are at most that old, plus the time the refresh takes.
+ */
+@Slf4j
+@Component
+public class CourseSearchIndex {
+    static final int TITLE_WEIGHT = 6;
+    static final int TAG_WEIGHT = 4;
+    static final int TOPIC_WEIGHT = 4;
+    static final int AUTHOR_WEIGHT = 3;
+    static final int DESCRIPTION_WEIGHT = 2;
+
+    private final CourseRepository courseRepository;
+    private final Path indexDirectory;
+    private final int flushThreshold;
+    private final int maxSegments;
+    private final boolean rebuildOnStart;
+    private final long refreshIntervalNanos;
+    private final TextAnalyzer analyzer = new TextAnalyzer();
+    private final Map<String, TenantSearchIndex> tenants = new ConcurrentHashMap<>();
+    /** Hash of the document last indexed for each course, by tenant, so refreshes skip unchanged courses. */
+    private final Map<String, Map<UUID, Integer>> indexedDocuments = new ConcurrentHashMap<>();
+    /** System.nanoTime() of each tenant's last refresh. */
+    private final Map<String, Long> refreshedAt = new ConcurrentHashMap<>();
+
+    public CourseSearchIndex(CourseRepository courseRepository,
+                             @Value("${course.search.index-dir:${java.io.tmpdir}/course-search}") String indexDirectory,
+                             @Value("${course.search.flush-threshold:1000}") int flushThreshold,
+                             @Value("${course.search.max-segments:8}") int maxSegments,
+                             @Value("${course.search.rebuild-on-start:false}") boolean rebuildOnStart,
+                             @Value("${course.search.refresh-interval-seconds:60}") long refreshIntervalSeconds) {
+        if (refreshIntervalSeconds < 0) {
+            throw new IllegalArgumentException("refresh-interval-seconds must not be negative: " + refreshIntervalSeconds);
+        }
+        this.courseRepository = courseRepository;
+        this.indexDirectory = Paths.get(indexDirectory);
+        this.flushThreshold = flushThreshold;
+        this.maxSegments = maxSegments;
+        this.rebuildOnStart = rebuildOnStart;
+        this.refreshIntervalNanos = TimeUnit.SECONDS.toNanos(refreshIntervalSeconds);
+    }
+
+    @PostConstruct
+    public void open() throws IOException {
+        Files.createDirectories(indexDirectory);
+        try (DirectoryStream<Path> entries = Files.newDirectoryStream(indexDirectory, Files::isDirectory)) {
+            for (Path entry : entries) {
+                String tenantId = new String(Base64.getUrlDecoder().decode(entry.getFileName().toString()),
+                        StandardCharsets.UTF_8);
+                tenants.put(tenantId, TenantSearchIndex.open(entry, flushThreshold, maxSegments));
+            }
+        }
+        log.info("Opened course search index in {} with {} tenants", indexDirectory, tenants.size());
+        if (rebuildOnStart && tenants.isEmpty()) {
+            rebuild();
+        }
+    }
+
+    @EventListener
+    public void on(CourseCreated event) {
+        indexQuietly(SearchDocument.of(event));
+    }
+
+    @EventListener
+    public void on(CoursePublished event) {
+        indexQuietly(SearchDocument.of(event));
+    }
+
+    private void indexQuietly(SearchDocument document) {
+        try {
+            index(document);
+        } catch (RuntimeException e) {
+            // The course is saved either way; rebuild() brings the index back in line
+            log.error("Could not index course {} for search", document.getCourseId(), e);
+        }
+    }
+
+    /**
+     * Adds the course, replacing what was indexed for it before.
+     */
+    public void index(SearchDocument document) {
+        Map<String, Integer> termWeights = new HashMap<>();
+        int length = addField(termWeights, document.getTitle(), TITLE_WEIGHT)
+                + addField(termWeights, document.getDescription(), DESCRIPTION_WEIGHT)
+                + addField(termWeights, document.getTopicCode(), TOPIC_WEIGHT);
+        if (document.getTags() != null) {
+            for (String tag : document.getTags()) {
+                length += addField(termWeights, tag, TAG_WEIGHT);
+            }
+        }
+        if (document.getAuthors() != null) {
+            for (String author : document.getAuthors()) {
+                length += addField(termWeights, author, AUTHOR_WEIGHT);
+            }
+        }
+        tenant(document.getTenantId()).add(document.getCourseId(), termWeights, length);
+        indexedDocuments.computeIfAbsent(document.getTenantId(), id -> new ConcurrentHashMap<>())
+                .put(document.getCourseId(), document.hashCode());
+    }
+
+    public void remove(String tenantId, UUID courseId) {
+        TenantSearchIndex tenant = tenants.get(tenantId);
+        if (tenant != null) {
+            tenant.remove(courseId);
+        }
+        Map<UUID, Integer> indexed = indexedDocuments.get(tenantId);
+        if (indexed != null) {
+            indexed.remove(courseId);
+        }
+    }
+
+    /**
+     * The tenant's best matching courses for the query, best first. Courses match on any of the
+     * query's terms and rank higher the more of them they have.
+     */
+    public List<SearchHit> search(String tenantId, String query, int limit) {
+        refreshIfDue(tenantId);
+        TenantSearchIndex tenant = tenants.get(tenantId);
+        if (tenant == null) {
+            return new ArrayList<>();
+        }
+        Collection<String> terms = new LinkedHashSet<>(analyzer.analyze(query));
+        return tenant.search(terms, limit);
+    }
+
+    /**
+     * Refreshes the tenant when the refresh interval has passed. Only one of several searches
+     * arriving at once refreshes; the others are served from the index as it is.
+     */
+    private void refreshIfDue(String tenantId) {
+        if (refreshIntervalNanos == 0) {
+            return;
+        }
+        long now = System.nanoTime();
+        Long last = refreshedAt.get(tenantId);
+        if (last != null && now - last < refreshIntervalNanos) {
+            return;
+        }
+        boolean claimed = last == null
+                ? refreshedAt.putIfAbsent(tenantId, now) == null
+                : refreshedAt.replace(tenantId, last, now);
+        if (claimed) {
+            try {
+                refresh(tenantId);
+            } catch (RuntimeException e) {
+                // Searches keep being served from the index as it is until the next refresh
+                log.error("Could not refresh course search index of tenant {}", tenantId, e);
+            }
+        }
+    }
+
+    /**
+     * Reads the tenant's courses from the table and indexes those that changed since they were
+     * last indexed by this process. Courses it indexed that are gone from the table are removed.
+     * Returns the number of courses indexed or removed.
+     */
+    public int refresh(String tenantId) {
+        Map<UUID, Integer> indexed = indexedDocuments.computeIfAbsent(tenantId, id -> new ConcurrentHashMap<>());
+        Set<UUID> seen = new HashSet<>();
+        AtomicInteger changed = new AtomicInteger();
+        try (Stream<Course> courses = courseRepository.stream(CourseFilter.builder().tenantId(tenantId).build())) {
+            courses.forEach(course -> {
+                SearchDocument document = SearchDocument.of(course);
+                seen.add(document.getCourseId());
+                if (!Integer.valueOf(document.hashCode()).equals(indexed.get(document.getCourseId()))) {
+                    index(document);
+                    changed.incrementAndGet();
+                }
+            });
+        }
+        for (UUID courseId : new ArrayList<>(indexed.keySet())) {
+            if (!seen.contains(courseId)) {
+                remove(tenantId, courseId);
+                changed.incrementAndGet();
+            }
+        }
+        log.debug("Refreshed course search index of tenant {}: {} courses changed", tenantId, changed.get());
+        return changed.get();
+    }
+
+    /**
+     * Makes the next search of every tenant refresh it first, e.g. after a SnapStart restore,
+     * where the index is as old as the snapshot.
+     */
+    public void markStale() {
+        refreshedAt.clear();
+    }
+
+    /**
+     * Indexes every course again, for an empty index directory or after index writes were lost.
+     * Returns the number of courses indexed.
+     */
+    public long rebuild() {
+        AtomicLong indexed = new AtomicLong();
+        try (Stream<Course> courses = courseRepository.parallelScan(CourseFilter.builder().build())) {
+            courses.forEach(course -> {
+                index(SearchDocument.of(course));
+                indexed.incrementAndGet();
+            });
+        }
+        flush();
+        log.info("Rebuilt course search index with {} courses", indexed.get());
+        return indexed.get();
+    }
+
+    /**
+     * Writes what is held in memory to segment files.
+     */
+    @PreDestroy
+    public void flush() {
+        tenants.values().forEach(TenantSearchIndex::flush);
+    }
+
+    private TenantSearchIndex tenant(String tenantId) {
+        return tenants.computeIfAbsent(tenantId, id -> {
+            Path directory = indexDirectory.resolve(Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString(id.getBytes(StandardCharsets.UTF_8)));
+            try {
+                return TenantSearchIndex.open(directory, flushThreshold, maxSegments);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not open search index in " + directory, e);
+            }
+        });
+    }
+
+    private int addField(Map<String, Integer> termWeights, String text, int weight) {
+        List<String> terms = analyzer.analyze(text);
+        for (String term : terms) {
+            termWeights.merge(term, weight, Integer::sum);
+        }
+        return terms.size() * weight;
+    }
+}
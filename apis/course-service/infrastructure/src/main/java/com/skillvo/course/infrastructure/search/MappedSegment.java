@@ -0,0 +1,156 @@
+package com.skillvo.course.infrastructure.search;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * A segment file written by {@link SegmentWriter}, memory-mapped read-only. Nothing is copied
+ * onto the heap when it is opened: terms are found by binary search over the sorted term table
+ * and postings are decoded straight from the mapping, so the OS page cache holds the index.
+ * Reads use absolute positions only, so one instance serves concurrent searches.
+ */
+final class MappedSegment implements Segment {
+    private final Path file;
+    private final ByteBuffer buffer;
+    private final int docCount;
+    private final int termCount;
+    private final int termTableOffset;
+    private final int termBytesOffset;
+    private final int postingsOffset;
+
+    private MappedSegment(Path file, ByteBuffer buffer) throws IOException {
+        this.file = file;
+        this.buffer = buffer;
+        if (buffer.capacity() < SegmentWriter.HEADER_BYTES
+                || buffer.getInt(0) != SegmentWriter.MAGIC
+                || buffer.getInt(4) != SegmentWriter.VERSION) {
+            throw new IOException("Not a course search segment: " + file);
+        }
+        this.docCount = buffer.getInt(8);
+        this.termCount = buffer.getInt(12);
+        this.termTableOffset = buffer.getInt(16);
+        this.termBytesOffset = buffer.getInt(20);
+        this.postingsOffset = buffer.getInt(24);
+        if (termTableOffset != SegmentWriter.HEADER_BYTES + docCount * SegmentWriter.DOC_BYTES
+                || termBytesOffset != termTableOffset + termCount * SegmentWriter.TERM_ENTRY_BYTES
+                || postingsOffset < termBytesOffset || postingsOffset > buffer.capacity()) {
+            throw new IOException("Corrupt course search segment: " + file);
+        }
+    }
+
+    static MappedSegment open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            // The mapping stays valid after the channel is closed
+            return new MappedSegment(file, channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    Path file() {
+        return file;
+    }
+
+    @Override
+    public int docCount() {
+        return docCount;
+    }
+
+    @Override
+    public UUID courseId(int doc) {
+        int offset = SegmentWriter.HEADER_BYTES + doc * SegmentWriter.DOC_BYTES;
+        return new UUID(buffer.getLong(offset), buffer.getLong(offset + Long.BYTES));
+    }
+
+    @Override
+    public int docLength(int doc) {
+        return buffer.getInt(SegmentWriter.HEADER_BYTES + doc * SegmentWriter.DOC_BYTES + 2 * Long.BYTES);
+    }
+
+    @Override
+    public int docFreq(String term) {
+        int entry = find(term);
+        return entry < 0 ? 0 : buffer.getInt(entryOffset(entry) + 2 * Integer.BYTES);
+    }
+
+    @Override
+    public void postings(String term, PostingVisitor visitor) {
+        int entry = find(term);
+        if (entry < 0) {
+            return;
+        }
+        int docFreq = buffer.getInt(entryOffset(entry) + 2 * Integer.BYTES);
+        int[] position = {postingsOffset + buffer.getInt(entryOffset(entry) + Integer.BYTES)};
+        int doc = 0;
+        for (int i = 0; i < docFreq; i++) {
+            doc += readVarint(position);
+            visitor.visit(doc, readVarint(position));
+        }
+    }
+
+    @Override
+    public List<String> terms() {
+        List<String> terms = new ArrayList<>(termCount);
+        for (int entry = 0; entry < termCount; entry++) {
+            int offset = termBytesOffset + buffer.getInt(entryOffset(entry));
+            byte[] bytes = new byte[buffer.getShort(offset) & 0xFFFF];
+            for (int i = 0; i < bytes.length; i++) {
+                bytes[i] = buffer.get(offset + 2 + i);
+            }
+            terms.add(new String(bytes, StandardCharsets.UTF_8));
+        }
+        return terms;
+    }
+
+    private int find(String term) {
+        byte[] key = term.getBytes(StandardCharsets.UTF_8);
+        int low = 0;
+        int high = termCount - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int comparison = compareTerm(middle, key);
+            if (comparison < 0) {
+                low = middle + 1;
+            } else if (comparison > 0) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -1;
+    }
+
+    private int compareTerm(int entry, byte[] key) {
+        int offset = termBytesOffset + buffer.getInt(entryOffset(entry));
+        int length = buffer.getShort(offset) & 0xFFFF;
+        int shared = Math.min(length, key.length);
+        for (int i = 0; i < shared; i++) {
+            int difference = (buffer.get(offset + 2 + i) & 0xFF) - (key[i] & 0xFF);
+            if (difference != 0) {
+                return difference;
+            }
+        }
+        return length - key.length;
+    }
+
+    private int entryOffset(int entry) {
+        return termTableOffset + entry * SegmentWriter.TERM_ENTRY_BYTES;
+    }
+
+    private int readVarint(int[] position) {
+        int value = 0;
+        int shift = 0;
+        byte next;
+        do {
+            next = buffer.get(position[0]++);
+            value |= (next & 0x7F) << shift;
+            shift += 7;
+        } while (next < 0);
+        return value;
+    }
+}
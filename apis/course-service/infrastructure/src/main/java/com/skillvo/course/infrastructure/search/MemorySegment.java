@@ -0,0 +1,101 @@
+package com.skillvo.course.infrastructure.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * The segment documents are added to until it is written out. Postings are appended, so
+ * documents are numbered in the order they are added.
+ */
+final class MemorySegment implements Segment {
+    private final List<UUID> courseIds = new ArrayList<>();
+    private int[] lengths = new int[64];
+    private final Map<String, Postings> postings = new HashMap<>();
+
+    /**
+     * Adds a document with the given term weights and returns its number.
+     */
+    int add(UUID courseId, Map<String, Integer> termWeights, int length) {
+        int doc = addDocument(courseId, length);
+        termWeights.forEach((term, weight) -> addPosting(term, doc, weight));
+        return doc;
+    }
+
+    int addTombstone(UUID courseId) {
+        return addDocument(courseId, TOMBSTONE);
+    }
+
+    int addDocument(UUID courseId, int length) {
+        int doc = courseIds.size();
+        courseIds.add(courseId);
+        if (doc == lengths.length) {
+            lengths = Arrays.copyOf(lengths, doc * 2);
+        }
+        lengths[doc] = length;
+        return doc;
+    }
+
+    /**
+     * Postings of a term must be added in ascending document order.
+     */
+    void addPosting(String term, int doc, int weight) {
+        postings.computeIfAbsent(term, t -> new Postings()).add(doc, weight);
+    }
+
+    @Override
+    public int docCount() {
+        return courseIds.size();
+    }
+
+    @Override
+    public UUID courseId(int doc) {
+        return courseIds.get(doc);
+    }
+
+    @Override
+    public int docLength(int doc) {
+        return lengths[doc];
+    }
+
+    @Override
+    public int docFreq(String term) {
+        Postings termPostings = postings.get(term);
+        return termPostings != null ? termPostings.size : 0;
+    }
+
+    @Override
+    public void postings(String term, PostingVisitor visitor) {
+        Postings termPostings = postings.get(term);
+        if (termPostings == null) {
+            return;
+        }
+        for (int i = 0; i < termPostings.size; i++) {
+            visitor.visit(termPostings.docs[i], termPostings.weights[i]);
+        }
+    }
+
+    @Override
+    public List<String> terms() {
+        return new ArrayList<>(postings.keySet());
+    }
+
+    private static final class Postings {
+        private int[] docs = new int[4];
+        private int[] weights = new int[4];
+        private int size;
+
+        void add(int doc, int weight) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+                weights = Arrays.copyOf(weights, size * 2);
+            }
+            docs[size] = doc;
+            weights[size] = weight;
+            size++;
+        }
+    }
+}
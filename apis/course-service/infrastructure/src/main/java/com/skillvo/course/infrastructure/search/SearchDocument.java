@@ -0,0 +1,69 @@
+package com.skillvo.course.infrastructure.search;
+
+import com.skillvo.course.domain.model.aggregates.Course;
+import com.skillvo.course.domain.model.events.CourseCreated;
+import com.skillvo.course.domain.model.events.CoursePublished;
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * The searchable text of a course, taken from the course itself or from the event that
+ * announced it.
+ */
+@Value
+@Builder
+public class SearchDocument {
+    UUID courseId;
+    String tenantId;
+    String title;
+    String description;
+    List<String> tags;
+    String topicCode;
+    List<String> authors;
+
+    public static SearchDocument of(Course course) {
+        List<String> authors = course.getAuthors() == null
+                ? Collections.emptyList()
+                : course.getAuthors().stream()
+                        .map(author -> author.getFirstName() + " " + author.getLastName())
+                        .collect(Collectors.toList());
+        return SearchDocument.builder()
+                .courseId(course.getCourseId())
+                .tenantId(course.getTenantId())
+                .title(course.getTitle())
+                .description(course.getDescription())
+                .tags(course.getTags())
+                .topicCode(course.getTopicCode())
+                .authors(authors)
+                .build();
+    }
+
+    public static SearchDocument of(CourseCreated event) {
+        return SearchDocument.builder()
+                .courseId(event.getCourseId())
+                .tenantId(event.getTenantId())
+                .title(event.getTitle())
+                .description(event.getDescription())
+                .tags(event.getTags())
+                .topicCode(event.getTopicCode())
+                .authors(event.getAuthors())
+                .build();
+    }
+
+    public static SearchDocument of(CoursePublished event) {
+        return SearchDocument.builder()
+                .courseId(event.getCourseId())
+                .tenantId(event.getTenantId())
+                .title(event.getTitle())
+                .description(event.getDescription())
+                .tags(event.getTags())
+                .topicCode(event.getTopicCode())
+                .authors(event.getAuthors())
+                .build();
+    }
+}
@@ -0,0 +1,11 @@
+package com.skillvo.course.infrastructure.search;
+
+import lombok.Value;
+
+import java.util.UUID;
+
+@Value
+public class SearchHit {
+    UUID courseId;
+    float score;
+}
@@ -0,0 +1,36 @@
+package com.skillvo.course.infrastructure.search;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * A numbered set of course documents and the postings of their terms. A document is a course
+ * ID, a length and, per term, a weight: the term's occurrences scaled by the boost of the field
+ * they are in. A removal is recorded as a document with {@link #TOMBSTONE} length and no terms.
+ */
+interface Segment {
+    int TOMBSTONE = -1;
+
+    int docCount();
+
+    UUID courseId(int doc);
+
+    int docLength(int doc);
+
+    int docFreq(String term);
+
+    /**
+     * Visits the postings of the term in ascending document order.
+     */
+    void postings(String term, PostingVisitor visitor);
+
+    /**
+     * Every term of the segment, in no particular order.
+     */
+    List<String> terms();
+
+    @FunctionalInterface
+    interface PostingVisitor {
+        void visit(int doc, int weight);
+    }
+}
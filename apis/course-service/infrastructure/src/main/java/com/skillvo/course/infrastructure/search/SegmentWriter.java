@@ -0,0 +1,108 @@
+package com.skillvo.course.infrastructure.search;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Writes a segment in the file format {@link MappedSegment} reads:
+ * <pre>
+ * header    magic, version, docCount, termCount, termTableOffset, termBytesOffset, postingsOffset
+ * documents docCount x (courseId msb, courseId lsb, length)
+ * termTable termCount x (term offset, postings offset, docFreq), sorted by the term's UTF-8 bytes
+ * termBytes per term: unsigned short length, UTF-8 bytes
+ * postings  per term, per document: varint doc delta, varint weight
+ * </pre>
+ * The file is written next to its final name and moved into place, so a reader never sees a
+ * partly written segment.
+ */
+final class SegmentWriter {
+    static final int MAGIC = 0x43534731;
+    static final int VERSION = 1;
+    static final int HEADER_BYTES = 7 * Integer.BYTES;
+    static final int DOC_BYTES = 2 * Long.BYTES + Integer.BYTES;
+    static final int TERM_ENTRY_BYTES = 3 * Integer.BYTES;
+
+    private SegmentWriter() {
+    }
+
+    static void write(Segment segment, Path file) throws IOException {
+        List<String> terms = segment.terms();
+        List<byte[]> termBytes = new ArrayList<>(terms.size());
+        for (String term : terms) {
+            termBytes.add(term.getBytes(StandardCharsets.UTF_8));
+        }
+        Integer[] order = new Integer[terms.size()];
+        Arrays.setAll(order, i -> i);
+        Arrays.sort(order, (a, b) -> Arrays.compareUnsigned(termBytes.get(a), termBytes.get(b)));
+
+        ByteBuffer termTable = ByteBuffer.allocate(terms.size() * TERM_ENTRY_BYTES);
+        ByteArrayOutputStream termArea = new ByteArrayOutputStream();
+        ByteArrayOutputStream postingArea = new ByteArrayOutputStream();
+        for (int i : order) {
+            byte[] bytes = termBytes.get(i);
+            termTable.putInt(termArea.size())
+                    .putInt(postingArea.size())
+                    .putInt(segment.docFreq(terms.get(i)));
+            termArea.write(bytes.length >>> 8);
+            termArea.write(bytes.length);
+            termArea.write(bytes);
+
+            int[] previous = {0};
+            segment.postings(terms.get(i), (doc, weight) -> {
+                writeVarint(postingArea, doc - previous[0]);
+                writeVarint(postingArea, weight);
+                previous[0] = doc;
+            });
+        }
+
+        int docCount = segment.docCount();
+        int termTableOffset = HEADER_BYTES + docCount * DOC_BYTES;
+        int termBytesOffset = termTableOffset + termTable.capacity();
+        int postingsOffset = termBytesOffset + termArea.size();
+        ByteBuffer contents = ByteBuffer.allocate(postingsOffset + postingArea.size());
+        contents.putInt(MAGIC)
+                .putInt(VERSION)
+                .putInt(docCount)
+                .putInt(terms.size())
+                .putInt(termTableOffset)
+                .putInt(termBytesOffset)
+                .putInt(postingsOffset);
+        for (int doc = 0; doc < docCount; doc++) {
+            contents.putLong(segment.courseId(doc).getMostSignificantBits())
+                    .putLong(segment.courseId(doc).getLeastSignificantBits())
+                    .putInt(segment.docLength(doc));
+        }
+        contents.put(termTable.array())
+                .put(termArea.toByteArray())
+                .put(postingArea.toByteArray())
+                .flip();
+
+        Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            while (contents.hasRemaining()) {
+                channel.write(contents);
+            }
+            channel.force(true);
+        }
+        Files.move(temporary, file, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static void writeVarint(ByteArrayOutputStream out, int value) {
+        while ((value & ~0x7F) != 0) {
+            out.write((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.write(value);
+    }
+}
@@ -0,0 +1,320 @@
+package com.skillvo.course.infrastructure.search;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * One tenant's index: immutable segment files, oldest first, and an in-memory segment taking
+ * new documents. A course lives in the segment it was last added to; its earlier documents are
+ * marked dead in per-segment live sets instead of being rewritten. The in-memory segment is
+ * written out once it holds {@code flushThreshold} documents, and once there are more than
+ * {@code maxSegments} files they are merged into one without the dead documents.
+ */
+@Slf4j
+final class TenantSearchIndex {
+    static final String SEGMENT_PREFIX = "segment-";
+    static final String SEGMENT_SUFFIX = ".csi";
+    private static final float K1 = 1.2f;
+    private static final float B = 0.75f;
+
+    private final Path directory;
+    private final int flushThreshold;
+    private final int maxSegments;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final List<Segment> segments = new ArrayList<>();
+    private final List<BitSet> live = new ArrayList<>();
+    private final Map<UUID, Long> locations = new HashMap<>();
+    private MemorySegment buffer = new MemorySegment();
+    private BitSet bufferLive = new BitSet();
+    private long nextGeneration = 1;
+    private int liveDocs;
+    private long liveLength;
+
+    private TenantSearchIndex(Path directory, int flushThreshold, int maxSegments) {
+        this.directory = directory;
+        this.flushThreshold = flushThreshold;
+        this.maxSegments = maxSegments;
+    }
+
+    /**
+     * Maps the directory's segment files, newest last, and works out which documents are live.
+     */
+    static TenantSearchIndex open(Path directory, int flushThreshold, int maxSegments) throws IOException {
+        Files.createDirectories(directory);
+        TenantSearchIndex index = new TenantSearchIndex(directory, flushThreshold, maxSegments);
+        List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> entries = Files.newDirectoryStream(directory)) {
+            for (Path entry : entries) {
+                String name = entry.getFileName().toString();
+                if (name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX)) {
+                    files.add(entry);
+                } else if (name.endsWith(".tmp")) {
+                    // Left by a write that did not finish
+                    Files.delete(entry);
+                }
+            }
+        }
+        files.sort(Comparator.comparingLong(TenantSearchIndex::generation));
+        for (Path file : files) {
+            index.addSegment(MappedSegment.open(file));
+            index.nextGeneration = generation(file) + 1;
+        }
+        return index;
+    }
+
+    void add(UUID courseId, Map<String, Integer> termWeights, int length) {
+        lock.writeLock().lock();
+        try {
+            supersede(courseId);
+            int doc = buffer.add(courseId, termWeights, length);
+            bufferLive.set(doc);
+            locations.put(courseId, location(segments.size(), doc));
+            liveDocs++;
+            liveLength += length;
+            flushIfFull();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void remove(UUID courseId) {
+        lock.writeLock().lock();
+        try {
+            if (supersede(courseId)) {
+                // Segment files are immutable, so the removal is recorded as a document of its own
+                buffer.addTombstone(courseId);
+                flushIfFull();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    int size() {
+        lock.readLock().lock();
+        try {
+            return liveDocs;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    int segmentCount() {
+        lock.readLock().lock();
+        try {
+            return segments.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * BM25 over the live documents. Document frequencies count every document that has the
+     * term, dead ones included until a merge drops them, which only slightly skews the idf.
+     */
+    List<SearchHit> search(Collection<String> terms, int limit) {
+        lock.readLock().lock();
+        try {
+            if (liveDocs == 0 || terms.isEmpty() || limit <= 0) {
+                return new ArrayList<>();
+            }
+            List<Segment> all = new ArrayList<>(segments);
+            all.add(buffer);
+            List<BitSet> allLive = new ArrayList<>(live);
+            allLive.add(bufferLive);
+            float averageLength = (float) liveLength / liveDocs;
+            float[][] scores = new float[all.size()][];
+
+            for (String term : terms) {
+                long docFreq = 0;
+                for (Segment segment : all) {
+                    docFreq += segment.docFreq(term);
+                }
+                if (docFreq == 0) {
+                    continue;
+                }
+                // Dead documents can push the count past the live ones, which would make idf negative
+                docFreq = Math.min(docFreq, liveDocs);
+                float idf = (float) Math.log(1 + (liveDocs - docFreq + 0.5) / (docFreq + 0.5));
+                for (int s = 0; s < all.size(); s++) {
+                    Segment segment = all.get(s);
+                    BitSet segmentLive = allLive.get(s);
+                    if (scores[s] == null) {
+                        scores[s] = new float[segment.docCount()];
+                    }
+                    float[] segmentScores = scores[s];
+                    segment.postings(term, (doc, weight) -> {
+                        if (segmentLive.get(doc)) {
+                            // Weights count half occurrences, so that boosts of 1.5 stay integers
+                            float frequency = weight / 2f;
+                            float norm = K1 * (1 - B + B * segment.docLength(doc) / averageLength);
+                            segmentScores[doc] += idf * frequency * (K1 + 1) / (frequency + norm);
+                        }
+                    });
+                }
+            }
+
+            Comparator<SearchHit> ranking = Comparator.comparingDouble(SearchHit::getScore)
+                    .thenComparing(SearchHit::getCourseId, Comparator.reverseOrder());
+            PriorityQueue<SearchHit> top = new PriorityQueue<>(limit + 1, ranking);
+            for (int s = 0; s < all.size(); s++) {
+                float[] segmentScores = scores[s];
+                if (segmentScores == null) {
+                    continue;
+                }
+                for (int doc = 0; doc < segmentScores.length; doc++) {
+                    float score = segmentScores[doc];
+                    if (score > 0 && (top.size() < limit || score > top.peek().getScore())) {
+                        top.add(new SearchHit(all.get(s).courseId(doc), score));
+                        if (top.size() > limit) {
+                            top.poll();
+                        }
+                    }
+                }
+            }
+            List<SearchHit> hits = new ArrayList<>(top);
+            hits.sort(ranking.reversed());
+            return hits;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    void flush() {
+        lock.writeLock().lock();
+        try {
+            if (buffer.docCount() > 0) {
+                writeBuffer();
+            }
+            if (segments.size() > maxSegments) {
+                merge();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write search segment in " + directory, e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void flushIfFull() {
+        if (buffer.docCount() >= flushThreshold) {
+            flush();
+        }
+    }
+
+    private void writeBuffer() throws IOException {
+        Path file = directory.resolve(SEGMENT_PREFIX + nextGeneration++ + SEGMENT_SUFFIX);
+        SegmentWriter.write(buffer, file);
+        // Document numbers are kept, so the locations pointing into the buffer stay valid
+        segments.add(MappedSegment.open(file));
+        live.add(bufferLive);
+        buffer = new MemorySegment();
+        bufferLive = new BitSet();
+    }
+
+    /**
+     * Rewrites the live documents of every segment into one. Removals need no tombstones
+     * afterwards, as there is no older segment left for them to hide documents in.
+     */
+    private void merge() throws IOException {
+        MemorySegment merged = new MemorySegment();
+        List<int[]> renumbered = new ArrayList<>(segments.size());
+        for (int s = 0; s < segments.size(); s++) {
+            Segment segment = segments.get(s);
+            BitSet segmentLive = live.get(s);
+            int[] docs = new int[segment.docCount()];
+            for (int doc = 0; doc < docs.length; doc++) {
+                docs[doc] = segmentLive.get(doc) ? merged.addDocument(segment.courseId(doc), segment.docLength(doc)) : -1;
+            }
+            renumbered.add(docs);
+        }
+        for (int s = 0; s < segments.size(); s++) {
+            int[] docs = renumbered.get(s);
+            Segment segment = segments.get(s);
+            for (String term : segment.terms()) {
+                segment.postings(term, (doc, weight) -> {
+                    if (docs[doc] >= 0) {
+                        merged.addPosting(term, docs[doc], weight);
+                    }
+                });
+            }
+        }
+
+        Path file = directory.resolve(SEGMENT_PREFIX + nextGeneration++ + SEGMENT_SUFFIX);
+        SegmentWriter.write(merged, file);
+        List<Segment> replaced = new ArrayList<>(segments);
+        segments.clear();
+        live.clear();
+        locations.clear();
+        liveDocs = 0;
+        liveLength = 0;
+        addSegment(MappedSegment.open(file));
+        for (Segment segment : replaced) {
+            // Deleting a mapped file is fine; the mapping goes away with the last reference
+            Files.deleteIfExists(((MappedSegment) segment).file());
+        }
+        log.debug("Merged {} search segments in {} into {} documents", replaced.size(), directory, merged.docCount());
+    }
+
+    private void addSegment(Segment segment) {
+        int index = segments.size();
+        BitSet segmentLive = new BitSet(segment.docCount());
+        segments.add(segment);
+        live.add(segmentLive);
+        for (int doc = 0; doc < segment.docCount(); doc++) {
+            UUID courseId = segment.courseId(doc);
+            supersede(courseId);
+            int length = segment.docLength(doc);
+            if (length != Segment.TOMBSTONE) {
+                segmentLive.set(doc);
+                locations.put(courseId, location(index, doc));
+                liveDocs++;
+                liveLength += length;
+            }
+        }
+    }
+
+    /**
+     * Marks the course's current document dead; returns whether it had one.
+     */
+    private boolean supersede(UUID courseId) {
+        Long location = locations.remove(courseId);
+        if (location == null) {
+            return false;
+        }
+        int index = (int) (location >>> 32);
+        int doc = (int) (long) location;
+        Segment segment = index < segments.size() ? segments.get(index) : buffer;
+        BitSet segmentLive = index < segments.size() ? live.get(index) : bufferLive;
+        segmentLive.clear(doc);
+        liveDocs--;
+        liveLength -= segment.docLength(doc);
+        return true;
+    }
+
+    private static long location(int segment, int doc) {
+        return ((long) segment << 32) | doc;
+    }
+
+    private static long generation(Path file) {
+        String name = file.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+}
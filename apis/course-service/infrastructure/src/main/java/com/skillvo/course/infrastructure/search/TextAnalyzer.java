@@ -0,0 +1,56 @@
+package com.skillvo.course.infrastructure.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Turns text into index terms: lower-cased runs of letters and digits, without English stop
+ * words, Porter-stemmed. A trailing '+' or '#' stays part of the token so "C++" and "C#" do not
+ * both become "c". Documents and queries go through the same analyzer, so their terms match.
+ */
+public class TextAnalyzer {
+    static final int MAX_TOKEN_LENGTH = 64;
+
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "an", "and", "are", "as", "at", "be", "but", "by", "for", "from", "how", "if", "in", "into",
+            "is", "it", "its", "no", "not", "of", "on", "or", "our", "so", "such", "that", "the", "their",
+            "then", "there", "these", "they", "this", "to", "was", "we", "what", "when", "which", "will",
+            "with", "you", "your");
+
+    private final ThreadLocal<PorterStemmer> stemmer = ThreadLocal.withInitial(PorterStemmer::new);
+
+    public List<String> analyze(String text) {
+        List<String> terms = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return terms;
+        }
+        String lowerCase = text.toLowerCase(Locale.ROOT);
+        int length = lowerCase.length();
+        int start = -1;
+        for (int i = 0; i <= length; i++) {
+            char c = i < length ? lowerCase.charAt(i) : ' ';
+            if (Character.isLetterOrDigit(c)) {
+                if (start < 0) {
+                    start = i;
+                }
+            } else if (start >= 0) {
+                int end = i;
+                while (end < length && (lowerCase.charAt(end) == '+' || lowerCase.charAt(end) == '#')) {
+                    end++;
+                }
+                addTerm(terms, lowerCase.substring(start, Math.min(end, start + MAX_TOKEN_LENGTH)));
+                start = -1;
+                i = end - 1;
+            }
+        }
+        return terms;
+    }
+
+    private void addTerm(List<String> terms, String token) {
+        if (!STOP_WORDS.contains(token)) {
+            terms.add(stemmer.get().stem(token));
+        }
+    }
+}
@@ -2,19 +2,41 @@ package com.skillvo.course.infrastructure.config;
 
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
-@SpringBootTest(classes = DynamoDBConfig.class)
+@SpringBootTest(classes = {AwsClientConfig.class, DynamoDBConfig.class})
 class DynamoDBConfigTest {
 
     @Autowired
     private DynamoDbClient dynamoDbClient;
 
+    @Autowired
+    private ApplicationContext context;
+
     @Test
     void shouldCreateDynamoDbClient() {
         assertThat(dynamoDbClient).isNotNull();
     }
+
+    @Test
+    void shouldCreateAsyncClientOnlyWhenFirstRequested() {
+        // Given
+        ConfigurableListableBeanFactory beanFactory = ((ConfigurableApplicationContext) context).getBeanFactory();
+        assertThat(beanFactory.containsSingleton("dynamoDbAsyncClient")).isFalse();
+        assertThat(beanFactory.containsSingleton("sdkAsyncHttpClient")).isFalse();
+
+        // When
+        DynamoDbAsyncClient asyncClient = context.getBean(DynamoDbAsyncClient.class);
+
+        // Then
+        assertThat(asyncClient).isNotNull();
+        assertThat(beanFactory.containsSingleton("sdkAsyncHttpClient")).isTrue();
+    }
 } 
\ No newline at end of file
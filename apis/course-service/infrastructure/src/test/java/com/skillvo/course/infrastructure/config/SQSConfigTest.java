@@ -3,18 +3,27 @@ package com.skillvo.course.infrastructure.config;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import software.amazon.awssdk.services.sqs.SqsAsyncClient;
 import software.amazon.awssdk.services.sqs.SqsClient;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
-@SpringBootTest(classes = SQSConfig.class)
+@SpringBootTest(classes = {AwsClientConfig.class, SQSConfig.class})
 class SQSConfigTest {
 
     @Autowired
     private SqsClient sqsClient;
 
+    @Autowired
+    private SqsAsyncClient sqsAsyncClient;
+
     @Test
     void shouldCreateSqsClient() {
         assertThat(sqsClient).isNotNull();
     }
+
+    @Test
+    void shouldCreateSqsAsyncClient() {
+        assertThat(sqsAsyncClient).isNotNull();
+    }
 } 
\ No newline at end of file
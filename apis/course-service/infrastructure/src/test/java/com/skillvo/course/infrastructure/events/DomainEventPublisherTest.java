@@ -2,6 +2,8 @@ package com.skillvo.course.infrastructure.events;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.skillvo.course.domain.model.events.DomainEvent;
+import com.skillvo.course.infrastructure.metrics.Stage;
+import com.skillvo.course.infrastructure.metrics.StageMetrics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -10,6 +12,8 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
 import software.amazon.awssdk.services.sqs.SqsClient;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequest;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchResponse;
 import software.amazon.awssdk.services.sqs.model.SendMessageRequest;
 
 
@@ -27,12 +31,13 @@ class DomainEventPublisherTest {
     @Mock
     private ObjectMapper objectMapper;
 
+    private final StageMetrics metrics = new StageMetrics(StageMetrics.Settings.defaults(), System.out);
     private DomainEventPublisher publisher;
     private static final String QUEUE_URL = "https://sqs.us-east-1.amazonaws.com/123456789012/test-queue";
 
     @BeforeEach
     void setUp() {
-        publisher = new DomainEventPublisher(sqsClient, objectMapper);
+        publisher = new DomainEventPublisher(sqsClient, objectMapper, metrics);
         ReflectionTestUtils.setField(publisher, "queueUrl", QUEUE_URL);
     }
 
@@ -53,6 +58,7 @@ class DomainEventPublisherTest {
         SendMessageRequest request = requestCaptor.getValue();
         assertThat(request.queueUrl()).isEqualTo(QUEUE_URL);
         assertThat(request.messageBody()).isEqualTo(serializedEvent);
+        assertThat(metrics.count(Stage.SQS_PUBLISH)).isEqualTo(1);
     }
 
     @Test
@@ -83,6 +89,35 @@ class DomainEventPublisherTest {
                 .isInstanceOf(RuntimeException.class)
                 .hasMessage("Failed to publish domain event")
                 .hasCauseInstanceOf(RuntimeException.class);
+        assertThat(metrics.errors(Stage.SQS_PUBLISH)).isEqualTo(1);
+    }
+
+    @Test
+    void shouldBatchEventsInAsyncMode() throws Exception {
+        // Given
+        ReflectionTestUtils.setField(publisher, "async", true);
+        ReflectionTestUtils.setField(publisher, "bufferCapacity", 100);
+        ReflectionTestUtils.setField(publisher, "lingerMillis", 10_000L);
+        ReflectionTestUtils.setField(publisher, "backpressure", SqsBatchPublisher.BackpressurePolicy.BLOCK);
+        ReflectionTestUtils.setField(publisher, "offerTimeoutMillis", 100L);
+        ReflectionTestUtils.setField(publisher, "maxAttempts", 3);
+        ReflectionTestUtils.setField(publisher, "shutdownTimeoutMillis", 5_000L);
+        publisher.start();
+        when(objectMapper.writeValueAsString(any())).thenReturn("{}");
+        when(sqsClient.sendMessageBatch(any(SendMessageBatchRequest.class)))
+                .thenReturn(SendMessageBatchResponse.builder().build());
+
+        // When
+        for (int i = 0; i < 12; i++) {
+            publisher.publish(new TestDomainEvent());
+        }
+        publisher.shutdown();
+
+        // Then
+        verify(sqsClient, never()).sendMessage(any(SendMessageRequest.class));
+        ArgumentCaptor<SendMessageBatchRequest> requestCaptor = ArgumentCaptor.forClass(SendMessageBatchRequest.class);
+        verify(sqsClient, times(2)).sendMessageBatch(requestCaptor.capture());
+        assertThat(requestCaptor.getAllValues()).extracting(request -> request.entries().size()).containsExactly(10, 2);
     }
 
     private static class TestDomainEvent extends DomainEvent {
@@ -0,0 +1,167 @@
+package com.skillvo.course.infrastructure.events;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.services.sqs.SqsClient;
+import software.amazon.awssdk.services.sqs.model.BatchResultErrorEntry;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequest;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequestEntry;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchResponse;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SqsBatchPublisherTest {
+
+    private static final String QUEUE_URL = "https://sqs.us-east-1.amazonaws.com/123456789012/test-queue";
+
+    @Mock
+    private SqsClient sqsClient;
+
+    @Test
+    void shouldSendFullBatchesAndDrainRemainderOnClose() {
+        // Given
+        when(sqsClient.sendMessageBatch(any(SendMessageBatchRequest.class)))
+                .thenReturn(SendMessageBatchResponse.builder().build());
+        SqsBatchPublisher publisher = publisher(100, Duration.ofSeconds(10), SqsBatchPublisher.BackpressurePolicy.BLOCK);
+
+        // When
+        for (int i = 0; i < 25; i++) {
+            publisher.submit("event-" + i);
+        }
+        publisher.close();
+
+        // Then
+        ArgumentCaptor<SendMessageBatchRequest> captor = ArgumentCaptor.forClass(SendMessageBatchRequest.class);
+        verify(sqsClient, times(3)).sendMessageBatch(captor.capture());
+        assertThat(captor.getAllValues()).extracting(request -> request.entries().size()).containsExactly(10, 10, 5);
+        assertThat(captor.getAllValues()).allSatisfy(request -> assertThat(request.queueUrl()).isEqualTo(QUEUE_URL));
+        assertThat(captor.getAllValues().stream()
+                .flatMap(request -> request.entries().stream())
+                .map(SendMessageBatchRequestEntry::messageBody)
+                .collect(Collectors.toList()))
+                .hasSize(25)
+                .startsWith("event-0", "event-1");
+        assertThat(publisher.getMessagesSent()).isEqualTo(25);
+    }
+
+    @Test
+    void shouldFlushPartialBatchAfterLinger() throws InterruptedException {
+        // Given
+        CountDownLatch sent = new CountDownLatch(1);
+        when(sqsClient.sendMessageBatch(any(SendMessageBatchRequest.class))).thenAnswer(invocation -> {
+            sent.countDown();
+            return SendMessageBatchResponse.builder().build();
+        });
+        SqsBatchPublisher publisher = publisher(100, Duration.ofMillis(20), SqsBatchPublisher.BackpressurePolicy.BLOCK);
+
+        // When
+        publisher.submit("event-1");
+        publisher.submit("event-2");
+
+        // Then
+        assertThat(sent.await(5, TimeUnit.SECONDS)).isTrue();
+        publisher.close();
+        ArgumentCaptor<SendMessageBatchRequest> captor = ArgumentCaptor.forClass(SendMessageBatchRequest.class);
+        verify(sqsClient).sendMessageBatch(captor.capture());
+        assertThat(captor.getValue().entries()).hasSize(2);
+    }
+
+    @Test
+    void shouldRetryOnlyFailedEntries() {
+        // Given
+        when(sqsClient.sendMessageBatch(any(SendMessageBatchRequest.class))).thenReturn(
+                SendMessageBatchResponse.builder()
+                        .failed(BatchResultErrorEntry.builder().id("1").code("InternalError").senderFault(false).build())
+                        .build(),
+                SendMessageBatchResponse.builder().build());
+        SqsBatchPublisher publisher = publisher(100, Duration.ofSeconds(10), SqsBatchPublisher.BackpressurePolicy.BLOCK);
+
+        // When
+        publisher.submit("event-0");
+        publisher.submit("event-1");
+        publisher.close();
+
+        // Then
+        ArgumentCaptor<SendMessageBatchRequest> captor = ArgumentCaptor.forClass(SendMessageBatchRequest.class);
+        verify(sqsClient, times(2)).sendMessageBatch(captor.capture());
+        List<SendMessageBatchRequestEntry> retried = captor.getAllValues().get(1).entries();
+        assertThat(retried).extracting(SendMessageBatchRequestEntry::messageBody).containsExactly("event-1");
+        assertThat(publisher.getMessagesSent()).isEqualTo(2);
+        assertThat(publisher.getMessagesFailed()).isZero();
+    }
+
+    @Test
+    void shouldCountEventsDroppedAfterMaxAttempts() {
+        // Given
+        when(sqsClient.sendMessageBatch(any(SendMessageBatchRequest.class))).thenThrow(new RuntimeException("SQS error"));
+        SqsBatchPublisher publisher = publisher(100, Duration.ofSeconds(10), SqsBatchPublisher.BackpressurePolicy.BLOCK);
+
+        // When
+        publisher.submit("event-0");
+        publisher.close();
+
+        // Then
+        verify(sqsClient, times(2)).sendMessageBatch(any(SendMessageBatchRequest.class));
+        assertThat(publisher.getMessagesFailed()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRejectWhenBufferIsFullUnderFailPolicy() throws InterruptedException {
+        // Given
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch sending = new CountDownLatch(1);
+        when(sqsClient.sendMessageBatch(any(SendMessageBatchRequest.class))).thenAnswer(invocation -> {
+            sending.countDown();
+            release.await();
+            return SendMessageBatchResponse.builder().build();
+        });
+        SqsBatchPublisher publisher = publisher(1, Duration.ZERO, SqsBatchPublisher.BackpressurePolicy.FAIL);
+        publisher.submit("in-flight");
+        assertThat(sending.await(5, TimeUnit.SECONDS)).isTrue();
+        publisher.submit("buffered");
+
+        // When / Then
+        assertThatThrownBy(() -> publisher.submit("rejected"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Domain event buffer is full");
+        release.countDown();
+        publisher.close();
+        assertThat(publisher.getMessagesSent()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldRejectEventsAfterClose() {
+        // Given
+        SqsBatchPublisher publisher = publisher(10, Duration.ZERO, SqsBatchPublisher.BackpressurePolicy.BLOCK);
+        publisher.close();
+
+        // When / Then
+        assertThatThrownBy(() -> publisher.submit("late"))
+                .isInstanceOf(IllegalStateException.class);
+        verifyNoInteractions(sqsClient);
+    }
+
+    private SqsBatchPublisher publisher(int capacity, Duration linger, SqsBatchPublisher.BackpressurePolicy policy) {
+        return new SqsBatchPublisher(sqsClient, QUEUE_URL, SqsBatchPublisher.Settings.builder()
+                .capacity(capacity)
+                .linger(linger)
+                .backpressurePolicy(policy)
+                .offerTimeout(Duration.ofMillis(100))
+                .maxAttempts(2)
+                .shutdownTimeout(Duration.ofSeconds(5))
+                .build());
+    }
+}
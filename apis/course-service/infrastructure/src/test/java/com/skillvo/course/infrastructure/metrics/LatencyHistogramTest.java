@@ -0,0 +1,113 @@
+package com.skillvo.course.infrastructure.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class LatencyHistogramTest {
+
+    @Test
+    void shouldKeepSmallValuesExact() {
+        // Given
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        // When
+        for (long micros = 0; micros < 64; micros++) {
+            histogram.record(micros);
+        }
+
+        // Then
+        List<Long> values = new ArrayList<>();
+        histogram.forEachBucket((micros, count) -> {
+            values.add(micros);
+            assertThat(count).isEqualTo(1);
+        });
+        assertThat(values).hasSize(64).startsWith(0L, 1L, 2L).endsWith(63L);
+    }
+
+    @Test
+    void shouldReportLargeValuesWithinThreePercent() {
+        for (long micros : new long[]{64, 100, 1_000, 12_345, 999_999, 61_000_000L, LatencyHistogram.MAX_MICROS}) {
+            // Given
+            LatencyHistogram histogram = new LatencyHistogram();
+
+            // When
+            histogram.record(micros);
+
+            // Then
+            assertThat((double) histogram.percentile(50)).isCloseTo(micros, within(micros * 0.03));
+        }
+    }
+
+    @Test
+    void shouldLayBucketsEndToEnd() {
+        for (int bucket = 1; bucket < LatencyHistogram.BUCKETS; bucket++) {
+            long lowest = LatencyHistogram.lowestOf(bucket);
+            assertThat(LatencyHistogram.bucketOf(lowest)).isEqualTo(bucket);
+            assertThat(LatencyHistogram.bucketOf(lowest - 1)).isEqualTo(bucket - 1);
+        }
+        assertThat(LatencyHistogram.BUCKETS).isEqualTo(1024);
+    }
+
+    @Test
+    void shouldClampOutOfRangeValues() {
+        // Given
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        // When
+        histogram.record(-5);
+        histogram.record(Long.MAX_VALUE);
+
+        // Then
+        assertThat(histogram.count()).isEqualTo(2);
+        assertThat(histogram.percentile(0)).isZero();
+        assertThat(histogram.percentile(100)).isLessThanOrEqualTo(LatencyHistogram.MAX_MICROS);
+    }
+
+    @Test
+    void shouldFindPercentiles() {
+        // Given
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 100; i++) {
+            histogram.record(i * 1_000L);
+        }
+
+        // Then
+        assertThat((double) histogram.percentile(50)).isCloseTo(50_000, within(1_500.0));
+        assertThat((double) histogram.percentile(99)).isCloseTo(99_000, within(3_000.0));
+        assertThat(new LatencyHistogram().percentile(99)).isZero();
+    }
+
+    @Test
+    void shouldMoveCountsOutOnDrain() {
+        // Given
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(10);
+        histogram.record(10);
+        histogram.record(5_000);
+        long[] drained = new long[LatencyHistogram.BUCKETS];
+        Arrays.fill(drained, 7);
+
+        // When
+        long count = histogram.drainTo(drained);
+
+        // Then
+        assertThat(count).isEqualTo(3);
+        assertThat(histogram.count()).isZero();
+        assertThat(drained[LatencyHistogram.bucketOf(10)]).isEqualTo(2);
+        assertThat(drained[LatencyHistogram.bucketOf(5_000)]).isEqualTo(1);
+        assertThat(Arrays.stream(drained).sum()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldRejectDrainBufferOfAnotherSize() {
+        assertThatThrownBy(() -> new LatencyHistogram().drainTo(new long[10]))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
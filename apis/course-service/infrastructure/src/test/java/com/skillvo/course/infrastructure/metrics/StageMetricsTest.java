@@ -0,0 +1,206 @@
+package com.skillvo.course.infrastructure.metrics;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class StageMetricsTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+    @Test
+    void shouldFlushEachStageAsAnEmbeddedMetricFormatLine() throws Exception {
+        // Given
+        StageMetrics metrics = metrics(true, Duration.ZERO);
+        metrics.stop(Stage.PARSE, metrics.start());
+        metrics.fail(Stage.DYNAMODB_READ, metrics.start());
+        metrics.stop(Stage.DYNAMODB_READ, metrics.start());
+
+        // When
+        metrics.flush();
+
+        // Then
+        List<JsonNode> lines = lines();
+        assertThat(lines).hasSize(2);
+        JsonNode parse = lines.get(0);
+        JsonNode definition = parse.at("/_aws/CloudWatchMetrics/0");
+        assertThat(parse.at("/_aws/Timestamp").isIntegralNumber()).isTrue();
+        assertThat(definition.get("Namespace").asText()).isEqualTo("Test/\"Courses\"");
+        assertThat(definition.at("/Dimensions/0").toString()).isEqualTo("[\"Function\",\"Stage\"]");
+        assertThat(definition.at("/Metrics/0/Name").asText()).isEqualTo("Latency");
+        assertThat(definition.at("/Metrics/0/Unit").asText()).isEqualTo("Milliseconds");
+        assertThat(definition.at("/Metrics/1/Name").asText()).isEqualTo("Errors");
+        assertThat(parse.get("Function").asText()).isEqualTo("get-course");
+        assertThat(parse.get("Stage").asText()).isEqualTo("parse");
+        assertThat(parse.at("/Latency/Values")).hasSize(1);
+        assertThat(parse.at("/Latency/Counts/0").asLong()).isEqualTo(1);
+        assertThat(parse.get("Errors").asLong()).isZero();
+
+        JsonNode read = lines.get(1);
+        assertThat(read.get("Stage").asText()).isEqualTo("dynamodb.read");
+        assertThat(count(read)).isEqualTo(2);
+        assertThat(read.get("Errors").asLong()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldWriteEachBucketOnceWithItsCount() throws Exception {
+        // Given
+        StageMetrics metrics = metrics(true, Duration.ZERO);
+        for (int i = 0; i < 500; i++) {
+            // 5 and 40 milliseconds, where buckets are wider than the time between calls
+            metrics.stop(Stage.MAP, System.nanoTime() - (i % 2 == 0 ? 5_000_000L : 40_000_000L));
+        }
+
+        // When
+        metrics.flush();
+
+        // Then
+        List<JsonNode> lines = lines();
+        assertThat(lines).hasSize(1);
+        JsonNode latency = lines.get(0).get("Latency");
+        assertThat(latency.get("Values").size()).isEqualTo(latency.get("Counts").size()).isLessThan(50);
+        assertThat(count(lines.get(0))).isEqualTo(500);
+    }
+
+    @Test
+    void shouldStartOverAfterFlush() throws Exception {
+        // Given
+        StageMetrics metrics = metrics(true, Duration.ZERO);
+        metrics.stop(Stage.REQUEST, metrics.start());
+        metrics.flush();
+        output.reset();
+
+        // When
+        metrics.flush();
+
+        // Then
+        assertThat(lines()).isEmpty();
+        assertThat(metrics.count(Stage.REQUEST)).isZero();
+    }
+
+    @Test
+    void shouldSplitStagesWithMoreThanOneHundredValues() throws Exception {
+        // Given
+        StageMetrics metrics = metrics(true, Duration.ZERO);
+        for (int i = 0; i < 250; i++) {
+            // About i microseconds each, which are more than a hundred buckets
+            metrics.fail(Stage.SQS_PUBLISH, System.nanoTime() - i * 1_000L);
+        }
+
+        // When
+        metrics.flush();
+
+        // Then
+        List<JsonNode> lines = lines();
+        assertThat(lines).hasSizeGreaterThan(1);
+        long values = 0;
+        for (JsonNode line : lines) {
+            assertThat(line.at("/Latency/Values").size()).isLessThanOrEqualTo(StageMetrics.MAX_VALUES_PER_LINE);
+            assertThat(line.at("/Latency/Counts").size()).isEqualTo(line.at("/Latency/Values").size());
+            values += count(line);
+        }
+        assertThat(values).isEqualTo(250);
+        assertThat(lines.get(0).get("Errors").asLong()).isEqualTo(250);
+        assertThat(lines.get(1).has("Errors")).isFalse();
+        assertThat(lines.get(1).at("/_aws/CloudWatchMetrics/0/Metrics")).hasSize(1);
+    }
+
+    @Test
+    void shouldFlushOnlyOnceTheIntervalHasPassed() throws Exception {
+        // Given
+        StageMetrics metrics = metrics(true, Duration.ofHours(1));
+        metrics.stop(Stage.SERIALIZE, metrics.start());
+
+        // When
+        metrics.flushIfDue();
+
+        // Then
+        assertThat(lines()).isEmpty();
+        assertThat(metrics.count(Stage.SERIALIZE)).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRecordNothingWhenDisabled() throws Exception {
+        // Given
+        StageMetrics metrics = metrics(false, Duration.ZERO);
+
+        // When
+        metrics.fail(Stage.COMMAND, metrics.start());
+        metrics.flushIfDue();
+
+        // Then
+        assertThat(metrics.count(Stage.COMMAND)).isZero();
+        assertThat(metrics.errors(Stage.COMMAND)).isZero();
+        assertThat(lines()).isEmpty();
+    }
+
+    @Test
+    void shouldTimeCallsAndCountFailures() {
+        // Given
+        StageMetrics metrics = metrics(true, Duration.ZERO);
+
+        // When
+        String result = metrics.time(Stage.MAP, () -> "mapped");
+        assertThatThrownBy(() -> metrics.run(Stage.MAP, () -> {
+            throw new IllegalStateException("boom");
+        })).isInstanceOf(IllegalStateException.class);
+
+        // Then
+        assertThat(result).isEqualTo("mapped");
+        assertThat(metrics.count(Stage.MAP)).isEqualTo(2);
+        assertThat(metrics.errors(Stage.MAP)).isEqualTo(1);
+    }
+
+    @Test
+    void shouldWriteMillisecondsWithMicrosecondPrecision() {
+        assertThat(millis(0)).isEqualTo("0");
+        assertThat(millis(7)).isEqualTo("0.007");
+        assertThat(millis(1_050)).isEqualTo("1.050");
+        assertThat(millis(12_000)).isEqualTo("12");
+        assertThat(millis(123_456)).isEqualTo("123.456");
+    }
+
+    private StageMetrics metrics(boolean enabled, Duration flushInterval) {
+        return new StageMetrics(StageMetrics.Settings.builder()
+                .enabled(enabled)
+                .namespace("Test/\"Courses\"")
+                .function("get-course")
+                .flushInterval(flushInterval)
+                .build(), new PrintStream(output, true));
+    }
+
+    private List<JsonNode> lines() throws Exception {
+        List<JsonNode> lines = new ArrayList<>();
+        for (String line : output.toString(StandardCharsets.UTF_8).split("\\R")) {
+            if (!line.isEmpty()) {
+                lines.add(objectMapper.readTree(line));
+            }
+        }
+        return lines;
+    }
+
+    private static long count(JsonNode line) {
+        long count = 0;
+        for (JsonNode bucketCount : line.at("/Latency/Counts")) {
+            count += bucketCount.asLong();
+        }
+        return count;
+    }
+
+    private static String millis(long micros) {
+        StringBuilder builder = new StringBuilder();
+        StageMetrics.appendMillis(builder, micros);
+        return builder.toString();
+    }
+}
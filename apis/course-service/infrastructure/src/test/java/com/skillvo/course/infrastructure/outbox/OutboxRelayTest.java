@@ -0,0 +1,164 @@
+package com.skillvo.course.infrastructure.outbox;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.ScanRequest;
+import software.amazon.awssdk.services.dynamodb.model.ScanResponse;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
+import software.amazon.awssdk.services.sqs.SqsClient;
+import software.amazon.awssdk.services.sqs.model.BatchResultErrorEntry;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequest;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequestEntry;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchResponse;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxRelayTest {
+
+    private static final String QUEUE_URL = "https://sqs.us-east-1.amazonaws.com/123456789012/test-queue";
+
+    @Mock
+    private DynamoDbClient dynamoDbClient;
+
+    @Mock
+    private SqsClient sqsClient;
+
+    private OutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        relay = new OutboxRelay(dynamoDbClient, sqsClient, QUEUE_URL, OutboxEventConverter.DEFAULT_TABLE_NAME, 100, 5);
+    }
+
+    @Test
+    void shouldSendOldestFirstInBatchesAndDeleteDeliveredEvents() {
+        // Given
+        List<Map<String, AttributeValue>> pending = new ArrayList<>();
+        for (int i = 14; i >= 0; i--) {
+            pending.add(outboxItem("event-" + i, 1_000L + i));
+        }
+        stubScan(pending);
+        when(sqsClient.sendMessageBatch(any(SendMessageBatchRequest.class)))
+                .thenReturn(SendMessageBatchResponse.builder().build());
+        when(dynamoDbClient.batchWriteItem(any(BatchWriteItemRequest.class)))
+                .thenReturn(BatchWriteItemResponse.builder().build());
+
+        // When
+        int scanned = relay.relayOnce();
+
+        // Then
+        assertThat(scanned).isEqualTo(15);
+        ArgumentCaptor<SendMessageBatchRequest> sendCaptor = ArgumentCaptor.forClass(SendMessageBatchRequest.class);
+        verify(sqsClient, times(2)).sendMessageBatch(sendCaptor.capture());
+        assertThat(sendCaptor.getAllValues()).extracting(request -> request.entries().size()).containsExactly(10, 5);
+        List<String> bodies = sendCaptor.getAllValues().stream()
+                .flatMap(request -> request.entries().stream())
+                .map(SendMessageBatchRequestEntry::messageBody)
+                .collect(Collectors.toList());
+        assertThat(bodies).startsWith("{\"id\":\"event-0\"}", "{\"id\":\"event-1\"}");
+        assertThat(sendCaptor.getValue().entries().get(0).messageAttributes().get("eventType").stringValue())
+                .isEqualTo("CourseCreated");
+        assertThat(deletedEventIds()).hasSize(15);
+        assertThat(relay.metrics().getEventsRelayed()).isEqualTo(15);
+        assertThat(relay.metrics().getLastBatchSize()).isEqualTo(15);
+        assertThat(relay.metrics().getLastLagMillis()).isPositive();
+    }
+
+    @Test
+    void shouldKeepRejectedEventsInOutbox() {
+        // Given
+        stubScan(List.of(outboxItem("event-0", 1L), outboxItem("event-1", 2L)));
+        when(sqsClient.sendMessageBatch(any(SendMessageBatchRequest.class))).thenReturn(SendMessageBatchResponse.builder()
+                .failed(BatchResultErrorEntry.builder().id("1").code("InternalError").senderFault(false).build())
+                .build());
+        when(dynamoDbClient.batchWriteItem(any(BatchWriteItemRequest.class)))
+                .thenReturn(BatchWriteItemResponse.builder().build());
+
+        // When
+        relay.relayOnce();
+
+        // Then
+        assertThat(deletedEventIds()).containsExactly("event-0");
+        assertThat(relay.metrics().getEventsRelayed()).isEqualTo(1);
+        assertThat(relay.metrics().getDeliveryFailures()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldNotDeleteAnythingWhenSqsIsUnavailable() {
+        // Given
+        stubScan(List.of(outboxItem("event-0", 1L)));
+        when(sqsClient.sendMessageBatch(any(SendMessageBatchRequest.class)))
+                .thenThrow(new RuntimeException("SQS unavailable"));
+
+        // When
+        int delivered = relay.drain();
+
+        // Then
+        assertThat(delivered).isZero();
+        verify(dynamoDbClient, never()).batchWriteItem(any(BatchWriteItemRequest.class));
+        assertThat(relay.metrics().getDeliveryFailures()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldDrainUntilOutboxIsEmpty() {
+        // Given
+        relay = new OutboxRelay(dynamoDbClient, sqsClient, QUEUE_URL, OutboxEventConverter.DEFAULT_TABLE_NAME, 2, 5);
+        when(dynamoDbClient.scan(any(ScanRequest.class)))
+                .thenReturn(ScanResponse.builder().items(outboxItem("event-0", 1L), outboxItem("event-1", 2L)).build())
+                .thenReturn(ScanResponse.builder().items(outboxItem("event-2", 3L)).build());
+        when(sqsClient.sendMessageBatch(any(SendMessageBatchRequest.class)))
+                .thenReturn(SendMessageBatchResponse.builder().build());
+        when(dynamoDbClient.batchWriteItem(any(BatchWriteItemRequest.class)))
+                .thenReturn(BatchWriteItemResponse.builder().build());
+
+        // When
+        int delivered = relay.drain();
+
+        // Then
+        assertThat(delivered).isEqualTo(3);
+        verify(dynamoDbClient, times(2)).scan(any(ScanRequest.class));
+        assertThat(relay.metrics().getPasses()).isEqualTo(2);
+    }
+
+    private void stubScan(List<Map<String, AttributeValue>> items) {
+        when(dynamoDbClient.scan(any(ScanRequest.class))).thenReturn(ScanResponse.builder().items(items).build());
+    }
+
+    private List<String> deletedEventIds() {
+        ArgumentCaptor<BatchWriteItemRequest> captor = ArgumentCaptor.forClass(BatchWriteItemRequest.class);
+        verify(dynamoDbClient, atLeastOnce()).batchWriteItem(captor.capture());
+        return captor.getAllValues().stream()
+                .flatMap(request -> request.requestItems().getOrDefault(OutboxEventConverter.DEFAULT_TABLE_NAME,
+                        Collections.emptyList()).stream())
+                .map(WriteRequest::deleteRequest)
+                .map(delete -> delete.key().get(OutboxEventConverter.EVENT_ID).s())
+                .collect(Collectors.toList());
+    }
+
+    private static Map<String, AttributeValue> outboxItem(String eventId, long createdAt) {
+        Map<String, AttributeValue> item = new HashMap<>();
+        item.put(OutboxEventConverter.EVENT_ID, AttributeValue.builder().s(eventId).build());
+        item.put(OutboxEventConverter.EVENT_TYPE, AttributeValue.builder().s("CourseCreated").build());
+        item.put(OutboxEventConverter.PAYLOAD, AttributeValue.builder().s("{\"id\":\"" + eventId + "\"}").build());
+        item.put(OutboxEventConverter.CREATED_AT, AttributeValue.builder().n(String.valueOf(createdAt)).build());
+        return item;
+    }
+}
@@ -0,0 +1,1044 @@
+package com.skillvo.course.infrastructure.persistence;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.skillvo.course.domain.model.aggregates.Course;
+import com.skillvo.course.domain.model.entities.Author;
+import com.skillvo.course.domain.model.entities.Lesson;
+import com.skillvo.course.domain.model.events.CourseCreated;
+import com.skillvo.course.domain.model.entities.Publisher;
+import com.skillvo.course.domain.model.entities.Section;
+import com.skillvo.course.domain.model.enums.*;
+import com.skillvo.course.domain.model.exception.CourseVersionConflictException;
+import com.skillvo.course.domain.model.valueobjects.Prize;
+import com.skillvo.course.domain.repository.CourseDetail;
+import com.skillvo.course.infrastructure.cache.CourseCache;
+import com.skillvo.course.infrastructure.metrics.Stage;
+import com.skillvo.course.infrastructure.metrics.StageMetrics;
+import com.skillvo.course.infrastructure.outbox.OutboxEventConverter;
+import com.skillvo.course.infrastructure.persistence.batch.BatchCourseReader;
+import com.skillvo.course.infrastructure.persistence.codec.LessonAttributes;
+import com.skillvo.course.infrastructure.persistence.curriculum.CourseCurriculumStore;
+import com.skillvo.course.infrastructure.persistence.query.CourseQueryPlanner;
+import com.skillvo.course.infrastructure.persistence.scan.ParallelCourseScanner;
+import com.skillvo.course.infrastructure.persistence.tags.CourseTagIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.*;
+import software.amazon.awssdk.services.dynamodb.paginators.QueryIterable;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DynamoDBCourseRepositoryCacheTest {
+
+    @Mock
+    private DynamoDbClient dynamoDbClient;
+
+    @Mock
+    private DynamoDbAsyncClient dynamoDbAsyncClient;
+
+    @Mock
+    private CourseTagIndex tagIndex;
+
+    private final StageMetrics metrics = new StageMetrics(StageMetrics.Settings.defaults(), System.out);
+    private CourseCache courseCache;
+    private CourseCurriculumStore curriculumStore;
+    private DynamoDBCourseRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        curriculumStore = new CourseCurriculumStore(dynamoDbClient, CourseCurriculumStore.DEFAULT_TABLE_NAME, 8, 1);
+        useCache(new CourseCache(100, 60));
+    }
+
+    private void useCache(CourseCache cache) {
+        courseCache = cache;
+        repository = new DynamoDBCourseRepository(dynamoDbClient, new ParallelCourseScanner(dynamoDbClient, CourseQueryPlanner.withoutStatistics()), courseCache,
+                new BatchCourseReader(dynamoDbClient, 4, 8, 1), new OutboxEventConverter(new ObjectMapper(), OutboxEventConverter.DEFAULT_TABLE_NAME),
+                CourseQueryPlanner.withoutStatistics(), tagIndex, curriculumStore,
+                new AsyncItemReader(dynamoDbAsyncClient), metrics);
+    }
+
+    @Test
+    void shouldServeRepeatedReadsFromCache() {
+        // Given
+        Course course = createSampleCourse();
+        stubGetItem(course);
+
+        // When
+        Optional<Course> first = repository.findById(course.getCourseId());
+        Optional<Course> second = repository.findById(course.getCourseId());
+
+        // Then
+        assertThat(first).contains(course);
+        assertThat(second).contains(course);
+        verify(dynamoDbClient, times(1)).getItem(any(GetItemRequest.class));
+        assertThat(courseCache.stats().getHits()).isEqualTo(1);
+        assertThat(courseCache.stats().getMisses()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldReadOnlyTheVersionWhenCourseIsNotCached() {
+        // Given
+        UUID courseId = UUID.randomUUID();
+        when(dynamoDbClient.getItem(any(GetItemRequest.class))).thenReturn(GetItemResponse.builder()
+                .item(Map.of("courseId", AttributeValue.builder().s(courseId.toString()).build(),
+                        "version", AttributeValue.builder().n("4").build()))
+                .build());
+
+        // When
+        Optional<Integer> version = repository.findVersion(courseId);
+
+        // Then
+        assertThat(version).contains(4);
+        ArgumentCaptor<GetItemRequest> captor = ArgumentCaptor.forClass(GetItemRequest.class);
+        verify(dynamoDbClient).getItem(captor.capture());
+        assertThat(captor.getValue().projectionExpression()).isEqualTo("#courseId, #version");
+        assertThat(captor.getValue().expressionAttributeNames()).containsEntry("#version", "version");
+        assertThat(courseCache.get(courseId)).isEmpty();
+    }
+
+    @Test
+    void shouldTakeVersionFromCachedCourse() {
+        // Given
+        Course course = createSampleCourse();
+        course.setVersion(3);
+        stubGetItem(course);
+        repository.findById(course.getCourseId());
+
+        // When
+        Optional<Integer> version = repository.findVersion(course.getCourseId());
+
+        // Then
+        assertThat(version).contains(3);
+        verify(dynamoDbClient, times(1)).getItem(any(GetItemRequest.class));
+    }
+
+    @Test
+    void shouldFindNoVersionForMissingCourse() {
+        // Given
+        when(dynamoDbClient.getItem(any(GetItemRequest.class))).thenReturn(GetItemResponse.builder().build());
+
+        // When / Then
+        assertThat(repository.findVersion(UUID.randomUUID())).isEmpty();
+    }
+
+    @Test
+    void shouldReadCourseAsynchronouslyAndCacheIt() {
+        // Given
+        Course course = createSampleCourse();
+        when(dynamoDbAsyncClient.getItem(any(GetItemRequest.class))).thenReturn(CompletableFuture.completedFuture(
+                GetItemResponse.builder().item(DynamoDBModelConverter.toItem(course)).build()));
+
+        // When
+        Optional<Course> found = repository.findByIdAsync(course.getCourseId()).join();
+        Optional<Course> again = repository.findById(course.getCourseId());
+
+        // Then
+        assertThat(found).contains(course);
+        assertThat(again).contains(course);
+        verify(dynamoDbAsyncClient, times(1)).getItem(any(GetItemRequest.class));
+        verifyNoInteractions(dynamoDbClient);
+    }
+
+    @Test
+    void shouldFanOutAsyncReadsBeforeJoiningThem() {
+        // Given
+        UUID missing = UUID.randomUUID();
+        UUID versioned = UUID.randomUUID();
+        CompletableFuture<GetItemResponse> course = new CompletableFuture<>();
+        CompletableFuture<GetItemResponse> version = new CompletableFuture<>();
+        when(dynamoDbAsyncClient.getItem(any(GetItemRequest.class))).thenReturn(course, version);
+
+        // When
+        CompletableFuture<Optional<Course>> foundCourse = repository.findByIdAsync(missing);
+        CompletableFuture<Optional<Integer>> foundVersion = repository.findVersionAsync(versioned);
+        version.complete(GetItemResponse.builder()
+                .item(Map.of("courseId", AttributeValue.builder().s(versioned.toString()).build(),
+                        "version", AttributeValue.builder().n("9").build()))
+                .build());
+        course.complete(GetItemResponse.builder().build());
+
+        // Then
+        assertThat(foundCourse.join()).isEmpty();
+        assertThat(foundVersion.join()).contains(9);
+        ArgumentCaptor<GetItemRequest> captor = ArgumentCaptor.forClass(GetItemRequest.class);
+        verify(dynamoDbAsyncClient, times(2)).getItem(captor.capture());
+        assertThat(captor.getAllValues().get(0).projectionExpression()).isNull();
+        assertThat(captor.getAllValues().get(1).projectionExpression()).isEqualTo("#courseId, #version");
+    }
+
+    @Test
+    void shouldCompleteAsyncReadsOfCachedCoursesAtOnce() {
+        // Given
+        Course course = createSampleCourse();
+        course.setVersion(2);
+        stubGetItem(course);
+        repository.findById(course.getCourseId());
+
+        // When
+        CompletableFuture<Optional<Course>> found = repository.findByIdAsync(course.getCourseId());
+        CompletableFuture<Optional<Integer>> version = repository.findVersionAsync(course.getCourseId());
+
+        // Then
+        assertThat(found).isCompletedWithValue(Optional.of(course));
+        assertThat(version).isCompletedWithValue(Optional.of(2));
+        verifyNoInteractions(dynamoDbAsyncClient);
+    }
+
+    @Test
+    void shouldNotCacheMissingCourses() {
+        // Given
+        UUID courseId = UUID.randomUUID();
+        when(dynamoDbClient.getItem(any(GetItemRequest.class))).thenReturn(GetItemResponse.builder().build());
+
+        // When
+        repository.findById(courseId);
+        repository.findById(courseId);
+
+        // Then
+        verify(dynamoDbClient, times(2)).getItem(any(GetItemRequest.class));
+    }
+
+    @Test
+    void shouldShareOneReadBetweenConcurrentCallersOfTheSameCourse() {
+        // Given
+        Course course = createSampleCourse();
+        CompletableFuture<GetItemResponse> response = new CompletableFuture<>();
+        when(dynamoDbAsyncClient.getItem(any(GetItemRequest.class))).thenReturn(response);
+
+        // When
+        CompletableFuture<Optional<Course>> first = repository.findByIdAsync(course.getCourseId());
+        CompletableFuture<Optional<Course>> second = repository.findByIdAsync(course.getCourseId());
+        response.complete(GetItemResponse.builder().item(DynamoDBModelConverter.toItem(course)).build());
+
+        // Then
+        assertThat(first.join()).contains(course);
+        assertThat(second.join()).contains(course);
+        verify(dynamoDbAsyncClient, times(1)).getItem(any(GetItemRequest.class));
+        assertThat(courseCache.loads()).isEqualTo(1);
+        assertThat(courseCache.coalescedLoads()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRememberMissingCoursesWhenNegativeCachingIsOn() {
+        // Given
+        useCache(new CourseCache(100, 60, 100, 30));
+        UUID courseId = UUID.randomUUID();
+        when(dynamoDbClient.getItem(any(GetItemRequest.class))).thenReturn(GetItemResponse.builder().build());
+
+        // When
+        Optional<Course> first = repository.findById(courseId);
+        Optional<Course> second = repository.findById(courseId);
+        Optional<Integer> version = repository.findVersion(courseId);
+        List<Course> batch = repository.findAllByIds(Collections.singletonList(courseId));
+
+        // Then
+        assertThat(first).isEmpty();
+        assertThat(second).isEmpty();
+        assertThat(version).isEmpty();
+        assertThat(batch).isEmpty();
+        verify(dynamoDbClient, times(1)).getItem(any(GetItemRequest.class));
+        verify(dynamoDbClient, never()).batchGetItem(any(BatchGetItemRequest.class));
+    }
+
+    @Test
+    void shouldRememberIdsMissingFromBatchReads() {
+        // Given
+        useCache(new CourseCache(100, 60, 100, 30));
+        UUID courseId = UUID.randomUUID();
+        when(dynamoDbClient.batchGetItem(any(BatchGetItemRequest.class))).thenReturn(BatchGetItemResponse.builder()
+                .responses(Map.of("Courses", Collections.emptyList()))
+                .build());
+
+        // When
+        repository.findAllByIds(Collections.singletonList(courseId));
+        Optional<Course> found = repository.findById(courseId);
+
+        // Then
+        assertThat(found).isEmpty();
+        assertThat(courseCache.isKnownMissing(courseId)).isTrue();
+        verify(dynamoDbClient, never()).getItem(any(GetItemRequest.class));
+    }
+
+    @Test
+    void shouldForgetMissingCourseOnceItIsSaved() {
+        // Given
+        useCache(new CourseCache(100, 60, 100, 30));
+        Course course = createSampleCourse();
+        when(dynamoDbClient.getItem(any(GetItemRequest.class)))
+                .thenReturn(GetItemResponse.builder().build())
+                // The item as saved, under the version the save moved the course to
+                .thenAnswer(invocation -> GetItemResponse.builder().item(DynamoDBModelConverter.toItem(course)).build());
+        when(dynamoDbClient.putItem(any(PutItemRequest.class))).thenReturn(PutItemResponse.builder().build());
+        repository.findById(course.getCourseId());
+
+        // When
+        repository.save(course);
+        Optional<Course> found = repository.findById(course.getCourseId());
+
+        // Then
+        assertThat(found).contains(course);
+        verify(dynamoDbClient, times(2)).getItem(any(GetItemRequest.class));
+    }
+
+    @Test
+    void shouldNotRememberReadThatOverlappedAWrite() {
+        // Given
+        useCache(new CourseCache(100, 60, 100, 30));
+        UUID courseId = UUID.randomUUID();
+        CompletableFuture<GetItemResponse> response = new CompletableFuture<>();
+        when(dynamoDbAsyncClient.getItem(any(GetItemRequest.class))).thenReturn(response);
+        CompletableFuture<Optional<Course>> found = repository.findByIdAsync(courseId);
+
+        // When
+        courseCache.invalidate(courseId);
+        response.complete(GetItemResponse.builder().build());
+
+        // Then
+        assertThat(found.join()).isEmpty();
+        assertThat(courseCache.isKnownMissing(courseId)).isFalse();
+    }
+
+    @Test
+    void shouldRememberReadThatOverlappedAWriteToAnotherCourse() {
+        // Given
+        Course course = createSampleCourse();
+        CompletableFuture<GetItemResponse> response = new CompletableFuture<>();
+        when(dynamoDbAsyncClient.getItem(any(GetItemRequest.class))).thenReturn(response);
+        CompletableFuture<Optional<Course>> found = repository.findByIdAsync(course.getCourseId());
+
+        // When
+        courseCache.invalidate(UUID.randomUUID());
+        response.complete(GetItemResponse.builder().item(DynamoDBModelConverter.toItem(course)).build());
+
+        // Then
+        assertThat(found.join()).contains(course);
+        assertThat(courseCache.get(course.getCourseId())).contains(course);
+    }
+
+    @Test
+    void shouldTimeReadsAndWritesAsStages() {
+        // Given
+        Course course = createSampleCourse();
+        stubGetItem(course);
+        when(dynamoDbClient.putItem(any(PutItemRequest.class))).thenReturn(PutItemResponse.builder().build());
+        when(dynamoDbClient.deleteItem(any(DeleteItemRequest.class)))
+                .thenThrow(DynamoDbException.builder().message("throttled").build());
+
+        // When
+        repository.findById(course.getCourseId());
+        repository.findById(course.getCourseId());
+        repository.save(course);
+        assertThatThrownBy(() -> repository.deleteById(course.getCourseId())).isInstanceOf(DynamoDbException.class);
+
+        // Then
+        assertThat(metrics.count(Stage.DYNAMODB_READ)).isEqualTo(1);
+        assertThat(metrics.count(Stage.DYNAMODB_WRITE)).isEqualTo(2);
+        assertThat(metrics.errors(Stage.DYNAMODB_WRITE)).isEqualTo(1);
+        assertThat(metrics.errors(Stage.DYNAMODB_READ)).isZero();
+    }
+
+    @Test
+    void shouldInvalidateOnSave() {
+        // Given
+        Course course = createSampleCourse();
+        stubGetItem(course);
+        repository.findById(course.getCourseId());
+        Course previous = createSampleCourse();
+        previous.setTags(Arrays.asList("legacy", "test"));
+        when(dynamoDbClient.putItem(any(PutItemRequest.class)))
+                .thenReturn(PutItemResponse.builder().attributes(DynamoDBModelConverter.toItem(previous)).build());
+
+        // When
+        repository.save(course);
+        repository.findById(course.getCourseId());
+
+        // Then
+        ArgumentCaptor<PutItemRequest> captor = ArgumentCaptor.forClass(PutItemRequest.class);
+        verify(dynamoDbClient).putItem(captor.capture());
+        assertThat(captor.getValue().returnValues()).isEqualTo(ReturnValue.ALL_OLD);
+        verify(dynamoDbClient, times(2)).getItem(any(GetItemRequest.class));
+        verify(tagIndex).update(course.getCourseId(), "tenant1", Arrays.asList("legacy", "test"), course.getTags());
+    }
+
+    @Test
+    void shouldHandOutCopiesOfCachedCourse() {
+        // Given
+        Course course = createSampleCourse();
+        stubGetItem(course);
+        Course first = repository.findById(course.getCourseId()).orElseThrow();
+
+        // When
+        first.setStatus(Status.PUBLISHED);
+        first.setTitle("Changed");
+        Course second = repository.findById(course.getCourseId()).orElseThrow();
+
+        // Then
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.getStatus()).isEqualTo(course.getStatus());
+        assertThat(second.getTitle()).isEqualTo(course.getTitle());
+        verify(dynamoDbClient, times(1)).getItem(any(GetItemRequest.class));
+    }
+
+    @Test
+    void shouldNotShareListsBetweenCopiesOfCachedCourse() {
+        // Given
+        Course course = createSampleCourse();
+        stubGetItem(course);
+        Course first = repository.findById(course.getCourseId()).orElseThrow();
+
+        // When
+        first.getTags().add("changed");
+        first.getAuthors().clear();
+        first.getSections().clear();
+        Course second = repository.findById(course.getCourseId()).orElseThrow();
+
+        // Then
+        assertThat(second.getTags()).isEqualTo(course.getTags());
+        assertThat(second.getAuthors()).isEqualTo(course.getAuthors());
+        assertThat(second.getSections()).isEqualTo(course.getSections());
+    }
+
+    @Test
+    void shouldInvalidateWhenSaveFails() {
+        // Given
+        Course course = createSampleCourse();
+        stubGetItem(course);
+        Course changed = repository.findById(course.getCourseId()).orElseThrow();
+        changed.setStatus(Status.PUBLISHED);
+        when(dynamoDbClient.putItem(any(PutItemRequest.class)))
+                .thenThrow(ConditionalCheckFailedException.builder().message("version moved").build());
+
+        // When
+        assertThatThrownBy(() -> repository.save(changed)).isInstanceOf(CourseVersionConflictException.class);
+
+        // Then
+        assertThat(courseCache.get(course.getCourseId())).isEmpty();
+        assertThat(repository.findById(course.getCourseId()).orElseThrow().getStatus()).isEqualTo(course.getStatus());
+        verify(dynamoDbClient, times(2)).getItem(any(GetItemRequest.class));
+    }
+
+    @Test
+    void shouldSavePublishedCourseAsNextVersionUnderVersionCondition() {
+        // Given
+        Course draft = createSampleCourse();
+        draft.setStatus(Status.DRAFT);
+        draft.setInMarketplace(false);
+        draft.setVersion(3);
+        stubGetItem(draft);
+        Course published = repository.findById(draft.getCourseId()).orElseThrow();
+        published.setStatus(Status.PUBLISHED);
+        published.setInMarketplace(true);
+        when(dynamoDbClient.putItem(any(PutItemRequest.class))).thenReturn(PutItemResponse.builder().build());
+
+        // When
+        Course saved = repository.save(published);
+        stubGetItem(saved);
+
+        // Then
+        ArgumentCaptor<PutItemRequest> captor = ArgumentCaptor.forClass(PutItemRequest.class);
+        verify(dynamoDbClient).putItem(captor.capture());
+        assertThat(captor.getValue().item().get("version").n()).isEqualTo("4");
+        assertThat(captor.getValue().conditionExpression()).isEqualTo("attribute_not_exists(#courseId) OR #version = :version");
+        assertThat(captor.getValue().expressionAttributeNames()).containsEntry("#version", "version");
+        assertThat(captor.getValue().expressionAttributeValues().get(":version").n()).isEqualTo("3");
+        assertThat(saved.getVersion()).isEqualTo(4);
+        assertThat(repository.findVersion(draft.getCourseId())).contains(4);
+    }
+
+    @Test
+    void shouldSaveUnversionedCourseAsFirstVersion() {
+        // Given
+        Course course = createSampleCourse();
+        course.setVersion(null);
+        when(dynamoDbClient.putItem(any(PutItemRequest.class))).thenReturn(PutItemResponse.builder().build());
+
+        // When
+        repository.save(course);
+
+        // Then
+        ArgumentCaptor<PutItemRequest> captor = ArgumentCaptor.forClass(PutItemRequest.class);
+        verify(dynamoDbClient).putItem(captor.capture());
+        assertThat(captor.getValue().item().get("version").n()).isEqualTo("1");
+        assertThat(captor.getValue().conditionExpression()).isEqualTo("attribute_not_exists(#courseId) OR attribute_not_exists(#version)");
+        assertThat(captor.getValue().hasExpressionAttributeValues()).isFalse();
+        assertThat(course.getVersion()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldReportVersionConflictWhenTransactionFailsOnCourse() {
+        // Given
+        Course course = createSampleCourse();
+        CourseCreated event = new CourseCreated(course.getCourseId(), course.getTenantId(), course.getTitle(),
+                course.getDescription(), course.getTopicCode(), course.getLevel().name(),
+                course.getLearningMode().name(), Collections.singletonList("John Doe"), course.getTags());
+        when(dynamoDbClient.transactWriteItems(any(TransactWriteItemsRequest.class)))
+                .thenThrow(TransactionCanceledException.builder()
+                        .cancellationReasons(CancellationReason.builder().code("ConditionalCheckFailed").build(),
+                                CancellationReason.builder().code("None").build())
+                        .build());
+
+        // When / Then
+        assertThatThrownBy(() -> repository.saveWithEvent(course, event))
+                .isInstanceOf(CourseVersionConflictException.class);
+        assertThat(course.getVersion()).isEqualTo(1);
+        verifyNoInteractions(tagIndex);
+    }
+
+    @Test
+    void shouldWriteCourseAndOutboxEventInOneTransaction() {
+        // Given
+        Course course = createSampleCourse();
+        stubGetItem(course);
+        repository.findById(course.getCourseId());
+        CourseCreated event = new CourseCreated(course.getCourseId(), course.getTenantId(), course.getTitle(),
+                course.getDescription(), course.getTopicCode(), course.getLevel().name(),
+                course.getLearningMode().name(), Collections.singletonList("John Doe"), course.getTags());
+
+        // When
+        repository.saveWithEvent(course, event);
+        repository.findById(course.getCourseId());
+
+        // Then
+        ArgumentCaptor<TransactWriteItemsRequest> captor = ArgumentCaptor.forClass(TransactWriteItemsRequest.class);
+        verify(dynamoDbClient).transactWriteItems(captor.capture());
+        List<TransactWriteItem> items = captor.getValue().transactItems();
+        assertThat(items).hasSize(2);
+        assertThat(items.get(0).put().tableName()).isEqualTo("Courses");
+        assertThat(items.get(0).put().conditionExpression()).isEqualTo("attribute_not_exists(#courseId) OR #version = :version");
+        assertThat(items.get(0).put().item().get("version").n()).isEqualTo("2");
+        Put outboxPut = items.get(1).put();
+        assertThat(outboxPut.tableName()).isEqualTo(OutboxEventConverter.DEFAULT_TABLE_NAME);
+        assertThat(outboxPut.conditionExpression()).isEqualTo("attribute_not_exists(eventId)");
+        assertThat(outboxPut.item().get("eventId").s()).isEqualTo(event.getEventId().toString());
+        assertThat(outboxPut.item().get("eventType").s()).isEqualTo("CourseCreated");
+        assertThat(outboxPut.item().get("payload").s()).contains("\"occurredOn\"");
+        verify(dynamoDbClient, never()).putItem(any(PutItemRequest.class));
+        verify(dynamoDbClient, times(2)).getItem(any(GetItemRequest.class));
+        verify(tagIndex).update(course.getCourseId(), "tenant1", null, course.getTags());
+    }
+
+    @Test
+    void shouldUpdateOnlyChangedPathsUnderVersionCondition() {
+        // Given
+        Course current = createSampleCourse();
+        stubGetItem(current);
+        repository.findById(current.getCourseId());
+        Course updated = current.toBuilder().build();
+        updated.setTitle("Renamed Course");
+        Section section = current.getSections().get(0);
+        updated.setSections(Arrays.asList(Section.builder()
+                .sectionId(section.getSectionId())
+                .title("Renamed Section")
+                .description(section.getDescription())
+                .order(section.getOrder())
+                .duration(section.getDuration())
+                .lessons(section.getLessons())
+                .build()));
+        updated.setImageUrl(null);
+        updated.setVersion(null);
+
+        // When
+        Course result = repository.update(current, updated);
+        repository.findById(current.getCourseId());
+
+        // Then
+        assertThat(result).isSameAs(updated);
+        assertThat(result.getVersion()).isEqualTo(2);
+        ArgumentCaptor<UpdateItemRequest> captor = ArgumentCaptor.forClass(UpdateItemRequest.class);
+        verify(dynamoDbClient).updateItem(captor.capture());
+        UpdateItemRequest request = captor.getValue();
+        assertThat(request.key().get("courseId").s()).isEqualTo(current.getCourseId().toString());
+        assertThat(request.expressionAttributeNames()).containsValues("title", "sections", "imageUrl", "version", "courseId")
+                .doesNotContainValue("description")
+                .doesNotContainValue("tags");
+        String sections = placeholder(request, "sections");
+        String sectionTitle = placeholder(request, "title");
+        assertThat(request.updateExpression())
+                .startsWith("SET ")
+                .endsWith(" REMOVE " + placeholder(request, "imageUrl"))
+                .contains(sectionTitle + " = ", sections + "[0]." + sectionTitle + " = ",
+                        placeholder(request, "version") + " = ")
+                .doesNotContain(sections + " = ");
+        assertThat(request.conditionExpression()).matches("attribute_exists\\(#n\\d+\\) AND #n\\d+ = :v\\d+");
+        assertThat(request.expressionAttributeValues().values())
+                .extracting(AttributeValue::s, AttributeValue::n)
+                .contains(tuple("Renamed Course", null), tuple("Renamed Section", null), tuple(null, "1"), tuple(null, "2"));
+        verify(dynamoDbClient, never()).putItem(any(PutItemRequest.class));
+        verify(dynamoDbClient, times(2)).getItem(any(GetItemRequest.class));
+        verifyNoInteractions(tagIndex);
+    }
+
+    @Test
+    void shouldNotWriteWhenNothingChanged() {
+        // Given
+        Course current = createSampleCourse();
+        Course updated = current.toBuilder().version(2).build();
+
+        // When
+        Course result = repository.update(current, updated);
+
+        // Then
+        assertThat(result).isSameAs(current);
+        verifyNoInteractions(dynamoDbClient, tagIndex);
+    }
+
+    @Test
+    void shouldUpdateTagIndexWhenTagsChange() {
+        // Given
+        Course current = createSampleCourse();
+        Course updated = current.toBuilder().tags(Arrays.asList("test", "java")).version(2).build();
+
+        // When
+        repository.update(current, updated);
+
+        // Then
+        ArgumentCaptor<UpdateItemRequest> captor = ArgumentCaptor.forClass(UpdateItemRequest.class);
+        verify(dynamoDbClient).updateItem(captor.capture());
+        assertThat(captor.getValue().updateExpression()).doesNotContain("REMOVE");
+        verify(tagIndex).update(current.getCourseId(), "tenant1", Arrays.asList("test"), Arrays.asList("test", "java"));
+    }
+
+    @Test
+    void shouldGiveUnversionedCourseItsFirstVersionOnUpdate() {
+        // Given
+        Course current = createSampleCourse();
+        current.setVersion(null);
+        Course updated = current.toBuilder().title("Renamed Course").version(7).build();
+
+        // When
+        Course result = repository.update(current, updated);
+
+        // Then
+        assertThat(result.getVersion()).isEqualTo(1);
+        ArgumentCaptor<UpdateItemRequest> captor = ArgumentCaptor.forClass(UpdateItemRequest.class);
+        verify(dynamoDbClient).updateItem(captor.capture());
+        UpdateItemRequest request = captor.getValue();
+        assertThat(request.conditionExpression()).endsWith("attribute_not_exists(" + placeholder(request, "version") + ")");
+        assertThat(request.expressionAttributeValues().values())
+                .extracting(AttributeValue::n)
+                .contains("1")
+                .doesNotContain("7");
+    }
+
+    @Test
+    void shouldReportConflictAndDropCachedCopyWhenVersionMoved() {
+        // Given
+        Course current = createSampleCourse();
+        stubGetItem(current);
+        repository.findById(current.getCourseId());
+        Course updated = current.toBuilder().title("Renamed Course").version(2).build();
+        when(dynamoDbClient.updateItem(any(UpdateItemRequest.class)))
+                .thenThrow(ConditionalCheckFailedException.builder().message("The conditional request failed").build());
+
+        // When/Then
+        assertThatThrownBy(() -> repository.update(current, updated))
+                .isInstanceOf(CourseVersionConflictException.class)
+                .hasMessageContaining("version 1");
+        repository.findById(current.getCourseId());
+        verify(dynamoDbClient, times(2)).getItem(any(GetItemRequest.class));
+        verifyNoInteractions(tagIndex);
+    }
+
+    @Test
+    void shouldSaveSectionsInConfiguredBinaryFormat() {
+        // Given
+        ReflectionTestUtils.setField(repository, "sectionsFormat", SectionsFormat.BINARY);
+        Course course = createSampleCourse();
+        when(dynamoDbClient.putItem(any(PutItemRequest.class))).thenReturn(PutItemResponse.builder().build());
+
+        // When
+        repository.save(course);
+
+        // Then
+        ArgumentCaptor<PutItemRequest> captor = ArgumentCaptor.forClass(PutItemRequest.class);
+        verify(dynamoDbClient).putItem(captor.capture());
+        assertThat(captor.getValue().item()).containsKey("sectionsData").doesNotContainKey("sections");
+    }
+
+    @Test
+    void shouldMoveSectionsToBinaryFormatOnUpdate() {
+        // Given
+        ReflectionTestUtils.setField(repository, "sectionsFormat", SectionsFormat.BINARY);
+        Course current = DynamoDBModelConverter.toCourse(DynamoDBModelConverter.toItem(createSampleCourse()));
+        Course updated = current.toBuilder().title("Renamed Course").version(2).build();
+
+        // When
+        repository.update(current, updated);
+
+        // Then
+        ArgumentCaptor<UpdateItemRequest> captor = ArgumentCaptor.forClass(UpdateItemRequest.class);
+        verify(dynamoDbClient).updateItem(captor.capture());
+        UpdateItemRequest request = captor.getValue();
+        assertThat(request.updateExpression())
+                .contains(placeholder(request, "sectionsData") + " = ")
+                .endsWith(" REMOVE " + placeholder(request, "sections"));
+    }
+
+    @Test
+    void shouldNotRewriteUnreadBinarySections() {
+        // Given
+        ReflectionTestUtils.setField(repository, "sectionsFormat", SectionsFormat.BINARY);
+        Course current = DynamoDBModelConverter.toCourse(
+                DynamoDBModelConverter.toItem(createSampleCourse(), SectionsFormat.BINARY));
+        Course updated = current.toBuilder().title("Renamed Course").version(2).build();
+
+        // When
+        repository.update(current, updated);
+
+        // Then
+        ArgumentCaptor<UpdateItemRequest> captor = ArgumentCaptor.forClass(UpdateItemRequest.class);
+        verify(dynamoDbClient).updateItem(captor.capture());
+        assertThat(captor.getValue().expressionAttributeNames())
+                .doesNotContainValue("sectionsData")
+                .doesNotContainValue("sections");
+        assertThat(updated.isSectionsUnread()).isTrue();
+    }
+
+    @Test
+    void shouldWriteCurriculumItemsBeforeCourseItem() {
+        // Given
+        ReflectionTestUtils.setField(repository, "sectionsFormat", SectionsFormat.ITEM_COLLECTION);
+        Course course = createSampleCourse();
+        when(dynamoDbClient.queryPaginator(any(QueryRequest.class)))
+                .thenAnswer(invocation -> new QueryIterable(dynamoDbClient, invocation.getArgument(0)));
+        when(dynamoDbClient.query(any(QueryRequest.class))).thenReturn(QueryResponse.builder().build());
+        when(dynamoDbClient.batchWriteItem(any(BatchWriteItemRequest.class))).thenReturn(BatchWriteItemResponse.builder().build());
+        when(dynamoDbClient.putItem(any(PutItemRequest.class))).thenReturn(PutItemResponse.builder().build());
+
+        // When
+        repository.save(course);
+
+        // Then
+        InOrder inOrder = inOrder(dynamoDbClient);
+        ArgumentCaptor<BatchWriteItemRequest> batch = ArgumentCaptor.forClass(BatchWriteItemRequest.class);
+        inOrder.verify(dynamoDbClient).batchWriteItem(batch.capture());
+        ArgumentCaptor<PutItemRequest> put = ArgumentCaptor.forClass(PutItemRequest.class);
+        inOrder.verify(dynamoDbClient).putItem(put.capture());
+        assertThat(batch.getValue().requestItems().get(CourseCurriculumStore.DEFAULT_TABLE_NAME))
+                .extracting(write -> write.putRequest().item().get(CourseCurriculumStore.ITEM_KEY).s())
+                .containsExactly("SECTION#0000");
+        assertThat(put.getValue().item().get("sectionCount").n()).isEqualTo("1");
+        assertThat(put.getValue().item()).doesNotContainKeys("sections", "sectionsData");
+    }
+
+    @Test
+    void shouldLeaveUnreadCurriculumAloneOnUpdate() {
+        // Given
+        ReflectionTestUtils.setField(repository, "sectionsFormat", SectionsFormat.ITEM_COLLECTION);
+        Course current = DynamoDBModelConverter.toCourse(
+                DynamoDBModelConverter.toItem(createSampleCourse(), SectionsFormat.ITEM_COLLECTION));
+        Course updated = current.toBuilder().title("Renamed Course").version(2).build();
+
+        // When
+        repository.update(current, updated);
+
+        // Then
+        ArgumentCaptor<UpdateItemRequest> captor = ArgumentCaptor.forClass(UpdateItemRequest.class);
+        verify(dynamoDbClient).updateItem(captor.capture());
+        assertThat(captor.getValue().expressionAttributeNames()).doesNotContainValue("sectionCount");
+        verifyNoMoreInteractions(dynamoDbClient);
+        assertThat(updated.isSectionsUnread()).isTrue();
+    }
+
+    @Test
+    void shouldLoadSectionsIntoCopyAndKeepCachedCourseUnread() {
+        // Given
+        Course course = createSampleCourse();
+        when(dynamoDbClient.getItem(any(GetItemRequest.class))).thenReturn(GetItemResponse.builder()
+                .item(DynamoDBModelConverter.toItem(course, SectionsFormat.ITEM_COLLECTION))
+                .build());
+        when(dynamoDbClient.queryPaginator(any(QueryRequest.class)))
+                .thenAnswer(invocation -> new QueryIterable(dynamoDbClient, invocation.getArgument(0)));
+        when(dynamoDbClient.query(any(QueryRequest.class))).thenReturn(QueryResponse.builder()
+                .items(sectionItem(course.getCourseId(), course.getSections().get(0)))
+                .build());
+
+        // When
+        Course withSections = repository.findById(course.getCourseId(), CourseDetail.SECTIONS).orElseThrow();
+        Course cached = repository.findById(course.getCourseId()).orElseThrow();
+
+        // Then
+        assertThat(withSections.getSections()).containsExactly(course.getSections().get(0));
+        assertThat(DynamoDBModelConverter.sectionsFormatOf(withSections)).isEqualTo(SectionsFormat.ITEM_COLLECTION);
+        assertThat(cached).isNotSameAs(withSections);
+        assertThat(cached.isSectionsUnread()).isTrue();
+        ArgumentCaptor<QueryRequest> query = ArgumentCaptor.forClass(QueryRequest.class);
+        verify(dynamoDbClient).query(query.capture());
+        assertThat(query.getValue().expressionAttributeValues().get(":prefix").s()).isEqualTo("SECTION#");
+    }
+
+    @Test
+    void shouldLoadCurriculumOnceForCopiesOfCachedCourse() {
+        // Given
+        Course course = createSampleCourse();
+        when(dynamoDbClient.getItem(any(GetItemRequest.class))).thenReturn(GetItemResponse.builder()
+                .item(DynamoDBModelConverter.toItem(course, SectionsFormat.ITEM_COLLECTION))
+                .build());
+        when(dynamoDbClient.queryPaginator(any(QueryRequest.class)))
+                .thenAnswer(invocation -> new QueryIterable(dynamoDbClient, invocation.getArgument(0)));
+        when(dynamoDbClient.query(any(QueryRequest.class))).thenReturn(QueryResponse.builder()
+                .items(sectionItem(course.getCourseId(), course.getSections().get(0)))
+                .build());
+
+        // When
+        Course first = repository.findById(course.getCourseId()).orElseThrow();
+        first.getSections().clear();
+        Course second = repository.findById(course.getCourseId()).orElseThrow();
+
+        // Then
+        assertThat(second.getSections()).containsExactly(course.getSections().get(0));
+        verify(dynamoDbClient, times(1)).query(any(QueryRequest.class));
+    }
+
+    @Test
+    void shouldKeepStoredLessonsOfAttributeSectionsUpdatedWithoutThem() {
+        // Given
+        Course current = createSampleCourse();
+        Section section = current.getSections().get(0);
+        section.setLessons(Collections.singletonList(lesson("Intro")));
+        Course updated = current.toBuilder().version(2).build();
+        updated.setSections(Collections.singletonList(Section.builder()
+                .sectionId(section.getSectionId())
+                .title("Renamed Section")
+                .description(section.getDescription())
+                .order(section.getOrder())
+                .duration(section.getDuration())
+                .build()));
+
+        // When
+        repository.update(current, updated);
+
+        // Then
+        assertThat(updated.getSections().get(0).getLessons()).extracting(Lesson::getTitle).containsExactly("Intro");
+        ArgumentCaptor<UpdateItemRequest> captor = ArgumentCaptor.forClass(UpdateItemRequest.class);
+        verify(dynamoDbClient).updateItem(captor.capture());
+        assertThat(captor.getValue().expressionAttributeNames()).containsValue("title").doesNotContainValue("lessons");
+    }
+
+    @Test
+    void shouldReadOneLessonOfUnreadCurriculumThroughLessonIndex() {
+        // Given
+        Course course = createSampleCourse();
+        Lesson lesson = lesson("Intro");
+        when(dynamoDbClient.getItem(any(GetItemRequest.class))).thenReturn(GetItemResponse.builder()
+                .item(DynamoDBModelConverter.toItem(course, SectionsFormat.ITEM_COLLECTION))
+                .build());
+        when(dynamoDbClient.query(any(QueryRequest.class))).thenReturn(QueryResponse.builder()
+                .items(LessonAttributes.toMap(lesson))
+                .build());
+
+        // When
+        Optional<Lesson> found = repository.findLesson(course.getCourseId(), lesson.getLessonId());
+
+        // Then
+        assertThat(found).hasValueSatisfying(l -> assertThat(l.getTitle()).isEqualTo("Intro"));
+        ArgumentCaptor<QueryRequest> query = ArgumentCaptor.forClass(QueryRequest.class);
+        verify(dynamoDbClient).query(query.capture());
+        assertThat(query.getValue().indexName()).isEqualTo(CourseCurriculumStore.LESSON_INDEX);
+        assertThat(query.getValue().expressionAttributeValues().get(":lesson").s())
+                .isEqualTo(lesson.getLessonId().toString());
+        assertThat(repository.findById(course.getCourseId()).orElseThrow().isSectionsUnread()).isTrue();
+    }
+
+    @Test
+    void shouldFindLessonsOfLoadedSectionsInMemory() {
+        // Given
+        Course course = createSampleCourse();
+        Section section = course.getSections().get(0);
+        Lesson setup = lesson("Setup");
+        section.setLessons(Arrays.asList(lesson("Intro"), setup, lesson("Run")));
+        stubGetItem(course);
+
+        // When
+        Optional<Lesson> found = repository.findLesson(course.getCourseId(), setup.getLessonId());
+        List<Lesson> range = repository.findLessons(course.getCourseId(), section.getSectionId(), 1, Integer.MAX_VALUE);
+
+        // Then
+        assertThat(found).hasValueSatisfying(l -> assertThat(l.getLessonId()).isEqualTo(setup.getLessonId()));
+        assertThat(range).extracting(Lesson::getTitle).containsExactly("Setup", "Run");
+        assertThat(repository.findLessons(course.getCourseId(), section.getSectionId(), 5, 1)).isEmpty();
+        assertThat(repository.findLesson(course.getCourseId(), UUID.randomUUID())).isEmpty();
+        verify(dynamoDbClient, never()).query(any(QueryRequest.class));
+    }
+
+    @Test
+    void shouldInvalidateOnDelete() {
+        // Given
+        Course course = createSampleCourse();
+        stubGetItem(course);
+        repository.findById(course.getCourseId());
+        when(dynamoDbClient.deleteItem(any(DeleteItemRequest.class)))
+                .thenReturn(DeleteItemResponse.builder().attributes(DynamoDBModelConverter.toItem(course)).build());
+
+        // When
+        repository.deleteById(course.getCourseId());
+        repository.findById(course.getCourseId());
+
+        // Then
+        verify(dynamoDbClient).deleteItem(any(DeleteItemRequest.class));
+        verify(dynamoDbClient, times(2)).getItem(any(GetItemRequest.class));
+        verify(tagIndex).remove(course.getCourseId(), "tenant1", course.getTags());
+    }
+
+    @Test
+    void shouldKeepSavedCourseWhenTagIndexUpdateFails() {
+        // Given
+        Course course = createSampleCourse();
+        when(dynamoDbClient.putItem(any(PutItemRequest.class))).thenReturn(PutItemResponse.builder().build());
+        doThrow(new IllegalStateException("throttled")).when(tagIndex)
+                .update(course.getCourseId(), "tenant1", Collections.emptyList(), course.getTags());
+
+        // When
+        Course saved = repository.save(course);
+
+        // Then
+        assertThat(saved).isSameAs(course);
+        verify(dynamoDbClient).putItem(any(PutItemRequest.class));
+    }
+
+    @Test
+    void shouldInvalidateEveryCourseOfTenant() {
+        // Given
+        Course course = createSampleCourse();
+        stubGetItem(course);
+        repository.findById(course.getCourseId());
+
+        // When
+        courseCache.invalidateTenant("other-tenant");
+        repository.findById(course.getCourseId());
+        courseCache.invalidateTenant(course.getTenantId());
+        repository.findById(course.getCourseId());
+
+        // Then
+        verify(dynamoDbClient, times(2)).getItem(any(GetItemRequest.class));
+    }
+
+    @Test
+    void shouldFetchOnlyUncachedCoursesAndKeepInputOrder() {
+        // Given
+        Course cached = createSampleCourse();
+        Course stored = createSampleCourse();
+        stubGetItem(cached);
+        repository.findById(cached.getCourseId());
+        UUID unknownId = UUID.randomUUID();
+        when(dynamoDbClient.batchGetItem(any(BatchGetItemRequest.class))).thenReturn(BatchGetItemResponse.builder()
+                .responses(Collections.singletonMap("Courses",
+                        Collections.singletonList(DynamoDBModelConverter.toItem(stored))))
+                .build());
+
+        // When
+        List<Course> courses = repository.findAllByIds(
+                Arrays.asList(stored.getCourseId(), unknownId, cached.getCourseId(), stored.getCourseId()));
+
+        // Then
+        assertThat(courses).containsExactly(stored, cached);
+        ArgumentCaptor<BatchGetItemRequest> captor = ArgumentCaptor.forClass(BatchGetItemRequest.class);
+        verify(dynamoDbClient).batchGetItem(captor.capture());
+        assertThat(captor.getValue().requestItems().get("Courses").keys()).hasSize(2);
+        assertThat(repository.findById(stored.getCourseId())).contains(stored);
+        verify(dynamoDbClient, times(1)).getItem(any(GetItemRequest.class));
+    }
+
+    private static String placeholder(UpdateItemRequest request, String attribute) {
+        return request.expressionAttributeNames().entrySet().stream()
+                .filter(entry -> entry.getValue().equals(attribute))
+                .map(Map.Entry::getKey)
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private static Map<String, AttributeValue> sectionItem(UUID courseId, Section section) {
+        return Map.of(
+                CourseCurriculumStore.COURSE_ID, AttributeValue.builder().s(courseId.toString()).build(),
+                CourseCurriculumStore.ITEM_KEY, AttributeValue.builder().s("SECTION#0000").build(),
+                "sectionId", AttributeValue.builder().s(section.getSectionId().toString()).build(),
+                "title", AttributeValue.builder().s(section.getTitle()).build(),
+                "description", AttributeValue.builder().s(section.getDescription()).build(),
+                "order", AttributeValue.builder().n(section.getOrder().toString()).build(),
+                "duration", AttributeValue.builder().n(section.getDuration().toString()).build());
+    }
+
+    private static Lesson lesson(String title) {
+        Lesson lesson = new Lesson();
+        lesson.setLessonId(UUID.randomUUID());
+        lesson.setTitle(title);
+        lesson.setContent(ContentType.VIDEO, "http://example.com/" + title + ".mp4");
+        return lesson;
+    }
+
+    private void stubGetItem(Course course) {
+        when(dynamoDbClient.getItem(any(GetItemRequest.class)))
+                .thenReturn(GetItemResponse.builder().item(DynamoDBModelConverter.toItem(course)).build());
+    }
+
+    private Course createSampleCourse() {
+        Course course = new Course();
+        course.setCourseId(UUID.randomUUID());
+        course.setTenantId("tenant1");
+        course.setTitle("Test Course");
+        course.setDescription("Test Description");
+        course.setTopicCode("topic1");
+        course.setCategoryCode("category1");
+        course.setLanguage(Arrays.asList(Language.ENGLISH));
+        course.setLevel(Level.BEGINNER);
+        course.setPricingModel(PricingModel.FREE);
+        course.setPrize(new Prize(0.0, 0, Currency.USD));
+        course.setLearningMode(LearningMode.ONLINE);
+        course.setPoints(100);
+        course.setTags(Arrays.asList("test"));
+        course.setAuthors(Arrays.asList(Author.builder()
+                .authorId(UUID.randomUUID())
+                .firstName("John")
+                .lastName("Doe")
+                .emailId("john.doe@example.com")
+                .build()));
+        course.setPublisher(Publisher.builder()
+                .publisherId(UUID.randomUUID())
+                .name("Test Publisher")
+                .type(PublisherType.INDIVIDUAL)
+                .logoUrl("http://example.com/logo.jpg")
+                .website("http://example.com")
+                .contactEmail("contact@example.com")
+                .description("Test Publisher Description")
+                .country("US")
+                .build());
+        course.setPublishedOn(LocalDateTime.now());
+        course.setImageUrl("http://example.com/image.jpg");
+        course.setInMarketplace(true);
+        course.setStatus(Status.PUBLISHED);
+        course.setDuration(30);
+        course.setSections(Arrays.asList(Section.builder()
+                .sectionId(UUID.randomUUID())
+                .title("Test Section")
+                .description("Test Section Description")
+                .order(1)
+                .duration(30)
+                .build()));
+        course.setLessonNavigationMode(LessonNavigationMode.SEQUENTIAL);
+        course.setVersion(1);
+        return course;
+    }
+}
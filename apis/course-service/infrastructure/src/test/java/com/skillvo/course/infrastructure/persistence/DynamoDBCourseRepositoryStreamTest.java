@@ -0,0 +1,482 @@
+package com.skillvo.course.infrastructure.persistence;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.skillvo.caching.infrastructure.cache.SingleFlight;
+import com.skillvo.course.domain.model.aggregates.Course;
+import com.skillvo.course.domain.model.entities.Author;
+import com.skillvo.course.domain.model.entities.Publisher;
+import com.skillvo.course.domain.model.entities.Section;
+import com.skillvo.course.domain.model.enums.*;
+import com.skillvo.course.domain.model.valueobjects.Prize;
+import com.skillvo.course.domain.repository.CourseFilter;
+import com.skillvo.course.domain.repository.CoursePage;
+import com.skillvo.course.domain.repository.CourseSummary;
+import com.skillvo.course.domain.repository.CourseSummaryPage;
+import com.skillvo.course.domain.repository.TagMatch;
+import com.skillvo.course.infrastructure.cache.CourseCache;
+import com.skillvo.course.infrastructure.metrics.StageMetrics;
+import com.skillvo.course.infrastructure.outbox.OutboxEventConverter;
+import com.skillvo.course.infrastructure.persistence.batch.BatchCourseReader;
+import com.skillvo.course.infrastructure.persistence.curriculum.CourseCurriculumStore;
+import com.skillvo.course.infrastructure.persistence.query.CourseQueryPlanner;
+import com.skillvo.course.infrastructure.persistence.scan.ParallelCourseScanner;
+import com.skillvo.course.infrastructure.persistence.tags.CourseTagIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.*;
+import software.amazon.awssdk.services.dynamodb.paginators.QueryIterable;
+import software.amazon.awssdk.services.dynamodb.paginators.ScanIterable;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DynamoDBCourseRepositoryStreamTest {
+
+    @Mock
+    private DynamoDbClient dynamoDbClient;
+
+    @Mock
+    private CourseTagIndex tagIndex;
+
+    private DynamoDBCourseRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new DynamoDBCourseRepository(dynamoDbClient, new ParallelCourseScanner(dynamoDbClient, CourseQueryPlanner.withoutStatistics()), new CourseCache(100, 60),
+                new BatchCourseReader(dynamoDbClient, 4, 8, 1), new OutboxEventConverter(new ObjectMapper(), OutboxEventConverter.DEFAULT_TABLE_NAME),
+                tagsFirstPlanner(), tagIndex,
+                new CourseCurriculumStore(dynamoDbClient, CourseCurriculumStore.DEFAULT_TABLE_NAME, 8, 1), new AsyncItemReader(mock(DynamoDbAsyncClient.class)),
+                StageMetrics.shared());
+    }
+
+    @Test
+    void shouldFollowLastEvaluatedKeyInFindAll() {
+        // Given
+        Course course1 = createSampleCourse();
+        Course course2 = createSampleCourse();
+        Course course3 = createSampleCourse();
+        stubScanPaginator();
+        when(dynamoDbClient.scan(any(ScanRequest.class))).thenReturn(
+                scanPage(lastKey(course2), course1, course2),
+                scanPage(null, course3));
+
+        // When
+        List<Course> courses = repository.findAll();
+
+        // Then
+        assertThat(courses).containsExactly(course1, course2, course3);
+        verify(dynamoDbClient, times(2)).scan(any(ScanRequest.class));
+    }
+
+    @Test
+    void shouldFollowLastEvaluatedKeyInList() {
+        // Given
+        Course course1 = createSampleCourse();
+        Course course2 = createSampleCourse();
+        stubQueryPaginator();
+        when(dynamoDbClient.query(any(QueryRequest.class))).thenReturn(
+                queryPage(lastKey(course1), course1),
+                queryPage(null, course2));
+
+        // When
+        List<Course> courses = repository.list(CourseFilter.builder().tenantId("tenant1").build());
+
+        // Then
+        assertThat(courses).containsExactlyInAnyOrder(course1, course2);
+        verify(dynamoDbClient, times(2)).query(any(QueryRequest.class));
+    }
+
+    @Test
+    void shouldStopFetchingPagesOnceLimitIsReached() {
+        // Given
+        Course course1 = createSampleCourse();
+        Course course2 = createSampleCourse();
+        stubQueryPaginator();
+        when(dynamoDbClient.query(any(QueryRequest.class))).thenReturn(
+                queryPage(lastKey(course2), course1, course2));
+
+        // When
+        List<Course> courses;
+        try (Stream<Course> stream = repository.stream(CourseFilter.builder().tenantId("tenant1").limit(2).build())) {
+            courses = stream.collect(Collectors.toList());
+        }
+
+        // Then
+        assertThat(courses).containsExactly(course1, course2);
+        verify(dynamoDbClient, times(1)).query(any(QueryRequest.class));
+    }
+
+    @Test
+    void shouldListMarketplaceNewestFirstFromSparseIndexWithoutSorting() {
+        // Given
+        Course newer = createSampleCourse();
+        Course older = createSampleCourse();
+        Course oldest = createSampleCourse();
+        stubQueryPaginator();
+        when(dynamoDbClient.query(any(QueryRequest.class))).thenReturn(
+                queryPage(lastKey(older), newer, older),
+                queryPage(null, oldest));
+
+        // When
+        List<Course> courses = repository.list(CourseFilter.builder()
+                .tenantId("tenant1")
+                .inMarketplace(true)
+                .limit(2)
+                .build());
+
+        // Then
+        assertThat(courses).containsExactly(newer, older);
+        ArgumentCaptor<QueryRequest> captor = ArgumentCaptor.forClass(QueryRequest.class);
+        verify(dynamoDbClient, times(1)).query(captor.capture());
+        QueryRequest request = captor.getValue();
+        assertThat(request.indexName()).isEqualTo("MarketplaceIndex");
+        assertThat(request.keyConditionExpression()).isEqualTo("#marketplaceTenantId = :marketplaceTenantId");
+        assertThat(request.scanIndexForward()).isFalse();
+        assertThat(request.limit()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldFilterNonMarketplaceCoursesOnTenantIndex() {
+        // Given
+        when(dynamoDbClient.query(any(QueryRequest.class))).thenReturn(queryPage(null));
+
+        // When
+        repository.listPage(CourseFilter.builder().tenantId("tenant1").inMarketplace(false).build());
+
+        // Then
+        ArgumentCaptor<QueryRequest> captor = ArgumentCaptor.forClass(QueryRequest.class);
+        verify(dynamoDbClient).query(captor.capture());
+        QueryRequest request = captor.getValue();
+        assertThat(request.indexName()).isEqualTo("TenantIdIndex");
+        assertThat(request.keyConditionExpression()).isEqualTo("#tenantId = :tenantId");
+        assertThat(request.filterExpression()).isEqualTo("#inMarketplace = :inMarketplace");
+        assertThat(request.expressionAttributeValues().get(":inMarketplace").bool()).isFalse();
+    }
+
+    @Test
+    void shouldReadSummaryPageWithProjection() {
+        // Given
+        Course course = createSampleCourse();
+        when(dynamoDbClient.query(any(QueryRequest.class))).thenReturn(queryPage(null, course));
+
+        // When
+        CourseSummaryPage page = repository.listSummaryPage(CourseFilter.builder().tenantId("tenant1").limit(10).build());
+
+        // Then
+        assertThat(page.getItems()).hasSize(1);
+        CourseSummary summary = page.getItems().get(0);
+        assertThat(summary.getCourseId()).isEqualTo(course.getCourseId());
+        assertThat(summary.getTitle()).isEqualTo(course.getTitle());
+        assertThat(summary.getPrize()).isEqualTo(course.getPrize());
+        assertThat(page.hasMore()).isFalse();
+
+        ArgumentCaptor<QueryRequest> captor = ArgumentCaptor.forClass(QueryRequest.class);
+        verify(dynamoDbClient).query(captor.capture());
+        QueryRequest request = captor.getValue();
+        assertThat(request.projectionExpression()).contains("#status", "#level", "#duration").doesNotContain("#sections");
+        assertThat(request.expressionAttributeNames())
+                .containsEntry("#status", "status")
+                .containsEntry("#tenantId", "tenantId");
+    }
+
+    @Test
+    void shouldShareOneReadBetweenConcurrentEquivalentPageRequests() throws Exception {
+        // Given
+        Course course = createSampleCourse();
+        CountDownLatch querying = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(dynamoDbClient.query(any(QueryRequest.class))).thenAnswer(invocation -> {
+            querying.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return queryPage(null, course);
+        });
+        SingleFlightProbe flights = new SingleFlightProbe(repository, "summaryPageFlights");
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<CourseSummaryPage> first = executor.submit(() -> repository.listSummaryPage(
+                    CourseFilter.builder().tenantId("tenant1").tags(Collections.emptyList()).build()));
+            assertThat(querying.await(5, TimeUnit.SECONDS)).isTrue();
+
+            // When
+            Future<CourseSummaryPage> second = executor.submit(() -> repository.listSummaryPage(
+                    CourseFilter.builder().tenantId("tenant1").tagMatch(TagMatch.ANY).limit(20).build()));
+            flights.awaitJoins(1);
+            release.countDown();
+
+            // Then
+            assertThat(second.get(5, TimeUnit.SECONDS)).isSameAs(first.get(5, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+        verify(dynamoDbClient, times(1)).query(any(QueryRequest.class));
+    }
+
+    @Test
+    void shouldReadAgainForListRequestsThatDoNotOverlap() {
+        // Given
+        Course course = createSampleCourse();
+        when(dynamoDbClient.query(any(QueryRequest.class))).thenReturn(queryPage(null, course));
+        CourseFilter filter = CourseFilter.builder().tenantId("tenant1").build();
+
+        // When
+        CoursePage first = repository.listPage(filter);
+        CoursePage second = repository.listPage(filter);
+
+        // Then
+        assertThat(first.getItems()).extracting(Course::getCourseId).containsExactly(course.getCourseId());
+        assertThat(second).isNotSameAs(first);
+        verify(dynamoDbClient, times(2)).query(any(QueryRequest.class));
+    }
+
+    @Test
+    void shouldPageThroughTagIndexLookups() {
+        // Given
+        Course course1 = createSampleCourse();
+        Course course2 = createSampleCourse();
+        course1.setTags(Arrays.asList("java", "spring"));
+        course2.setTags(Arrays.asList("spring", "java", "kafka"));
+        List<String> tags = Arrays.asList("java", "spring");
+        when(tagIndex.lookup(tags, true, "tenant1", null, 2))
+                .thenReturn(Arrays.asList(course1.getCourseId(), course2.getCourseId()));
+        when(tagIndex.lookup(tags, true, "tenant1", course2.getCourseId().toString(), 2))
+                .thenReturn(Collections.emptyList());
+        stubBatchGetItem(course1, course2);
+        CourseFilter.CourseFilterBuilder filter = CourseFilter.builder()
+                .tenantId("tenant1")
+                .tags(tags)
+                .tagMatch(TagMatch.ALL)
+                .limit(2);
+
+        // When
+        CoursePage first = repository.listPage(filter.build());
+        CoursePage second = repository.listPage(filter.pageToken(first.getNextPageToken()).build());
+
+        // Then
+        assertThat(first.getItems()).extracting(Course::getCourseId)
+                .containsExactly(course1.getCourseId(), course2.getCourseId());
+        assertThat(first.hasMore()).isTrue();
+        assertThat(second.getItems()).isEmpty();
+        assertThat(second.hasMore()).isFalse();
+        verify(dynamoDbClient, never()).query(any(QueryRequest.class));
+        verify(dynamoDbClient, never()).scan(any(ScanRequest.class));
+    }
+
+    @Test
+    void shouldRemoveStaleTagEntriesFoundWhileReading() {
+        // Given
+        Course current = createSampleCourse();
+        Course retagged = createSampleCourse();
+        UUID deleted = UUID.randomUUID();
+        current.setTags(Arrays.asList("java", "spring"));
+        retagged.setTags(Arrays.asList("java"));
+        List<String> tags = Arrays.asList("java", "spring");
+        when(tagIndex.lookup(tags, true, "tenant1", null, 20))
+                .thenReturn(Arrays.asList(retagged.getCourseId(), deleted, current.getCourseId()));
+        stubBatchGetItem(current, retagged);
+
+        // When
+        CoursePage page = repository.listPage(CourseFilter.builder()
+                .tenantId("tenant1")
+                .tags(tags)
+                .tagMatch(TagMatch.ALL)
+                .build());
+
+        // Then
+        assertThat(page.getItems()).extracting(Course::getCourseId).containsExactly(current.getCourseId());
+        assertThat(page.hasMore()).isFalse();
+        verify(tagIndex).remove(retagged.getCourseId(), "tenant1", List.of("spring"));
+        verify(tagIndex).remove(deleted, "tenant1", tags);
+        verify(tagIndex, never()).remove(eq(current.getCourseId()), any(), any());
+    }
+
+    @Test
+    void shouldWriteTagEntriesOfEveryScannedCourseOnRebuild() {
+        // Given
+        Course course1 = createSampleCourse();
+        Course course2 = createSampleCourse();
+        course2.setTags(Arrays.asList("java", "spring"));
+        stubScanPaginator();
+        when(dynamoDbClient.scan(any(ScanRequest.class))).thenAnswer(invocation -> {
+            ScanRequest request = invocation.getArgument(0);
+            return request.segment() == 0 ? scanPage(null, course1, course2) : scanPage(null);
+        });
+
+        // When
+        long indexed = repository.rebuildTagIndex();
+
+        // Then
+        assertThat(indexed).isEqualTo(2);
+        verify(tagIndex).update(course1.getCourseId(), "tenant1", null, course1.getTags());
+        verify(tagIndex).update(course2.getCourseId(), "tenant1", null, course2.getTags());
+    }
+
+    @Test
+    void shouldBackfillMarketplaceKeyOnPublishedCourses() {
+        // Given
+        Course listed = createSampleCourse();
+        listed.setStatus(Status.PUBLISHED);
+        listed.setInMarketplace(true);
+        Course alreadyKeyed = createSampleCourse();
+        alreadyKeyed.setStatus(Status.PUBLISHED);
+        alreadyKeyed.setInMarketplace(true);
+        stubScanPaginator();
+        when(dynamoDbClient.scan(any(ScanRequest.class))).thenAnswer(invocation -> {
+            ScanRequest request = invocation.getArgument(0);
+            return request.segment() == 0 ? scanPage(null, listed, alreadyKeyed) : scanPage(null);
+        });
+        when(dynamoDbClient.updateItem(any(UpdateItemRequest.class))).thenAnswer(invocation -> {
+            UpdateItemRequest request = invocation.getArgument(0);
+            if (request.key().get("courseId").s().equals(alreadyKeyed.getCourseId().toString())) {
+                throw ConditionalCheckFailedException.builder().message("already keyed").build();
+            }
+            return UpdateItemResponse.builder().build();
+        });
+
+        // When
+        long updated = repository.backfillMarketplaceIndex();
+
+        // Then
+        assertThat(updated).isEqualTo(1);
+        ArgumentCaptor<UpdateItemRequest> captor = ArgumentCaptor.forClass(UpdateItemRequest.class);
+        verify(dynamoDbClient, times(2)).updateItem(captor.capture());
+        UpdateItemRequest request = captor.getAllValues().stream()
+                .filter(r -> r.key().get("courseId").s().equals(listed.getCourseId().toString()))
+                .findFirst().orElseThrow();
+        assertThat(request.updateExpression()).isEqualTo("SET #marketplaceTenantId = :tenantId");
+        assertThat(request.conditionExpression()).contains("attribute_not_exists(#marketplaceTenantId)");
+        assertThat(request.expressionAttributeValues().get(":tenantId").s()).isEqualTo("tenant1");
+        assertThat(captor.getAllValues()).allSatisfy(r -> assertThat(r.tableName()).isEqualTo("Courses"));
+    }
+
+    /**
+     * Estimates every tag partition smaller than a tenant's, so tenant and tag filters use the tag index.
+     */
+    private static CourseQueryPlanner tagsFirstPlanner() {
+        return new CourseQueryPlanner((index, key) -> OptionalLong.of(index == CourseQueryPlanner.TAG_INDEX ? 1 : 1000));
+    }
+
+    private void stubBatchGetItem(Course... courses) {
+        when(dynamoDbClient.batchGetItem(any(BatchGetItemRequest.class))).thenReturn(BatchGetItemResponse.builder()
+                .responses(Collections.singletonMap("Courses",
+                        Arrays.stream(courses).map(DynamoDBModelConverter::toItem).collect(Collectors.toList())))
+                .build());
+    }
+
+    private void stubQueryPaginator() {
+        when(dynamoDbClient.queryPaginator(any(QueryRequest.class)))
+                .thenAnswer(invocation -> new QueryIterable(dynamoDbClient, invocation.getArgument(0)));
+    }
+
+    private void stubScanPaginator() {
+        when(dynamoDbClient.scanPaginator(any(ScanRequest.class)))
+                .thenAnswer(invocation -> new ScanIterable(dynamoDbClient, invocation.getArgument(0)));
+    }
+
+    private QueryResponse queryPage(Map<String, AttributeValue> lastEvaluatedKey, Course... courses) {
+        return QueryResponse.builder()
+                .items(Arrays.stream(courses).map(DynamoDBModelConverter::toItem).collect(Collectors.toList()))
+                .lastEvaluatedKey(lastEvaluatedKey)
+                .build();
+    }
+
+    private ScanResponse scanPage(Map<String, AttributeValue> lastEvaluatedKey, Course... courses) {
+        return ScanResponse.builder()
+                .items(Arrays.stream(courses).map(DynamoDBModelConverter::toItem).collect(Collectors.toList()))
+                .lastEvaluatedKey(lastEvaluatedKey)
+                .build();
+    }
+
+    private Map<String, AttributeValue> lastKey(Course course) {
+        return Collections.singletonMap("courseId", AttributeValue.builder().s(course.getCourseId().toString()).build());
+    }
+
+    private static final class SingleFlightProbe {
+        private final SingleFlight<?, ?> flights;
+
+        private SingleFlightProbe(DynamoDBCourseRepository repository, String field) {
+            this.flights = (SingleFlight<?, ?>)
+                    ReflectionTestUtils.getField(repository, field);
+        }
+
+        private void awaitJoins(long joins) throws InterruptedException {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (flights.joins() < joins && System.nanoTime() < deadline) {
+                Thread.sleep(1);
+            }
+            assertThat(flights.joins()).isEqualTo(joins);
+        }
+    }
+
+    private Course createSampleCourse() {
+        Course course = new Course();
+        course.setCourseId(UUID.randomUUID());
+        course.setTenantId("tenant1");
+        course.setTitle("Test Course");
+        course.setDescription("Test Description");
+        course.setTopicCode("topic1");
+        course.setCategoryCode("category1");
+        course.setLanguage(Arrays.asList(Language.ENGLISH));
+        course.setLevel(Level.BEGINNER);
+        course.setPricingModel(PricingModel.FREE);
+        course.setPrize(new Prize(0.0, 0, Currency.USD));
+        course.setLearningMode(LearningMode.ONLINE);
+        course.setPoints(100);
+        course.setTags(Arrays.asList("test"));
+        course.setAuthors(Arrays.asList(Author.builder()
+                .authorId(UUID.randomUUID())
+                .firstName("John")
+                .lastName("Doe")
+                .emailId("john.doe@example.com")
+                .build()));
+        course.setPublisher(Publisher.builder()
+                .publisherId(UUID.randomUUID())
+                .name("Test Publisher")
+                .type(PublisherType.INDIVIDUAL)
+                .logoUrl("http://example.com/logo.jpg")
+                .website("http://example.com")
+                .contactEmail("contact@example.com")
+                .description("Test Publisher Description")
+                .country("US")
+                .build());
+        course.setPublishedOn(LocalDateTime.now());
+        course.setImageUrl("http://example.com/image.jpg");
+        course.setInMarketplace(false);
+        course.setStatus(Status.DRAFT);
+        course.setDuration(30);
+        course.setSections(Arrays.asList(Section.builder()
+                .sectionId(UUID.randomUUID())
+                .title("Test Section")
+                .description("Test Section Description")
+                .order(1)
+                .duration(30)
+                .build()));
+        course.setLessonNavigationMode(LessonNavigationMode.SEQUENTIAL);
+        course.setVersion(1);
+        return course;
+    }
+}
@@ -1,9 +1,13 @@
 package com.skillvo.course.infrastructure.persistence;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.skillvo.course.domain.model.aggregates.Course;
 import com.skillvo.course.domain.model.entities.Author;
+import com.skillvo.course.domain.model.entities.Lesson;
 import com.skillvo.course.domain.model.entities.Publisher;
 import com.skillvo.course.domain.model.entities.Section;
+import com.skillvo.course.domain.model.enums.AnswerChoice;
+import com.skillvo.course.domain.model.enums.ContentType;
 import com.skillvo.course.domain.model.enums.Currency;
 import com.skillvo.course.domain.model.enums.Language;
 import com.skillvo.course.domain.model.enums.Level;
@@ -12,11 +16,27 @@ import com.skillvo.course.domain.model.enums.LessonNavigationMode;
 import com.skillvo.course.domain.model.enums.PricingModel;
 import com.skillvo.course.domain.model.enums.PublisherType;
 import com.skillvo.course.domain.model.enums.Status;
+import com.skillvo.course.domain.model.exception.CourseVersionConflictException;
+import com.skillvo.course.domain.model.valueobjects.AnswerOption;
 import com.skillvo.course.domain.model.valueobjects.Prize;
+import com.skillvo.course.domain.model.valueobjects.QuizContent;
+import com.skillvo.course.domain.model.valueobjects.QuizItem;
+import com.skillvo.course.domain.repository.CourseDetail;
 import com.skillvo.course.domain.repository.CourseFilter;
+import com.skillvo.course.domain.repository.CoursePage;
+import com.skillvo.course.domain.repository.TagMatch;
+import com.skillvo.course.infrastructure.cache.CourseCache;
+import com.skillvo.course.infrastructure.metrics.StageMetrics;
+import com.skillvo.course.infrastructure.outbox.OutboxEventConverter;
+import com.skillvo.course.infrastructure.persistence.batch.BatchCourseReader;
+import com.skillvo.course.infrastructure.persistence.curriculum.CourseCurriculumStore;
+import com.skillvo.course.infrastructure.persistence.query.CourseQueryPlanner;
+import com.skillvo.course.infrastructure.persistence.scan.ParallelCourseScanner;
+import com.skillvo.course.infrastructure.persistence.tags.CourseTagIndex;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.testcontainers.containers.GenericContainer;
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
@@ -24,17 +44,23 @@ import org.testcontainers.utility.DockerImageName;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
 import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
 import software.amazon.awssdk.services.dynamodb.model.*;
 
 import java.net.URI;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @Testcontainers
 class DynamoDBCourseRepositoryTest {
@@ -65,7 +91,17 @@ class DynamoDBCourseRepositoryTest {
         createTable();
         createIndexes();
 
-        repository = new DynamoDBCourseRepository(dynamoDbClient);
+        DynamoDbAsyncClient dynamoDbAsyncClient = DynamoDbAsyncClient.builder()
+                .endpointOverride(URI.create("http://localhost:" + dynamoDB.getMappedPort(8000)))
+                .credentialsProvider(StaticCredentialsProvider.create(
+                    AwsBasicCredentials.create("dummy", "dummy")))
+                .region(Region.US_EAST_1)
+                .build();
+        repository = new DynamoDBCourseRepository(dynamoDbClient, new ParallelCourseScanner(dynamoDbClient, CourseQueryPlanner.withoutStatistics()), new CourseCache(100, 60),
+                new BatchCourseReader(dynamoDbClient, 4, 8, 1), new OutboxEventConverter(new ObjectMapper(), OutboxEventConverter.DEFAULT_TABLE_NAME),
+                CourseQueryPlanner.withoutStatistics(), new CourseTagIndex(dynamoDbClient, CourseTagIndex.DEFAULT_TABLE_NAME, 4, 8, 1),
+                new CourseCurriculumStore(dynamoDbClient, CourseCurriculumStore.DEFAULT_TABLE_NAME, 8, 1), new AsyncItemReader(dynamoDbAsyncClient),
+                StageMetrics.shared());
     }
 
     @AfterEach
@@ -82,6 +118,17 @@ class DynamoDBCourseRepositoryTest {
                     .build();
             dynamoDbClient.deleteItem(deleteRequest);
         });
+        dynamoDbClient.scan(ScanRequest.builder().tableName(CourseTagIndex.DEFAULT_TABLE_NAME).build()).items()
+                .forEach(item -> dynamoDbClient.deleteItem(DeleteItemRequest.builder()
+                        .tableName(CourseTagIndex.DEFAULT_TABLE_NAME)
+                        .key(item)
+                        .build()));
+        dynamoDbClient.scan(ScanRequest.builder().tableName(CourseCurriculumStore.DEFAULT_TABLE_NAME).build()).items()
+                .forEach(item -> dynamoDbClient.deleteItem(DeleteItemRequest.builder()
+                        .tableName(CourseCurriculumStore.DEFAULT_TABLE_NAME)
+                        .key(Map.of(CourseCurriculumStore.COURSE_ID, item.get(CourseCurriculumStore.COURSE_ID),
+                                CourseCurriculumStore.ITEM_KEY, item.get(CourseCurriculumStore.ITEM_KEY)))
+                        .build()));
     }
 
     private void createTable() {
@@ -97,15 +144,11 @@ class DynamoDBCourseRepositoryTest {
                                 .attributeType(ScalarAttributeType.S)
                                 .build(),
                         AttributeDefinition.builder()
-                                .attributeName("status")
-                                .attributeType(ScalarAttributeType.S)
-                                .build(),
-                        AttributeDefinition.builder()
-                                .attributeName("level")
+                                .attributeName("marketplaceTenantId")
                                 .attributeType(ScalarAttributeType.S)
                                 .build(),
                         AttributeDefinition.builder()
-                                .attributeName("tag")
+                                .attributeName("publishedOn")
                                 .attributeType(ScalarAttributeType.S)
                                 .build())
                 .keySchema(
@@ -129,39 +172,16 @@ class DynamoDBCourseRepositoryTest {
                                         .build())
                                 .build(),
                         GlobalSecondaryIndex.builder()
-                                .indexName("StatusIndex")
-                                .keySchema(KeySchemaElement.builder()
-                                        .attributeName("status")
-                                        .keyType(KeyType.HASH)
-                                        .build())
-                                .projection(Projection.builder()
-                                        .projectionType(ProjectionType.ALL)
-                                        .build())
-                                .provisionedThroughput(ProvisionedThroughput.builder()
-                                        .readCapacityUnits(5L)
-                                        .writeCapacityUnits(5L)
-                                        .build())
-                                .build(),
-                        GlobalSecondaryIndex.builder()
-                                .indexName("LevelIndex")
-                                .keySchema(KeySchemaElement.builder()
-                                        .attributeName("level")
-                                        .keyType(KeyType.HASH)
-                                        .build())
-                                .projection(Projection.builder()
-                                        .projectionType(ProjectionType.ALL)
-                                        .build())
-                                .provisionedThroughput(ProvisionedThroughput.builder()
-                                        .readCapacityUnits(5L)
-                                        .writeCapacityUnits(5L)
-                                        .build())
-                                .build(),
-                        GlobalSecondaryIndex.builder()
-                                .indexName("TagsIndex")
-                                .keySchema(KeySchemaElement.builder()
-                                        .attributeName("tag")
-                                        .keyType(KeyType.HASH)
-                                        .build())
+                                .indexName("MarketplaceIndex")
+                                .keySchema(
+                                        KeySchemaElement.builder()
+                                                .attributeName("marketplaceTenantId")
+                                                .keyType(KeyType.HASH)
+                                                .build(),
+                                        KeySchemaElement.builder()
+                                                .attributeName("publishedOn")
+                                                .keyType(KeyType.RANGE)
+                                                .build())
                                 .projection(Projection.builder()
                                         .projectionType(ProjectionType.ALL)
                                         .build())
@@ -185,7 +205,89 @@ class DynamoDBCourseRepositoryTest {
     }
 
     private void createIndexes() {
-        // Indexes are now created as part of the table creation
+        // GSIs are created with the table; the tag index is its own table
+        CreateTableRequest request = CreateTableRequest.builder()
+                .tableName(CourseTagIndex.DEFAULT_TABLE_NAME)
+                .attributeDefinitions(
+                        AttributeDefinition.builder()
+                                .attributeName(CourseTagIndex.TAG)
+                                .attributeType(ScalarAttributeType.S)
+                                .build(),
+                        AttributeDefinition.builder()
+                                .attributeName(CourseTagIndex.COURSE_ID)
+                                .attributeType(ScalarAttributeType.S)
+                                .build())
+                .keySchema(
+                        KeySchemaElement.builder()
+                                .attributeName(CourseTagIndex.TAG)
+                                .keyType(KeyType.HASH)
+                                .build(),
+                        KeySchemaElement.builder()
+                                .attributeName(CourseTagIndex.COURSE_ID)
+                                .keyType(KeyType.RANGE)
+                                .build())
+                .provisionedThroughput(
+                        ProvisionedThroughput.builder()
+                                .readCapacityUnits(5L)
+                                .writeCapacityUnits(5L)
+                                .build())
+                .build();
+
+        try {
+            dynamoDbClient.createTable(request);
+        } catch (ResourceInUseException e) {
+            // Table already exists
+        }
+
+        request = CreateTableRequest.builder()
+                .tableName(CourseCurriculumStore.DEFAULT_TABLE_NAME)
+                .attributeDefinitions(
+                        AttributeDefinition.builder()
+                                .attributeName(CourseCurriculumStore.COURSE_ID)
+                                .attributeType(ScalarAttributeType.S)
+                                .build(),
+                        AttributeDefinition.builder()
+                                .attributeName(CourseCurriculumStore.ITEM_KEY)
+                                .attributeType(ScalarAttributeType.S)
+                                .build(),
+                        AttributeDefinition.builder()
+                                .attributeName(CourseCurriculumStore.LESSON_ID)
+                                .attributeType(ScalarAttributeType.S)
+                                .build())
+                .keySchema(
+                        KeySchemaElement.builder()
+                                .attributeName(CourseCurriculumStore.COURSE_ID)
+                                .keyType(KeyType.HASH)
+                                .build(),
+                        KeySchemaElement.builder()
+                                .attributeName(CourseCurriculumStore.ITEM_KEY)
+                                .keyType(KeyType.RANGE)
+                                .build())
+                .localSecondaryIndexes(LocalSecondaryIndex.builder()
+                        .indexName(CourseCurriculumStore.LESSON_INDEX)
+                        .keySchema(
+                                KeySchemaElement.builder()
+                                        .attributeName(CourseCurriculumStore.COURSE_ID)
+                                        .keyType(KeyType.HASH)
+                                        .build(),
+                                KeySchemaElement.builder()
+                                        .attributeName(CourseCurriculumStore.LESSON_ID)
+                                        .keyType(KeyType.RANGE)
+                                        .build())
+                        .projection(Projection.builder().projectionType(ProjectionType.ALL).build())
+                        .build())
+                .provisionedThroughput(
+                        ProvisionedThroughput.builder()
+                                .readCapacityUnits(5L)
+                                .writeCapacityUnits(5L)
+                                .build())
+                .build();
+
+        try {
+            dynamoDbClient.createTable(request);
+        } catch (ResourceInUseException e) {
+            // Table already exists
+        }
     }
 
     @Test
@@ -201,6 +303,51 @@ class DynamoDBCourseRepositoryTest {
         assertThat(retrievedCourse).isEqualTo(course);
     }
 
+    @Test
+    void shouldReadCourseAndVersionAsynchronously() {
+        // Given
+        Course course = createSampleCourse();
+        repository.save(course);
+
+        // When
+        CompletableFuture<Optional<Course>> found = repository.findByIdAsync(course.getCourseId());
+        CompletableFuture<Optional<Integer>> version = repository.findVersionAsync(UUID.randomUUID());
+
+        // Then
+        assertThat(found.join()).contains(course);
+        assertThat(version.join()).isEmpty();
+    }
+
+    @Test
+    void shouldUpdateChangedAttributesOnly() {
+        // Given
+        Course course = createSampleCourse();
+        repository.save(course);
+        Course updated = course.toBuilder().title("Renamed Course").imageUrl(null).build();
+
+        // When
+        repository.update(course, updated);
+
+        // Then
+        Course retrievedCourse = repository.findById(course.getCourseId()).orElseThrow();
+        assertThat(retrievedCourse).isEqualTo(updated);
+        assertThat(retrievedCourse.getImageUrl()).isNull();
+    }
+
+    @Test
+    void shouldRejectUpdateBasedOnStaleVersion() {
+        // Given
+        Course course = createSampleCourse();
+        repository.save(course);
+        repository.update(course, course.toBuilder().title("First").build());
+
+        // When/Then
+        assertThatThrownBy(() -> repository.update(course,
+                course.toBuilder().title("Second").build()))
+                .isInstanceOf(CourseVersionConflictException.class);
+        assertThat(repository.findById(course.getCourseId()).orElseThrow().getTitle()).isEqualTo("First");
+    }
+
     @Test
     void shouldDeleteCourse() {
         // Given
@@ -237,6 +384,36 @@ class DynamoDBCourseRepositoryTest {
         assertThat(courses).containsExactlyInAnyOrder(course1, course2);
     }
 
+    @Test
+    void shouldListPublishedMarketplaceCoursesNewestFirst() {
+        // Given
+        String tenantId = "tenant1";
+        Course oldest = createMarketplaceCourse(tenantId, LocalDateTime.of(2024, 1, 5, 8, 0));
+        Course newest = createMarketplaceCourse(tenantId, LocalDateTime.of(2024, 3, 1, 9, 30, 15));
+        Course middle = createMarketplaceCourse(tenantId, LocalDateTime.of(2024, 3, 1, 9, 30));
+        Course draft = createMarketplaceCourse(tenantId, LocalDateTime.of(2024, 4, 1, 0, 0));
+        draft.setStatus(Status.DRAFT);
+        Course privateCourse = createSampleCourse(tenantId);
+        Course otherTenant = createMarketplaceCourse("tenant2", LocalDateTime.of(2024, 2, 1, 0, 0));
+
+        for (Course course : Arrays.asList(oldest, newest, middle, draft, privateCourse, otherTenant)) {
+            repository.save(course);
+        }
+
+        // When
+        List<Course> courses = repository.findByTenantIdAndInMarketplace(tenantId, true);
+        CoursePage firstPage = repository.listPage(CourseFilter.builder()
+                .tenantId(tenantId)
+                .inMarketplace(true)
+                .limit(2)
+                .build());
+
+        // Then
+        assertThat(courses).containsExactly(newest, middle, oldest);
+        assertThat(firstPage.getItems()).containsExactly(newest, middle);
+        assertThat(firstPage.hasMore()).isTrue();
+    }
+
     @Test
     void shouldListCoursesByStatus() {
         // Given
@@ -315,6 +492,42 @@ class DynamoDBCourseRepositoryTest {
         assertThat(courses).containsExactlyInAnyOrder(course1, course2);
     }
 
+    @Test
+    void shouldPageCoursesMatchingAllTagsAndForgetRemovedTags() {
+        // Given
+        Course course1 = createSampleCourse();
+        course1.setCourseId(UUID.fromString("00000000-0000-0000-0000-000000000001"));
+        course1.setTags(Arrays.asList("java", "spring"));
+        Course course2 = createSampleCourse();
+        course2.setCourseId(UUID.fromString("00000000-0000-0000-0000-000000000002"));
+        course2.setTags(Arrays.asList("java", "hibernate"));
+        Course course3 = createSampleCourse();
+        course3.setCourseId(UUID.fromString("00000000-0000-0000-0000-000000000003"));
+        course3.setTags(Arrays.asList("spring", "java"));
+        repository.save(course1);
+        repository.save(course2);
+        repository.save(course3);
+        course1.setTags(Arrays.asList("java"));
+        repository.save(course1);
+
+        CourseFilter.CourseFilterBuilder filter = CourseFilter.builder()
+                .tags(Arrays.asList("java", "spring"))
+                .tagMatch(TagMatch.ALL)
+                .limit(1);
+
+        // When
+        CoursePage first = repository.listPage(filter.build());
+        CoursePage second = repository.listPage(filter.pageToken(first.getNextPageToken()).build());
+        List<Course> any = repository.list(CourseFilter.builder().tags(Arrays.asList("spring", "hibernate")).build());
+
+        // Then
+        assertThat(first.getItems()).containsExactly(course3);
+        assertThat(first.hasMore()).isTrue();
+        assertThat(second.getItems()).isEmpty();
+        assertThat(second.hasMore()).isFalse();
+        assertThat(any).containsExactlyInAnyOrder(course2, course3);
+    }
+
     @Test
     void shouldApplyLimitAndOffset() {
         // Given
@@ -345,6 +558,143 @@ class DynamoDBCourseRepositoryTest {
         assertThat(courses).containsExactly(course2, course3);
     }
 
+    @Test
+    void shouldWalkPagesWithContinuationToken() {
+        // Given
+        String tenantId = "tenant-paged";
+        List<Course> saved = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            Course course = createSampleCourse(tenantId);
+            repository.save(course);
+            saved.add(course);
+        }
+        repository.save(createSampleCourse("other-tenant"));
+
+        // When
+        List<Course> collected = new ArrayList<>();
+        String pageToken = null;
+        int pages = 0;
+        do {
+            CoursePage page = repository.listPage(CourseFilter.builder()
+                    .tenantId(tenantId)
+                    .limit(2)
+                    .pageToken(pageToken)
+                    .build());
+            assertThat(page.getItems()).hasSizeLessThanOrEqualTo(2);
+            collected.addAll(page.getItems());
+            pageToken = page.getNextPageToken();
+            pages++;
+        } while (pageToken != null);
+
+        // Then
+        assertThat(pages).isGreaterThanOrEqualTo(3);
+        assertThat(collected).containsExactlyInAnyOrderElementsOf(saved);
+    }
+
+    @Test
+    void shouldLoadItemCollectionCurriculumToTheRequestedDepth() {
+        // Given
+        ReflectionTestUtils.setField(repository, "sectionsFormat", SectionsFormat.ITEM_COLLECTION);
+        Course course = createSampleCourse();
+        Section first = course.getSections().get(0);
+        first.setLessons(Arrays.asList(createSampleLesson("Intro"), createSampleLesson("Setup")));
+        Section second = createSampleSection();
+        second.setLessons(Collections.singletonList(createSampleLesson("Wrap-up")));
+        course.setSections(Arrays.asList(first, second));
+        repository.save(course);
+
+        // When
+        Course header = repository.findById(course.getCourseId(), CourseDetail.HEADER).orElseThrow();
+        boolean headerUnread = header.isSectionsUnread();
+        Course withSections = repository.findById(course.getCourseId(), CourseDetail.SECTIONS).orElseThrow();
+        List<Lesson> lessons = repository.findLessons(course.getCourseId(), first.getSectionId());
+        Course full = repository.findById(course.getCourseId(), CourseDetail.FULL).orElseThrow();
+
+        // Then
+        assertThat(headerUnread).isTrue();
+        assertThat(withSections.getSections()).containsExactly(first, second);
+        assertThat(withSections.getSections()).allSatisfy(section -> assertThat(section.getLessons()).isNull());
+        assertThat(lessons).extracting(Lesson::getTitle).containsExactly("Intro", "Setup");
+        assertThat(full).isEqualTo(course);
+        assertThat(full.getSections().get(1).getLessons()).extracting(Lesson::getTitle).containsExactly("Wrap-up");
+        assertThat(dynamoDbClient.getItem(GetItemRequest.builder()
+                .tableName("Courses")
+                .key(Collections.singletonMap("courseId", AttributeValue.builder().s(course.getCourseId().toString()).build()))
+                .build()).item()).containsKey("sectionCount").doesNotContainKeys("sections", "sectionsData");
+    }
+
+    @Test
+    void shouldKeepLessonsWhenSectionsAreUpdatedWithoutThem() {
+        // Given
+        ReflectionTestUtils.setField(repository, "sectionsFormat", SectionsFormat.ITEM_COLLECTION);
+        Course course = createSampleCourse();
+        Section section = course.getSections().get(0);
+        section.setLessons(Collections.singletonList(createSampleLesson("Intro")));
+        Section removed = createSampleSection();
+        removed.setLessons(Collections.singletonList(createSampleLesson("Gone")));
+        course.setSections(Arrays.asList(section, removed));
+        repository.save(course);
+        Course current = repository.findById(course.getCourseId(), CourseDetail.SECTIONS).orElseThrow();
+        Course updated = current.toBuilder().build();
+        updated.setSections(Collections.singletonList(Section.builder()
+                .sectionId(section.getSectionId())
+                .title("Renamed Section")
+                .order(1)
+                .build()));
+
+        // When
+        repository.update(current, updated);
+
+        // Then
+        Course reloaded = repository.findById(course.getCourseId(), CourseDetail.FULL).orElseThrow();
+        assertThat(reloaded.getSections()).extracting(Section::getTitle).containsExactly("Renamed Section");
+        assertThat(reloaded.getSections().get(0).getLessons()).extracting(Lesson::getTitle).containsExactly("Intro");
+        assertThat(repository.findLessons(course.getCourseId(), removed.getSectionId())).isEmpty();
+        assertThat(dynamoDbClient.scan(ScanRequest.builder().tableName(CourseCurriculumStore.DEFAULT_TABLE_NAME).build()).count())
+                .isEqualTo(2);
+    }
+
+    @Test
+    void shouldReadOneLessonWithItsContent() {
+        // Given
+        ReflectionTestUtils.setField(repository, "sectionsFormat", SectionsFormat.ITEM_COLLECTION);
+        Course course = createSampleCourse();
+        Section section = course.getSections().get(0);
+        Lesson intro = createSampleLesson("Intro");
+        Lesson quiz = createSampleLesson("Check");
+        quiz.setContent(ContentType.QUIZ, Collections.singletonList(new QuizItem("Ready?",
+                Arrays.asList(new AnswerOption("Yes", true), new AnswerOption("No", false)), AnswerChoice.SINGLE)));
+        Lesson outro = createSampleLesson("Outro");
+        section.setLessons(Arrays.asList(intro, quiz, outro));
+        repository.save(course);
+
+        // When
+        Lesson found = repository.findLesson(course.getCourseId(), quiz.getLessonId()).orElseThrow();
+        List<Lesson> range = repository.findLessons(course.getCourseId(), section.getSectionId(), 1, 1);
+
+        // Then
+        assertThat(((QuizContent) found.getContent()).getQuizItems().get(0).getOptions())
+                .containsExactly(new AnswerOption("Yes", true), new AnswerOption("No", false));
+        assertThat(range).extracting(Lesson::getTitle).containsExactly("Check");
+        assertThat(repository.findLesson(course.getCourseId(), UUID.randomUUID())).isEmpty();
+    }
+
+    @Test
+    void shouldDeleteCurriculumItemsWithCourse() {
+        // Given
+        ReflectionTestUtils.setField(repository, "sectionsFormat", SectionsFormat.ITEM_COLLECTION);
+        Course course = createSampleCourse();
+        course.getSections().get(0).setLessons(Collections.singletonList(createSampleLesson("Intro")));
+        repository.save(course);
+
+        // When
+        repository.deleteById(course.getCourseId());
+
+        // Then
+        assertThat(dynamoDbClient.scan(ScanRequest.builder().tableName(CourseCurriculumStore.DEFAULT_TABLE_NAME).build()).count())
+                .isZero();
+    }
+
     private Course createSampleCourse() {
         return createSampleCourse("tenant1");
     }
@@ -377,6 +727,14 @@ class DynamoDBCourseRepositoryTest {
         return course;
     }
 
+    private Course createMarketplaceCourse(String tenantId, LocalDateTime publishedOn) {
+        Course course = createSampleCourse(tenantId);
+        course.setInMarketplace(true);
+        course.setStatus(Status.PUBLISHED);
+        course.setPublishedOn(publishedOn);
+        return course;
+    }
+
     private Author createSampleAuthor() {
         Author author = new Author();
         author.setAuthorId(UUID.randomUUID());
@@ -399,6 +757,15 @@ class DynamoDBCourseRepositoryTest {
         return publisher;
     }
 
+    private Lesson createSampleLesson(String title) {
+        Lesson lesson = new Lesson();
+        lesson.setLessonId(UUID.randomUUID());
+        lesson.setTitle(title);
+        lesson.setDuration(5f);
+        lesson.setContent(ContentType.VIDEO, "http://example.com/" + title + ".mp4");
+        return lesson;
+    }
+
     private Section createSampleSection() {
         Section section = new Section();
         section.setSectionId(UUID.randomUUID());
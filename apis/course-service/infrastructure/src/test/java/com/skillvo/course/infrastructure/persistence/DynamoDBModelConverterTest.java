@@ -2,10 +2,17 @@ package com.skillvo.course.infrastructure.persistence;
 
 import com.skillvo.course.domain.model.aggregates.Course;
 import com.skillvo.course.domain.model.entities.Author;
+import com.skillvo.course.domain.model.entities.Lesson;
 import com.skillvo.course.domain.model.entities.Publisher;
 import com.skillvo.course.domain.model.entities.Section;
 import com.skillvo.course.domain.model.enums.*;
+import com.skillvo.course.domain.model.valueobjects.AnswerOption;
 import com.skillvo.course.domain.model.valueobjects.Prize;
+import com.skillvo.course.domain.model.valueobjects.QuizContent;
+import com.skillvo.course.domain.model.valueobjects.QuizItem;
+import com.skillvo.course.domain.model.valueobjects.VideoContent;
+import com.skillvo.course.domain.repository.CourseSummary;
+import com.skillvo.course.infrastructure.persistence.codec.SectionsCodec;
 import org.junit.jupiter.api.Test;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
 
@@ -14,6 +21,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.Map;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -103,7 +111,182 @@ public class DynamoDBModelConverterTest {
 
         // Then
         assertThat(item.get("tags").l()).isEmpty();
-        assertThat(item.get("tag").s()).isEmpty();
+        assertThat(item).doesNotContainKey("tag");
+        assertThat(DynamoDBModelConverter.toTags(item)).isEmpty();
+        assertThat(DynamoDBModelConverter.toTags(Collections.emptyMap())).isEmpty();
+    }
+
+    @Test
+    void shouldOmitNullFieldsAndLeaveMissingAttributesUnset() {
+        // Given
+        Course course = createSampleCourse();
+        course.setImageUrl(null);
+        course.setPublishedOn(null);
+
+        // When
+        Map<String, AttributeValue> item = DynamoDBModelConverter.toItem(course);
+        Course convertedCourse = DynamoDBModelConverter.toCourse(item);
+
+        // Then
+        assertThat(item).doesNotContainKeys("imageUrl", "publishedOn");
+        assertThat(convertedCourse.getImageUrl()).isNull();
+        assertThat(convertedCourse.getPublishedOn()).isNull();
+        assertThat(convertedCourse.getTitle()).isEqualTo(course.getTitle());
+    }
+
+    @Test
+    void shouldConvertNestedEntitiesAndAllListElements() {
+        // Given
+        Course course = createSampleCourse();
+        course.setLanguage(Arrays.asList(Language.ENGLISH, Language.values()[Language.values().length - 1]));
+        course.setAuthors(Arrays.asList(createSampleAuthor(), createSampleAuthor()));
+        course.setSections(Arrays.asList(createSampleSection(), createSampleSection(), createSampleSection()));
+
+        // When
+        Course convertedCourse = DynamoDBModelConverter.toCourse(DynamoDBModelConverter.toItem(course));
+
+        // Then
+        assertThat(convertedCourse.getLanguage()).isEqualTo(course.getLanguage());
+        assertThat(convertedCourse.getAuthors()).extracting(Author::getEmailId)
+                .containsExactly("john.doe@example.com", "john.doe@example.com");
+        assertThat(convertedCourse.getSections()).extracting(Section::getSectionId)
+                .containsExactlyElementsOf(course.getSections().stream().map(Section::getSectionId)
+                        .collect(Collectors.toList()));
+        assertThat(convertedCourse.getPublisher().getType()).isEqualTo(PublisherType.COMPANY);
+        assertThat(convertedCourse.getPrize().getCurrency()).isEqualTo(Currency.USD);
+    }
+
+    @Test
+    void shouldConvertProjectedItemToCourseSummary() {
+        // Given
+        Course course = createSampleCourse();
+        Map<String, AttributeValue> item = DynamoDBModelConverter.toItem(course);
+        item.keySet().retainAll(DynamoDBModelConverter.SUMMARY_ATTRIBUTES);
+
+        // When
+        CourseSummary summary = DynamoDBModelConverter.toCourseSummary(item);
+
+        // Then
+        assertThat(summary.getCourseId()).isEqualTo(course.getCourseId());
+        assertThat(summary.getTitle()).isEqualTo(course.getTitle());
+        assertThat(summary.getImageUrl()).isEqualTo(course.getImageUrl());
+        assertThat(summary.getLevel()).isEqualTo(course.getLevel());
+        assertThat(summary.getDuration()).isEqualTo(course.getDuration());
+        assertThat(summary.getStatus()).isEqualTo(course.getStatus());
+        assertThat(summary.getPricingModel()).isEqualTo(course.getPricingModel());
+        assertThat(summary.getPrize()).isEqualTo(course.getPrize());
+    }
+
+    @Test
+    void shouldWriteMarketplaceKeyOnlyForPublishedMarketplaceCourses() {
+        // Given
+        Course listed = createSampleCourse();
+        listed.setInMarketplace(true);
+        listed.setStatus(Status.PUBLISHED);
+        Course draft = createSampleCourse();
+        draft.setInMarketplace(true);
+        draft.setStatus(Status.DRAFT);
+        Course privateCourse = createSampleCourse();
+        privateCourse.setInMarketplace(false);
+        privateCourse.setStatus(Status.PUBLISHED);
+
+        // When
+        Map<String, AttributeValue> listedItem = DynamoDBModelConverter.toItem(listed);
+        Map<String, AttributeValue> draftItem = DynamoDBModelConverter.toItem(draft);
+        Map<String, AttributeValue> privateItem = DynamoDBModelConverter.toItem(privateCourse);
+
+        // Then
+        assertThat(listedItem.get("marketplaceTenantId").s()).isEqualTo(listed.getTenantId());
+        assertThat(listedItem.get("publishedOn").s()).isEqualTo(listed.getPublishedOn().toString());
+        assertThat(draftItem).doesNotContainKey("marketplaceTenantId");
+        assertThat(privateItem).doesNotContainKey("marketplaceTenantId");
+    }
+
+    @Test
+    void shouldWriteSectionsAsBinaryAttribute() {
+        // Given
+        Course course = createSampleCourse();
+
+        // When
+        Map<String, AttributeValue> item = DynamoDBModelConverter.toItem(course, SectionsFormat.BINARY);
+
+        // Then
+        assertThat(item).doesNotContainKey("sections");
+        assertThat(item.get("sectionsData").b().asByteArray()).isEqualTo(SectionsCodec.encode(course.getSections()));
+        assertThat(DynamoDBModelConverter.toItem(course)).containsKey("sections").doesNotContainKey("sectionsData");
+    }
+
+    @Test
+    void shouldDecodeBinarySectionsOnFirstAccess() {
+        // Given
+        Course course = createSampleCourse();
+        Map<String, AttributeValue> item = DynamoDBModelConverter.toItem(course, SectionsFormat.BINARY);
+
+        // When
+        Course result = DynamoDBModelConverter.toCourse(item);
+
+        // Then
+        assertThat(result.isSectionsUnread()).isTrue();
+        assertThat(DynamoDBModelConverter.sectionsFormatOf(result)).isEqualTo(SectionsFormat.BINARY);
+        assertThat(result.getSections()).isEqualTo(course.getSections());
+        assertThat(result.isSectionsUnread()).isFalse();
+        assertThat(result).isEqualTo(course);
+    }
+
+    @Test
+    void shouldReuseStoredBytesForUnreadSections() {
+        // Given
+        Map<String, AttributeValue> item = DynamoDBModelConverter.toItem(createSampleCourse(), SectionsFormat.BINARY);
+        Course course = DynamoDBModelConverter.toCourse(item);
+
+        // When
+        Map<String, AttributeValue> written = DynamoDBModelConverter.toItem(course, SectionsFormat.BINARY);
+
+        // Then
+        assertThat(course.isSectionsUnread()).isTrue();
+        assertThat(written.get("sectionsData").b().asByteArrayUnsafe())
+                .isSameAs(item.get("sectionsData").b().asByteArrayUnsafe());
+        assertThat(written).isEqualTo(item);
+    }
+
+    @Test
+    void shouldReadAttributeSectionsEagerly() {
+        // When
+        Course course = DynamoDBModelConverter.toCourse(DynamoDBModelConverter.toItem(createSampleCourse()));
+
+        // Then
+        assertThat(course.isSectionsUnread()).isFalse();
+        assertThat(DynamoDBModelConverter.sectionsFormatOf(course)).isEqualTo(SectionsFormat.ATTRIBUTES);
+    }
+
+    @Test
+    void shouldStoreLessonsInAttributeSections() {
+        // Given
+        Course course = createSampleCourse();
+        Lesson video = new Lesson();
+        video.setLessonId(UUID.randomUUID());
+        video.setTitle("Intro");
+        video.setContent(ContentType.VIDEO, "https://example.com/intro.mp4");
+        Lesson quiz = new Lesson();
+        quiz.setLessonId(UUID.randomUUID());
+        quiz.setContent(ContentType.QUIZ, Collections.singletonList(new QuizItem("Ready?",
+                Arrays.asList(new AnswerOption("Yes", true), new AnswerOption("No", false)), AnswerChoice.SINGLE)));
+        course.getSections().get(0).setLessons(Arrays.asList(video, quiz));
+
+        // When
+        Map<String, AttributeValue> item = DynamoDBModelConverter.toItem(course);
+        Course converted = DynamoDBModelConverter.toCourse(item);
+
+        // Then
+        assertThat(item.get("sections").l().get(0).m().get("lessons").l()).hasSize(2);
+        assertThat(converted.getSections().get(0).getLessons()).hasSize(2);
+        Lesson convertedVideo = converted.getSections().get(0).getLessons().get(0);
+        assertThat(convertedVideo.getLessonId()).isEqualTo(video.getLessonId());
+        assertThat(((VideoContent) convertedVideo.getContent()).getVideoUrl()).isEqualTo("https://example.com/intro.mp4");
+        assertThat(((QuizContent) converted.getSections().get(0).getLessons().get(1).getContent()).getQuizItems())
+                .isEqualTo(((QuizContent) quiz.getContent()).getQuizItems());
+        assertThat(DynamoDBModelConverter.toCourse(DynamoDBModelConverter.toItem(createSampleCourse()))
+                .getSections().get(0).getLessons()).isNull();
     }
 
     private Course createSampleCourse() {
@@ -0,0 +1,40 @@
+package com.skillvo.course.infrastructure.persistence;
+
+import com.skillvo.course.domain.model.enums.Level;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class EnumAttributesTest {
+
+    private final EnumAttributes<Level> levels = new EnumAttributes<>(Level.class);
+
+    @Test
+    void shouldReuseAttributePerConstant() {
+        // When
+        AttributeValue first = levels.toAttribute(Level.ADVANCED);
+        AttributeValue second = levels.toAttribute(Level.ADVANCED);
+
+        // Then
+        assertThat(first).isSameAs(second);
+        assertThat(first.s()).isEqualTo("ADVANCED");
+    }
+
+    @Test
+    void shouldResolveConstantByName() {
+        // When
+        Level level = levels.fromAttribute(AttributeValue.builder().s("BEGINNER").build());
+
+        // Then
+        assertThat(level).isEqualTo(Level.BEGINNER);
+    }
+
+    @Test
+    void shouldRejectUnknownName() {
+        assertThatThrownBy(() -> levels.fromAttribute(AttributeValue.builder().s("EXPERT").build()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("No Level constant named EXPERT");
+    }
+}
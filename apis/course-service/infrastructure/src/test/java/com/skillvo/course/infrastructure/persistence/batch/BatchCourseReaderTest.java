@@ -0,0 +1,186 @@
+package com.skillvo.course.infrastructure.persistence.batch;
+
+import com.skillvo.course.domain.model.aggregates.Course;
+import com.skillvo.course.domain.model.entities.Author;
+import com.skillvo.course.domain.model.entities.Publisher;
+import com.skillvo.course.domain.model.entities.Section;
+import com.skillvo.course.domain.model.enums.*;
+import com.skillvo.course.domain.model.valueobjects.Prize;
+import com.skillvo.course.infrastructure.persistence.DynamoDBModelConverter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.*;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BatchCourseReaderTest {
+
+    @Mock
+    private DynamoDbClient dynamoDbClient;
+
+    private BatchCourseReader reader;
+
+    @BeforeEach
+    void setUp() {
+        reader = new BatchCourseReader(dynamoDbClient, 4, 3, 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        reader.shutdown();
+    }
+
+    @Test
+    void shouldSplitKeysIntoChunksOfOneHundred() {
+        // Given
+        List<UUID> courseIds = IntStream.range(0, 250).mapToObj(i -> UUID.randomUUID()).collect(Collectors.toList());
+        when(dynamoDbClient.batchGetItem(any(BatchGetItemRequest.class)))
+                .thenAnswer(invocation -> respondWithAll(invocation.getArgument(0)));
+
+        // When
+        Map<UUID, Course> courses = reader.read(courseIds);
+
+        // Then
+        assertThat(courses).containsOnlyKeys(courseIds);
+        ArgumentCaptor<BatchGetItemRequest> captor = ArgumentCaptor.forClass(BatchGetItemRequest.class);
+        verify(dynamoDbClient, times(3)).batchGetItem(captor.capture());
+        assertThat(captor.getAllValues())
+                .extracting(request -> request.requestItems().get("Courses").keys().size())
+                .containsExactlyInAnyOrder(100, 100, 50);
+    }
+
+    @Test
+    void shouldRetryUnprocessedKeys() {
+        // Given
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        KeysAndAttributes unprocessed = KeysAndAttributes.builder().keys(Collections.singletonList(key(second))).build();
+        when(dynamoDbClient.batchGetItem(any(BatchGetItemRequest.class))).thenReturn(
+                BatchGetItemResponse.builder()
+                        .responses(Collections.singletonMap("Courses", Collections.singletonList(item(first))))
+                        .unprocessedKeys(Collections.singletonMap("Courses", unprocessed))
+                        .build(),
+                BatchGetItemResponse.builder()
+                        .responses(Collections.singletonMap("Courses", Collections.singletonList(item(second))))
+                        .build());
+
+        // When
+        Map<UUID, Course> courses = reader.read(Arrays.asList(first, second));
+
+        // Then
+        assertThat(courses).containsOnlyKeys(first, second);
+        ArgumentCaptor<BatchGetItemRequest> captor = ArgumentCaptor.forClass(BatchGetItemRequest.class);
+        verify(dynamoDbClient, times(2)).batchGetItem(captor.capture());
+        assertThat(captor.getAllValues().get(1).requestItems()).containsEntry("Courses", unprocessed);
+    }
+
+    @Test
+    void shouldFailWhenKeysRemainUnprocessed() {
+        // Given
+        UUID courseId = UUID.randomUUID();
+        KeysAndAttributes unprocessed = KeysAndAttributes.builder().keys(Collections.singletonList(key(courseId))).build();
+        when(dynamoDbClient.batchGetItem(any(BatchGetItemRequest.class))).thenReturn(
+                BatchGetItemResponse.builder()
+                        .unprocessedKeys(Collections.singletonMap("Courses", unprocessed))
+                        .build());
+
+        // When / Then
+        assertThatThrownBy(() -> reader.read(Collections.singletonList(courseId)))
+                .isInstanceOf(IllegalStateException.class);
+        verify(dynamoDbClient, times(3)).batchGetItem(any(BatchGetItemRequest.class));
+    }
+
+    @Test
+    void shouldSkipCallForEmptyInput() {
+        // When
+        Map<UUID, Course> courses = reader.read(Collections.emptyList());
+
+        // Then
+        assertThat(courses).isEmpty();
+        verifyNoInteractions(dynamoDbClient);
+    }
+
+    private BatchGetItemResponse respondWithAll(BatchGetItemRequest request) {
+        List<Map<String, AttributeValue>> items = request.requestItems().get("Courses").keys().stream()
+                .map(key -> item(UUID.fromString(key.get("courseId").s())))
+                .collect(Collectors.toList());
+        return BatchGetItemResponse.builder()
+                .responses(Collections.singletonMap("Courses", items))
+                .build();
+    }
+
+    private Map<String, AttributeValue> key(UUID courseId) {
+        return Collections.singletonMap("courseId", AttributeValue.builder().s(courseId.toString()).build());
+    }
+
+    private Map<String, AttributeValue> item(UUID courseId) {
+        return DynamoDBModelConverter.toItem(createSampleCourse(courseId));
+    }
+
+    private Course createSampleCourse(UUID courseId) {
+        Course course = new Course();
+        course.setCourseId(courseId);
+        course.setTenantId("tenant1");
+        course.setTitle("Test Course");
+        course.setDescription("Test Description");
+        course.setTopicCode("topic1");
+        course.setCategoryCode("category1");
+        course.setLanguage(Arrays.asList(Language.ENGLISH));
+        course.setLevel(Level.BEGINNER);
+        course.setPricingModel(PricingModel.FREE);
+        course.setPrize(new Prize(0.0, 0, Currency.USD));
+        course.setLearningMode(LearningMode.ONLINE);
+        course.setPoints(100);
+        course.setTags(Arrays.asList("test"));
+        course.setAuthors(Arrays.asList(Author.builder()
+                .authorId(UUID.randomUUID())
+                .firstName("John")
+                .lastName("Doe")
+                .emailId("john.doe@example.com")
+                .build()));
+        course.setPublisher(Publisher.builder()
+                .publisherId(UUID.randomUUID())
+                .name("Test Publisher")
+                .type(PublisherType.INDIVIDUAL)
+                .logoUrl("http://example.com/logo.jpg")
+                .website("http://example.com")
+                .contactEmail("contact@example.com")
+                .description("Test Publisher Description")
+                .country("US")
+                .build());
+        course.setPublishedOn(LocalDateTime.now());
+        course.setImageUrl("http://example.com/image.jpg");
+        course.setInMarketplace(true);
+        course.setStatus(Status.PUBLISHED);
+        course.setDuration(30);
+        course.setSections(Arrays.asList(Section.builder()
+                .sectionId(UUID.randomUUID())
+                .title("Test Section")
+                .description("Test Section Description")
+                .order(1)
+                .duration(30)
+                .build()));
+        course.setLessonNavigationMode(LessonNavigationMode.SEQUENTIAL);
+        course.setVersion(1);
+        return course;
+    }
+}
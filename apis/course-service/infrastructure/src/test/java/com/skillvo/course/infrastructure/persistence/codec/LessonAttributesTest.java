@@ -0,0 +1,105 @@
+package com.skillvo.course.infrastructure.persistence.codec;
+
+import com.skillvo.course.domain.model.entities.Lesson;
+import com.skillvo.course.domain.model.enums.AnswerChoice;
+import com.skillvo.course.domain.model.enums.ContentType;
+import com.skillvo.course.domain.model.valueobjects.AnswerOption;
+import com.skillvo.course.domain.model.valueobjects.PDFContent;
+import com.skillvo.course.domain.model.valueobjects.QuizContent;
+import com.skillvo.course.domain.model.valueobjects.QuizItem;
+import com.skillvo.course.domain.model.valueobjects.VideoContent;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LessonAttributesTest {
+
+    @Test
+    void shouldStoreUrlContentAsString() {
+        // Given
+        Lesson video = lesson("Intro");
+        video.setContent(ContentType.VIDEO, "https://example.com/intro.mp4");
+        video.setMandatory(true);
+        Lesson pdf = lesson("Handout");
+        pdf.setContent(ContentType.PDF, "https://example.com/handout.pdf");
+
+        // When
+        Map<String, AttributeValue> videoMap = LessonAttributes.toMap(video);
+        Map<String, AttributeValue> pdfMap = LessonAttributes.toMap(pdf);
+
+        // Then
+        assertThat(videoMap.get(LessonAttributes.CONTENT_TYPE).s()).isEqualTo("VIDEO");
+        assertThat(videoMap.get(LessonAttributes.CONTENT).s()).isEqualTo("https://example.com/intro.mp4");
+        Lesson decodedVideo = LessonAttributes.toLesson(videoMap);
+        assertThat(decodedVideo.getLessonId()).isEqualTo(video.getLessonId());
+        assertThat(decodedVideo.getTitle()).isEqualTo("Intro");
+        assertThat(decodedVideo.getDuration()).isEqualTo(2.5f);
+        assertThat(decodedVideo.getCoverImageUrl()).isEqualTo("https://example.com/Intro.png");
+        assertThat(decodedVideo.isMandatory()).isTrue();
+        assertThat(((VideoContent) decodedVideo.getContent()).getVideoUrl()).isEqualTo("https://example.com/intro.mp4");
+        assertThat(pdfMap.get(LessonAttributes.CONTENT_TYPE).s()).isEqualTo("PDF");
+        assertThat(((PDFContent) LessonAttributes.toLesson(pdfMap).getContent()).getPdfUrl())
+                .isEqualTo("https://example.com/handout.pdf");
+    }
+
+    @Test
+    void shouldStoreQuizItemsAsOneBinaryValue() {
+        // Given
+        List<QuizItem> items = Collections.singletonList(new QuizItem("Ready?",
+                Arrays.asList(new AnswerOption("Yes", true), new AnswerOption("No", false)), AnswerChoice.MULTIPLE));
+        Lesson quiz = lesson("Check");
+        quiz.setContent(ContentType.QUIZ, items);
+
+        // When
+        Map<String, AttributeValue> map = LessonAttributes.toMap(quiz);
+
+        // Then
+        assertThat(map.get(LessonAttributes.CONTENT_TYPE).s()).isEqualTo("QUIZ");
+        assertThat(map.get(LessonAttributes.CONTENT).b()).isNotNull();
+        assertThat(map.get(LessonAttributes.CONTENT).m()).isEmpty();
+        assertThat(((QuizContent) LessonAttributes.toLesson(map).getContent()).getQuizItems()).isEqualTo(items);
+    }
+
+    @Test
+    void shouldLeaveOutAbsentFields() {
+        // When
+        Map<String, AttributeValue> map = LessonAttributes.toMap(new Lesson());
+
+        // Then
+        assertThat(map).containsOnlyKeys(LessonAttributes.MANDATORY);
+        Lesson decoded = LessonAttributes.toLesson(map);
+        assertThat(decoded.getLessonId()).isNull();
+        assertThat(decoded.getContent()).isNull();
+        assertThat(decoded.isMandatory()).isFalse();
+    }
+
+    @Test
+    void shouldRejectUnknownContentType() {
+        // Given
+        Map<String, AttributeValue> map = LessonAttributes.toMap(lesson("Intro"));
+        map.put(LessonAttributes.CONTENT_TYPE, AttributeValue.builder().s("PODCAST").build());
+        map.put(LessonAttributes.CONTENT, AttributeValue.builder().s("https://example.com/intro.mp3").build());
+
+        // When / Then
+        assertThatThrownBy(() -> LessonAttributes.toLesson(map))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("PODCAST");
+    }
+
+    private static Lesson lesson(String title) {
+        Lesson lesson = new Lesson();
+        lesson.setLessonId(UUID.randomUUID());
+        lesson.setTitle(title);
+        lesson.setDuration(2.5f);
+        lesson.setCoverImageUrl("https://example.com/" + title + ".png");
+        return lesson;
+    }
+}
@@ -0,0 +1,182 @@
+package com.skillvo.course.infrastructure.persistence.codec;
+
+import com.skillvo.course.domain.model.entities.Lesson;
+import com.skillvo.course.domain.model.entities.Section;
+import com.skillvo.course.domain.model.enums.AnswerChoice;
+import com.skillvo.course.domain.model.enums.ContentType;
+import com.skillvo.course.domain.model.valueobjects.AnswerOption;
+import com.skillvo.course.domain.model.valueobjects.PDFContent;
+import com.skillvo.course.domain.model.valueobjects.QuizContent;
+import com.skillvo.course.domain.model.valueobjects.QuizItem;
+import com.skillvo.course.domain.model.valueobjects.VideoContent;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SectionsCodecTest {
+
+    @Test
+    void shouldRoundTripSectionsWithEveryKindOfLesson() {
+        // Given
+        Lesson video = lesson("Intro", 4.5f);
+        video.setContent(ContentType.VIDEO, "https://example.com/intro.mp4");
+        video.setMandatory(true);
+        Lesson pdf = lesson("Handout", null);
+        pdf.setContent(ContentType.PDF, "https://example.com/handout.pdf");
+        Lesson quiz = lesson("Check", 2f);
+        quiz.setContent(ContentType.QUIZ, Collections.singletonList(new QuizItem("Caf\u00e9?",
+                Arrays.asList(new AnswerOption("Yes", true), new AnswerOption("No", false)),
+                AnswerChoice.SINGLE)));
+        Lesson empty = new Lesson();
+        Section first = section(1, Arrays.asList(video, pdf, quiz, empty));
+        Section second = Section.builder().order(-2).build();
+
+        // When
+        List<Section> decoded = SectionsCodec.decode(SectionsCodec.encode(Arrays.asList(first, second)));
+
+        // Then
+        assertThat(decoded).containsExactly(first, second);
+        assertThat(decoded.get(1).getSectionId()).isNull();
+        assertThat(decoded.get(1).getLessons()).isNull();
+        List<Lesson> lessons = decoded.get(0).getLessons();
+        assertThat(lessons).hasSize(4);
+
+        assertThat(lessons.get(0).getLessonId()).isEqualTo(video.getLessonId());
+        assertThat(lessons.get(0).getTitle()).isEqualTo("Intro");
+        assertThat(lessons.get(0).getDuration()).isEqualTo(4.5f);
+        assertThat(lessons.get(0).getCoverImageUrl()).isEqualTo(video.getCoverImageUrl());
+        assertThat(lessons.get(0).isMandatory()).isTrue();
+        assertThat(((VideoContent) lessons.get(0).getContent()).getVideoUrl()).isEqualTo("https://example.com/intro.mp4");
+
+        assertThat(lessons.get(1).getDuration()).isNull();
+        assertThat(lessons.get(1).isMandatory()).isFalse();
+        assertThat(((PDFContent) lessons.get(1).getContent()).getPdfUrl()).isEqualTo("https://example.com/handout.pdf");
+
+        QuizItem item = ((QuizContent) lessons.get(2).getContent()).getQuizItems().get(0);
+        assertThat(item.getQuestion()).isEqualTo("Caf\u00e9?");
+        assertThat(item.getAnswerChoice()).isEqualTo(AnswerChoice.SINGLE);
+        assertThat(item.getOptions()).containsExactly(new AnswerOption("Yes", true), new AnswerOption("No", false));
+
+        assertThat(lessons.get(3).getLessonId()).isNull();
+        assertThat(lessons.get(3).getTitle()).isNull();
+        assertThat(lessons.get(3).getContent()).isNull();
+    }
+
+    @Test
+    void shouldRoundTripEmptyList() {
+        assertThat(SectionsCodec.decode(SectionsCodec.encode(new ArrayList<>()))).isEmpty();
+    }
+
+    @Test
+    void shouldLeaveSmallPayloadsUncompressed() {
+        // When
+        byte[] bytes = SectionsCodec.encode(Collections.singletonList(section(1, null)));
+
+        // Then
+        assertThat(bytes[0]).isEqualTo(SectionsCodec.FORMAT_VERSION);
+        assertThat(bytes[1]).isEqualTo(SectionsCodec.UNCOMPRESSED);
+        assertThat(bytes.length).isLessThan(SectionsCodec.MIN_COMPRESSED_SIZE);
+    }
+
+    @Test
+    void shouldCompressLargePayloads() {
+        // Given
+        List<Section> sections = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            List<Lesson> lessons = new ArrayList<>();
+            for (int j = 0; j < 10; j++) {
+                Lesson lesson = lesson("Lesson " + j + " of section " + i, 5f);
+                lesson.setContent(ContentType.VIDEO, "https://cdn.example.com/courses/videos/" + i + "/" + j + ".mp4");
+                lessons.add(lesson);
+            }
+            sections.add(section(i, lessons));
+        }
+
+        // When
+        byte[] bytes = SectionsCodec.encode(sections);
+
+        // Then
+        assertThat(bytes[0]).isEqualTo(SectionsCodec.FORMAT_VERSION);
+        assertThat(bytes[1]).isEqualTo(SectionsCodec.DEFLATED);
+        List<Section> decoded = SectionsCodec.decode(bytes);
+        assertThat(decoded).isEqualTo(sections);
+        assertThat(decoded.get(19).getLessons().get(9).getTitle()).isEqualTo("Lesson 9 of section 19");
+    }
+
+    @Test
+    void shouldRejectUnknownFormatVersion() {
+        // Given
+        byte[] bytes = SectionsCodec.encode(Collections.singletonList(section(1, null)));
+        bytes[0] = 99;
+
+        // When / Then
+        assertThatThrownBy(() -> SectionsCodec.decode(bytes))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("99");
+    }
+
+    @Test
+    void shouldRejectTruncatedData() {
+        // Given
+        byte[] bytes = SectionsCodec.encode(Collections.singletonList(section(1, null)));
+
+        // When / Then
+        assertThatThrownBy(() -> SectionsCodec.decode(Arrays.copyOf(bytes, bytes.length - 3)))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void shouldRoundTripQuizItemsOnTheirOwn() {
+        // Given
+        List<QuizItem> items = Arrays.asList(
+                new QuizItem("Caf\u00e9?", Arrays.asList(new AnswerOption("Yes", true), new AnswerOption("No", false)),
+                        AnswerChoice.SINGLE),
+                new QuizItem("Pick two", Arrays.asList(new AnswerOption("A", true), new AnswerOption("B", true),
+                        new AnswerOption("C", false)), AnswerChoice.MULTIPLE));
+
+        // When
+        byte[] bytes = SectionsCodec.encodeQuizItems(items);
+
+        // Then
+        assertThat(bytes[0]).isEqualTo(SectionsCodec.FORMAT_VERSION);
+        assertThat(SectionsCodec.decodeQuizItems(bytes)).isEqualTo(items);
+    }
+
+    @Test
+    void shouldDecodeEncodedSectionsOnEveryGet() {
+        // Given
+        List<Section> sections = Collections.singletonList(section(1, null));
+        EncodedSections encoded = new EncodedSections(SectionsCodec.encode(sections));
+
+        // When / Then
+        assertThat(encoded.load()).isEqualTo(sections);
+        assertThat(encoded.load()).isNotSameAs(encoded.load());
+    }
+
+    private static Section section(int order, List<Lesson> lessons) {
+        return Section.builder()
+                .sectionId(UUID.randomUUID())
+                .title("Section " + order)
+                .description("About section " + order)
+                .order(order)
+                .duration(30)
+                .lessons(lessons)
+                .build();
+    }
+
+    private static Lesson lesson(String title, Float duration) {
+        Lesson lesson = new Lesson();
+        lesson.setLessonId(UUID.randomUUID());
+        lesson.setTitle(title);
+        lesson.setDuration(duration);
+        lesson.setCoverImageUrl("https://example.com/" + title.length() + ".png");
+        return lesson;
+    }
+}
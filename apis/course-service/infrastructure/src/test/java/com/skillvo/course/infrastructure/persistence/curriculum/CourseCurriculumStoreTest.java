@@ -0,0 +1,379 @@
+package com.skillvo.course.infrastructure.persistence.curriculum;
+
+import com.skillvo.course.domain.model.aggregates.Course;
+import com.skillvo.course.domain.model.entities.Lesson;
+import com.skillvo.course.domain.model.entities.Section;
+import com.skillvo.course.domain.model.enums.AnswerChoice;
+import com.skillvo.course.domain.model.enums.ContentType;
+import com.skillvo.course.domain.model.valueobjects.AnswerOption;
+import com.skillvo.course.domain.model.valueobjects.QuizContent;
+import com.skillvo.course.domain.model.valueobjects.VideoContent;
+import com.skillvo.course.domain.model.valueobjects.QuizItem;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.*;
+import software.amazon.awssdk.services.dynamodb.paginators.QueryIterable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CourseCurriculumStoreTest {
+    private static final UUID COURSE_ID = UUID.fromString("00000000-0000-0000-0000-000000000001");
+
+    @Mock
+    private DynamoDbClient dynamoDbClient;
+
+    private final NavigableMap<String, Map<String, AttributeValue>> table = new TreeMap<>();
+    private final List<String> queriedPrefixes = new ArrayList<>();
+    private final List<QueryRequest> queries = new ArrayList<>();
+    private int writes;
+    private CourseCurriculumStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new CourseCurriculumStore(dynamoDbClient, CourseCurriculumStore.DEFAULT_TABLE_NAME, 3, 1);
+    }
+
+    @Test
+    void shouldLoadSectionsWithOrWithoutLessons() {
+        // Given
+        stubTable();
+        Section first = section("Basics", lesson("Intro"), quizLesson("Check"));
+        Section second = section("Advanced", lesson("Deep dive"));
+        store.write(COURSE_ID, null, Arrays.asList(first, second));
+
+        // When
+        List<Section> sectionsOnly = store.loadSections(COURSE_ID, false);
+        List<Section> full = store.loadSections(COURSE_ID, true);
+
+        // Then
+        assertThat(table.keySet()).containsExactlyInAnyOrder(
+                "LESSON#" + first.getSectionId() + "#0000",
+                "LESSON#" + first.getSectionId() + "#0001",
+                "LESSON#" + second.getSectionId() + "#0000",
+                "SECTION#0000",
+                "SECTION#0001");
+        assertThat(sectionsOnly).containsExactly(first, second);
+        assertThat(sectionsOnly).allSatisfy(section -> assertThat(section.getLessons()).isNull());
+        assertThat(queriedPrefixes).contains("SECTION#");
+        assertThat(full).containsExactly(first, second);
+        assertThat(full.get(0).getLessons()).extracting(Lesson::getTitle).containsExactly("Intro", "Check");
+        assertThat(full.get(1).getLessons()).extracting(Lesson::getTitle).containsExactly("Deep dive");
+        assertThat(((VideoContent) full.get(0).getLessons().get(0).getContent()).getVideoUrl())
+                .isEqualTo("https://example.com/Intro.mp4");
+        QuizItem quizItem = ((QuizContent) full.get(0).getLessons().get(1).getContent()).getQuizItems().get(0);
+        assertThat(quizItem.getAnswerChoice()).isEqualTo(AnswerChoice.MULTIPLE);
+        assertThat(quizItem.getOptions()).containsExactly(new AnswerOption("Yes", true), new AnswerOption("No", false));
+    }
+
+    @Test
+    void shouldReadOneSectionsLessonsByKeyPrefix() {
+        // Given
+        stubTable();
+        Section first = section("Basics", lesson("Intro"), lesson("Setup"));
+        Section second = section("Advanced", lesson("Deep dive"));
+        store.write(COURSE_ID, null, Arrays.asList(first, second));
+
+        // When
+        List<Lesson> lessons = store.loadLessons(COURSE_ID, second.getSectionId());
+
+        // Then
+        assertThat(lessons).extracting(Lesson::getTitle).containsExactly("Deep dive");
+        assertThat(queriedPrefixes).endsWith("LESSON#" + second.getSectionId() + "#");
+    }
+
+    @Test
+    void shouldReadLessonRangeFromPosition() {
+        // Given
+        stubTable();
+        Section first = section("Basics", lesson("Intro"), lesson("Setup"), lesson("Install"), lesson("Run"));
+        Section second = section("Advanced", lesson("Deep dive"));
+        store.write(COURSE_ID, null, Arrays.asList(first, second));
+
+        // When
+        List<Lesson> middle = store.loadLessons(COURSE_ID, first.getSectionId(), 1, 2);
+        List<Lesson> rest = store.loadLessons(COURSE_ID, first.getSectionId(), 3, 10);
+        List<Lesson> past = store.loadLessons(COURSE_ID, first.getSectionId(), 4, 10);
+
+        // Then
+        assertThat(middle).extracting(Lesson::getTitle).containsExactly("Setup", "Install");
+        assertThat(rest).extracting(Lesson::getTitle).containsExactly("Run");
+        assertThat(past).isEmpty();
+        assertThat(queries.get(queries.size() - 3).expressionAttributeValues().get(":from").s())
+                .isEqualTo("LESSON#" + first.getSectionId() + "#0001");
+        assertThat(queries.get(queries.size() - 3).limit()).isEqualTo(2);
+        assertThat(store.loadLessons(COURSE_ID, first.getSectionId(), 0, 0)).isEmpty();
+        assertThatThrownBy(() -> store.loadLessons(COURSE_ID, first.getSectionId(), -1, 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldReadOneLessonThroughLessonIndex() {
+        // Given
+        stubTable();
+        Lesson quiz = quizLesson("Check");
+        Section first = section("Basics", lesson("Intro"), quiz);
+        store.write(COURSE_ID, null, Collections.singletonList(first));
+        queries.clear();
+
+        // When
+        Optional<Lesson> found = store.loadLesson(COURSE_ID, quiz.getLessonId());
+        Optional<Lesson> missing = store.loadLesson(COURSE_ID, UUID.randomUUID());
+
+        // Then
+        assertThat(found).hasValueSatisfying(lesson -> {
+            assertThat(lesson.getTitle()).isEqualTo("Check");
+            assertThat(((QuizContent) lesson.getContent()).getQuizItems().get(0).getQuestion()).isEqualTo("Ready?");
+        });
+        assertThat(missing).isEmpty();
+        assertThat(queries).allSatisfy(request ->
+                assertThat(request.indexName()).isEqualTo(CourseCurriculumStore.LESSON_INDEX));
+        assertThat(table.get("LESSON#" + first.getSectionId() + "#0001").get("content").b()).isNotNull();
+    }
+
+    @Test
+    void shouldWriteOnlyChangedItemsAgainstKnownSections() {
+        // Given
+        stubTable();
+        Section first = section("Basics", lesson("Intro"), lesson("Setup"));
+        Section second = section("Advanced", lesson("Deep dive"));
+        List<Section> previous = Arrays.asList(first, second);
+        store.write(COURSE_ID, null, previous);
+        Lesson renamed = copy(first.getLessons().get(1));
+        renamed.setTitle("Installation");
+        Section changed = Section.builder()
+                .sectionId(first.getSectionId())
+                .title(first.getTitle())
+                .description(first.getDescription())
+                .order(first.getOrder())
+                .duration(first.getDuration())
+                .lessons(Arrays.asList(first.getLessons().get(0), renamed))
+                .build();
+
+        // When
+        List<WriteRequest> changes = store.changes(COURSE_ID, previous, Collections.singletonList(changed));
+
+        // Then
+        assertThat(changes).extracting(write -> write.putRequest() != null ? "put " + itemKey(write.putRequest().item())
+                        : "delete " + itemKey(write.deleteRequest().key()))
+                .containsExactlyInAnyOrder(
+                        "put LESSON#" + first.getSectionId() + "#0001",
+                        "delete SECTION#0001",
+                        "delete LESSON#" + second.getSectionId() + "#0000");
+        assertThat(queriedPrefixes).doesNotContain("LESSON#" + second.getSectionId() + "#");
+    }
+
+    @Test
+    void shouldKeepLessonsOfSectionsWrittenWithoutThem() {
+        // Given
+        stubTable();
+        Section first = section("Basics", lesson("Intro"));
+        Section second = section("Advanced", lesson("Deep dive"));
+        store.write(COURSE_ID, null, Arrays.asList(first, second));
+        List<Section> loaded = store.loadSections(COURSE_ID, false);
+        Section renamed = Section.builder()
+                .sectionId(first.getSectionId())
+                .title("Renamed")
+                .order(first.getOrder())
+                .build();
+
+        // When
+        store.write(COURSE_ID, loaded, Collections.singletonList(renamed));
+
+        // Then
+        assertThat(table.keySet()).containsExactly("LESSON#" + first.getSectionId() + "#0000", "SECTION#0000");
+        assertThat(store.loadSections(COURSE_ID, true).get(0).getLessons())
+                .extracting(Lesson::getTitle).containsExactly("Intro");
+    }
+
+    @Test
+    void shouldNotWriteUnchangedCurriculum() {
+        // Given
+        stubTable();
+        List<Section> sections = Collections.singletonList(section("Basics", lesson("Intro")));
+        store.write(COURSE_ID, null, sections);
+
+        // When
+        List<WriteRequest> changes = store.changes(COURSE_ID, store.loadSections(COURSE_ID, true), sections);
+
+        // Then
+        assertThat(changes).isEmpty();
+    }
+
+    @Test
+    void shouldDeleteEveryItemOfCourse() {
+        // Given
+        stubTable();
+        store.write(COURSE_ID, null, Collections.singletonList(section("Basics", lesson("Intro"))));
+
+        // When
+        store.delete(COURSE_ID);
+
+        // Then
+        assertThat(table).isEmpty();
+    }
+
+    @Test
+    void shouldSplitWritesIntoBatchesOfTwentyFive() {
+        // Given
+        stubTable();
+        Lesson[] lessons = new Lesson[59];
+        for (int i = 0; i < lessons.length; i++) {
+            lessons[i] = lesson("Lesson " + i);
+        }
+
+        // When
+        store.write(COURSE_ID, Collections.emptyList(), Collections.singletonList(section("Basics", lessons)));
+
+        // Then
+        assertThat(table).hasSize(60);
+        assertThat(writes).isEqualTo(3);
+    }
+
+    @Test
+    void shouldRejectLessonsOfSectionWithoutId() {
+        // Given
+        Section section = section("Basics", lesson("Intro"));
+        section.setSectionId(null);
+
+        // When/Then
+        assertThatThrownBy(() -> store.changes(COURSE_ID, Collections.emptyList(), Collections.singletonList(section)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("sectionId");
+        verifyNoInteractions(dynamoDbClient);
+    }
+
+    @Test
+    void shouldLoadSectionsOnlyOnceAttached() {
+        // Given
+        stubTable();
+        store.write(COURSE_ID, null, Collections.singletonList(section("Basics", lesson("Intro"))));
+        Course course = new Course();
+        course.setCourseId(COURSE_ID);
+        course.setSectionsSource(CurriculumSections.of(COURSE_ID, 1));
+        Course empty = new Course();
+        empty.setSectionsSource(CurriculumSections.of(UUID.randomUUID(), 0));
+
+        // When/Then
+        assertThatThrownBy(course::getSections).isInstanceOf(IllegalStateException.class);
+        CurriculumSections.attach(course, store);
+        assertThat(course.getSections()).extracting(Section::getTitle).containsExactly("Basics");
+        assertThat(course.getSections().get(0).getLessons()).hasSize(1);
+        assertThat(empty.getSections()).isEmpty();
+    }
+
+    private void stubTable() {
+        lenient().when(dynamoDbClient.queryPaginator(any(QueryRequest.class)))
+                .thenAnswer(invocation -> new QueryIterable(dynamoDbClient, invocation.getArgument(0)));
+        lenient().when(dynamoDbClient.query(any(QueryRequest.class))).thenAnswer(invocation -> {
+            QueryRequest request = invocation.getArgument(0);
+            queries.add(request);
+            AttributeValue prefix = request.expressionAttributeValues().get(":prefix");
+            AttributeValue from = request.expressionAttributeValues().get(":from");
+            AttributeValue to = request.expressionAttributeValues().get(":to");
+            AttributeValue lessonId = request.expressionAttributeValues().get(":lesson");
+            queriedPrefixes.add(prefix != null ? prefix.s() : null);
+            String startKey = request.hasExclusiveStartKey() ? itemKey(request.exclusiveStartKey()) : null;
+            List<Map<String, AttributeValue>> items = new ArrayList<>();
+            String lastKey = null;
+            for (Map.Entry<String, Map<String, AttributeValue>> entry : table.entrySet()) {
+                String itemKey = entry.getKey();
+                Map<String, AttributeValue> item = entry.getValue();
+                if ((prefix != null && !itemKey.startsWith(prefix.s()))
+                        || (from != null && (itemKey.compareTo(from.s()) < 0 || itemKey.compareTo(to.s()) > 0))
+                        || (lessonId != null && !lessonId.equals(item.get(CourseCurriculumStore.LESSON_ID)))
+                        || (startKey != null && itemKey.compareTo(startKey) <= 0)) {
+                    continue;
+                }
+                if (request.limit() != null && items.size() == request.limit()) {
+                    lastKey = items.get(items.size() - 1).get(CourseCurriculumStore.ITEM_KEY).s();
+                    break;
+                }
+                items.add(request.projectionExpression() != null
+                        ? Collections.singletonMap(CourseCurriculumStore.ITEM_KEY, item.get(CourseCurriculumStore.ITEM_KEY))
+                        : item);
+            }
+            QueryResponse.Builder response = QueryResponse.builder().items(items);
+            if (lastKey != null) {
+                response.lastEvaluatedKey(CurriculumItems.key(COURSE_ID, lastKey));
+            }
+            return response.build();
+        });
+        lenient().when(dynamoDbClient.batchWriteItem(any(BatchWriteItemRequest.class))).thenAnswer(invocation -> {
+            BatchWriteItemRequest request = invocation.getArgument(0);
+            List<WriteRequest> requests = request.requestItems().get(CourseCurriculumStore.DEFAULT_TABLE_NAME);
+            assertThat(requests).hasSizeLessThanOrEqualTo(CourseCurriculumStore.MAX_WRITES_PER_REQUEST);
+            for (WriteRequest write : requests) {
+                if (write.putRequest() != null) {
+                    table.put(itemKey(write.putRequest().item()), write.putRequest().item());
+                } else {
+                    table.remove(itemKey(write.deleteRequest().key()));
+                }
+            }
+            writes++;
+            return BatchWriteItemResponse.builder().build();
+        });
+    }
+
+    private static String itemKey(Map<String, AttributeValue> item) {
+        return item.get(CourseCurriculumStore.ITEM_KEY).s();
+    }
+
+    private static Section section(String title, Lesson... lessons) {
+        return Section.builder()
+                .sectionId(UUID.randomUUID())
+                .title(title)
+                .description(title + " description")
+                .order(1)
+                .duration(30)
+                .lessons(new ArrayList<>(Arrays.asList(lessons)))
+                .build();
+    }
+
+    private static Lesson lesson(String title) {
+        Lesson lesson = new Lesson();
+        lesson.setLessonId(UUID.randomUUID());
+        lesson.setTitle(title);
+        lesson.setDuration(2.5f);
+        lesson.setMandatory(true);
+        lesson.setContent(ContentType.VIDEO, "https://example.com/" + title + ".mp4");
+        return lesson;
+    }
+
+    private static Lesson quizLesson(String title) {
+        Lesson lesson = new Lesson();
+        lesson.setLessonId(UUID.randomUUID());
+        lesson.setTitle(title);
+        lesson.setContent(ContentType.QUIZ, Collections.singletonList(new QuizItem("Ready?",
+                Arrays.asList(new AnswerOption("Yes", true), new AnswerOption("No", false)), AnswerChoice.MULTIPLE)));
+        return lesson;
+    }
+
+    private static Lesson copy(Lesson lesson) {
+        Lesson copy = new Lesson();
+        copy.setLessonId(lesson.getLessonId());
+        copy.setTitle(lesson.getTitle());
+        copy.setDuration(lesson.getDuration());
+        copy.setCoverImageUrl(lesson.getCoverImageUrl());
+        copy.setMandatory(lesson.isMandatory());
+        copy.setContent(ContentType.VIDEO, ((VideoContent) lesson.getContent()).getVideoUrl());
+        return copy;
+    }
+}
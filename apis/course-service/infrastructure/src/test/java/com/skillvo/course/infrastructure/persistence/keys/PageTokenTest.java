@@ -0,0 +1,45 @@
+package com.skillvo.course.infrastructure.persistence.keys;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PageTokenTest {
+
+    @Test
+    void shouldRoundTripLastEvaluatedKey() {
+        // Given
+        Map<String, AttributeValue> key = new HashMap<>();
+        key.put("courseId", AttributeValue.builder().s("00000000-0000-0000-0000-000000000001").build());
+        key.put("tenantId", AttributeValue.builder().s("tenant=1&a:b").build());
+        key.put("publishedAt", AttributeValue.builder().n("1700000000").build());
+
+        // When
+        String token = PageToken.encode(key);
+
+        // Then
+        assertThat(token).doesNotContain("courseId");
+        assertThat(PageToken.decode(token)).isEqualTo(key);
+    }
+
+    @Test
+    void shouldReturnNullForMissingKeyOrToken() {
+        assertThat(PageToken.encode(null)).isNull();
+        assertThat(PageToken.encode(Collections.emptyMap())).isNull();
+        assertThat(PageToken.decode(null)).isNull();
+        assertThat(PageToken.decode("")).isNull();
+    }
+
+    @Test
+    void shouldRejectMalformedToken() {
+        assertThatThrownBy(() -> PageToken.decode("not-a-token!"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid page token");
+    }
+}
@@ -0,0 +1,97 @@
+package com.skillvo.course.infrastructure.persistence.query;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.DynamoDbException;
+import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
+import software.amazon.awssdk.services.dynamodb.model.QueryResponse;
+import software.amazon.awssdk.services.dynamodb.model.Select;
+
+import java.util.OptionalLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CountingIndexStatisticsTest {
+
+    @Mock
+    private DynamoDbClient dynamoDbClient;
+
+    private CountingIndexStatistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = new CountingIndexStatistics(dynamoDbClient, "courses-tags-dev", 500, 100, 60);
+    }
+
+    @Test
+    void shouldCountPartitionWithBoundedQueryAndCacheIt() {
+        // Given
+        when(dynamoDbClient.query(any(QueryRequest.class))).thenReturn(QueryResponse.builder().count(42).build());
+
+        // When
+        OptionalLong first = statistics.estimateItems(CourseQueryPlanner.TENANT_INDEX, "tenant1");
+        OptionalLong second = statistics.estimateItems(CourseQueryPlanner.TENANT_INDEX, "tenant1");
+
+        // Then
+        assertThat(first).hasValue(42);
+        assertThat(second).hasValue(42);
+        ArgumentCaptor<QueryRequest> captor = ArgumentCaptor.forClass(QueryRequest.class);
+        verify(dynamoDbClient, times(1)).query(captor.capture());
+        QueryRequest request = captor.getValue();
+        assertThat(request.indexName()).isEqualTo("TenantIdIndex");
+        assertThat(request.select()).isEqualTo(Select.COUNT);
+        assertThat(request.limit()).isEqualTo(500);
+        assertThat(request.expressionAttributeNames()).containsEntry("#key", "tenantId");
+        assertThat(request.expressionAttributeValues().get(":key").s()).isEqualTo("tenant1");
+    }
+
+    @Test
+    void shouldCountTagPartitionsInConfiguredTable() {
+        // Given
+        when(dynamoDbClient.query(any(QueryRequest.class))).thenReturn(QueryResponse.builder().count(7).build());
+
+        // When
+        OptionalLong estimate = statistics.estimateItems(CourseQueryPlanner.TAG_INDEX, "TAG#tenant1#java");
+
+        // Then
+        assertThat(estimate).hasValue(7);
+        ArgumentCaptor<QueryRequest> captor = ArgumentCaptor.forClass(QueryRequest.class);
+        verify(dynamoDbClient).query(captor.capture());
+        assertThat(captor.getValue().tableName()).isEqualTo("courses-tags-dev");
+        assertThat(captor.getValue().indexName()).isNull();
+    }
+
+    @Test
+    void shouldReturnNoEstimateAndRememberFailedCount() {
+        // Given
+        when(dynamoDbClient.query(any(QueryRequest.class)))
+                .thenThrow(DynamoDbException.builder().message("throttled").build());
+
+        // When
+        OptionalLong failed = statistics.estimateItems(CourseQueryPlanner.TENANT_INDEX, "tenant1");
+        OptionalLong again = statistics.estimateItems(CourseQueryPlanner.TENANT_INDEX, "tenant1");
+
+        // Then
+        assertThat(failed).isEmpty();
+        assertThat(again).isEmpty();
+        verify(dynamoDbClient, times(1)).query(any(QueryRequest.class));
+    }
+
+    @Test
+    void shouldRejectNonPositiveCountLimit() {
+        assertThatThrownBy(() -> new CountingIndexStatistics(dynamoDbClient, "courses-tags-dev", 0, 100, 60))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("count-limit");
+    }
+}
@@ -0,0 +1,212 @@
+package com.skillvo.course.infrastructure.persistence.query;
+
+import com.skillvo.course.domain.model.enums.Level;
+import com.skillvo.course.domain.model.enums.Status;
+import com.skillvo.course.domain.repository.CourseFilter;
+import com.skillvo.course.domain.repository.TagMatch;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CourseQueryPlannerTest {
+
+    @Test
+    void shouldChooseMostSelectiveIndexAndFilterTheRest() {
+        // Given
+        Map<String, Long> counts = new HashMap<>();
+        counts.put("TenantIdIndex#tenant1", 5000L);
+        counts.put("CourseTags#TAG#tenant1#java", 40L);
+        CourseQueryPlanner planner = new CourseQueryPlanner(statistics(counts));
+        CourseFilter filter = CourseFilter.builder()
+                .tenantId("tenant1")
+                .status(Status.DRAFT)
+                .level(Level.ADVANCED)
+                .tags(List.of("java"))
+                .build();
+
+        // When
+        QueryPlan plan = planner.plan(filter);
+
+        // Then
+        assertThat(plan.getIndex().getIndex()).isEqualTo(CourseQueryPlanner.TAG_INDEX);
+        assertThat(plan.getIndex().getPartitionKeyValues()).containsExactly("TAG#tenant1#java");
+        assertThat(plan.getFilterEquals()).containsOnly(Map.entry("status", "DRAFT"), Map.entry("level", "ADVANCED"));
+        assertThat(plan.getFilterTags()).containsExactly("java");
+        assertThat(plan.getRejected()).extracting(IndexCandidate::getIndex)
+                .containsExactly(CourseQueryPlanner.TENANT_INDEX);
+    }
+
+    @Test
+    void shouldFilterStatusAndLevelOnTenantPartition() {
+        // Given
+        CourseQueryPlanner planner = CourseQueryPlanner.withoutStatistics();
+        CourseFilter filter = CourseFilter.builder()
+                .tenantId("tenant1")
+                .status(Status.PUBLISHED)
+                .level(Level.BEGINNER)
+                .build();
+
+        // When
+        QueryPlan plan = planner.plan(filter);
+
+        // Then
+        assertThat(plan.getIndex().getIndex()).isEqualTo(CourseQueryPlanner.TENANT_INDEX);
+        assertThat(plan.getFilterEquals()).containsOnlyKeys("status", "level");
+        assertThat(plan.getRejected()).isEmpty();
+    }
+
+    @Test
+    void shouldNotEstimateWhenOnlyOneIndexApplies() {
+        // Given
+        List<String> estimated = new ArrayList<>();
+        CourseQueryPlanner planner = new CourseQueryPlanner((index, key) -> {
+            estimated.add(index.getName());
+            return OptionalLong.of(1);
+        });
+
+        // When
+        QueryPlan plan = planner.plan(CourseFilter.builder().tenantId("tenant1").level(Level.BEGINNER).build());
+
+        // Then
+        assertThat(plan.getIndex().getIndex()).isEqualTo(CourseQueryPlanner.TENANT_INDEX);
+        assertThat(plan.getIndex().getEstimatedItems()).isNull();
+        assertThat(estimated).isEmpty();
+    }
+
+    @Test
+    void shouldAlwaysUseMarketplaceIndexForMarketplaceListings() {
+        // Given
+        Map<String, Long> counts = new HashMap<>();
+        counts.put("TenantIdIndex#tenant1", 1L);
+        CourseQueryPlanner planner = new CourseQueryPlanner(statistics(counts));
+        CourseFilter filter = CourseFilter.builder()
+                .tenantId("tenant1")
+                .inMarketplace(true)
+                .status(Status.PUBLISHED)
+                .level(Level.BEGINNER)
+                .build();
+
+        // When
+        QueryPlan plan = planner.plan(filter);
+
+        // Then
+        assertThat(plan.getIndex().getIndex()).isEqualTo(CourseQueryPlanner.MARKETPLACE_INDEX);
+        assertThat(plan.isDescending()).isTrue();
+        assertThat(plan.getFilterEquals()).containsOnlyKeys("level");
+    }
+
+    @Test
+    void shouldLookUpTagIndexOnlyWithinTenant() {
+        // Given
+        CourseQueryPlanner planner = CourseQueryPlanner.withoutStatistics();
+
+        // When
+        QueryPlan tagsOnly = planner.plan(CourseFilter.builder().tags(Arrays.asList("java", "spring")).build());
+        QueryPlan withTenant = planner.plan(CourseFilter.builder()
+                .tenantId("tenant1")
+                .tags(List.of("java"))
+                .build());
+
+        // Then
+        assertThat(tagsOnly.isScan()).isTrue();
+        assertThat(tagsOnly.getFilterTags()).containsExactly("java", "spring");
+        assertThat(withTenant.usesTagIndex()).isFalse();
+        assertThat(withTenant.getIndex().getIndex()).isEqualTo(CourseQueryPlanner.TENANT_INDEX);
+        assertThat(withTenant.getFilterTags()).containsExactly("java");
+        assertThat(withTenant.getRejected()).flatExtracting(IndexCandidate::getPartitionKeyValues)
+                .containsExactly("TAG#tenant1#java");
+    }
+
+    @Test
+    void shouldCostTagIntersectionBySmallestTagAndUnionBySum() {
+        // Given
+        Map<String, Long> counts = new HashMap<>();
+        counts.put("TenantIdIndex#tenant1", 500L);
+        counts.put("CourseTags#TAG#tenant1#java", 300L);
+        counts.put("CourseTags#TAG#tenant1#spring", 400L);
+        CourseQueryPlanner planner = new CourseQueryPlanner(statistics(counts));
+        CourseFilter.CourseFilterBuilder filter = CourseFilter.builder()
+                .tenantId("tenant1")
+                .tags(Arrays.asList("java", "spring", "java"));
+
+        // When
+        QueryPlan all = planner.plan(filter.tagMatch(TagMatch.ALL).build());
+        QueryPlan any = planner.plan(filter.tagMatch(TagMatch.ANY).build());
+
+        // Then
+        assertThat(all.usesTagIndex()).isTrue();
+        assertThat(all.isMatchAllTags()).isTrue();
+        assertThat(all.getIndex().getEstimatedItems()).isEqualTo(300L);
+        assertThat(all.getFilterTags()).containsExactly("java", "spring");
+        assertThat(all.getFilterEquals()).isEmpty();
+        assertThat(all.explain()).startsWith("Lookup CourseTags (tag all of [TAG#tenant1#java, TAG#tenant1#spring], ~300 items)");
+        assertThat(any.getIndex().getIndex()).isEqualTo(CourseQueryPlanner.TENANT_INDEX);
+        assertThat(any.getRejected()).extracting(IndexCandidate::getEstimatedItems).containsExactly(700L);
+    }
+
+    @Test
+    void shouldScanAndFilterWhenNoIndexKeyIsGiven() {
+        // When
+        QueryPlan plan = CourseQueryPlanner.withoutStatistics().plan(CourseFilter.builder().inMarketplace(true).build());
+
+        // Then
+        assertThat(plan.isScan()).isTrue();
+        assertThat(plan.getFilterEquals()).containsEntry("inMarketplace", true);
+        assertThat(plan.explain()).startsWith("Scan Courses").contains("inMarketplace = 'true'");
+    }
+
+    @Test
+    void shouldExplainChosenAndRejectedIndexes() {
+        // Given
+        Map<String, Long> counts = new HashMap<>();
+        counts.put("TenantIdIndex#tenant1", 12L);
+        counts.put("CourseTags#TAG#tenant1#java", 3400L);
+        CourseQueryPlanner planner = new CourseQueryPlanner(statistics(counts));
+
+        // When
+        String explain = planner.plan(CourseFilter.builder()
+                .tenantId("tenant1")
+                .level(Level.BEGINNER)
+                .tags(List.of("java"))
+                .build()).explain();
+
+        // Then
+        assertThat(explain).isEqualTo("Query TenantIdIndex (tenantId = 'tenant1', ~12 items); "
+                + "fewest estimated items; filter level = 'BEGINNER' AND tags contains any of [java]; "
+                + "rejected CourseTags (tag = 'TAG#tenant1#java', ~3400 items)");
+    }
+
+    @Test
+    void shouldEstimateTagsPerTenant() {
+        // Given
+        Map<String, Long> counts = new HashMap<>();
+        counts.put("TenantIdIndex#tenant1", 500L);
+        counts.put("TenantIdIndex#tenant2", 500L);
+        counts.put("CourseTags#TAG#tenant1#java", 10L);
+        counts.put("CourseTags#TAG#tenant2#java", 5000L);
+        CourseQueryPlanner planner = new CourseQueryPlanner(statistics(counts));
+
+        // When
+        QueryPlan tenant1 = planner.plan(CourseFilter.builder().tenantId("tenant1").tags(List.of("java")).build());
+        QueryPlan tenant2 = planner.plan(CourseFilter.builder().tenantId("tenant2").tags(List.of("java")).build());
+
+        // Then
+        assertThat(tenant1.usesTagIndex()).isTrue();
+        assertThat(tenant1.getIndex().getEstimatedItems()).isEqualTo(10L);
+        assertThat(tenant2.getIndex().getIndex()).isEqualTo(CourseQueryPlanner.TENANT_INDEX);
+    }
+
+    private IndexStatistics statistics(Map<String, Long> counts) {
+        return (index, key) -> {
+            Long count = counts.get(index.getName() + "#" + key);
+            return count != null ? OptionalLong.of(count) : OptionalLong.empty();
+        };
+    }
+}
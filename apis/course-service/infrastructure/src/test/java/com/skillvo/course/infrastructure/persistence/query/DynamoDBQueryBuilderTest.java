@@ -0,0 +1,99 @@
+package com.skillvo.course.infrastructure.persistence.query;
+
+import com.skillvo.course.domain.model.enums.Level;
+import com.skillvo.course.domain.model.enums.Status;
+import com.skillvo.course.domain.repository.CourseFilter;
+import com.skillvo.course.domain.repository.TagMatch;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
+import software.amazon.awssdk.services.dynamodb.model.ScanRequest;
+
+import java.util.Arrays;
+import java.util.OptionalLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DynamoDBQueryBuilderTest {
+
+    @Test
+    void shouldPushEveryPredicateNotInTheKeyIntoTheFilter() {
+        // Given
+        CourseFilter filter = CourseFilter.builder()
+                .tenantId("tenant1")
+                .status(Status.DRAFT)
+                .level(Level.ADVANCED)
+                .tags(Arrays.asList("java", "spring"))
+                .build();
+
+        // When
+        QueryRequest request = new DynamoDBQueryBuilder().withFilter(filter).buildQueryRequest().orElseThrow();
+
+        // Then
+        assertThat(request.indexName()).isEqualTo("TenantIdIndex");
+        assertThat(request.keyConditionExpression()).isEqualTo("#tenantId = :tenantId");
+        assertThat(request.filterExpression()).isEqualTo("#status = :status AND #level = :level"
+                + " AND (contains(#tags, :tagValue0) OR contains(#tags, :tagValue1))");
+        assertThat(request.expressionAttributeValues().get(":status").s()).isEqualTo("DRAFT");
+        assertThat(request.expressionAttributeValues().get(":level").s()).isEqualTo("ADVANCED");
+    }
+
+    @Test
+    void shouldQueryIndexChosenByPlannerStatistics() {
+        // Given
+        CourseQueryPlanner planner = new CourseQueryPlanner((index, key) ->
+                OptionalLong.of(index.equals(CourseQueryPlanner.TENANT_INDEX) ? 3 : 3000));
+        CourseFilter filter = CourseFilter.builder()
+                .tenantId("tenant1")
+                .level(Level.ADVANCED)
+                .tags(Arrays.asList("java"))
+                .build();
+
+        // When
+        DynamoDBQueryBuilder builder = new DynamoDBQueryBuilder(planner).withFilter(filter);
+        QueryRequest request = builder.buildQueryRequest().orElseThrow();
+
+        // Then
+        assertThat(request.indexName()).isEqualTo("TenantIdIndex");
+        assertThat(request.keyConditionExpression()).isEqualTo("#tenantId = :tenantId");
+        assertThat(request.filterExpression()).isEqualTo("#level = :level AND (contains(#tags, :tagValue0))");
+        assertThat(builder.explain()).startsWith("Query TenantIdIndex (tenantId = 'tenant1', ~3 items)");
+    }
+
+    @Test
+    void shouldFilterScanWhenNoIndexApplies() {
+        // When
+        DynamoDBQueryBuilder builder = new DynamoDBQueryBuilder()
+                .withFilter(CourseFilter.builder().inMarketplace(false).build());
+        ScanRequest request = builder.buildScanRequest();
+
+        // Then
+        assertThat(builder.requiresScan()).isTrue();
+        assertThat(builder.buildQueryRequest()).isEmpty();
+        assertThat(request.filterExpression()).isEqualTo("#inMarketplace = :inMarketplace");
+        assertThat(request.expressionAttributeValues().get(":inMarketplace").bool()).isFalse();
+    }
+
+    @Test
+    void shouldRequireEveryTagWhenMatchingAll() {
+        // When
+        DynamoDBQueryBuilder builder = new DynamoDBQueryBuilder().withFilter(CourseFilter.builder()
+                .tenantId("tenant1")
+                .status(Status.PUBLISHED)
+                .tags(Arrays.asList("java", "spring"))
+                .tagMatch(TagMatch.ALL)
+                .build());
+        QueryRequest request = builder.buildQueryRequest().orElseThrow();
+
+        // Then
+        assertThat(request.indexName()).isEqualTo("TenantIdIndex");
+        assertThat(request.filterExpression())
+                .isEqualTo("#status = :status AND (contains(#tags, :tagValue0) AND contains(#tags, :tagValue1))");
+    }
+
+    @Test
+    void shouldRequireFilterBeforeExplain() {
+        assertThatThrownBy(() -> new DynamoDBQueryBuilder().explain())
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
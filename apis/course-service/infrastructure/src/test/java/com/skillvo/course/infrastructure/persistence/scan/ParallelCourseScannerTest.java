@@ -0,0 +1,271 @@
+package com.skillvo.course.infrastructure.persistence.scan;
+
+import com.skillvo.course.domain.model.aggregates.Course;
+import com.skillvo.course.domain.model.entities.Author;
+import com.skillvo.course.domain.model.entities.Publisher;
+import com.skillvo.course.domain.model.entities.Section;
+import com.skillvo.course.domain.model.enums.*;
+import com.skillvo.course.domain.model.valueobjects.Prize;
+import com.skillvo.course.domain.repository.CourseFilter;
+import com.skillvo.course.infrastructure.persistence.DynamoDBModelConverter;
+import com.skillvo.course.infrastructure.persistence.query.CourseQueryPlanner;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.ConsumedCapacity;
+import software.amazon.awssdk.services.dynamodb.model.ReturnConsumedCapacity;
+import software.amazon.awssdk.services.dynamodb.model.ScanRequest;
+import software.amazon.awssdk.services.dynamodb.model.ScanResponse;
+import software.amazon.awssdk.services.dynamodb.paginators.ScanIterable;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ParallelCourseScannerTest {
+
+    @Mock
+    private DynamoDbClient dynamoDbClient;
+
+    private ParallelCourseScanner scanner;
+
+    @BeforeEach
+    void setUp() {
+        scanner = new ParallelCourseScanner(dynamoDbClient, CourseQueryPlanner.withoutStatistics());
+    }
+
+    @Test
+    void shouldMergeCoursesFromEverySegment() {
+        // Given
+        Course course1 = createCourse();
+        Course course2 = createCourse();
+        Course course3 = createCourse();
+        stubScanPaginator();
+        when(dynamoDbClient.scan(any(ScanRequest.class))).thenAnswer(invocation -> {
+            ScanRequest request = invocation.getArgument(0);
+            if (request.segment() == 0) {
+                return request.exclusiveStartKey().isEmpty()
+                        ? scanPage(lastKey(course1), course1)
+                        : scanPage(null, course2);
+            }
+            return scanPage(null, course3);
+        });
+
+        // When
+        List<Course> courses;
+        try (Stream<Course> stream = scanner.scan(CourseFilter.builder().build(), options(2), ScanProgressListener.NO_OP)) {
+            courses = stream.collect(Collectors.toList());
+        }
+
+        // Then
+        assertThat(courses).containsExactlyInAnyOrder(course1, course2, course3);
+        ArgumentCaptor<ScanRequest> captor = ArgumentCaptor.forClass(ScanRequest.class);
+        verify(dynamoDbClient, atLeastOnce()).scan(captor.capture());
+        assertThat(captor.getAllValues())
+                .allSatisfy(request -> {
+                    assertThat(request.totalSegments()).isEqualTo(2);
+                    assertThat(request.returnConsumedCapacity()).isEqualTo(ReturnConsumedCapacity.TOTAL);
+                })
+                .extracting(ScanRequest::segment)
+                .containsOnly(0, 1);
+    }
+
+    @Test
+    void shouldReportProgressPerSegment() {
+        // Given
+        stubScanPaginator();
+        when(dynamoDbClient.scan(any(ScanRequest.class)))
+                .thenAnswer(invocation -> scanPage(null, createCourse(), createCourse()));
+        Map<Integer, Long> completed = new ConcurrentHashMap<>();
+        List<Double> consumed = Collections.synchronizedList(new ArrayList<>());
+        ScanProgressListener listener = new ScanProgressListener() {
+            @Override
+            public void onPageScanned(int segment, int itemsInPage, long segmentItems, double consumedCapacity) {
+                consumed.add(consumedCapacity);
+            }
+
+            @Override
+            public void onSegmentCompleted(int segment, long segmentItems) {
+                completed.put(segment, segmentItems);
+            }
+        };
+
+        // When
+        long count;
+        try (Stream<Course> stream = scanner.scan(CourseFilter.builder().build(), options(3), listener)) {
+            count = stream.count();
+        }
+
+        // Then
+        assertThat(count).isEqualTo(6);
+        assertThat(completed).containsOnlyKeys(0, 1, 2).containsValues(2L);
+        assertThat(consumed).hasSize(3).containsOnly(1.5);
+    }
+
+    @Test
+    void shouldPropagateSegmentFailure() {
+        // Given
+        stubScanPaginator();
+        when(dynamoDbClient.scan(any(ScanRequest.class))).thenThrow(new IllegalStateException("throttled"));
+
+        // When / Then
+        try (Stream<Course> stream = scanner.scan(CourseFilter.builder().build(), options(2), ScanProgressListener.NO_OP)) {
+            assertThatThrownBy(() -> stream.collect(Collectors.toList()))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasRootCauseMessage("throttled");
+        }
+    }
+
+    @Test
+    @Timeout(10)
+    void shouldPropagateSegmentFailureWhileOtherSegmentsFillTheBuffer() {
+        // Given
+        stubScanPaginator();
+        when(dynamoDbClient.scan(any(ScanRequest.class))).thenAnswer(invocation -> {
+            ScanRequest request = invocation.getArgument(0);
+            if (request.segment() == 1) {
+                throw new IllegalStateException("throttled");
+            }
+            Course course = createCourse();
+            return scanPage(lastKey(course), course, createCourse(), createCourse());
+        });
+
+        // When / Then
+        try (Stream<Course> stream = scanner.scan(CourseFilter.builder().build(), options(2), ScanProgressListener.NO_OP)) {
+            assertThatThrownBy(() -> stream.forEach(course -> { }))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessage("Scan segment 1 failed")
+                    .hasRootCauseMessage("throttled");
+        }
+    }
+
+    @Test
+    void shouldRejectFiltersThatResolveToAnIndexQuery() {
+        // Given
+        CourseFilter filter = CourseFilter.builder().tenantId("tenant1").status(Status.PUBLISHED).build();
+
+        // When / Then
+        assertThatThrownBy(() -> scanner.scan(filter, options(2), ScanProgressListener.NO_OP))
+                .isInstanceOf(IllegalArgumentException.class);
+        verify(dynamoDbClient, never()).scanPaginator(any(ScanRequest.class));
+    }
+
+    @Test
+    void shouldScanWithThePlanOfTheSharedPlanner() {
+        // Given
+        CourseQueryPlanner planner = mock(CourseQueryPlanner.class);
+        CourseFilter filter = CourseFilter.builder().level(Level.ADVANCED).build();
+        when(planner.plan(filter)).thenReturn(CourseQueryPlanner.withoutStatistics().plan(filter));
+        stubScanPaginator();
+        when(dynamoDbClient.scan(any(ScanRequest.class))).thenReturn(scanPage(null));
+
+        // When
+        try (Stream<Course> stream = new ParallelCourseScanner(dynamoDbClient, planner)
+                .scan(filter, options(2), ScanProgressListener.NO_OP)) {
+            assertThat(stream).isEmpty();
+        }
+
+        // Then
+        verify(planner, times(1)).plan(filter);
+        ArgumentCaptor<ScanRequest> captor = ArgumentCaptor.forClass(ScanRequest.class);
+        verify(dynamoDbClient, times(2)).scan(captor.capture());
+        assertThat(captor.getAllValues()).extracting(ScanRequest::filterExpression).containsOnly("#level = :level");
+    }
+
+    private ParallelScanOptions options(int totalSegments) {
+        return ParallelScanOptions.builder()
+                .totalSegments(totalSegments)
+                .maxConcurrency(totalSegments)
+                .bufferSize(2)
+                .build();
+    }
+
+    private void stubScanPaginator() {
+        when(dynamoDbClient.scanPaginator(any(ScanRequest.class)))
+                .thenAnswer(invocation -> new ScanIterable(dynamoDbClient, invocation.getArgument(0)));
+    }
+
+    private ScanResponse scanPage(Map<String, AttributeValue> lastEvaluatedKey, Course... courses) {
+        return ScanResponse.builder()
+                .items(Arrays.stream(courses).map(DynamoDBModelConverter::toItem).collect(Collectors.toList()))
+                .lastEvaluatedKey(lastEvaluatedKey)
+                .consumedCapacity(ConsumedCapacity.builder().capacityUnits(1.5).build())
+                .build();
+    }
+
+    private Map<String, AttributeValue> lastKey(Course course) {
+        return Collections.singletonMap("courseId", AttributeValue.builder().s(course.getCourseId().toString()).build());
+    }
+
+    private Course createCourse() {
+        Course course = new Course();
+        course.setCourseId(UUID.randomUUID());
+        course.setTenantId("tenant1");
+        course.setTitle("Test Course");
+        course.setDescription("Test Description");
+        course.setTopicCode("topic1");
+        course.setCategoryCode("category1");
+        course.setLanguage(Arrays.asList(Language.ENGLISH));
+        course.setLevel(Level.BEGINNER);
+        course.setPricingModel(PricingModel.FREE);
+        course.setPrize(new Prize(0.0, 0, Currency.USD));
+        course.setLearningMode(LearningMode.ONLINE);
+        course.setPoints(100);
+        course.setTags(Arrays.asList("test"));
+        course.setAuthors(Arrays.asList(Author.builder()
+                .authorId(UUID.randomUUID())
+                .firstName("John")
+                .lastName("Doe")
+                .emailId("john.doe@example.com")
+                .build()));
+        course.setPublisher(Publisher.builder()
+                .publisherId(UUID.randomUUID())
+                .name("Test Publisher")
+                .type(PublisherType.INDIVIDUAL)
+                .logoUrl("http://example.com/logo.jpg")
+                .website("http://example.com")
+                .contactEmail("contact@example.com")
+                .description("Test Publisher Description")
+                .country("US")
+                .build());
+        course.setPublishedOn(LocalDateTime.now());
+        course.setImageUrl("http://example.com/image.jpg");
+        course.setInMarketplace(false);
+        course.setStatus(Status.DRAFT);
+        course.setDuration(30);
+        course.setSections(Arrays.asList(Section.builder()
+                .sectionId(UUID.randomUUID())
+                .title("Test Section")
+                .description("Test Section Description")
+                .order(1)
+                .duration(30)
+                .build()));
+        course.setLessonNavigationMode(LessonNavigationMode.SEQUENTIAL);
+        course.setVersion(1);
+        return course;
+    }
+}
@@ -0,0 +1,223 @@
+package com.skillvo.course.infrastructure.persistence.tags;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CourseTagIndexTest {
+    private static final UUID COURSE_1 = UUID.fromString("00000000-0000-0000-0000-000000000001");
+    private static final UUID COURSE_2 = UUID.fromString("00000000-0000-0000-0000-000000000002");
+    private static final UUID COURSE_3 = UUID.fromString("00000000-0000-0000-0000-000000000003");
+    private static final UUID COURSE_4 = UUID.fromString("00000000-0000-0000-0000-000000000004");
+    private static final UUID COURSE_5 = UUID.fromString("00000000-0000-0000-0000-000000000005");
+
+    @Mock
+    private DynamoDbClient dynamoDbClient;
+
+    private final Map<String, NavigableMap<String, String>> entries = new HashMap<>();
+    private CourseTagIndex tagIndex;
+
+    @BeforeEach
+    void setUp() {
+        tagIndex = new CourseTagIndex(dynamoDbClient, CourseTagIndex.DEFAULT_TABLE_NAME, 4, 3, 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        tagIndex.shutdown();
+    }
+
+    @Test
+    void shouldMergeTagsInCourseIdOrderForUnion() {
+        // Given
+        index("java", COURSE_1, COURSE_3, COURSE_5);
+        index("spring", COURSE_2, COURSE_3, COURSE_4);
+        stubQuery(2);
+
+        // When
+        List<UUID> firstPage = tagIndex.lookup(Arrays.asList("java", "spring"), false, "tenant1", null, 3);
+        List<UUID> secondPage = tagIndex.lookup(Arrays.asList("java", "spring"), false, "tenant1", COURSE_3.toString(), 3);
+
+        // Then
+        assertThat(firstPage).containsExactly(COURSE_1, COURSE_2, COURSE_3);
+        assertThat(secondPage).containsExactly(COURSE_4, COURSE_5);
+    }
+
+    @Test
+    void shouldSeekPastNonMatchingCoursesForIntersection() {
+        // Given
+        index("java", COURSE_1, COURSE_2, COURSE_3, COURSE_4, COURSE_5);
+        index("kafka", COURSE_4);
+        index("spring", COURSE_2, COURSE_4, COURSE_5);
+        stubQuery(1);
+
+        // When
+        List<UUID> courseIds = tagIndex.lookup(Arrays.asList("java", "kafka", "spring"), true, "tenant1", null, 10);
+
+        // Then
+        assertThat(courseIds).containsExactly(COURSE_4);
+        ArgumentCaptor<QueryRequest> captor = ArgumentCaptor.forClass(QueryRequest.class);
+        verify(dynamoDbClient, atLeastOnce()).query(captor.capture());
+        assertThat(captor.getAllValues())
+                .anyMatch(request -> request.keyConditionExpression().endsWith("#courseId >= :from")
+                        && request.expressionAttributeValues().get(":from").s().equals(COURSE_4.toString()));
+    }
+
+    @Test
+    void shouldReadOnlyTheTenantsPartitionOfATag() {
+        // Given
+        index("java", COURSE_1);
+        index("tenant2", "java", COURSE_2);
+        stubQuery(10);
+
+        // When
+        List<UUID> courseIds = tagIndex.lookup(List.of("java"), false, "tenant1", null, 10);
+
+        // Then
+        assertThat(courseIds).containsExactly(COURSE_1);
+        ArgumentCaptor<QueryRequest> captor = ArgumentCaptor.forClass(QueryRequest.class);
+        verify(dynamoDbClient).query(captor.capture());
+        assertThat(captor.getValue().tableName()).isEqualTo("CourseTags");
+        assertThat(captor.getValue().expressionAttributeValues().get(":tag").s()).isEqualTo("TAG#tenant1#java");
+        assertThat(captor.getValue().filterExpression()).isNull();
+    }
+
+    @Test
+    void shouldRejectLookupsWithoutTenant() {
+        // When / Then
+        assertThatThrownBy(() -> tagIndex.lookup(List.of("java"), false, null, null, 10))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(dynamoDbClient);
+    }
+
+    @Test
+    void shouldPutCurrentTagsAndDeleteRemovedOnes() {
+        // Given
+        when(dynamoDbClient.batchWriteItem(any(BatchWriteItemRequest.class)))
+                .thenReturn(BatchWriteItemResponse.builder().build());
+
+        // When
+        tagIndex.update(COURSE_1, "tenant1", Arrays.asList("java", "legacy"), Arrays.asList("java", "spring", "java"));
+
+        // Then
+        ArgumentCaptor<BatchWriteItemRequest> captor = ArgumentCaptor.forClass(BatchWriteItemRequest.class);
+        verify(dynamoDbClient).batchWriteItem(captor.capture());
+        List<WriteRequest> writes = captor.getValue().requestItems().get("CourseTags");
+        assertThat(writes).hasSize(3);
+        assertThat(writes.get(0).putRequest().item())
+                .containsOnly(Map.entry("tag", AttributeValue.builder().s("TAG#tenant1#java").build()),
+                        Map.entry("courseId", AttributeValue.builder().s(COURSE_1.toString()).build()));
+        assertThat(writes.get(1).putRequest().item().get("tag").s()).isEqualTo("TAG#tenant1#spring");
+        assertThat(writes.get(2).deleteRequest().key().get("tag").s()).isEqualTo("TAG#tenant1#legacy");
+    }
+
+    @Test
+    void shouldChunkWritesAndRetryUnprocessedEntries() {
+        // Given
+        List<String> tags = IntStream.range(0, 30).mapToObj(i -> "tag" + i).collect(Collectors.toList());
+        WriteRequest unprocessed = WriteRequest.builder()
+                .deleteRequest(DeleteRequest.builder().key(Collections.emptyMap()).build())
+                .build();
+        when(dynamoDbClient.batchWriteItem(any(BatchWriteItemRequest.class)))
+                .thenReturn(BatchWriteItemResponse.builder()
+                        .unprocessedItems(Collections.singletonMap("CourseTags", List.of(unprocessed)))
+                        .build())
+                .thenReturn(BatchWriteItemResponse.builder().build());
+
+        // When
+        tagIndex.remove(COURSE_1, "tenant1", tags);
+
+        // Then
+        ArgumentCaptor<BatchWriteItemRequest> captor = ArgumentCaptor.forClass(BatchWriteItemRequest.class);
+        verify(dynamoDbClient, times(3)).batchWriteItem(captor.capture());
+        assertThat(captor.getAllValues()).extracting(request -> request.requestItems().get("CourseTags").size())
+                .containsExactly(25, 1, 5);
+    }
+
+    @Test
+    void shouldFailWhenEntriesStayUnprocessed() {
+        // Given
+        WriteRequest unprocessed = WriteRequest.builder()
+                .deleteRequest(DeleteRequest.builder().key(Collections.emptyMap()).build())
+                .build();
+        when(dynamoDbClient.batchWriteItem(any(BatchWriteItemRequest.class)))
+                .thenReturn(BatchWriteItemResponse.builder()
+                        .unprocessedItems(Collections.singletonMap("CourseTags", List.of(unprocessed)))
+                        .build());
+
+        // When / Then
+        assertThatThrownBy(() -> tagIndex.remove(COURSE_1, "tenant1", List.of("java")))
+                .isInstanceOf(IllegalStateException.class);
+        verify(dynamoDbClient, times(3)).batchWriteItem(any(BatchWriteItemRequest.class));
+    }
+
+    private void index(String tag, UUID... courseIds) {
+        index("tenant1", tag, courseIds);
+    }
+
+    private void index(String tenantId, String tag, UUID... courseIds) {
+        NavigableMap<String, String> courses =
+                entries.computeIfAbsent(CourseTagIndex.key(tenantId, tag), key -> new TreeMap<>());
+        for (UUID courseId : courseIds) {
+            courses.put(courseId.toString(), tenantId);
+        }
+    }
+
+    /**
+     * Answers Queries from {@link #entries} as DynamoDB would, reading at most {@code pageSize}
+     * items per page.
+     */
+    private void stubQuery(int pageSize) {
+        when(dynamoDbClient.query(any(QueryRequest.class))).thenAnswer(invocation -> {
+            QueryRequest request = invocation.getArgument(0);
+            Map<String, AttributeValue> values = request.expressionAttributeValues();
+            NavigableMap<String, String> courses = entries.getOrDefault(values.get(":tag").s(), new TreeMap<>());
+            if (values.containsKey(":from")) {
+                courses = courses.tailMap(values.get(":from").s(), request.keyConditionExpression().contains(">="));
+            }
+            if (request.hasExclusiveStartKey()) {
+                courses = courses.tailMap(request.exclusiveStartKey().get("courseId").s(), false);
+            }
+
+            List<Map.Entry<String, String>> read = new ArrayList<>(courses.entrySet());
+            int limit = Math.min(pageSize, request.limit());
+            boolean more = read.size() > limit;
+            read = read.subList(0, Math.min(limit, read.size()));
+
+            List<Map<String, AttributeValue>> items = new ArrayList<>();
+            for (Map.Entry<String, String> entry : read) {
+                items.add(Collections.singletonMap("courseId", AttributeValue.builder().s(entry.getKey()).build()));
+            }
+            QueryResponse.Builder response = QueryResponse.builder().items(items);
+            if (more) {
+                response.lastEvaluatedKey(Collections.singletonMap("courseId",
+                        AttributeValue.builder().s(read.get(read.size() - 1).getKey()).build()));
+            }
+            return response.build();
+        });
+    }
+}
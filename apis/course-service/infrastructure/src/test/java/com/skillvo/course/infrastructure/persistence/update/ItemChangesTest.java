@@ -0,0 +1,163 @@
+package com.skillvo.course.infrastructure.persistence.update;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ItemChangesTest {
+
+    @Test
+    void shouldFindNothingBetweenEqualItems() {
+        // Given
+        Map<String, AttributeValue> item = Map.of("title", s("Java"), "points", n("10"));
+
+        // When
+        ItemChanges changes = ItemChanges.between(item, new HashMap<>(item), Set.of());
+
+        // Then
+        assertThat(changes.isEmpty()).isTrue();
+        assertThat(changes.updateExpression()).isEmpty();
+    }
+
+    @Test
+    void shouldSetChangedAndRemoveMissingAttributes() {
+        // Given
+        Map<String, AttributeValue> current = Map.of("courseId", s("c1"), "title", s("Java"), "imageUrl", s("a.png"),
+                "status", s("DRAFT"));
+        Map<String, AttributeValue> updated = Map.of("courseId", s("c1"), "title", s("Kotlin"), "status", s("DRAFT"),
+                "points", n("5"));
+
+        // When
+        ItemChanges changes = ItemChanges.between(current, updated, Set.of("courseId"));
+
+        // Then
+        assertThat(resolve(changes)).matches("SET (title = Kotlin, points = 5|points = 5, title = Kotlin) REMOVE imageUrl");
+        assertThat(changes.size()).isEqualTo(3);
+        assertThat(changes.expressionAttributeNames()).doesNotContainValue("courseId").doesNotContainValue("status");
+    }
+
+    @Test
+    void shouldDescendIntoMapsAndListsOfTheSameLength() {
+        // Given
+        Map<String, AttributeValue> current = Map.of("sections", l(
+                m(Map.of("title", s("Intro"), "lessons", l(m(Map.of("title", s("Setup"), "duration", n("5")))))),
+                m(Map.of("title", s("Basics"), "notes", s("draft")))));
+        Map<String, AttributeValue> updated = Map.of("sections", l(
+                m(Map.of("title", s("Intro"), "lessons", l(m(Map.of("title", s("Setup"), "duration", n("7")))))),
+                m(Map.of("title", s("Basics")))));
+
+        // When
+        ItemChanges changes = ItemChanges.between(current, updated, Set.of());
+
+        // Then
+        assertThat(resolve(changes)).isEqualTo("SET sections[0].lessons[0].duration = 7 REMOVE sections[1].notes");
+    }
+
+    @Test
+    void shouldSetListsWholeWhenTheirLengthChanged() {
+        // Given
+        Map<String, AttributeValue> current = Map.of("tags", l(s("java")));
+        Map<String, AttributeValue> updated = Map.of("tags", l(s("java"), s("spring")));
+
+        // When
+        ItemChanges changes = ItemChanges.between(current, updated, Set.of());
+
+        // Then
+        assertThat(resolve(changes)).isEqualTo("SET tags = [java, spring]");
+    }
+
+    @Test
+    void shouldFallBackToWholeAttributesWhenTheExpressionGetsTooLong() {
+        // Given
+        List<AttributeValue> before = new ArrayList<>();
+        List<AttributeValue> after = new ArrayList<>();
+        for (int i = 0; i < 400; i++) {
+            before.add(m(Map.of("title", s("Lesson " + i))));
+            after.add(m(Map.of("title", s("Lesson " + i + " (updated)"))));
+        }
+
+        // When
+        ItemChanges changes = ItemChanges.between(Map.of("lessons", l(before)), Map.of("lessons", l(after)), Set.of());
+
+        // Then
+        assertThat(changes.updateExpression().length()).isLessThanOrEqualTo(ItemChanges.MAX_EXPRESSION_LENGTH);
+        assertThat(changes.size()).isEqualTo(1);
+        assertThat(resolve(changes)).startsWith("SET lessons = [");
+    }
+
+    @Test
+    void shouldShareNamePlaceholdersWithConditions() {
+        // Given
+        ItemChanges changes = ItemChanges.between(Map.of("version", n("1")), Map.of("version", n("2")),
+                Set.of("version"));
+
+        // When
+        changes.set("version", n("2"));
+        String condition = changes.name("version") + " = " + changes.value(n("1"));
+
+        // Then
+        assertThat(changes.expressionAttributeNames()).hasSize(1);
+        assertThat(resolve(changes) + " IF " + resolve(condition, changes)).isEqualTo("SET version = 2 IF version = 1");
+    }
+
+    private static String resolve(ItemChanges changes) {
+        return resolve(changes.updateExpression(), changes);
+    }
+
+    private static String resolve(String expression, ItemChanges changes) {
+        String resolved = expression;
+        // Longest placeholders first, so that #n1 does not clobber #n10
+        List<String> names = new ArrayList<>(changes.expressionAttributeNames().keySet());
+        names.sort((a, b) -> b.length() - a.length());
+        for (String name : names) {
+            resolved = resolved.replace(name, changes.expressionAttributeNames().get(name));
+        }
+        List<String> values = new ArrayList<>(changes.expressionAttributeValues().keySet());
+        values.sort((a, b) -> b.length() - a.length());
+        for (String value : values) {
+            resolved = resolved.replace(value, text(changes.expressionAttributeValues().get(value)));
+        }
+        return resolved;
+    }
+
+    private static String text(AttributeValue value) {
+        if (value.hasL()) {
+            List<String> elements = new ArrayList<>();
+            value.l().forEach(element -> elements.add(text(element)));
+            return elements.toString();
+        }
+        if (value.hasM()) {
+            Map<String, String> entries = new HashMap<>();
+            value.m().forEach((key, element) -> entries.put(key, text(element)));
+            return entries.toString();
+        }
+        return value.s() != null ? value.s() : value.n();
+    }
+
+    private static AttributeValue s(String value) {
+        return AttributeValue.builder().s(value).build();
+    }
+
+    private static AttributeValue n(String value) {
+        return AttributeValue.builder().n(value).build();
+    }
+
+    private static AttributeValue l(AttributeValue... values) {
+        return AttributeValue.builder().l(values).build();
+    }
+
+    private static AttributeValue l(List<AttributeValue> values) {
+        return AttributeValue.builder().l(values).build();
+    }
+
+    private static AttributeValue m(Map<String, AttributeValue> values) {
+        return AttributeValue.builder().m(values).build();
+    }
+}
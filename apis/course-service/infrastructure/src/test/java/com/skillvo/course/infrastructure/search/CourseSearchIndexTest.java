@@ -0,0 +1,301 @@
+package com.skillvo.course.infrastructure.search;
+
+import com.skillvo.course.domain.model.aggregates.Course;
+import com.skillvo.course.domain.model.events.CourseCreated;
+import com.skillvo.course.domain.model.events.CoursePublished;
+import com.skillvo.course.domain.repository.CourseRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CourseSearchIndexTest {
+
+    private static final String TENANT = "tenant-1";
+
+    @Mock
+    private CourseRepository courseRepository;
+
+    @TempDir
+    Path directory;
+
+    private CourseSearchIndex searchIndex;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        searchIndex = openIndex(100, 8);
+    }
+
+    @AfterEach
+    void tearDown() {
+        searchIndex.flush();
+    }
+
+    @Test
+    void shouldRankTitleMatchesAboveDescriptionMatches() {
+        // Given
+        UUID inDescription = index(TENANT, "Backend Basics", "Covers kubernetes deployments in passing");
+        UUID inTitle = index(TENANT, "Kubernetes in Production", "Running clusters");
+        index(TENANT, "Cooking", "Pasta and sauces");
+
+        // When
+        List<SearchHit> hits = searchIndex.search(TENANT, "kubernetes", 10);
+
+        // Then
+        assertThat(courseIds(hits)).containsExactly(inTitle, inDescription);
+        assertThat(hits.get(0).getScore()).isGreaterThan(hits.get(1).getScore());
+    }
+
+    @Test
+    void shouldRankCoursesMatchingMoreTermsFirstAndHonourTheLimit() {
+        // Given
+        UUID both = index(TENANT, "Java Streams", "Functional pipelines");
+        index(TENANT, "Java Basics", "Variables and loops");
+        index(TENANT, "Reactive Streams", "Backpressure");
+
+        // When
+        List<SearchHit> hits = searchIndex.search(TENANT, "java stream", 2);
+
+        // Then
+        assertThat(hits).hasSize(2);
+        assertThat(hits.get(0).getCourseId()).isEqualTo(both);
+    }
+
+    @Test
+    void shouldMatchStemmedTagsTopicAndAuthors() {
+        // Given
+        UUID courseId = UUID.randomUUID();
+        searchIndex.index(SearchDocument.builder()
+                .courseId(courseId)
+                .tenantId(TENANT)
+                .title("Untitled")
+                .tags(List.of("microservices"))
+                .topicCode("CLOUD")
+                .authors(List.of("Ada Lovelace"))
+                .build());
+
+        // When / Then
+        assertThat(courseIds(searchIndex.search(TENANT, "microservice", 10))).containsExactly(courseId);
+        assertThat(courseIds(searchIndex.search(TENANT, "cloud", 10))).containsExactly(courseId);
+        assertThat(courseIds(searchIndex.search(TENANT, "lovelace", 10))).containsExactly(courseId);
+        assertThat(searchIndex.search(TENANT, "the of and", 10)).isEmpty();
+    }
+
+    @Test
+    void shouldKeepTenantsApart() {
+        // Given
+        UUID own = index(TENANT, "Docker Fundamentals", "Containers");
+        index("tenant-2", "Docker Deep Dive", "Containers");
+
+        // When / Then
+        assertThat(courseIds(searchIndex.search(TENANT, "docker", 10))).containsExactly(own);
+        assertThat(searchIndex.search("tenant-3", "docker", 10)).isEmpty();
+    }
+
+    @Test
+    void shouldReplaceTheEarlierDocumentOfACourse() {
+        // Given
+        UUID courseId = index(TENANT, "Python for Beginners", "Start here");
+        searchIndex.flush();
+        index(courseId, TENANT, "Rust for Beginners", "Start here");
+
+        // When / Then
+        assertThat(searchIndex.search(TENANT, "python", 10)).isEmpty();
+        assertThat(courseIds(searchIndex.search(TENANT, "rust", 10))).containsExactly(courseId);
+        assertThat(courseIds(searchIndex.search(TENANT, "beginner", 10))).containsExactly(courseId);
+    }
+
+    @Test
+    void shouldRemoveCourses() throws IOException {
+        // Given
+        UUID removed = index(TENANT, "Go Concurrency", "Goroutines");
+        UUID kept = index(TENANT, "Go Testing", "Table tests");
+        searchIndex.flush();
+
+        // When
+        searchIndex.remove(TENANT, removed);
+        searchIndex.remove(TENANT, UUID.randomUUID());
+        searchIndex.remove("tenant-3", removed);
+
+        // Then
+        assertThat(courseIds(searchIndex.search(TENANT, "go", 10))).containsExactly(kept);
+        searchIndex.flush();
+        assertThat(courseIds(openIndex(100, 8).search(TENANT, "go", 10))).containsExactly(kept);
+    }
+
+    @Test
+    void shouldServeFlushedSegmentsAfterReopening() throws IOException {
+        // Given
+        UUID first = index(TENANT, "Terraform Modules", "Infrastructure as code");
+        UUID second = index("tenant/with:odd chars", "Terraform State", "Backends");
+        searchIndex.flush();
+
+        // When
+        CourseSearchIndex reopened = openIndex(100, 8);
+
+        // Then
+        assertThat(courseIds(reopened.search(TENANT, "terraform", 10))).containsExactly(first);
+        assertThat(courseIds(reopened.search("tenant/with:odd chars", "terraform", 10))).containsExactly(second);
+    }
+
+    @Test
+    void shouldMergeSegmentsOnceThereAreTooMany() throws IOException {
+        // Given
+        searchIndex = openIndex(1, 2);
+        UUID updated = index(TENANT, "Kafka Streams", "Old text");
+        UUID removed = index(TENANT, "Kafka Connect", "Connectors");
+        UUID kept = index(TENANT, "Kafka Basics", "Topics");
+        index(updated, TENANT, "Kafka Streams", "New text");
+        searchIndex.remove(TENANT, removed);
+
+        // When
+        searchIndex.flush();
+
+        // Then
+        Path tenantDirectory;
+        try (Stream<Path> tenants = Files.list(directory)) {
+            tenantDirectory = tenants.findFirst().orElseThrow();
+        }
+        try (Stream<Path> files = Files.list(tenantDirectory)) {
+            assertThat(files.count()).isLessThanOrEqualTo(2);
+        }
+        assertThat(courseIds(searchIndex.search(TENANT, "kafka", 10))).containsExactlyInAnyOrder(updated, kept);
+        assertThat(courseIds(searchIndex.search(TENANT, "new", 10))).containsExactly(updated);
+        assertThat(searchIndex.search(TENANT, "old", 10)).isEmpty();
+        assertThat(courseIds(openIndex(1, 2).search(TENANT, "kafka", 10))).containsExactlyInAnyOrder(updated, kept);
+    }
+
+    @Test
+    void shouldIndexCoursesFromEvents() {
+        // Given
+        UUID created = UUID.randomUUID();
+        UUID published = UUID.randomUUID();
+
+        // When
+        searchIndex.on(new CourseCreated(created, TENANT, "GraphQL APIs", "Schemas", "WEB", "BEGINNER",
+                "SELF_PACED", List.of("Grace Hopper"), List.of("graphql")));
+        searchIndex.on(new CoursePublished(published, TENANT, "REST APIs", "Resources", "WEB", "BEGINNER",
+                "SELF_PACED", List.of(), List.of("rest")));
+
+        // Then
+        assertThat(courseIds(searchIndex.search(TENANT, "graphql", 10))).containsExactly(created);
+        assertThat(courseIds(searchIndex.search(TENANT, "api", 10))).containsExactlyInAnyOrder(created, published);
+    }
+
+    @Test
+    void shouldRebuildFromTheRepository() throws IOException {
+        // Given
+        UUID courseId = UUID.randomUUID();
+        Course course = new Course();
+        course.setCourseId(courseId);
+        course.setTenantId(TENANT);
+        course.setTitle("Spring Boot Essentials");
+        when(courseRepository.parallelScan(any())).thenReturn(Stream.of(course));
+
+        // When
+        long indexed = searchIndex.rebuild();
+
+        // Then
+        assertThat(indexed).isEqualTo(1);
+        assertThat(courseIds(searchIndex.search(TENANT, "spring", 10))).containsExactly(courseId);
+        assertThat(courseIds(openIndex(100, 8).search(TENANT, "essential", 10))).containsExactly(courseId);
+    }
+
+    @Test
+    void shouldRefreshTenantFromTheRepositoryBeforeSearching() throws IOException {
+        // Given
+        searchIndex = openIndex(100, 8, 3600);
+        Course written = course("Elixir Basics");
+        when(courseRepository.stream(any())).thenReturn(Stream.of(written));
+
+        // When
+        List<SearchHit> first = searchIndex.search(TENANT, "elixir", 10);
+        List<SearchHit> second = searchIndex.search(TENANT, "elixir", 10);
+
+        // Then
+        assertThat(courseIds(first)).containsExactly(written.getCourseId());
+        assertThat(courseIds(second)).containsExactly(written.getCourseId());
+        verify(courseRepository, times(1)).stream(any());
+    }
+
+    @Test
+    void shouldPickUpChangedAndDeletedCoursesOnRefresh() throws IOException {
+        // Given
+        searchIndex = openIndex(100, 8, 3600);
+        Course renamed = course("Scala Basics");
+        Course deleted = course("Scala Actors");
+        Course unchanged = course("Scala Types");
+        when(courseRepository.stream(any())).thenReturn(Stream.of(renamed, deleted, unchanged));
+        searchIndex.search(TENANT, "scala", 10);
+        Course renamedLater = course(renamed.getCourseId(), "Kotlin Basics");
+        when(courseRepository.stream(any())).thenAnswer(invocation -> Stream.of(renamedLater, unchanged));
+
+        // When
+        searchIndex.markStale();
+        List<SearchHit> hits = searchIndex.search(TENANT, "scala", 10);
+
+        // Then
+        assertThat(courseIds(hits)).containsExactly(unchanged.getCourseId());
+        assertThat(courseIds(searchIndex.search(TENANT, "kotlin", 10))).containsExactly(renamed.getCourseId());
+        assertThat(searchIndex.refresh(TENANT)).isZero();
+    }
+
+    private Course course(String title) {
+        return course(UUID.randomUUID(), title);
+    }
+
+    private Course course(UUID courseId, String title) {
+        Course course = new Course();
+        course.setCourseId(courseId);
+        course.setTenantId(TENANT);
+        course.setTitle(title);
+        return course;
+    }
+
+    private CourseSearchIndex openIndex(int flushThreshold, int maxSegments) throws IOException {
+        return openIndex(flushThreshold, maxSegments, 0);
+    }
+
+    private CourseSearchIndex openIndex(int flushThreshold, int maxSegments, long refreshIntervalSeconds) throws IOException {
+        CourseSearchIndex index = new CourseSearchIndex(courseRepository, directory.toString(),
+                flushThreshold, maxSegments, false, refreshIntervalSeconds);
+        index.open();
+        return index;
+    }
+
+    private UUID index(String tenantId, String title, String description) {
+        return index(UUID.randomUUID(), tenantId, title, description);
+    }
+
+    private UUID index(UUID courseId, String tenantId, String title, String description) {
+        searchIndex.index(SearchDocument.builder()
+                .courseId(courseId)
+                .tenantId(tenantId)
+                .title(title)
+                .description(description)
+                .build());
+        return courseId;
+    }
+
+    private static List<UUID> courseIds(List<SearchHit> hits) {
+        return hits.stream().map(SearchHit::getCourseId).collect(Collectors.toList());
+    }
+}
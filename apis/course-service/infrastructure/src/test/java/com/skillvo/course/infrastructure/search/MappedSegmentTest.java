@@ -0,0 +1,62 @@
+package com.skillvo.course.infrastructure.search;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MappedSegmentTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void shouldReadBackWhatWasWritten() throws IOException {
+        // Given
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        UUID removed = UUID.randomUUID();
+        MemorySegment memory = new MemorySegment();
+        memory.add(first, Map.of("java", 6, "stream", 2, "\u00e9", 2), 10);
+        memory.add(second, Map.of("java", 300, "kafka", 4), 304);
+        memory.addTombstone(removed);
+        Path file = directory.resolve("segment-1.csi");
+
+        // When
+        SegmentWriter.write(memory, file);
+        MappedSegment segment = MappedSegment.open(file);
+
+        // Then
+        assertThat(segment.docCount()).isEqualTo(3);
+        assertThat(segment.courseId(1)).isEqualTo(second);
+        assertThat(segment.docLength(0)).isEqualTo(10);
+        assertThat(segment.docLength(2)).isEqualTo(Segment.TOMBSTONE);
+        assertThat(segment.docFreq("java")).isEqualTo(2);
+        assertThat(segment.docFreq("\u00e9")).isEqualTo(1);
+        assertThat(segment.docFreq("python")).isZero();
+        assertThat(segment.terms()).containsExactly("java", "kafka", "stream", "\u00e9");
+
+        List<int[]> postings = new ArrayList<>();
+        segment.postings("java", (doc, weight) -> postings.add(new int[]{doc, weight}));
+        assertThat(postings).containsExactly(new int[]{0, 6}, new int[]{1, 300});
+        assertThat(Files.list(directory)).containsExactly(file);
+    }
+
+    @Test
+    void shouldRejectFilesThatAreNotSegments() throws IOException {
+        // Given
+        Path file = Files.write(directory.resolve("segment-2.csi"), new byte[]{1, 2, 3});
+
+        // When / Then
+        assertThatThrownBy(() -> MappedSegment.open(file)).isInstanceOf(IOException.class);
+    }
+}
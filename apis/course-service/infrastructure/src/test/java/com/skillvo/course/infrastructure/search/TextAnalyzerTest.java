@@ -0,0 +1,40 @@
+package com.skillvo.course.infrastructure.search;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TextAnalyzerTest {
+
+    private final TextAnalyzer analyzer = new TextAnalyzer();
+
+    @Test
+    void shouldLowerCaseSplitAndDropStopWords() {
+        // When / Then
+        assertThat(analyzer.analyze("The Art of Java-8 Streams, in Practice!"))
+                .containsExactly("art", "java", "8", "stream", "practic");
+    }
+
+    @Test
+    void shouldKeepPlusAndHashSuffixes() {
+        // When / Then
+        assertThat(analyzer.analyze("C++ vs C# vs C")).containsExactly("c++", "vs", "c#", "vs", "c");
+        assertThat(analyzer.analyze("a+b")).containsExactly("a+", "b");
+    }
+
+    @Test
+    void shouldStemInflectionsToTheSameTerm() {
+        // When / Then
+        assertThat(analyzer.analyze("programming programs program")).containsOnly("program");
+        assertThat(analyzer.analyze("caresses ponies relational generalization hopefulness agreed"))
+                .containsExactly("caress", "poni", "relat", "gener", "hope", "agre");
+        assertThat(analyzer.analyze("hopping filing falling motoring")).containsExactly("hop", "file", "fall", "motor");
+    }
+
+    @Test
+    void shouldReturnNoTermsForBlankText() {
+        // When / Then
+        assertThat(analyzer.analyze(null)).isEmpty();
+        assertThat(analyzer.analyze("  -- ")).isEmpty();
+    }
+}
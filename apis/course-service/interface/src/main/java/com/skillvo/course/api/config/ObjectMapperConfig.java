@@ -3,14 +3,20 @@ package com.skillvo.course.api.config;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.module.SimpleModule;
 import com.fasterxml.jackson.databind.JsonDeserializer;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.skillvo.course.domain.model.enums.Language;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
 import java.io.IOException;
 
+@Configuration
 public class ObjectMapperConfig {
     public static ObjectMapper createObjectMapper() {
         ObjectMapper objectMapper = new ObjectMapper();
@@ -36,7 +42,29 @@ public class ObjectMapperConfig {
             }
         });
         objectMapper.registerModule(module);
+        objectMapper.registerModule(new JavaTimeModule());
+        objectMapper.configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false);
         
         return objectMapper;
     }
+
+    /**
+     * The mapper shared by every handler in the process. Serializers are cached per mapper, so
+     * sharing one keeps the work done while priming for all handlers.
+     */
+    public static ObjectMapper sharedObjectMapper() {
+        return SharedHolder.INSTANCE;
+    }
+
+    /**
+     * Hands the shared mapper to the Spring context, for the domain event publisher and outbox.
+     */
+    @Bean
+    public ObjectMapper objectMapper() {
+        return sharedObjectMapper();
+    }
+
+    private static final class SharedHolder {
+        private static final ObjectMapper INSTANCE = createObjectMapper();
+    }
 } 
\ No newline at end of file
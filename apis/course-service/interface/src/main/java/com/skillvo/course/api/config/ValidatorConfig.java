@@ -0,0 +1,21 @@
+package com.skillvo.course.api.config;
+
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+
+public class ValidatorConfig {
+
+    /**
+     * The validator shared by every handler in the process. Constraint metadata is cached per
+     * factory, so the factory is built once and stays open for the life of the process.
+     */
+    public static Validator sharedValidator() {
+        return SharedHolder.VALIDATOR;
+    }
+
+    private static final class SharedHolder {
+        private static final ValidatorFactory FACTORY = Validation.buildDefaultValidatorFactory();
+        private static final Validator VALIDATOR = FACTORY.getValidator();
+    }
+}
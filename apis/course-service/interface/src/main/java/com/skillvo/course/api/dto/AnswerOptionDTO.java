@@ -0,0 +1,13 @@
+package com.skillvo.course.api.dto;
+
+import lombok.Builder;
+import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
+
+@Value
+@Builder
+@Jacksonized
+public class AnswerOptionDTO {
+    String answer;
+    boolean correct;
+}
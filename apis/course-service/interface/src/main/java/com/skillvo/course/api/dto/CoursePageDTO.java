@@ -0,0 +1,13 @@
+package com.skillvo.course.api.dto;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.List;
+
+@Value
+@Builder
+public class CoursePageDTO {
+    List<CourseDTO> items;
+    String nextPageToken;
+}
@@ -0,0 +1,20 @@
+package com.skillvo.course.api.dto;
+
+import com.skillvo.course.domain.model.enums.*;
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.UUID;
+
+@Value
+@Builder
+public class CourseSummaryDTO {
+    UUID courseId;
+    String title;
+    String imageUrl;
+    Level level;
+    Integer duration;
+    Status status;
+    PricingModel pricingModel;
+    PrizeDTO prize;
+}
@@ -1,10 +1,15 @@
 package com.skillvo.course.api.dto;
 
+import com.skillvo.course.domain.model.enums.ContentType;
 import lombok.Builder;
 import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
+
+import java.util.List;
 
 @Value
 @Builder
+@Jacksonized
 public class LessonDTO {
     String id;
     String title;
@@ -14,4 +19,8 @@ public class LessonDTO {
     Integer duration;
     String videoUrl;
     String thumbnailUrl;
+    ContentType contentType;
+    String pdfUrl;
+    List<QuizItemDTO> quizItems;
+    boolean mandatory;
 } 
\ No newline at end of file
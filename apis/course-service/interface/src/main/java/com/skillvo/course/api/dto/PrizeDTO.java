@@ -3,9 +3,11 @@ package com.skillvo.course.api.dto;
 import com.skillvo.course.domain.model.enums.Currency;
 import lombok.Builder;
 import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
 
 @Value
 @Builder
+@Jacksonized
 public class PrizeDTO {
     double amount;
     Currency currency;
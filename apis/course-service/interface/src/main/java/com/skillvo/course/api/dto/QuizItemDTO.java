@@ -0,0 +1,17 @@
+package com.skillvo.course.api.dto;
+
+import com.skillvo.course.domain.model.enums.AnswerChoice;
+import lombok.Builder;
+import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
+
+import java.util.List;
+
+@Value
+@Builder
+@Jacksonized
+public class QuizItemDTO {
+    String question;
+    AnswerChoice answerChoice;
+    List<AnswerOptionDTO> options;
+}
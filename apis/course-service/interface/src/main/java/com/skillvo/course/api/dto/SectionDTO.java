@@ -2,12 +2,14 @@ package com.skillvo.course.api.dto;
 
 import lombok.Builder;
 import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
 
 import java.util.List;
 import java.util.UUID;
 
 @Value
 @Builder
+@Jacksonized
 public class SectionDTO {
     UUID sectionId;
     String title;
@@ -2,6 +2,7 @@ package com.skillvo.course.api.dto.request;
 
 import com.skillvo.course.domain.model.enums.Level;
 import com.skillvo.course.domain.model.enums.Status;
+import com.skillvo.course.domain.repository.TagMatch;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -18,7 +19,9 @@ public class CourseFilterRequest {
     Status status;
     Level level;
     List<String> tags;
+    TagMatch tagMatch;
     Integer limit;
     Integer offset;
     boolean inMarketplace;
+    String pageToken;
 } 
\ No newline at end of file
@@ -7,14 +7,20 @@ import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyResponseEvent
 import com.fasterxml.jackson.core.JsonParseException;
 import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.skillvo.common.http.CborWriter;
+import com.skillvo.common.http.ResponseEncoding;
 import com.skillvo.course.application.exception.CourseNotFoundException;
+import com.skillvo.course.domain.model.exception.CourseVersionConflictException;
 import com.skillvo.course.api.config.ObjectMapperConfig;
+import com.skillvo.course.api.config.ValidatorConfig;
+import com.skillvo.course.infrastructure.metrics.Stage;
+import com.skillvo.course.infrastructure.metrics.StageMetrics;
 import jakarta.validation.ConstraintViolation;
-import jakarta.validation.Validation;
 import jakarta.validation.Validator;
-import jakarta.validation.ValidatorFactory;
 import lombok.extern.slf4j.Slf4j;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
@@ -24,22 +30,49 @@ import java.util.stream.Collectors;
 public abstract class BaseLambdaHandler implements RequestHandler<APIGatewayProxyRequestEvent, APIGatewayProxyResponseEvent> {
     protected final ObjectMapper objectMapper;
     protected final Validator validator;
+    protected final StageMetrics metrics;
+    private final ThreadLocal<Map<String, String>> requestHeaders = new ThreadLocal<>();
 
     protected BaseLambdaHandler() {
-        this.objectMapper = ObjectMapperConfig.createObjectMapper();
-        try (ValidatorFactory factory = Validation.buildDefaultValidatorFactory()) {
-            this.validator = factory.getValidator();
-        }
+        this.objectMapper = ObjectMapperConfig.sharedObjectMapper();
+        this.validator = ValidatorConfig.sharedValidator();
+        this.metrics = StageMetrics.shared();
     }
 
+    /**
+     * Times the invocation as the {@link Stage#REQUEST} stage, counting 5xx responses as errors,
+     * and flushes the stage metrics before the response goes back, as Lambda may freeze the
+     * process right after.
+     */
     @Override
     public APIGatewayProxyResponseEvent handleRequest(APIGatewayProxyRequestEvent input, Context context) {
+        long start = metrics.start();
+        APIGatewayProxyResponseEvent response = null;
+        try {
+            response = handle(input, context);
+            return response;
+        } finally {
+            if (response != null && response.getStatusCode() != null && response.getStatusCode() < 500) {
+                metrics.stop(Stage.REQUEST, start);
+            } else {
+                metrics.fail(Stage.REQUEST, start);
+            }
+            metrics.flushIfDue();
+        }
+    }
+
+    private APIGatewayProxyResponseEvent handle(APIGatewayProxyRequestEvent input, Context context) {
         try {
             log.debug("Processing request for path: {}, method: {}", input.getPath(), input.getHttpMethod());
+            requestHeaders.set(input.getHeaders());
+            decodeBody(input);
             return processRequest(input, context);
         } catch (CourseNotFoundException e) {
             log.warn("Course not found: {}", e.getMessage());
             return createErrorResponse(404, e.getMessage());
+        } catch (CourseVersionConflictException e) {
+            log.warn("Version conflict: {}", e.getMessage());
+            return createErrorResponse(409, e.getMessage());
         } catch (ValidationException | IllegalArgumentException e) {
             log.warn("Validation error: {}", e.getMessage());
             return createErrorResponse(400, e.getMessage());
@@ -52,6 +85,19 @@ public abstract class BaseLambdaHandler implements RequestHandler<APIGatewayProx
         } catch (Exception e) {
             log.error("Unexpected error processing request", e);
             return createErrorResponse(500, "Internal server error");
+        } finally {
+            requestHeaders.remove();
+        }
+    }
+
+    /**
+     * API Gateway treats every media type as binary so that compressed and CBOR responses reach
+     * clients as bytes, which means request bodies arrive base64-encoded too.
+     */
+    private static void decodeBody(APIGatewayProxyRequestEvent input) {
+        if (Boolean.TRUE.equals(input.getIsBase64Encoded()) && input.getBody() != null) {
+            input.setBody(new String(Base64.getDecoder().decode(input.getBody()), StandardCharsets.UTF_8));
+            input.setIsBase64Encoded(false);
         }
     }
 
@@ -61,22 +107,33 @@ public abstract class BaseLambdaHandler implements RequestHandler<APIGatewayProx
         if (body == null || body.trim().isEmpty()) {
             throw new ValidationException("Request body is required");
         }
+        long start = metrics.start();
+        T request;
         try {
-            T request = objectMapper.readValue(body, clazz);
-            validateRequest(request);
-            return request;
+            request = objectMapper.readValue(body, clazz);
         } catch (JsonParseException | JsonMappingException e) {
+            metrics.fail(Stage.PARSE, start);
             log.error("Error parsing request body: {}", e.getMessage());
             throw e;
+        } catch (Exception e) {
+            metrics.fail(Stage.PARSE, start);
+            throw e;
         }
+        metrics.stop(Stage.PARSE, start);
+        validateRequest(request);
+        return request;
     }
 
-    private <T> void validateRequest(T request) {
+    protected <T> void validateRequest(T request) {
         if (request == null) {
             throw new ValidationException("Request body is required");
         }
+        long start = metrics.start();
         Set<ConstraintViolation<T>> violations = validator.validate(request);
-        if (!violations.isEmpty()) {
+        if (violations.isEmpty()) {
+            metrics.stop(Stage.VALIDATE, start);
+        } else {
+            metrics.fail(Stage.VALIDATE, start);
             String errorMessage = violations.stream()
                     .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
                     .collect(Collectors.joining(", "));
@@ -92,15 +149,81 @@ public abstract class BaseLambdaHandler implements RequestHandler<APIGatewayProx
             response.setStatusCode(204);
             return response;
         }
+        long start = metrics.start();
         try {
-            response.setBody(objectMapper.writeValueAsString(body));
+            writeBody(response, body);
         } catch (Exception e) {
+            metrics.fail(Stage.SERIALIZE, start);
             log.error("Error serializing response", e);
             return createErrorResponse(500, "Internal server error");
         }
+        metrics.stop(Stage.SERIALIZE, start);
         return response;
     }
 
+    /**
+     * Writes the body in the encoding the request negotiated; see {@link ResponseEncoding}.
+     * Binary bodies are base64-encoded, as API Gateway expects from Lambda proxy integrations.
+     */
+    private void writeBody(APIGatewayProxyResponseEvent response, Object body) throws Exception {
+        Map<String, String> headers = requestHeaders.get();
+        Map<String, String> responseHeaders = response.getHeaders();
+        responseHeaders.put("Vary", "Accept, Accept-Encoding");
+        boolean cbor = ResponseEncoding.prefersCbor(ResponseEncoding.header(headers, "Accept"));
+        byte[] bytes;
+        if (cbor) {
+            bytes = CborWriter.write(objectMapper.valueToTree(body));
+            responseHeaders.put("Content-Type", ResponseEncoding.CBOR);
+        } else {
+            bytes = objectMapper.writeValueAsBytes(body);
+        }
+        if (bytes.length >= ResponseEncoding.MIN_COMPRESSED_SIZE
+                && ResponseEncoding.acceptsGzip(ResponseEncoding.header(headers, "Accept-Encoding"))) {
+            bytes = ResponseEncoding.gzip(bytes);
+            responseHeaders.put("Content-Encoding", ResponseEncoding.GZIP);
+        } else if (!cbor) {
+            response.setBody(new String(bytes, StandardCharsets.UTF_8));
+            return;
+        }
+        response.setBody(Base64.getEncoder().encodeToString(bytes));
+        response.setIsBase64Encoded(true);
+    }
+
+    /**
+     * A 304 carrying the validator the client already holds, and no body.
+     */
+    protected APIGatewayProxyResponseEvent createNotModifiedResponse(String etag) {
+        APIGatewayProxyResponseEvent response = new APIGatewayProxyResponseEvent();
+        response.setStatusCode(304);
+        Map<String, String> headers = createHeaders();
+        headers.put("ETag", etag);
+        headers.put("Vary", "Accept, Accept-Encoding");
+        response.setHeaders(headers);
+        return response;
+    }
+
+    /**
+     * Whether an If-None-Match header names the entity tag, compared weakly as RFC 9110 asks for
+     * If-None-Match, so a tag matches with or without its {@code W/} prefix.
+     */
+    protected static boolean matchesETag(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        String opaque = opaqueTag(etag);
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*") || opaqueTag(tag).equals(opaque)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String opaqueTag(String etag) {
+        return etag.startsWith("W/") ? etag.substring(2) : etag;
+    }
+
     protected APIGatewayProxyResponseEvent createErrorResponse(int statusCode, String message) {
         APIGatewayProxyResponseEvent response = new APIGatewayProxyResponseEvent();
         response.setStatusCode(statusCode);
@@ -118,7 +241,7 @@ public abstract class BaseLambdaHandler implements RequestHandler<APIGatewayProx
 
     private Map<String, String> createHeaders() {
         Map<String, String> headers = new HashMap<>();
-        headers.put("Content-Type", "application/json");
+        headers.put("Content-Type", ResponseEncoding.JSON);
         return headers;
     }
 
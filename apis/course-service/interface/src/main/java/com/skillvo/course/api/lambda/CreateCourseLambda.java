@@ -5,6 +5,7 @@ import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyRequestEvent;
 import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyResponseEvent;
 import com.skillvo.course.api.dto.request.CreateCourseRequest;
 import com.skillvo.course.api.mapper.CourseRequestMapper;
+import com.skillvo.course.api.runtime.CourseRuntime;
 import com.skillvo.course.application.command.handler.CourseCommandHandler;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -18,6 +19,11 @@ public class CreateCourseLambda extends BaseLambdaHandler {
     private final CourseCommandHandler commandHandler;
     private final CourseRequestMapper requestMapper;
 
+    public CreateCourseLambda() {
+        this(CourseRuntime.get().getBean(CourseCommandHandler.class),
+                CourseRuntime.get().getBean(CourseRequestMapper.class));
+    }
+
     @Override
     protected APIGatewayProxyResponseEvent processRequest(APIGatewayProxyRequestEvent input, Context context) throws Exception {
         log.debug("Processing create course request, requestId: {}", MDC.get("requestId"));
@@ -3,6 +3,7 @@ package com.skillvo.course.api.lambda;
 import com.amazonaws.services.lambda.runtime.Context;
 import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyRequestEvent;
 import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyResponseEvent;
+import com.skillvo.course.api.runtime.CourseRuntime;
 import com.skillvo.course.application.command.DeleteCourseCommand;
 import com.skillvo.course.application.command.handler.CourseCommandHandler;
 import lombok.RequiredArgsConstructor;
@@ -13,6 +14,10 @@ import java.util.UUID;
 public class DeleteCourseLambda extends BaseLambdaHandler {
     private final CourseCommandHandler commandHandler;
 
+    public DeleteCourseLambda() {
+        this(CourseRuntime.get().getBean(CourseCommandHandler.class));
+    }
+
     @Override
     protected APIGatewayProxyResponseEvent processRequest(APIGatewayProxyRequestEvent input, Context context) throws Exception {
         String courseId = input.getPathParameters().get("courseId");
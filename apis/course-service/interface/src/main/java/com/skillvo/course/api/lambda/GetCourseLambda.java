@@ -3,26 +3,60 @@ package com.skillvo.course.api.lambda;
 import com.amazonaws.services.lambda.runtime.Context;
 import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyRequestEvent;
 import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyResponseEvent;
+import com.skillvo.common.http.ResponseEncoding;
 import com.skillvo.course.api.dto.CourseDTO;
 import com.skillvo.course.api.mapper.CourseDTOMapper;
+import com.skillvo.course.api.runtime.CourseRuntime;
 import com.skillvo.course.application.query.GetCourseQuery;
+import com.skillvo.course.application.query.GetCourseVersionQuery;
 import com.skillvo.course.application.query.handler.CourseQueryHandler;
 import lombok.RequiredArgsConstructor;
 
 import java.util.UUID;
 
+/**
+ * Returns a course with an ETag made of its ID and version, which changes on every update and
+ * publish. A request whose If-None-Match still names the current version is answered with 304
+ * after reading just the version, so clients polling a course transfer almost nothing.
+ */
 @RequiredArgsConstructor
 public class GetCourseLambda extends BaseLambdaHandler {
     private final CourseQueryHandler queryHandler;
     private final CourseDTOMapper dtoMapper;
 
+    public GetCourseLambda() {
+        this(CourseRuntime.get().getBean(CourseQueryHandler.class),
+                CourseRuntime.get().getBean(CourseDTOMapper.class));
+    }
+
     @Override
     protected APIGatewayProxyResponseEvent processRequest(APIGatewayProxyRequestEvent input, Context context) throws Exception {
-        String courseId = input.getPathParameters().get("courseId");
+        UUID courseId = UUID.fromString(input.getPathParameters().get("courseId"));
+        String ifNoneMatch = ResponseEncoding.header(input.getHeaders(), "If-None-Match");
+        if (ifNoneMatch != null) {
+            String etag = etag(courseId, queryHandler.handle(GetCourseVersionQuery.builder()
+                    .courseId(courseId)
+                    .build()));
+            if (matchesETag(ifNoneMatch, etag)) {
+                return createNotModifiedResponse(etag);
+            }
+        }
         GetCourseQuery query = GetCourseQuery.builder()
-                .courseId(UUID.fromString(courseId))
+                .courseId(courseId)
                 .build();
         CourseDTO course = dtoMapper.toApiCourseDTO(queryHandler.handle(query));
-        return createSuccessResponse(course);
+        APIGatewayProxyResponseEvent response = createSuccessResponse(course);
+        if (response.getStatusCode() == 200) {
+            response.getHeaders().put("ETag", etag(courseId, course.getVersion() != null ? course.getVersion() : 0));
+        }
+        return response;
+    }
+
+    /**
+     * Weak, because one version is served as JSON or CBOR, compressed or not, and a strong tag
+     * would have to differ between those.
+     */
+    static String etag(UUID courseId, int version) {
+        return "W/\"" + courseId + "-" + version + "\"";
     }
-} 
\ No newline at end of file
+}
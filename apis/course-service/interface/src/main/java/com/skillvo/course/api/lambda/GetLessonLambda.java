@@ -0,0 +1,34 @@
+package com.skillvo.course.api.lambda;
+
+import com.amazonaws.services.lambda.runtime.Context;
+import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyRequestEvent;
+import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyResponseEvent;
+import com.skillvo.course.api.dto.LessonDTO;
+import com.skillvo.course.api.mapper.CourseDTOMapper;
+import com.skillvo.course.api.runtime.CourseRuntime;
+import com.skillvo.course.application.query.GetLessonQuery;
+import com.skillvo.course.application.query.handler.CourseQueryHandler;
+import lombok.RequiredArgsConstructor;
+
+import java.util.UUID;
+
+@RequiredArgsConstructor
+public class GetLessonLambda extends BaseLambdaHandler {
+    private final CourseQueryHandler queryHandler;
+    private final CourseDTOMapper dtoMapper;
+
+    public GetLessonLambda() {
+        this(CourseRuntime.get().getBean(CourseQueryHandler.class),
+                CourseRuntime.get().getBean(CourseDTOMapper.class));
+    }
+
+    @Override
+    protected APIGatewayProxyResponseEvent processRequest(APIGatewayProxyRequestEvent input, Context context) throws Exception {
+        GetLessonQuery query = GetLessonQuery.builder()
+                .courseId(UUID.fromString(input.getPathParameters().get("courseId")))
+                .lessonId(UUID.fromString(input.getPathParameters().get("lessonId")))
+                .build();
+        LessonDTO lesson = dtoMapper.toApiLessonDTO(queryHandler.handle(query));
+        return createSuccessResponse(lesson);
+    }
+}
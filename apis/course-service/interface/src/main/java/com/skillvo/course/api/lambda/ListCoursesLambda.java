@@ -4,21 +4,37 @@ import com.amazonaws.services.lambda.runtime.Context;
 import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyRequestEvent;
 import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyResponseEvent;
 import com.skillvo.course.api.dto.CourseDTO;
+import com.skillvo.course.api.dto.CoursePageDTO;
+import com.skillvo.course.api.dto.CourseSummaryPageDTO;
 import com.skillvo.course.api.dto.request.CourseFilterRequest;
 import com.skillvo.course.api.mapper.CourseRequestMapper;
 import com.skillvo.course.api.mapper.CourseDTOMapper;
+import com.skillvo.course.api.runtime.CourseRuntime;
 import com.skillvo.course.application.query.handler.CourseQueryHandler;
+import com.skillvo.course.domain.repository.TagMatch;
 import lombok.RequiredArgsConstructor;
 
+import java.util.Arrays;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 @RequiredArgsConstructor
 public class ListCoursesLambda extends BaseLambdaHandler {
+    private static final String SUMMARY_VIEW = "summary";
+    private static final String CURSOR_PAGING = "cursor";
+
     private final CourseQueryHandler queryHandler;
     private final CourseRequestMapper requestMapper;
     private final CourseDTOMapper dtoMapper;
 
+    public ListCoursesLambda() {
+        this(CourseRuntime.get().getBean(CourseQueryHandler.class),
+                CourseRuntime.get().getBean(CourseRequestMapper.class),
+                CourseRuntime.get().getBean(CourseDTOMapper.class));
+    }
+
     @Override
     protected APIGatewayProxyResponseEvent processRequest(APIGatewayProxyRequestEvent input, Context context) throws Exception {
         Map<String, String> queryParams = input.getQueryStringParameters();
@@ -26,11 +42,63 @@ public class ListCoursesLambda extends BaseLambdaHandler {
             return createErrorResponse(400, "tenantId is required");
         }
 
+        TagMatch tagMatch;
+        try {
+            tagMatch = parseTagMatch(queryParams.get("tagMatch"));
+        } catch (IllegalArgumentException e) {
+            return createErrorResponse(400, "tagMatch must be one of: any, all");
+        }
+
         CourseFilterRequest request = CourseFilterRequest.builder()
                 .tenantId(queryParams.get("tenantId"))
                 .inMarketplace(Boolean.parseBoolean(queryParams.getOrDefault("inMarketplace", "false")))
+                .tags(parseTags(queryParams.get("tags")))
+                .tagMatch(tagMatch)
+                .limit(queryParams.containsKey("limit") ? Integer.valueOf(queryParams.get("limit")) : null)
+                .pageToken(queryParams.get("pageToken"))
                 .build();
+
+        // Catalog screens ask for view=summary: a page of summaries read with a projection
+        if (SUMMARY_VIEW.equals(queryParams.get("view"))) {
+            CourseSummaryPageDTO page = dtoMapper.toApiCourseSummaryPageDTO(
+                    queryHandler.handle(requestMapper.toSummaryQuery(request)));
+            return createSuccessResponse(page);
+        }
+
+        if (isCursorRequest(queryParams)) {
+            CoursePageDTO page = dtoMapper.toApiCoursePageDTO(queryHandler.handle(requestMapper.toPageQuery(request)));
+            return createSuccessResponse(page);
+        }
+
         List<CourseDTO> courses = dtoMapper.toApiCourseDTOList(queryHandler.handle(requestMapper.toQuery(request)));
         return createSuccessResponse(courses);
     }
-} 
\ No newline at end of file
+
+    /**
+     * The page response is opt-in: {@code paging=cursor}, a {@code pageToken} from an earlier page,
+     * or {@code tags}, which only the paged listing filters on. Anything else, {@code limit} alone
+     * included, keeps the plain list existing callers expect.
+     */
+    private static boolean isCursorRequest(Map<String, String> queryParams) {
+        return CURSOR_PAGING.equals(queryParams.get("paging"))
+                || queryParams.containsKey("pageToken")
+                || queryParams.containsKey("tags");
+    }
+
+    /**
+     * Tags come as one comma-separated parameter, e.g. {@code tags=java,spring}.
+     */
+    private static List<String> parseTags(String tags) {
+        if (tags == null || tags.isBlank()) {
+            return null;
+        }
+        return Arrays.stream(tags.split(","))
+                .map(String::trim)
+                .filter(tag -> !tag.isEmpty())
+                .collect(Collectors.toList());
+    }
+
+    private static TagMatch parseTagMatch(String tagMatch) {
+        return tagMatch == null ? null : TagMatch.valueOf(tagMatch.trim().toUpperCase(Locale.ROOT));
+    }
+}
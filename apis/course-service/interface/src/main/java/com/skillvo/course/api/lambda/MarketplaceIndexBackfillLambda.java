@@ -0,0 +1,27 @@
+package com.skillvo.course.api.lambda;
+
+import com.amazonaws.services.lambda.runtime.Context;
+import com.amazonaws.services.lambda.runtime.RequestHandler;
+import com.skillvo.course.api.runtime.CourseRuntime;
+import com.skillvo.course.infrastructure.persistence.DynamoDBCourseRepository;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * Entry point invoked by hand after MarketplaceIndex is created, to add its key to courses
+ * published before it. Returns the number of courses updated; running it again is harmless.
+ */
+@RequiredArgsConstructor
+public class MarketplaceIndexBackfillLambda implements RequestHandler<Map<String, Object>, Long> {
+    private final DynamoDBCourseRepository repository;
+
+    public MarketplaceIndexBackfillLambda() {
+        this(CourseRuntime.get().getBean(DynamoDBCourseRepository.class));
+    }
+
+    @Override
+    public Long handleRequest(Map<String, Object> input, Context context) {
+        return repository.backfillMarketplaceIndex();
+    }
+}
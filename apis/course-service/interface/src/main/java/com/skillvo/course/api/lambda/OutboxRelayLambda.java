@@ -0,0 +1,25 @@
+package com.skillvo.course.api.lambda;
+
+import com.amazonaws.services.lambda.runtime.Context;
+import com.amazonaws.services.lambda.runtime.RequestHandler;
+import com.amazonaws.services.lambda.runtime.events.ScheduledEvent;
+import com.skillvo.course.api.runtime.CourseRuntime;
+import com.skillvo.course.infrastructure.outbox.OutboxRelay;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Scheduled entry point that drains the course event outbox to SQS.
+ */
+@RequiredArgsConstructor
+public class OutboxRelayLambda implements RequestHandler<ScheduledEvent, Integer> {
+    private final OutboxRelay outboxRelay;
+
+    public OutboxRelayLambda() {
+        this(CourseRuntime.get().getBean(OutboxRelay.class));
+    }
+
+    @Override
+    public Integer handleRequest(ScheduledEvent input, Context context) {
+        return outboxRelay.drain();
+    }
+}
@@ -3,6 +3,7 @@ package com.skillvo.course.api.lambda;
 import com.amazonaws.services.lambda.runtime.Context;
 import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyRequestEvent;
 import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyResponseEvent;
+import com.skillvo.course.api.runtime.CourseRuntime;
 import com.skillvo.course.application.command.PublishCourseCommand;
 import com.skillvo.course.application.command.handler.CourseCommandHandler;
 import lombok.RequiredArgsConstructor;
@@ -17,6 +18,10 @@ import java.util.UUID;
 public class PublishCourseLambda extends BaseLambdaHandler {
     private final CourseCommandHandler commandHandler;
 
+    public PublishCourseLambda() {
+        this(CourseRuntime.get().getBean(CourseCommandHandler.class));
+    }
+
     @Override
     protected APIGatewayProxyResponseEvent processRequest(APIGatewayProxyRequestEvent input, Context context) throws Exception {
         log.debug("Processing publish course request");
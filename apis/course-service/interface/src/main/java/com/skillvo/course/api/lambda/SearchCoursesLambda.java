@@ -0,0 +1,45 @@
+package com.skillvo.course.api.lambda;
+
+import com.amazonaws.services.lambda.runtime.Context;
+import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyRequestEvent;
+import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyResponseEvent;
+import com.skillvo.course.api.dto.CourseDTO;
+import com.skillvo.course.api.mapper.CourseDTOMapper;
+import com.skillvo.course.api.runtime.CourseRuntime;
+import com.skillvo.course.application.query.SearchCoursesQuery;
+import com.skillvo.course.application.query.handler.CourseSearchHandler;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+@RequiredArgsConstructor
+public class SearchCoursesLambda extends BaseLambdaHandler {
+    private final CourseSearchHandler searchHandler;
+    private final CourseDTOMapper dtoMapper;
+
+    public SearchCoursesLambda() {
+        this(CourseRuntime.get().getBean(CourseSearchHandler.class),
+                CourseRuntime.get().getBean(CourseDTOMapper.class));
+    }
+
+    @Override
+    protected APIGatewayProxyResponseEvent processRequest(APIGatewayProxyRequestEvent input, Context context) throws Exception {
+        Map<String, String> queryParams = input.getQueryStringParameters();
+        if (queryParams == null || !queryParams.containsKey("tenantId")) {
+            return createErrorResponse(400, "tenantId is required");
+        }
+        String text = queryParams.get("q");
+        if (text == null || text.isBlank()) {
+            return createErrorResponse(400, "q is required");
+        }
+
+        SearchCoursesQuery query = SearchCoursesQuery.builder()
+                .tenantId(queryParams.get("tenantId"))
+                .text(text)
+                .limit(queryParams.containsKey("limit") ? Integer.valueOf(queryParams.get("limit")) : null)
+                .build();
+        List<CourseDTO> courses = dtoMapper.toApiCourseDTOList(searchHandler.handle(query));
+        return createSuccessResponse(courses);
+    }
+}
@@ -5,6 +5,7 @@ import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyRequestEvent;
 import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyResponseEvent;
 import com.skillvo.course.api.dto.request.UpdateCourseRequest;
 import com.skillvo.course.api.mapper.CourseRequestMapper;
+import com.skillvo.course.api.runtime.CourseRuntime;
 import com.skillvo.course.application.command.handler.CourseCommandHandler;
 import lombok.RequiredArgsConstructor;
 
@@ -16,6 +17,11 @@ public class UpdateCourseLambda extends BaseLambdaHandler {
     private final CourseCommandHandler commandHandler;
     private final CourseRequestMapper requestMapper;
 
+    public UpdateCourseLambda() {
+        this(CourseRuntime.get().getBean(CourseCommandHandler.class),
+                CourseRuntime.get().getBean(CourseRequestMapper.class));
+    }
+
     @Override
     protected APIGatewayProxyResponseEvent processRequest(APIGatewayProxyRequestEvent input, Context context) throws Exception {
         Map<String, String> pathParameters = input.getPathParameters();
@@ -42,7 +42,39 @@ public class CourseDTOMapper {
                 .collect(Collectors.toList());
     }
 
+    public com.skillvo.course.api.dto.CoursePageDTO toApiCoursePageDTO(com.skillvo.course.application.dto.CoursePageDTO dto) {
+        return com.skillvo.course.api.dto.CoursePageDTO.builder()
+                .items(toApiCourseDTOList(dto.getItems()))
+                .nextPageToken(dto.getNextPageToken())
+                .build();
+    }
+
+    public com.skillvo.course.api.dto.CourseSummaryPageDTO toApiCourseSummaryPageDTO(com.skillvo.course.application.dto.CourseSummaryPageDTO dto) {
+        return com.skillvo.course.api.dto.CourseSummaryPageDTO.builder()
+                .items(dto.getItems().stream()
+                        .map(this::toApiCourseSummaryDTO)
+                        .collect(Collectors.toList()))
+                .nextPageToken(dto.getNextPageToken())
+                .build();
+    }
+
+    public com.skillvo.course.api.dto.CourseSummaryDTO toApiCourseSummaryDTO(com.skillvo.course.application.dto.CourseSummaryDTO dto) {
+        return com.skillvo.course.api.dto.CourseSummaryDTO.builder()
+                .courseId(dto.getCourseId())
+                .title(dto.getTitle())
+                .imageUrl(dto.getImageUrl())
+                .level(dto.getLevel())
+                .duration(dto.getDuration())
+                .status(dto.getStatus())
+                .pricingModel(dto.getPricingModel())
+                .prize(toApiPrizeDTO(dto.getPrize()))
+                .build();
+    }
+
     private com.skillvo.course.api.dto.PrizeDTO toApiPrizeDTO(com.skillvo.course.application.dto.PrizeDTO dto) {
+        if (dto == null) {
+            return null;
+        }
         return com.skillvo.course.api.dto.PrizeDTO.builder()
                 .amount(dto.getPrize())
                 .currency(dto.getCurrency())
@@ -50,6 +82,9 @@ public class CourseDTOMapper {
     }
 
     private List<com.skillvo.course.api.dto.AuthorDTO> toApiAuthorDTOList(List<com.skillvo.course.application.dto.AuthorDTO> dtos) {
+        if (dtos == null) {
+            return null;
+        }
         return dtos.stream()
                 .map(this::toApiAuthorDTO)
                 .collect(Collectors.toList());
@@ -64,8 +99,11 @@ public class CourseDTOMapper {
     }
 
     private com.skillvo.course.api.dto.PublisherDTO toApiPublisherDTO(com.skillvo.course.application.dto.PublisherDTO dto) {
+        if (dto == null) {
+            return null;
+        }
         return com.skillvo.course.api.dto.PublisherDTO.builder()
-                .id(dto.getPublisherId().toString())
+                .id(dto.getPublisherId() == null ? null : dto.getPublisherId().toString())
                 .name(dto.getName())
                 .description(dto.getDescription())
                 .website(dto.getWebsite())
@@ -75,6 +113,9 @@ public class CourseDTOMapper {
     }
 
     private List<com.skillvo.course.api.dto.SectionDTO> toApiSectionDTOList(List<com.skillvo.course.application.dto.SectionDTO> dtos) {
+        if (dtos == null) {
+            return null;
+        }
         return dtos.stream()
                 .map(this::toApiSectionDTO)
                 .collect(Collectors.toList());
@@ -91,9 +132,9 @@ public class CourseDTOMapper {
                 .build();
     }
 
-    private com.skillvo.course.api.dto.LessonDTO toApiLessonDTO(com.skillvo.course.application.dto.LessonDTO dto) {
+    public com.skillvo.course.api.dto.LessonDTO toApiLessonDTO(com.skillvo.course.application.dto.LessonDTO dto) {
         return com.skillvo.course.api.dto.LessonDTO.builder()
-                .id(dto.getLessonId().toString())
+                .id(dto.getLessonId() == null ? null : dto.getLessonId().toString())
                 .title(dto.getTitle())
                 .description(dto.getDescription())
                 .content(dto.getContent())
@@ -101,10 +142,35 @@ public class CourseDTOMapper {
                 .duration(dto.getDuration())
                 .videoUrl(dto.getVideoUrl())
                 .thumbnailUrl(dto.getThumbnailUrl())
+                .contentType(dto.getContentType())
+                .pdfUrl(dto.getPdfUrl())
+                .quizItems(toApiQuizItemDTOList(dto.getQuizItems()))
+                .mandatory(dto.isMandatory())
                 .build();
     }
 
+    private List<com.skillvo.course.api.dto.QuizItemDTO> toApiQuizItemDTOList(List<com.skillvo.course.application.dto.QuizItemDTO> dtos) {
+        if (dtos == null) {
+            return null;
+        }
+        return dtos.stream()
+                .map(dto -> com.skillvo.course.api.dto.QuizItemDTO.builder()
+                        .question(dto.getQuestion())
+                        .answerChoice(dto.getAnswerChoice())
+                        .options(dto.getOptions() == null ? null : dto.getOptions().stream()
+                                .map(option -> com.skillvo.course.api.dto.AnswerOptionDTO.builder()
+                                        .answer(option.getAnswer())
+                                        .correct(option.isCorrect())
+                                        .build())
+                                .collect(Collectors.toList()))
+                        .build())
+                .collect(Collectors.toList());
+    }
+
     private List<com.skillvo.course.api.dto.LessonDTO> toApiLessonDTOList(List<com.skillvo.course.application.dto.LessonDTO> dtos) {
+        if (dtos == null) {
+            return null;
+        }
         return dtos.stream()
                 .map(this::toApiLessonDTO)
                 .collect(Collectors.toList());
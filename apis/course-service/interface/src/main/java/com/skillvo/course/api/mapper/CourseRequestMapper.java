@@ -7,6 +7,8 @@ import com.skillvo.course.api.dto.request.CourseFilterRequest;
 import com.skillvo.course.application.command.CreateCourseCommand;
 import com.skillvo.course.application.command.UpdateCourseCommand;
 import com.skillvo.course.application.command.PublishCourseCommand;
+import com.skillvo.course.application.query.ListCourseSummariesQuery;
+import com.skillvo.course.application.query.ListCoursesPageQuery;
 import com.skillvo.course.application.query.ListCoursesQuery;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
@@ -83,4 +85,30 @@ public class CourseRequestMapper {
                 .inMarketplace(request.isInMarketplace())
                 .build();
     }
-} 
\ No newline at end of file
+
+    public ListCoursesPageQuery toPageQuery(CourseFilterRequest request) {
+        return ListCoursesPageQuery.builder()
+                .tenantId(request.getTenantId())
+                .status(request.getStatus())
+                .level(request.getLevel())
+                .tags(request.getTags())
+                .tagMatch(request.getTagMatch())
+                .inMarketplace(request.isInMarketplace())
+                .limit(request.getLimit())
+                .pageToken(request.getPageToken())
+                .build();
+    }
+
+    public ListCourseSummariesQuery toSummaryQuery(CourseFilterRequest request) {
+        return ListCourseSummariesQuery.builder()
+                .tenantId(request.getTenantId())
+                .status(request.getStatus())
+                .level(request.getLevel())
+                .tags(request.getTags())
+                .tagMatch(request.getTagMatch())
+                .inMarketplace(request.isInMarketplace())
+                .limit(request.getLimit())
+                .pageToken(request.getPageToken())
+                .build();
+    }
+}
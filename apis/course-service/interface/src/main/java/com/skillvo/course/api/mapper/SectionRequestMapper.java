@@ -1,5 +1,7 @@
 package com.skillvo.course.api.mapper;
 
+import com.skillvo.course.api.dto.LessonDTO;
+import com.skillvo.course.api.dto.QuizItemDTO;
 import com.skillvo.course.api.dto.SectionDTO;
 import org.springframework.stereotype.Component;
 
@@ -16,9 +18,42 @@ public class SectionRequestMapper {
                 .description(dto.getDescription())
                 .order(dto.getOrder())
                 .duration(dto.getDuration())
+                .lessons(dto.getLessons() != null ? toApplicationLessonDTOList(dto.getLessons()) : null)
                 .build();
     }
 
+    private List<com.skillvo.course.application.dto.LessonDTO> toApplicationLessonDTOList(List<LessonDTO> dtos) {
+        return dtos.stream()
+                .map(dto -> com.skillvo.course.application.dto.LessonDTO.builder()
+                        .lessonId(dto.getId() != null ? java.util.UUID.fromString(dto.getId()) : null)
+                        .title(dto.getTitle())
+                        .description(dto.getDescription())
+                        .content(dto.getContent())
+                        .order(dto.getOrder())
+                        .duration(dto.getDuration())
+                        .videoUrl(dto.getVideoUrl())
+                        .thumbnailUrl(dto.getThumbnailUrl())
+                        .contentType(dto.getContentType())
+                        .pdfUrl(dto.getPdfUrl())
+                        .quizItems(dto.getQuizItems() != null ? toApplicationQuizItemDTOList(dto.getQuizItems()) : null)
+                        .mandatory(dto.isMandatory())
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    private List<com.skillvo.course.application.dto.QuizItemDTO> toApplicationQuizItemDTOList(List<QuizItemDTO> dtos) {
+        return dtos.stream()
+                .map(dto -> com.skillvo.course.application.dto.QuizItemDTO.builder()
+                        .question(dto.getQuestion())
+                        .answerChoice(dto.getAnswerChoice())
+                        .options(dto.getOptions() == null ? null : dto.getOptions().stream()
+                                .map(option -> new com.skillvo.course.application.dto.AnswerOptionDTO(
+                                        option.getAnswer(), option.isCorrect()))
+                                .collect(Collectors.toList()))
+                        .build())
+                .collect(Collectors.toList());
+    }
+
     public List<com.skillvo.course.application.dto.SectionDTO> toApplicationDTOList(List<SectionDTO> dtos) {
         return dtos.stream()
                 .map(this::toApplicationDTO)
@@ -0,0 +1,98 @@
+package com.skillvo.course.api.runtime;
+
+import com.skillvo.course.CourseServiceApplication;
+import com.skillvo.course.api.config.ObjectMapperConfig;
+import com.skillvo.course.api.config.ValidatorConfig;
+import com.skillvo.course.api.mapper.CourseDTOMapper;
+import com.skillvo.course.api.mapper.CourseRequestMapper;
+import com.skillvo.course.application.mapper.CourseMapper;
+import com.skillvo.course.infrastructure.search.CourseSearchIndex;
+import lombok.extern.slf4j.Slf4j;
+import org.crac.Core;
+import org.crac.Resource;
+import org.springframework.boot.Banner;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The process-wide Spring context the Lambda handlers take their collaborators from. It is
+ * built on first use, which is the handler constructor and so the Lambda init phase, together
+ * with the SDK clients and other singletons, and then primed with {@link RuntimePrimer}.
+ * With SnapStart that initialized state is what gets snapshotted; the CRaC hooks log around
+ * checkpoint and restore so init and restore times can be told apart from invocation time, and
+ * a restore marks the search index stale, as it holds the courses of snapshot time.
+ */
+@Slf4j
+public final class CourseRuntime implements Resource {
+    private final ConfigurableApplicationContext context;
+    private final long contextMillis;
+    private final long primingMillis;
+    private volatile long checkpointedAtMillis;
+
+    private CourseRuntime() {
+        long started = System.nanoTime();
+        this.context = new SpringApplicationBuilder(CourseServiceApplication.class)
+                .web(WebApplicationType.NONE)
+                .bannerMode(Banner.Mode.OFF)
+                .logStartupInfo(false)
+                .run();
+        long contextReady = System.nanoTime();
+        this.contextMillis = TimeUnit.NANOSECONDS.toMillis(contextReady - started);
+
+        if (context.getEnvironment().getProperty("course.runtime.priming-enabled", Boolean.class, true)) {
+            prime();
+        }
+        this.primingMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - contextReady);
+
+        Core.getGlobalContext().register(this);
+        log.info("Course runtime ready in {} ms (context {} ms, priming {} ms)",
+                contextMillis + primingMillis, contextMillis, primingMillis);
+    }
+
+    public static CourseRuntime get() {
+        return Holder.INSTANCE;
+    }
+
+    public <T> T getBean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    public long getContextMillis() {
+        return contextMillis;
+    }
+
+    public long getPrimingMillis() {
+        return primingMillis;
+    }
+
+    @Override
+    public void beforeCheckpoint(org.crac.Context<? extends Resource> context) {
+        checkpointedAtMillis = System.currentTimeMillis();
+        log.info("Checkpointing course runtime (context {} ms, priming {} ms)", contextMillis, primingMillis);
+    }
+
+    @Override
+    public void afterRestore(org.crac.Context<? extends Resource> context) {
+        log.info("Course runtime restored from a snapshot taken {} s ago",
+                TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis() - checkpointedAtMillis));
+        this.context.getBean(CourseSearchIndex.class).markStale();
+    }
+
+    private void prime() {
+        try {
+            new RuntimePrimer(ObjectMapperConfig.sharedObjectMapper(), ValidatorConfig.sharedValidator(),
+                    context.getBean(CourseRequestMapper.class), context.getBean(CourseMapper.class),
+                    context.getBean(CourseDTOMapper.class)).prime();
+        } catch (Exception e) {
+            // Priming only moves work earlier; the first invocation pays for it instead
+            log.warn("Course runtime priming failed", e);
+        }
+    }
+
+    private static final class Holder {
+        private static final CourseRuntime INSTANCE = new CourseRuntime();
+    }
+}
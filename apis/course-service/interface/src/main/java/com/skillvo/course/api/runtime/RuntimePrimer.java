@@ -0,0 +1,128 @@
+package com.skillvo.course.api.runtime;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.skillvo.course.api.dto.AuthorDTO;
+import com.skillvo.course.api.dto.CourseDTO;
+import com.skillvo.course.api.dto.CoursePageDTO;
+import com.skillvo.course.api.dto.LessonDTO;
+import com.skillvo.course.api.dto.PrizeDTO;
+import com.skillvo.course.api.dto.PublisherDTO;
+import com.skillvo.course.api.dto.SectionDTO;
+import com.skillvo.course.api.dto.request.CourseFilterRequest;
+import com.skillvo.course.api.dto.request.CreateCourseRequest;
+import com.skillvo.course.api.dto.request.UpdateCourseRequest;
+import com.skillvo.course.api.mapper.CourseDTOMapper;
+import com.skillvo.course.api.mapper.CourseRequestMapper;
+import com.skillvo.course.application.mapper.CourseMapper;
+import com.skillvo.course.domain.model.aggregates.Course;
+import com.skillvo.course.domain.model.enums.Currency;
+import com.skillvo.course.domain.model.enums.Language;
+import com.skillvo.course.domain.model.enums.LearningMode;
+import com.skillvo.course.domain.model.enums.LessonNavigationMode;
+import com.skillvo.course.domain.model.enums.Level;
+import com.skillvo.course.domain.model.enums.PricingModel;
+import com.skillvo.course.domain.model.enums.PublisherType;
+import com.skillvo.course.domain.model.enums.Status;
+import com.skillvo.course.infrastructure.persistence.DynamoDBModelConverter;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Runs a representative course through the request paths once, so the first real invocation
+ * does not pay for class loading, Jackson serializer construction, constraint metadata and
+ * message interpolation. It makes no network calls: a connection opened here would be stale
+ * once a snapshot of the process is restored.
+ */
+@RequiredArgsConstructor
+public class RuntimePrimer {
+    private static final List<Class<?>> REQUEST_TYPES =
+            List.of(CreateCourseRequest.class, UpdateCourseRequest.class, CourseFilterRequest.class);
+
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final CourseRequestMapper requestMapper;
+    private final CourseMapper courseMapper;
+    private final CourseDTOMapper dtoMapper;
+
+    public void prime() throws JsonProcessingException {
+        for (Class<?> type : REQUEST_TYPES) {
+            validator.getConstraintsForClass(type);
+            objectMapper.readValue("{}", type);
+        }
+
+        CreateCourseRequest request = objectMapper.readValue(
+                objectMapper.writeValueAsString(sampleRequest()), CreateCourseRequest.class);
+        Set<ConstraintViolation<CreateCourseRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            throw new IllegalStateException("Priming request failed validation: " + violations);
+        }
+        // Messages are only interpolated for violations, and the first interpolation is the slow one
+        validator.validate(new CreateCourseRequest());
+
+        Course course = courseMapper.toEntity(requestMapper.toCommand(request));
+        course.setStatus(Status.PUBLISHED);
+        course.setPublishedOn(LocalDateTime.now());
+        course.setVersion(1);
+        Map<String, AttributeValue> item = DynamoDBModelConverter.toItem(course);
+
+        CourseDTO response = dtoMapper.toApiCourseDTO(courseMapper.toDTO(DynamoDBModelConverter.toCourse(item)));
+        objectMapper.writeValueAsString(response);
+        objectMapper.writeValueAsString(CoursePageDTO.builder()
+                .items(List.of(response))
+                .nextPageToken("priming")
+                .build());
+        objectMapper.writeValueAsString(Collections.singletonMap("error", "priming"));
+    }
+
+    private static CreateCourseRequest sampleRequest() {
+        return CreateCourseRequest.builder()
+                .tenantId("priming")
+                .title("Priming course")
+                .description("Representative course used to warm the request paths")
+                .topicCode("PRIMING")
+                .categoryCode("PRIMING")
+                .language(List.of(Language.ENGLISH))
+                .level(Level.BEGINNER)
+                .pricingModel(PricingModel.PAID)
+                .prize(PrizeDTO.builder().amount(1).currency(Currency.USD).build())
+                .learningMode(LearningMode.ONLINE)
+                .points(1)
+                .tags(List.of("priming"))
+                .authors(List.of(AuthorDTO.builder()
+                        .id(UUID.randomUUID().toString())
+                        .name("Priming Author")
+                        .email("priming@skillvo.com")
+                        .build()))
+                .publisher(PublisherDTO.builder()
+                        .id(UUID.randomUUID().toString())
+                        .name("Priming Publisher")
+                        .type(PublisherType.COMPANY)
+                        .build())
+                .imageUrl("https://skillvo.com/priming.png")
+                .duration(1)
+                .sections(List.of(SectionDTO.builder()
+                        .sectionId(UUID.randomUUID())
+                        .title("Priming section")
+                        .order(1)
+                        .duration(1)
+                        .lessons(List.of(LessonDTO.builder()
+                                .id(UUID.randomUUID().toString())
+                                .title("Priming lesson")
+                                .order(1)
+                                .duration(1)
+                                .build()))
+                        .build()))
+                .lessonNavigationMode(LessonNavigationMode.SEQUENTIAL)
+                .build();
+    }
+}
@@ -14,7 +14,13 @@ import com.skillvo.course.domain.model.enums.PricingModel;
 import com.skillvo.course.domain.model.enums.LearningMode;
 import com.skillvo.course.domain.model.enums.Status;
 import com.skillvo.course.domain.model.enums.LessonNavigationMode;
+import com.skillvo.course.domain.model.enums.Currency;
+import com.skillvo.course.domain.model.enums.PublisherType;
 import com.skillvo.course.api.dto.AuthorDTO;
+import com.skillvo.course.api.dto.LessonDTO;
+import com.skillvo.course.api.dto.PrizeDTO;
+import com.skillvo.course.api.dto.PublisherDTO;
+import com.skillvo.course.api.dto.SectionDTO;
 import com.skillvo.course.api.mapper.AuthorRequestMapper;
 import com.skillvo.course.api.mapper.PrizeRequestMapper;
 import com.skillvo.course.api.mapper.PublisherRequestMapper;
@@ -23,14 +29,17 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.Base64;
 import java.util.UUID;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -94,6 +103,56 @@ class CreateCourseLambdaTest {
         assertThat(response.getBody()).isEqualTo(objectMapper.writeValueAsString(courseId));
     }
 
+    @Test
+    void shouldParseNestedPrizePublisherAndSections() throws Exception {
+        // Given
+        CreateCourseRequest request = createSampleCreateCourseRequest();
+        request.setPricingModel(PricingModel.PAID);
+        request.setPrize(PrizeDTO.builder().amount(49.99).currency(Currency.USD).build());
+        request.setPublisher(PublisherDTO.builder().name("Test Publisher").type(PublisherType.COMPANY).build());
+        request.setSections(List.of(SectionDTO.builder()
+                .title("Section 1")
+                .order(1)
+                .duration(30)
+                .lessons(List.of(LessonDTO.builder().title("Lesson 1").order(1).build()))
+                .build()));
+        lambda = new CreateCourseLambda(commandHandler, new CourseRequestMapper(new PrizeRequestMapper(),
+                new AuthorRequestMapper(), new PublisherRequestMapper(), new SectionRequestMapper()));
+        when(commandHandler.handle(any(CreateCourseCommand.class))).thenReturn(UUID.randomUUID());
+
+        // When
+        APIGatewayProxyResponseEvent response = lambda.handleRequest(createSampleRequestEvent(request), context);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(200);
+        ArgumentCaptor<CreateCourseCommand> captor = ArgumentCaptor.forClass(CreateCourseCommand.class);
+        verify(commandHandler).handle(captor.capture());
+        assertThat(captor.getValue().getPrize().getPrize()).isEqualTo(49.99);
+        assertThat(captor.getValue().getPublisher().getName()).isEqualTo("Test Publisher");
+        assertThat(captor.getValue().getSections()).hasSize(1);
+        assertThat(captor.getValue().getSections().get(0).getTitle()).isEqualTo("Section 1");
+        assertThat(captor.getValue().getSections().get(0).getLessons())
+                .extracting(com.skillvo.course.application.dto.LessonDTO::getTitle)
+                .containsExactly("Lesson 1");
+    }
+
+    @Test
+    void shouldDecodeBase64EncodedRequestBody() throws Exception {
+        // Given
+        UUID courseId = UUID.randomUUID();
+        when(commandHandler.handle(any(CreateCourseCommand.class))).thenReturn(courseId);
+        APIGatewayProxyRequestEvent input = new APIGatewayProxyRequestEvent();
+        input.setBody(Base64.getEncoder().encodeToString(objectMapper.writeValueAsBytes(createSampleCreateCourseRequest())));
+        input.setIsBase64Encoded(true);
+
+        // When
+        APIGatewayProxyResponseEvent response = lambda.handleRequest(input, context);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(200);
+        assertThat(response.getBody()).isEqualTo(objectMapper.writeValueAsString(courseId));
+    }
+
     @Test
     void shouldHandleEmptyRequest() throws Exception {
         // Given
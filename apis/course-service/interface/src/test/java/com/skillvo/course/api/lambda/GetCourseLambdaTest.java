@@ -3,8 +3,11 @@ package com.skillvo.course.api.lambda;
 import com.amazonaws.services.lambda.runtime.Context;
 import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyRequestEvent;
 import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyResponseEvent;
+import com.skillvo.common.http.CborWriter;
 import com.skillvo.course.api.mapper.CourseDTOMapper;
+import com.skillvo.course.application.exception.CourseNotFoundException;
 import com.skillvo.course.application.query.GetCourseQuery;
+import com.skillvo.course.application.query.GetCourseVersionQuery;
 import com.skillvo.course.application.query.handler.CourseQueryHandler;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
@@ -14,11 +17,18 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
 import java.util.UUID;
 import java.util.Map;
+import java.util.zip.GZIPInputStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -62,6 +72,211 @@ class GetCourseLambdaTest {
         assertThat(response.getBody()).isEqualTo(objectMapper.writeValueAsString(apiDTO));
     }
 
+    @Test
+    void shouldSerializePublishedOnAsIsoDateTime() {
+        // Given
+        UUID courseId = UUID.randomUUID();
+        com.skillvo.course.api.dto.CourseDTO apiDTO = com.skillvo.course.api.dto.CourseDTO.builder()
+                .courseId(courseId)
+                .title("Published Course")
+                .publishedOn(LocalDateTime.of(2024, 3, 1, 9, 30))
+                .build();
+
+        when(queryHandler.handle(any(GetCourseQuery.class))).thenReturn(createSampleApplicationCourseDTO());
+        when(dtoMapper.toApiCourseDTO(any(com.skillvo.course.application.dto.CourseDTO.class))).thenReturn(apiDTO);
+
+        // When
+        APIGatewayProxyResponseEvent response = lambda.handleRequest(createSampleRequestEvent(courseId), context);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(200);
+        assertThat(response.getBody()).contains("\"publishedOn\":\"2024-03-01T09:30:00\"");
+    }
+
+    @Test
+    void shouldGzipLargeResponsesWhenAccepted() throws Exception {
+        // Given
+        UUID courseId = UUID.randomUUID();
+        com.skillvo.course.api.dto.CourseDTO apiDTO = com.skillvo.course.api.dto.CourseDTO.builder()
+                .courseId(courseId)
+                .title("Large Course")
+                .description("A long description. ".repeat(200))
+                .build();
+        when(queryHandler.handle(any(GetCourseQuery.class))).thenReturn(createSampleApplicationCourseDTO());
+        when(dtoMapper.toApiCourseDTO(any(com.skillvo.course.application.dto.CourseDTO.class))).thenReturn(apiDTO);
+        APIGatewayProxyRequestEvent input = createSampleRequestEvent(courseId);
+        input.setHeaders(Map.of("accept-encoding", "br, gzip;q=0.8"));
+
+        // When
+        APIGatewayProxyResponseEvent response = lambda.handleRequest(input, context);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(200);
+        assertThat(response.getIsBase64Encoded()).isTrue();
+        assertThat(response.getHeaders()).containsEntry("Content-Encoding", "gzip")
+                .containsEntry("Content-Type", "application/json")
+                .containsEntry("Vary", "Accept, Accept-Encoding");
+        byte[] compressed = Base64.getDecoder().decode(response.getBody());
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            String json = new String(gzip.readAllBytes(), StandardCharsets.UTF_8);
+            assertThat(json).isEqualTo(objectMapper.writeValueAsString(apiDTO));
+            assertThat(compressed.length).isLessThan(json.length() / 10);
+        }
+    }
+
+    @Test
+    void shouldNotCompressSmallResponsesOrWhenGzipIsRefused() throws Exception {
+        // Given
+        UUID courseId = UUID.randomUUID();
+        when(queryHandler.handle(any(GetCourseQuery.class))).thenReturn(createSampleApplicationCourseDTO());
+        when(dtoMapper.toApiCourseDTO(any(com.skillvo.course.application.dto.CourseDTO.class)))
+                .thenReturn(createSampleApiCourseDTO());
+        APIGatewayProxyRequestEvent input = createSampleRequestEvent(courseId);
+        input.setHeaders(Map.of("Accept-Encoding", "gzip"));
+
+        // When
+        APIGatewayProxyResponseEvent response = lambda.handleRequest(input, context);
+
+        // Then
+        assertThat(response.getIsBase64Encoded()).isNull();
+        assertThat(response.getHeaders()).doesNotContainKey("Content-Encoding");
+        assertThat(response.getBody()).startsWith("{");
+    }
+
+    @Test
+    void shouldWriteCborWhenClientPrefersIt() throws Exception {
+        // Given
+        UUID courseId = UUID.randomUUID();
+        com.skillvo.course.api.dto.CourseDTO apiDTO = com.skillvo.course.api.dto.CourseDTO.builder()
+                .courseId(courseId)
+                .title("Binary Course")
+                .build();
+        when(queryHandler.handle(any(GetCourseQuery.class))).thenReturn(createSampleApplicationCourseDTO());
+        when(dtoMapper.toApiCourseDTO(any(com.skillvo.course.application.dto.CourseDTO.class))).thenReturn(apiDTO);
+        APIGatewayProxyRequestEvent input = createSampleRequestEvent(courseId);
+        input.setHeaders(Map.of("Accept", "application/cbor, application/json;q=0.5"));
+
+        // When
+        APIGatewayProxyResponseEvent response = lambda.handleRequest(input, context);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(200);
+        assertThat(response.getIsBase64Encoded()).isTrue();
+        assertThat(response.getHeaders()).containsEntry("Content-Type", "application/cbor")
+                .doesNotContainKey("Content-Encoding");
+        byte[] cbor = Base64.getDecoder().decode(response.getBody());
+        String json = objectMapper.writeValueAsString(apiDTO);
+        assertThat(cbor).isEqualTo(CborWriter.write(objectMapper.readTree(json)));
+        assertThat(cbor.length).isLessThan(json.length());
+    }
+
+    @Test
+    void shouldReturnETagFromCourseIdAndVersion() throws Exception {
+        // Given
+        UUID courseId = UUID.randomUUID();
+        com.skillvo.course.api.dto.CourseDTO apiDTO = com.skillvo.course.api.dto.CourseDTO.builder()
+                .courseId(courseId)
+                .version(5)
+                .build();
+        when(queryHandler.handle(any(GetCourseQuery.class))).thenReturn(createSampleApplicationCourseDTO());
+        when(dtoMapper.toApiCourseDTO(any(com.skillvo.course.application.dto.CourseDTO.class))).thenReturn(apiDTO);
+
+        // When
+        APIGatewayProxyResponseEvent response = lambda.handleRequest(createSampleRequestEvent(courseId), context);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(200);
+        assertThat(response.getHeaders()).containsEntry("ETag", "W/\"" + courseId + "-5\"");
+        verify(queryHandler, never()).handle(any(GetCourseVersionQuery.class));
+    }
+
+    @Test
+    void shouldAnswerNotModifiedWhenVersionIsUnchanged() {
+        // Given
+        UUID courseId = UUID.randomUUID();
+        when(queryHandler.handle(any(GetCourseVersionQuery.class))).thenReturn(5);
+        APIGatewayProxyRequestEvent input = createSampleRequestEvent(courseId);
+        input.setHeaders(Map.of("if-none-match", "\"other\", \"" + courseId + "-5\""));
+
+        // When
+        APIGatewayProxyResponseEvent response = lambda.handleRequest(input, context);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(304);
+        assertThat(response.getBody()).isNull();
+        assertThat(response.getHeaders()).containsEntry("ETag", GetCourseLambda.etag(courseId, 5));
+        verify(queryHandler, never()).handle(any(GetCourseQuery.class));
+    }
+
+    @Test
+    void shouldReturnCourseWhenVersionHasChanged() {
+        // Given
+        UUID courseId = UUID.randomUUID();
+        com.skillvo.course.api.dto.CourseDTO apiDTO = com.skillvo.course.api.dto.CourseDTO.builder()
+                .courseId(courseId)
+                .version(6)
+                .build();
+        when(queryHandler.handle(any(GetCourseVersionQuery.class))).thenReturn(6);
+        when(queryHandler.handle(any(GetCourseQuery.class))).thenReturn(createSampleApplicationCourseDTO());
+        when(dtoMapper.toApiCourseDTO(any(com.skillvo.course.application.dto.CourseDTO.class))).thenReturn(apiDTO);
+        APIGatewayProxyRequestEvent input = createSampleRequestEvent(courseId);
+        input.setHeaders(Map.of("If-None-Match", GetCourseLambda.etag(courseId, 5)));
+
+        // When
+        APIGatewayProxyResponseEvent response = lambda.handleRequest(input, context);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(200);
+        assertThat(response.getHeaders()).containsEntry("ETag", GetCourseLambda.etag(courseId, 6));
+    }
+
+    @Test
+    void shouldReturnCourseForTagTakenBeforePublish() {
+        // Given
+        UUID courseId = UUID.randomUUID();
+        com.skillvo.course.api.dto.CourseDTO draft = com.skillvo.course.api.dto.CourseDTO.builder()
+                .courseId(courseId)
+                .version(3)
+                .build();
+        com.skillvo.course.api.dto.CourseDTO published = com.skillvo.course.api.dto.CourseDTO.builder()
+                .courseId(courseId)
+                .version(4)
+                .inMarketplace(true)
+                .build();
+        when(queryHandler.handle(any(GetCourseQuery.class))).thenReturn(createSampleApplicationCourseDTO());
+        when(dtoMapper.toApiCourseDTO(any(com.skillvo.course.application.dto.CourseDTO.class)))
+                .thenReturn(draft, published);
+        String draftTag = lambda.handleRequest(createSampleRequestEvent(courseId), context).getHeaders().get("ETag");
+        // Saving the published course moves it to the next version
+        when(queryHandler.handle(any(GetCourseVersionQuery.class))).thenReturn(4);
+        APIGatewayProxyRequestEvent input = createSampleRequestEvent(courseId);
+        input.setHeaders(Map.of("If-None-Match", draftTag));
+
+        // When
+        APIGatewayProxyResponseEvent response = lambda.handleRequest(input, context);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(200);
+        assertThat(response.getBody()).contains("\"inMarketplace\":true");
+        assertThat(response.getHeaders()).containsEntry("ETag", GetCourseLambda.etag(courseId, 4));
+    }
+
+    @Test
+    void shouldReturnNotFoundForConditionalRequestOnMissingCourse() {
+        // Given
+        UUID courseId = UUID.randomUUID();
+        when(queryHandler.handle(any(GetCourseVersionQuery.class)))
+                .thenThrow(new CourseNotFoundException("Course not found with id: " + courseId));
+        APIGatewayProxyRequestEvent input = createSampleRequestEvent(courseId);
+        input.setHeaders(Map.of("If-None-Match", "*"));
+
+        // When
+        APIGatewayProxyResponseEvent response = lambda.handleRequest(input, context);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(404);
+    }
+
     @Test
     void shouldHandleInvalidCourseId() throws Exception {
         // Given
@@ -0,0 +1,107 @@
+package com.skillvo.course.api.lambda;
+
+import com.amazonaws.services.lambda.runtime.Context;
+import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyRequestEvent;
+import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyResponseEvent;
+import com.skillvo.course.api.dto.AnswerOptionDTO;
+import com.skillvo.course.api.dto.LessonDTO;
+import com.skillvo.course.api.dto.QuizItemDTO;
+import com.skillvo.course.api.mapper.CourseDTOMapper;
+import com.skillvo.course.application.exception.CourseNotFoundException;
+import com.skillvo.course.application.query.GetLessonQuery;
+import com.skillvo.course.application.query.handler.CourseQueryHandler;
+import com.skillvo.course.domain.model.enums.AnswerChoice;
+import com.skillvo.course.domain.model.enums.ContentType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class GetLessonLambdaTest {
+
+    @Mock
+    private CourseQueryHandler queryHandler;
+
+    @Mock
+    private CourseDTOMapper dtoMapper;
+
+    @Mock
+    private Context context;
+
+    @InjectMocks
+    private GetLessonLambda lambda;
+
+    @Test
+    void shouldHandleGetLessonRequest() {
+        // Given
+        UUID courseId = UUID.randomUUID();
+        UUID lessonId = UUID.randomUUID();
+        com.skillvo.course.application.dto.LessonDTO applicationDTO = com.skillvo.course.application.dto.LessonDTO.builder()
+                .lessonId(lessonId)
+                .build();
+        LessonDTO apiDTO = LessonDTO.builder()
+                .id(lessonId.toString())
+                .title("Check")
+                .contentType(ContentType.QUIZ)
+                .quizItems(List.of(QuizItemDTO.builder()
+                        .question("Ready?")
+                        .answerChoice(AnswerChoice.SINGLE)
+                        .options(List.of(AnswerOptionDTO.builder().answer("Yes").correct(true).build()))
+                        .build()))
+                .build();
+        when(queryHandler.handle(any(GetLessonQuery.class))).thenReturn(applicationDTO);
+        when(dtoMapper.toApiLessonDTO(applicationDTO)).thenReturn(apiDTO);
+
+        // When
+        APIGatewayProxyResponseEvent response = lambda.handleRequest(createRequestEvent(courseId, lessonId.toString()), context);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(200);
+        assertThat(response.getBody()).contains("\"contentType\":\"QUIZ\"", "\"question\":\"Ready?\"");
+        ArgumentCaptor<GetLessonQuery> query = ArgumentCaptor.forClass(GetLessonQuery.class);
+        verify(queryHandler).handle(query.capture());
+        assertThat(query.getValue().getCourseId()).isEqualTo(courseId);
+        assertThat(query.getValue().getLessonId()).isEqualTo(lessonId);
+    }
+
+    @Test
+    void shouldReturnNotFoundForMissingLesson() {
+        // Given
+        when(queryHandler.handle(any(GetLessonQuery.class))).thenThrow(new CourseNotFoundException("Lesson not found"));
+
+        // When
+        APIGatewayProxyResponseEvent response = lambda.handleRequest(
+                createRequestEvent(UUID.randomUUID(), UUID.randomUUID().toString()), context);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(404);
+    }
+
+    @Test
+    void shouldHandleInvalidLessonId() {
+        // When
+        APIGatewayProxyResponseEvent response = lambda.handleRequest(createRequestEvent(UUID.randomUUID(), "invalid-uuid"), context);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(400);
+        assertThat(response.getBody()).contains("Invalid UUID string: invalid-uuid");
+    }
+
+    private APIGatewayProxyRequestEvent createRequestEvent(UUID courseId, String lessonId) {
+        APIGatewayProxyRequestEvent event = new APIGatewayProxyRequestEvent();
+        event.setPathParameters(Map.of("courseId", courseId.toString(), "lessonId", lessonId));
+        return event;
+    }
+}
@@ -3,14 +3,19 @@ package com.skillvo.course.api.lambda;
 import com.amazonaws.services.lambda.runtime.Context;
 import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyRequestEvent;
 import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyResponseEvent;
+import com.skillvo.course.api.dto.request.CourseFilterRequest;
 import com.skillvo.course.api.mapper.CourseDTOMapper;
 import com.skillvo.course.api.mapper.CourseRequestMapper;
+import com.skillvo.course.application.query.ListCourseSummariesQuery;
+import com.skillvo.course.application.query.ListCoursesPageQuery;
 import com.skillvo.course.application.query.ListCoursesQuery;
 import com.skillvo.course.application.query.handler.CourseQueryHandler;
+import com.skillvo.course.domain.repository.TagMatch;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -21,6 +26,8 @@ import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -76,6 +83,209 @@ class ListCoursesLambdaTest {
         assertThat(response.getBody()).isEqualTo(objectMapper.writeValueAsString(apiDTOs));
     }
 
+    @Test
+    void shouldReturnPageWhenPageTokenIsGiven() throws Exception {
+        // Given
+        List<com.skillvo.course.application.dto.CourseDTO> applicationDTOs = Arrays.asList(
+            createSampleApplicationCourseDTO()
+        );
+        com.skillvo.course.application.dto.CoursePageDTO applicationPage = com.skillvo.course.application.dto.CoursePageDTO.builder()
+                .items(applicationDTOs)
+                .nextPageToken("next-token")
+                .build();
+        com.skillvo.course.api.dto.CoursePageDTO apiPage = com.skillvo.course.api.dto.CoursePageDTO.builder()
+                .items(Arrays.asList(createSampleApiCourseDTO()))
+                .nextPageToken("next-token")
+                .build();
+        APIGatewayProxyRequestEvent input = new APIGatewayProxyRequestEvent();
+        input.setQueryStringParameters(Map.of(
+            "tenantId", "tenant1",
+            "limit", "1",
+            "pageToken", "current-token"
+        ));
+
+        ListCoursesPageQuery query = ListCoursesPageQuery.builder()
+                .tenantId("tenant1")
+                .limit(1)
+                .pageToken("current-token")
+                .build();
+        when(requestMapper.toPageQuery(any())).thenReturn(query);
+        when(queryHandler.handle(query)).thenReturn(applicationPage);
+        when(dtoMapper.toApiCoursePageDTO(applicationPage)).thenReturn(apiPage);
+
+        // When
+        APIGatewayProxyResponseEvent response = lambda.handleRequest(input, context);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(200);
+        assertThat(response.getBody()).isEqualTo(objectMapper.writeValueAsString(apiPage));
+    }
+
+    @Test
+    void shouldReturnPageWhenCursorPagingIsRequested() throws Exception {
+        // Given
+        com.skillvo.course.application.dto.CoursePageDTO applicationPage =
+                com.skillvo.course.application.dto.CoursePageDTO.builder()
+                        .items(Arrays.asList(createSampleApplicationCourseDTO()))
+                        .nextPageToken("next-token")
+                        .build();
+        com.skillvo.course.api.dto.CoursePageDTO apiPage = com.skillvo.course.api.dto.CoursePageDTO.builder()
+                .items(Arrays.asList(createSampleApiCourseDTO()))
+                .nextPageToken("next-token")
+                .build();
+        APIGatewayProxyRequestEvent input = new APIGatewayProxyRequestEvent();
+        input.setQueryStringParameters(Map.of(
+            "tenantId", "tenant1",
+            "paging", "cursor",
+            "limit", "1"
+        ));
+
+        ListCoursesPageQuery query = ListCoursesPageQuery.builder()
+                .tenantId("tenant1")
+                .limit(1)
+                .build();
+        ArgumentCaptor<CourseFilterRequest> captor = ArgumentCaptor.forClass(CourseFilterRequest.class);
+        when(requestMapper.toPageQuery(captor.capture())).thenReturn(query);
+        when(queryHandler.handle(query)).thenReturn(applicationPage);
+        when(dtoMapper.toApiCoursePageDTO(applicationPage)).thenReturn(apiPage);
+
+        // When
+        APIGatewayProxyResponseEvent response = lambda.handleRequest(input, context);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(200);
+        assertThat(response.getBody()).isEqualTo(objectMapper.writeValueAsString(apiPage));
+        assertThat(captor.getValue().getLimit()).isEqualTo(1);
+        assertThat(captor.getValue().getPageToken()).isNull();
+    }
+
+    @Test
+    void shouldKeepListResponseWhenOnlyLimitIsGiven() throws Exception {
+        // Given
+        List<com.skillvo.course.application.dto.CourseDTO> applicationDTOs = Arrays.asList(
+            createSampleApplicationCourseDTO()
+        );
+        List<com.skillvo.course.api.dto.CourseDTO> apiDTOs = Arrays.asList(
+            createSampleApiCourseDTO()
+        );
+        APIGatewayProxyRequestEvent input = new APIGatewayProxyRequestEvent();
+        input.setQueryStringParameters(Map.of(
+            "tenantId", "tenant1",
+            "limit", "10"
+        ));
+
+        ListCoursesQuery query = ListCoursesQuery.builder()
+                .tenantId("tenant1")
+                .inMarketplace(false)
+                .build();
+        when(requestMapper.toQuery(any())).thenReturn(query);
+        when(queryHandler.handle(query)).thenReturn(applicationDTOs);
+        when(dtoMapper.toApiCourseDTOList(applicationDTOs)).thenReturn(apiDTOs);
+
+        // When
+        APIGatewayProxyResponseEvent response = lambda.handleRequest(input, context);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(200);
+        assertThat(response.getBody()).isEqualTo(objectMapper.writeValueAsString(apiDTOs));
+        verify(requestMapper, never()).toPageQuery(any());
+    }
+
+    @Test
+    void shouldReturnSummaryPageWhenSummaryViewIsRequested() throws Exception {
+        // Given
+        com.skillvo.course.application.dto.CourseSummaryPageDTO applicationPage =
+                com.skillvo.course.application.dto.CourseSummaryPageDTO.builder()
+                        .items(Arrays.asList(com.skillvo.course.application.dto.CourseSummaryDTO.builder()
+                                .courseId(UUID.randomUUID())
+                                .title("Test Course")
+                                .build()))
+                        .nextPageToken("next-token")
+                        .build();
+        com.skillvo.course.api.dto.CourseSummaryPageDTO apiPage = com.skillvo.course.api.dto.CourseSummaryPageDTO.builder()
+                .items(Arrays.asList(com.skillvo.course.api.dto.CourseSummaryDTO.builder()
+                        .courseId(UUID.randomUUID())
+                        .title("Test Course")
+                        .build()))
+                .nextPageToken("next-token")
+                .build();
+        APIGatewayProxyRequestEvent input = new APIGatewayProxyRequestEvent();
+        input.setQueryStringParameters(Map.of(
+            "tenantId", "tenant1",
+            "view", "summary"
+        ));
+
+        ListCourseSummariesQuery query = ListCourseSummariesQuery.builder()
+                .tenantId("tenant1")
+                .build();
+        when(requestMapper.toSummaryQuery(any())).thenReturn(query);
+        when(queryHandler.handle(query)).thenReturn(applicationPage);
+        when(dtoMapper.toApiCourseSummaryPageDTO(applicationPage)).thenReturn(apiPage);
+
+        // When
+        APIGatewayProxyResponseEvent response = lambda.handleRequest(input, context);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(200);
+        assertThat(response.getBody()).isEqualTo(objectMapper.writeValueAsString(apiPage));
+        verify(requestMapper, never()).toPageQuery(any());
+    }
+
+    @Test
+    void shouldPassTagsAndTagMatchToPageQuery() throws Exception {
+        // Given
+        com.skillvo.course.application.dto.CoursePageDTO applicationPage =
+                com.skillvo.course.application.dto.CoursePageDTO.builder()
+                        .items(Arrays.asList(createSampleApplicationCourseDTO()))
+                        .build();
+        com.skillvo.course.api.dto.CoursePageDTO apiPage = com.skillvo.course.api.dto.CoursePageDTO.builder()
+                .items(Arrays.asList(createSampleApiCourseDTO()))
+                .build();
+        APIGatewayProxyRequestEvent input = new APIGatewayProxyRequestEvent();
+        input.setQueryStringParameters(Map.of(
+            "tenantId", "tenant1",
+            "tags", "java, spring,",
+            "tagMatch", "all"
+        ));
+
+        ListCoursesPageQuery query = ListCoursesPageQuery.builder()
+                .tenantId("tenant1")
+                .tags(List.of("java", "spring"))
+                .tagMatch(TagMatch.ALL)
+                .build();
+        ArgumentCaptor<CourseFilterRequest> captor = ArgumentCaptor.forClass(CourseFilterRequest.class);
+        when(requestMapper.toPageQuery(captor.capture())).thenReturn(query);
+        when(queryHandler.handle(query)).thenReturn(applicationPage);
+        when(dtoMapper.toApiCoursePageDTO(applicationPage)).thenReturn(apiPage);
+
+        // When
+        APIGatewayProxyResponseEvent response = lambda.handleRequest(input, context);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(200);
+        assertThat(captor.getValue().getTags()).containsExactly("java", "spring");
+        assertThat(captor.getValue().getTagMatch()).isEqualTo(TagMatch.ALL);
+    }
+
+    @Test
+    void shouldRejectUnknownTagMatch() throws Exception {
+        // Given
+        APIGatewayProxyRequestEvent input = new APIGatewayProxyRequestEvent();
+        input.setQueryStringParameters(Map.of(
+            "tenantId", "tenant1",
+            "tags", "java",
+            "tagMatch", "most"
+        ));
+
+        // When
+        APIGatewayProxyResponseEvent response = lambda.handleRequest(input, context);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(400);
+        assertThat(response.getBody()).contains("tagMatch must be one of");
+        verify(requestMapper, never()).toPageQuery(any());
+    }
+
     @Test
     void shouldHandleMissingTenantId() throws Exception {
         // Given
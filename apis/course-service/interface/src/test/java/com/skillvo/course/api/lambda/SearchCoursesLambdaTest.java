@@ -0,0 +1,101 @@
+package com.skillvo.course.api.lambda;
+
+import com.amazonaws.services.lambda.runtime.Context;
+import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyRequestEvent;
+import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyResponseEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.skillvo.course.api.mapper.CourseDTOMapper;
+import com.skillvo.course.application.query.SearchCoursesQuery;
+import com.skillvo.course.application.query.handler.CourseSearchHandler;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SearchCoursesLambdaTest {
+
+    @Mock
+    private CourseSearchHandler searchHandler;
+
+    @Mock
+    private CourseDTOMapper dtoMapper;
+
+    @Mock
+    private Context context;
+
+    @InjectMocks
+    private SearchCoursesLambda lambda;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void shouldSearchCourses() throws Exception {
+        // Given
+        List<com.skillvo.course.application.dto.CourseDTO> applicationDTOs = List.of(
+                com.skillvo.course.application.dto.CourseDTO.builder().courseId(UUID.randomUUID()).build());
+        List<com.skillvo.course.api.dto.CourseDTO> apiDTOs = List.of(
+                com.skillvo.course.api.dto.CourseDTO.builder().courseId(UUID.randomUUID()).title("Java").build());
+        APIGatewayProxyRequestEvent input = new APIGatewayProxyRequestEvent();
+        input.setQueryStringParameters(Map.of(
+            "tenantId", "tenant1",
+            "q", "java streams",
+            "limit", "5"
+        ));
+        when(searchHandler.handle(any(SearchCoursesQuery.class))).thenReturn(applicationDTOs);
+        when(dtoMapper.toApiCourseDTOList(applicationDTOs)).thenReturn(apiDTOs);
+
+        // When
+        APIGatewayProxyResponseEvent response = lambda.handleRequest(input, context);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(200);
+        assertThat(response.getBody()).isEqualTo(objectMapper.writeValueAsString(apiDTOs));
+        ArgumentCaptor<SearchCoursesQuery> query = ArgumentCaptor.forClass(SearchCoursesQuery.class);
+        verify(searchHandler).handle(query.capture());
+        assertThat(query.getValue().getTenantId()).isEqualTo("tenant1");
+        assertThat(query.getValue().getText()).isEqualTo("java streams");
+        assertThat(query.getValue().getLimit()).isEqualTo(5);
+    }
+
+    @Test
+    void shouldRequireTheSearchText() {
+        // Given
+        APIGatewayProxyRequestEvent input = new APIGatewayProxyRequestEvent();
+        input.setQueryStringParameters(Map.of("tenantId", "tenant1", "q", " "));
+
+        // When
+        APIGatewayProxyResponseEvent response = lambda.handleRequest(input, context);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(400);
+        assertThat(response.getBody()).contains("q is required");
+        verifyNoInteractions(searchHandler);
+    }
+
+    @Test
+    void shouldRequireTheTenant() {
+        // Given
+        APIGatewayProxyRequestEvent input = new APIGatewayProxyRequestEvent();
+        input.setQueryStringParameters(Map.of("q", "java"));
+
+        // When
+        APIGatewayProxyResponseEvent response = lambda.handleRequest(input, context);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(400);
+        assertThat(response.getBody()).contains("tenantId is required");
+    }
+}
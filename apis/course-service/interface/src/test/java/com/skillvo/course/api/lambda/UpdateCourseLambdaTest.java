@@ -6,6 +6,7 @@ import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyResponseEvent
 import com.skillvo.course.api.dto.request.UpdateCourseRequest;
 import com.skillvo.course.api.mapper.CourseRequestMapper;
 import com.skillvo.course.application.command.UpdateCourseCommand;
+import com.skillvo.course.domain.model.exception.CourseVersionConflictException;
 import com.skillvo.course.application.command.handler.CourseCommandHandler;
 import com.skillvo.course.api.config.ObjectMapperConfig;
 import com.skillvo.course.domain.model.enums.*;
@@ -24,6 +25,7 @@ import java.util.List;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -71,6 +73,27 @@ class UpdateCourseLambdaTest {
         assertThat(response.getBody()).isNull();
     }
 
+    @Test
+    void shouldReturnConflictWhenCourseKeepsChanging() throws Exception {
+        // Given
+        UUID courseId = UUID.randomUUID();
+        UpdateCourseCommand command = UpdateCourseCommand.builder()
+                .courseId(courseId)
+                .build();
+        APIGatewayProxyRequestEvent input = createSampleRequestEvent(courseId, createSampleUpdateCourseRequest(courseId));
+
+        when(requestMapper.toCommand(any(UpdateCourseRequest.class))).thenReturn(command);
+        doThrow(new CourseVersionConflictException("Course " + courseId + " was changed since version 3 was read"))
+                .when(commandHandler).handle(command);
+
+        // When
+        APIGatewayProxyResponseEvent response = lambda.handleRequest(input, context);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(409);
+        assertThat(response.getBody()).contains("was changed since version 3 was read");
+    }
+
     @Test
     void shouldHandleMissingCourseId() throws Exception {
         // Given
@@ -12,6 +12,7 @@ import java.util.List;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 
 @ExtendWith(MockitoExtension.class)
 class CourseDTOMapperTest {
@@ -58,6 +59,64 @@ class CourseDTOMapperTest {
         assertThat(apiDTO.getVersion()).isEqualTo(applicationDTO.getVersion());
     }
 
+    @Test
+    void shouldMapCourseWithoutPrizePublisherOrLessons() {
+        // Given
+        com.skillvo.course.application.dto.CourseDTO applicationDTO = com.skillvo.course.application.dto.CourseDTO.builder()
+                .courseId(UUID.randomUUID())
+                .tenantId("tenant1")
+                .title("Free Course")
+                .authors(List.of())
+                .sections(List.of(com.skillvo.course.application.dto.SectionDTO.builder()
+                        .sectionId(UUID.randomUUID())
+                        .title("Section 1")
+                        .build()))
+                .build();
+
+        // When
+        com.skillvo.course.api.dto.CourseDTO apiDTO = mapper.toApiCourseDTO(applicationDTO);
+
+        // Then
+        assertThat(apiDTO.getPrize()).isNull();
+        assertThat(apiDTO.getPublisher()).isNull();
+        assertThat(apiDTO.getSections()).hasSize(1);
+        assertThat(apiDTO.getSections().get(0).getLessons()).isNull();
+    }
+
+    @Test
+    void shouldMapLessonContent() {
+        // Given
+        UUID lessonId = UUID.randomUUID();
+        com.skillvo.course.application.dto.LessonDTO applicationDTO = com.skillvo.course.application.dto.LessonDTO.builder()
+                .lessonId(lessonId)
+                .title("Check")
+                .contentType(ContentType.QUIZ)
+                .mandatory(true)
+                .quizItems(List.of(com.skillvo.course.application.dto.QuizItemDTO.builder()
+                        .question("Ready?")
+                        .answerChoice(AnswerChoice.MULTIPLE)
+                        .options(List.of(new com.skillvo.course.application.dto.AnswerOptionDTO("Yes", true),
+                                new com.skillvo.course.application.dto.AnswerOptionDTO("No", false)))
+                        .build()))
+                .build();
+
+        // When
+        com.skillvo.course.api.dto.LessonDTO apiDTO = mapper.toApiLessonDTO(applicationDTO);
+
+        // Then
+        assertThat(apiDTO.getId()).isEqualTo(lessonId.toString());
+        assertThat(apiDTO.getContentType()).isEqualTo(ContentType.QUIZ);
+        assertThat(apiDTO.isMandatory()).isTrue();
+        assertThat(apiDTO.getPdfUrl()).isNull();
+        assertThat(apiDTO.getQuizItems()).singleElement().satisfies(item -> {
+            assertThat(item.getQuestion()).isEqualTo("Ready?");
+            assertThat(item.getAnswerChoice()).isEqualTo(AnswerChoice.MULTIPLE);
+            assertThat(item.getOptions()).extracting(com.skillvo.course.api.dto.AnswerOptionDTO::getAnswer,
+                            com.skillvo.course.api.dto.AnswerOptionDTO::isCorrect)
+                    .containsExactly(tuple("Yes", true), tuple("No", false));
+        });
+    }
+
     @Test
     void shouldMapCourseDTOList() {
         // Given
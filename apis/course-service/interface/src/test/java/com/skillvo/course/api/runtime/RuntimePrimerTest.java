@@ -0,0 +1,52 @@
+package com.skillvo.course.api.runtime;
+
+import com.skillvo.course.api.config.ObjectMapperConfig;
+import com.skillvo.course.api.config.ValidatorConfig;
+import com.skillvo.course.api.mapper.AuthorRequestMapper;
+import com.skillvo.course.api.mapper.CourseDTOMapper;
+import com.skillvo.course.api.mapper.CourseRequestMapper;
+import com.skillvo.course.api.mapper.PrizeRequestMapper;
+import com.skillvo.course.api.mapper.PublisherRequestMapper;
+import com.skillvo.course.api.mapper.SectionRequestMapper;
+import com.skillvo.course.application.mapper.CourseMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+class RuntimePrimerTest {
+
+    private final CourseRequestMapper requestMapper = new CourseRequestMapper(new PrizeRequestMapper(),
+            new AuthorRequestMapper(), new PublisherRequestMapper(), new SectionRequestMapper());
+
+    @Test
+    void shouldRunSampleCourseThroughRequestPaths() {
+        // Given
+        RuntimePrimer primer = new RuntimePrimer(ObjectMapperConfig.sharedObjectMapper(),
+                ValidatorConfig.sharedValidator(), requestMapper, new CourseMapper(), new CourseDTOMapper());
+
+        // When / Then
+        assertThatCode(primer::prime).doesNotThrowAnyException();
+    }
+
+    @Test
+    void shouldFailWhenSampleRequestIsRejected() {
+        // Given
+        Validator validator = mock(Validator.class);
+        doReturn(Set.of(mock(ConstraintViolation.class))).when(validator).validate(any());
+        RuntimePrimer primer = new RuntimePrimer(ObjectMapperConfig.sharedObjectMapper(), validator,
+                requestMapper, new CourseMapper(), new CourseDTOMapper());
+
+        // When / Then
+        assertThatThrownBy(primer::prime)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("failed validation");
+    }
+}
@@ -20,6 +20,9 @@ sam local invoke CreateCourseFunction --event events/create-course.json
 echo "🧪 Testing GetCourse Lambda..."
 sam local invoke GetCourseFunction --event events/get-course.json
 
+echo "🧪 Testing GetLesson Lambda..."
+sam local invoke GetLessonFunction --event events/get-lesson.json
+
 echo "🧪 Testing ListCourses Lambda..."
 sam local invoke ListCoursesFunction --event events/list-courses.json
 
@@ -3,8 +3,14 @@ package com.skillvo.reference.infrastructure.config;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.context.annotation.Profile;
+import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
 import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClientBuilder;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
 
 import java.net.URI;
@@ -16,18 +22,36 @@ public class DynamoDBConfig {
 
     @Bean
     @Profile("local")
-    public DynamoDbClient localDynamoDbClient() {
+    public DynamoDbClient localDynamoDbClient(SdkHttpClient sdkHttpClient, ClientOverrideConfiguration overrideConfiguration) {
         return DynamoDbClient.builder()
                 .region(Region.US_EAST_1)
                 .endpointOverride(URI.create(dynamoDbEndpoint))
+                .httpClient(sdkHttpClient)
+                .overrideConfiguration(overrideConfiguration)
                 .build();
     }
 
     @Bean
     @Profile("!local")
-    public DynamoDbClient dynamoDbClient() {
+    public DynamoDbClient dynamoDbClient(SdkHttpClient sdkHttpClient, ClientOverrideConfiguration overrideConfiguration) {
         return DynamoDbClient.builder()
                 .region(Region.US_EAST_1)
+                .httpClient(sdkHttpClient)
+                .overrideConfiguration(overrideConfiguration)
                 .build();
     }
-} 
\ No newline at end of file
+
+    @Lazy
+    @Bean
+    public DynamoDbAsyncClient dynamoDbAsyncClient(SdkAsyncHttpClient sdkAsyncHttpClient,
+                                                   ClientOverrideConfiguration overrideConfiguration) {
+        DynamoDbAsyncClientBuilder builder = DynamoDbAsyncClient.builder()
+                .region(Region.US_EAST_1)
+                .httpClient(sdkAsyncHttpClient)
+                .overrideConfiguration(overrideConfiguration);
+        if (!dynamoDbEndpoint.isEmpty()) {
+            builder.endpointOverride(URI.create(dynamoDbEndpoint));
+        }
+        return builder.build();
+    }
+}
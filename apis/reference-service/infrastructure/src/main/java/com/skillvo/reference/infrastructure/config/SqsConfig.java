@@ -3,8 +3,14 @@ package com.skillvo.reference.infrastructure.config;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.context.annotation.Profile;
+import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
 import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.sqs.SqsAsyncClient;
+import software.amazon.awssdk.services.sqs.SqsAsyncClientBuilder;
 import software.amazon.awssdk.services.sqs.SqsClient;
 
 import java.net.URI;
@@ -16,18 +22,36 @@ public class SqsConfig {
 
     @Bean
     @Profile("local")
-    public SqsClient localSqsClient() {
+    public SqsClient localSqsClient(SdkHttpClient sdkHttpClient, ClientOverrideConfiguration overrideConfiguration) {
         return SqsClient.builder()
                 .region(Region.US_EAST_1)
                 .endpointOverride(URI.create(sqsEndpoint))
+                .httpClient(sdkHttpClient)
+                .overrideConfiguration(overrideConfiguration)
                 .build();
     }
 
     @Bean
     @Profile("!local")
-    public SqsClient sqsClient() {
+    public SqsClient sqsClient(SdkHttpClient sdkHttpClient, ClientOverrideConfiguration overrideConfiguration) {
         return SqsClient.builder()
                 .region(Region.US_EAST_1)
+                .httpClient(sdkHttpClient)
+                .overrideConfiguration(overrideConfiguration)
                 .build();
     }
-} 
\ No newline at end of file
+
+    @Lazy
+    @Bean
+    public SqsAsyncClient sqsAsyncClient(SdkAsyncHttpClient sdkAsyncHttpClient,
+                                         ClientOverrideConfiguration overrideConfiguration) {
+        SqsAsyncClientBuilder builder = SqsAsyncClient.builder()
+                .region(Region.US_EAST_1)
+                .httpClient(sdkAsyncHttpClient)
+                .overrideConfiguration(overrideConfiguration);
+        if (!sqsEndpoint.isEmpty()) {
+            builder.endpointOverride(URI.create(sqsEndpoint));
+        }
+        return builder.build();
+    }
+}
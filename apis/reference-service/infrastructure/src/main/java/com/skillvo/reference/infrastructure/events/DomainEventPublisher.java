@@ -1,13 +1,18 @@
 package com.skillvo.reference.infrastructure.events;
 
 import com.skillvo.reference.domain.model.events.DomainEvent;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import software.amazon.awssdk.services.sqs.SqsClient;
 import software.amazon.awssdk.services.sqs.model.SendMessageRequest;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import java.time.Duration;
+
 @Component
 @RequiredArgsConstructor
 public class DomainEventPublisher {
@@ -15,9 +20,57 @@ public class DomainEventPublisher {
     private final ObjectMapper objectMapper;
     private static final String QUEUE_URL = System.getenv("EVENT_QUEUE_URL");
 
+    @Value("${aws.sqs.publisher.async:false}")
+    private boolean async;
+
+    @Value("${aws.sqs.publisher.buffer-capacity:1000}")
+    private int bufferCapacity;
+
+    @Value("${aws.sqs.publisher.linger-millis:20}")
+    private long lingerMillis;
+
+    @Value("${aws.sqs.publisher.backpressure:BLOCK}")
+    private SqsBatchPublisher.BackpressurePolicy backpressure;
+
+    @Value("${aws.sqs.publisher.offer-timeout-millis:500}")
+    private long offerTimeoutMillis;
+
+    @Value("${aws.sqs.publisher.max-attempts:3}")
+    private int maxAttempts;
+
+    @Value("${aws.sqs.publisher.shutdown-timeout-millis:5000}")
+    private long shutdownTimeoutMillis;
+
+    private SqsBatchPublisher batchPublisher;
+
+    @PostConstruct
+    void start() {
+        if (async) {
+            batchPublisher = new SqsBatchPublisher(sqsClient, QUEUE_URL, SqsBatchPublisher.Settings.builder()
+                    .capacity(bufferCapacity)
+                    .linger(Duration.ofMillis(lingerMillis))
+                    .backpressurePolicy(backpressure)
+                    .offerTimeout(Duration.ofMillis(offerTimeoutMillis))
+                    .maxAttempts(maxAttempts)
+                    .shutdownTimeout(Duration.ofMillis(shutdownTimeoutMillis))
+                    .build());
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (batchPublisher != null) {
+            batchPublisher.close();
+        }
+    }
+
     public void publish(DomainEvent event) {
         try {
             String messageBody = objectMapper.writeValueAsString(event);
+            if (batchPublisher != null) {
+                batchPublisher.submit(messageBody);
+                return;
+            }
             SendMessageRequest sendMessageRequest = SendMessageRequest.builder()
                     .queueUrl(QUEUE_URL)
                     .messageBody(messageBody)
@@ -28,4 +81,4 @@ public class DomainEventPublisher {
             throw new RuntimeException("Failed to publish event", e);
         }
     }
-} 
\ No newline at end of file
+}
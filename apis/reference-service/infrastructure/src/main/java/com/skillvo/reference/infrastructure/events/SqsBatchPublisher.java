@@ -0,0 +1,218 @@
+package com.skillvo.reference.infrastructure.events;
+
+import lombok.Builder;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.services.sqs.SqsClient;
+import software.amazon.awssdk.services.sqs.model.BatchResultErrorEntry;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequest;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequestEntry;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchResponse;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Buffers message bodies in a bounded queue and sends them with SendMessageBatch from a single
+ * background thread. A batch goes out once it holds {@value #MAX_BATCH_SIZE} messages or the
+ * linger time since its first message has passed. Closing stops intake and drains the buffer.
+ */
+@Slf4j
+class SqsBatchPublisher implements AutoCloseable {
+    static final int MAX_BATCH_SIZE = 10;
+    private static final long IDLE_POLL_MILLIS = 100;
+    private static final long RETRY_BACKOFF_MILLIS = 50;
+
+    private final SqsClient sqsClient;
+    private final String queueUrl;
+    private final BlockingQueue<String> buffer;
+    private final long lingerNanos;
+    private final BackpressurePolicy backpressurePolicy;
+    private final long offerTimeoutMillis;
+    private final int maxAttempts;
+    private final Duration shutdownTimeout;
+    private final Thread flusher;
+
+    private final AtomicLong messagesSent = new AtomicLong();
+    private final AtomicLong batchRequests = new AtomicLong();
+    private final AtomicLong messagesFailed = new AtomicLong();
+    private volatile boolean closed;
+
+    SqsBatchPublisher(SqsClient sqsClient, String queueUrl, Settings settings) {
+        this.sqsClient = sqsClient;
+        this.queueUrl = queueUrl;
+        this.buffer = new ArrayBlockingQueue<>(settings.getCapacity());
+        this.lingerNanos = settings.getLinger().toNanos();
+        this.backpressurePolicy = settings.getBackpressurePolicy();
+        this.offerTimeoutMillis = settings.getOfferTimeout().toMillis();
+        this.maxAttempts = settings.getMaxAttempts();
+        this.shutdownTimeout = settings.getShutdownTimeout();
+        this.flusher = new Thread(this::run, "domain-event-flusher");
+        this.flusher.setDaemon(true);
+        this.flusher.start();
+    }
+
+    /**
+     * Queues a message body. When the buffer is full the caller either waits up to the offer
+     * timeout ({@link BackpressurePolicy#BLOCK}) or is rejected straight away
+     * ({@link BackpressurePolicy#FAIL}).
+     */
+    void submit(String messageBody) {
+        if (closed) {
+            throw new IllegalStateException("Domain event publisher is shut down");
+        }
+        boolean accepted;
+        if (backpressurePolicy == BackpressurePolicy.BLOCK) {
+            try {
+                accepted = buffer.offer(messageBody, offerTimeoutMillis, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while buffering domain event", e);
+            }
+        } else {
+            accepted = buffer.offer(messageBody);
+        }
+        if (!accepted) {
+            throw new IllegalStateException("Domain event buffer is full");
+        }
+    }
+
+    long getMessagesSent() {
+        return messagesSent.get();
+    }
+
+    long getBatchRequests() {
+        return batchRequests.get();
+    }
+
+    long getMessagesFailed() {
+        return messagesFailed.get();
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        try {
+            flusher.join(shutdownTimeout.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (!buffer.isEmpty()) {
+            log.warn("Shut down with {} domain events still buffered", buffer.size());
+        }
+        log.info("Domain event publisher sent {} messages in {} batch requests ({} failed)",
+                messagesSent.get(), batchRequests.get(), messagesFailed.get());
+    }
+
+    private void run() {
+        List<String> batch = new ArrayList<>(MAX_BATCH_SIZE);
+        while (true) {
+            try {
+                String first = buffer.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    if (closed && buffer.isEmpty()) {
+                        return;
+                    }
+                    continue;
+                }
+                batch.add(first);
+                fill(batch);
+                send(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                messagesFailed.addAndGet(batch.size());
+                log.error("Dropped {} domain events after an unexpected publishing error", batch.size(), e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void fill(List<String> batch) throws InterruptedException {
+        long deadline = System.nanoTime() + lingerNanos;
+        while (batch.size() < MAX_BATCH_SIZE) {
+            if (closed) {
+                buffer.drainTo(batch, MAX_BATCH_SIZE - batch.size());
+                return;
+            }
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                buffer.drainTo(batch, MAX_BATCH_SIZE - batch.size());
+                return;
+            }
+            // Wait in short slices so a close() during a long linger is noticed promptly
+            String next = buffer.poll(Math.min(remaining, TimeUnit.MILLISECONDS.toNanos(IDLE_POLL_MILLIS)),
+                    TimeUnit.NANOSECONDS);
+            if (next != null) {
+                batch.add(next);
+            }
+        }
+    }
+
+    private void send(List<String> batch) throws InterruptedException {
+        List<SendMessageBatchRequestEntry> pending = new ArrayList<>(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            pending.add(SendMessageBatchRequestEntry.builder()
+                    .id(String.valueOf(i))
+                    .messageBody(batch.get(i))
+                    .build());
+        }
+
+        for (int attempt = 1; ; attempt++) {
+            List<SendMessageBatchRequestEntry> failed;
+            try {
+                SendMessageBatchResponse response = sqsClient.sendMessageBatch(SendMessageBatchRequest.builder()
+                        .queueUrl(queueUrl)
+                        .entries(pending)
+                        .build());
+                batchRequests.incrementAndGet();
+                List<String> failedIds = response.failed().stream()
+                        .map(BatchResultErrorEntry::id)
+                        .collect(Collectors.toList());
+                failed = pending.stream()
+                        .filter(entry -> failedIds.contains(entry.id()))
+                        .collect(Collectors.toList());
+                messagesSent.addAndGet(pending.size() - failed.size());
+            } catch (RuntimeException e) {
+                batchRequests.incrementAndGet();
+                log.warn("SendMessageBatch of {} domain events failed (attempt {})", pending.size(), attempt, e);
+                failed = pending;
+            }
+
+            if (failed.isEmpty()) {
+                return;
+            }
+            if (attempt >= maxAttempts) {
+                messagesFailed.addAndGet(failed.size());
+                log.error("Dropped {} domain events after {} attempts", failed.size(), attempt);
+                return;
+            }
+            pending = failed;
+            Thread.sleep(RETRY_BACKOFF_MILLIS * attempt);
+        }
+    }
+
+    enum BackpressurePolicy {
+        BLOCK,
+        FAIL
+    }
+
+    @Value
+    @Builder
+    static class Settings {
+        int capacity;
+        Duration linger;
+        BackpressurePolicy backpressurePolicy;
+        Duration offerTimeout;
+        int maxAttempts;
+        Duration shutdownTimeout;
+    }
+}
@@ -5,9 +5,16 @@ import com.amazonaws.services.lambda.runtime.RequestHandler;
 import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyRequestEvent;
 import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyResponseEvent;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.skillvo.common.http.CborWriter;
+import com.skillvo.common.http.ResponseEncoding;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+
 @Slf4j
 public abstract class BaseLambdaHandler<I, O> implements RequestHandler<APIGatewayProxyRequestEvent, APIGatewayProxyResponseEvent> {
     protected final ObjectMapper objectMapper;
@@ -19,23 +26,62 @@ public abstract class BaseLambdaHandler<I, O> implements RequestHandler<APIGatew
     @Override
     public APIGatewayProxyResponseEvent handleRequest(APIGatewayProxyRequestEvent input, Context context) {
         try {
-            I request = objectMapper.readValue(input.getBody(), getRequestType());
+            I request = objectMapper.readValue(decodeBody(input), getRequestType());
             O response = handleRequest(request);
-            return createResponse(HttpStatus.OK, response);
+            return createResponse(HttpStatus.OK, response, input.getHeaders());
         } catch (Exception e) {
             log.error("Error processing request", e);
             return createErrorResponse(HttpStatus.INTERNAL_SERVER_ERROR, e.getMessage());
         }
     }
 
+    /**
+     * API Gateway treats every media type as binary so that compressed and CBOR responses reach
+     * clients as bytes, which means request bodies can arrive base64-encoded too.
+     */
+    private static String decodeBody(APIGatewayProxyRequestEvent input) {
+        if (Boolean.TRUE.equals(input.getIsBase64Encoded()) && input.getBody() != null) {
+            return new String(Base64.getDecoder().decode(input.getBody()), StandardCharsets.UTF_8);
+        }
+        return input.getBody();
+    }
+
     protected abstract Class<I> getRequestType();
     protected abstract O handleRequest(I request);
 
     protected <T> APIGatewayProxyResponseEvent createResponse(HttpStatus status, T body) throws Exception {
+        return createResponse(status, body, null);
+    }
+
+    /**
+     * Writes the body in the encoding the request headers negotiate; see {@link ResponseEncoding}.
+     * Binary bodies are base64-encoded, as API Gateway expects from Lambda proxy integrations.
+     */
+    protected <T> APIGatewayProxyResponseEvent createResponse(HttpStatus status, T body,
+                                                              Map<String, String> requestHeaders) throws Exception {
         APIGatewayProxyResponseEvent response = new APIGatewayProxyResponseEvent();
         response.setStatusCode(status.value());
-        response.setBody(objectMapper.writeValueAsString(body));
-        response.setHeaders(createHeaders());
+        Map<String, String> headers = createHeaders();
+        headers.put("Vary", "Accept, Accept-Encoding");
+        response.setHeaders(headers);
+        boolean cbor = ResponseEncoding.prefersCbor(ResponseEncoding.header(requestHeaders, "Accept"));
+        byte[] bytes;
+        if (cbor) {
+            bytes = CborWriter.write(objectMapper.valueToTree(body));
+            headers.put("Content-Type", ResponseEncoding.CBOR);
+        } else {
+            bytes = objectMapper.writeValueAsBytes(body);
+        }
+        if (bytes.length >= ResponseEncoding.MIN_COMPRESSED_SIZE
+                && ResponseEncoding.acceptsGzip(ResponseEncoding.header(requestHeaders, "Accept-Encoding"))) {
+            bytes = ResponseEncoding.gzip(bytes);
+            headers.put("Content-Encoding", ResponseEncoding.GZIP);
+        } else if (!cbor) {
+            response.setBody(new String(bytes, StandardCharsets.UTF_8));
+            return response;
+        }
+        response.setBody(Base64.getEncoder().encodeToString(bytes));
+        response.setIsBase64Encoded(true);
         return response;
     }
 
@@ -47,9 +93,9 @@ public abstract class BaseLambdaHandler<I, O> implements RequestHandler<APIGatew
         return response;
     }
 
-    private java.util.Map<String, String> createHeaders() {
-        java.util.Map<String, String> headers = new java.util.HashMap<>();
-        headers.put("Content-Type", "application/json");
+    private Map<String, String> createHeaders() {
+        Map<String, String> headers = new HashMap<>();
+        headers.put("Content-Type", ResponseEncoding.JSON);
         headers.put("Access-Control-Allow-Origin", "*");
         return headers;
     }